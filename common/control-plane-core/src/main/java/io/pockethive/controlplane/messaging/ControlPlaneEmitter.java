@@ -15,6 +15,7 @@ import io.pockethive.controlplane.topology.ControlPlaneTopologySettings;
 import io.pockethive.controlplane.topology.SwarmControllerControlPlaneTopologyDescriptor;
 import io.pockethive.controlplane.topology.WorkerControlPlaneTopologyDescriptor;
 import io.pockethive.observability.StatusEnvelopeBuilder;
+import io.pockethive.observability.StatusSequence;
 import io.pockethive.observability.ControlPlaneJson;
 import java.time.Instant;
 import java.util.LinkedHashMap;
@@ -36,6 +37,7 @@ public final class ControlPlaneEmitter {
     private final ControlPlanePublisher publisher;
     private final StatusPayloadFactory statusFactory;
     private final Map<String, Object> runtime;
+    private final StatusSequence statusSequence = new StatusSequence();
     private ControlPlaneEmitter(ControlPlaneTopologyDescriptor topology,
                                 RoleContext role,
                                 ControlPlanePublisher publisher,
@@ -111,6 +113,7 @@ public final class ControlPlaneEmitter {
             builder.controlOut(routingKey);
             builder.runtime(runtime);
             context.customiser().accept(builder);
+            builder.sequence(statusSequence);
         };
         String payload = switch (type) {
             case "status-full" -> statusFactory.snapshot(customiser);
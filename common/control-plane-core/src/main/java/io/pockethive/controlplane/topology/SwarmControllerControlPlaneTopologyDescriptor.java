@@ -52,7 +52,8 @@ public final class SwarmControllerControlPlaneTopologyDescriptor implements Cont
         Set<String> events = Set.of(
             statusEventPattern("status-full"),
             statusEventPattern("status-delta"),
-            alertEventPattern()
+            alertEventPattern(),
+            configUpdateOutcomePattern()
         );
         return Optional.of(new ControlQueueDescriptor(queueName, signals, events));
     }
@@ -83,7 +84,8 @@ public final class SwarmControllerControlPlaneTopologyDescriptor implements Cont
             statusEventPattern("status-delta")
         );
         Set<String> otherEvents = Set.of(
-            alertEventPattern()
+            alertEventPattern(),
+            configUpdateOutcomePattern()
         );
         return new ControlPlaneRouteCatalog(configRoutes, statusRoutes, lifecycleRoutes, statusEvents, Set.of(), otherEvents);
     }
@@ -98,6 +100,15 @@ public final class SwarmControllerControlPlaneTopologyDescriptor implements Cont
         return base.replace(".ALL.ALL", ".#");
     }
 
+    /**
+     * Worker outcomes for config-update signals; the controller folds them into
+     * its batched fan-out acknowledgements.
+     */
+    private String configUpdateOutcomePattern() {
+        String base = ControlPlaneRouting.event("outcome", ControlPlaneSignals.CONFIG_UPDATE, ConfirmationScope.forSwarm(swarmId));
+        return base.replace(".ALL.ALL", ".#");
+    }
+
     private static String buildControlQueueName(String baseQueue, String swarmId, String role, String instanceId) {
         if (baseQueue == null || baseQueue.isBlank()) {
             throw new IllegalArgumentException("baseQueue must not be blank");
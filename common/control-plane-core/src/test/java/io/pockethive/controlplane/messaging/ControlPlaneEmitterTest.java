@@ -161,6 +161,39 @@ class ControlPlaneEmitterTest {
             json);
     }
 
+    @Test
+    void statusDeltaCarriesOnlyContextChangedSinceLastEmission() throws Exception {
+        emitter.emitStatusSnapshot(ControlPlaneEmitter.StatusContext.of(builder -> builder
+            .enabled(true)
+            .tps(0)
+            .data("startedAt", Instant.parse("2024-01-01T00:00:00Z").toString())
+            .data("errorCount", 0)
+            .data("serviceId", "svc-1")
+            .data("diagnostics", Map.of("cache", Map.of("hits", 1, "misses", 0)))));
+        JsonNode full = MAPPER.readTree((String) publisher.lastEvent.payload());
+        assertThat(full.path("data").path("context").path("statusSeq").asLong()).isEqualTo(1L);
+        assertThat(full.path("data").path("context").has("statusBaseSeq")).isFalse();
+
+        emitter.emitStatusDelta(ControlPlaneEmitter.StatusContext.of(builder -> builder
+            .enabled(true)
+            .tps(12)
+            .data("errorCount", 3)
+            .data("diagnostics", Map.of("cache", Map.of("hits", 9, "misses", 0)))));
+
+        JsonNode delta = MAPPER.readTree((String) publisher.lastEvent.payload());
+        JsonNode context = delta.path("data").path("context");
+        assertThat(delta.path("data").path("tps").asLong()).isEqualTo(12L);
+        assertThat(delta.path("data").path("enabled").asBoolean()).isTrue();
+        assertThat(context.path("statusSeq").asLong()).isEqualTo(2L);
+        assertThat(context.path("statusBaseSeq").asLong()).isEqualTo(1L);
+        assertThat(context.path("errorCount").asInt()).isEqualTo(3);
+        assertThat(context.path("diagnostics").path("cache").path("hits").asInt()).isEqualTo(9);
+        assertThat(context.path("diagnostics").path("cache").has("misses")).isFalse();
+        assertThat(context.has("location")).isFalse();
+        // Deltas never remove entries; serviceId stays with the snapshot.
+        assertThat(context.has("serviceId")).isFalse();
+    }
+
     @Test
     void workerFactoryAcceptsArbitraryRoles() {
         ControlPlaneIdentity custom = new ControlPlaneIdentity("swarm-A", "custom-role", "worker-1");
@@ -129,7 +129,8 @@ class ControlPlaneTopologyDescriptorsTest {
             .containsExactlyInAnyOrder(
                 "event.metric.status-full." + SWARM_ID + ".#",
                 "event.metric.status-delta." + SWARM_ID + ".#",
-                "event.alert.*." + SWARM_ID + ".#");
+                "event.alert.*." + SWARM_ID + ".#",
+                "event.outcome.config-update." + SWARM_ID + ".#");
 
         ControlPlaneRouteCatalog routes = descriptor.routes();
         assertThat(routes.configSignals())
@@ -146,7 +147,7 @@ class ControlPlaneTopologyDescriptorsTest {
         assertThat(routes.statusEvents())
             .containsExactlyInAnyOrder("event.metric.status-full." + SWARM_ID + ".#", "event.metric.status-delta." + SWARM_ID + ".#");
         assertThat(routes.otherEvents())
-            .containsExactlyInAnyOrder("event.alert.*." + SWARM_ID + ".#");
+            .containsExactlyInAnyOrder("event.alert.*." + SWARM_ID + ".#", "event.outcome.config-update." + SWARM_ID + ".#");
     }
 
     private static String expectedSwarmControllerQueueName(String baseQueue, String swarmId, String instanceSegment) {
@@ -4,6 +4,7 @@ import com.github.dockerjava.api.DockerClient;
 import com.github.dockerjava.api.command.CreateContainerCmd;
 import com.github.dockerjava.api.command.CreateContainerResponse;
 import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.exception.NotFoundException;
 import com.github.dockerjava.api.model.HostConfig;
 
 import java.io.FileNotFoundException;
@@ -13,8 +14,13 @@ import java.net.NoRouteToHostException;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
 import java.nio.file.NoSuchFileException;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
@@ -133,6 +139,54 @@ public class DockerContainerClient {
         });
     }
 
+    /**
+     * Pull the given images, up to {@code parallelism} at a time. Blank entries and duplicates
+     * are ignored.
+     */
+    public void pullImages(Collection<String> images, int parallelism) {
+        ParallelDockerCalls.forEach(distinctImages(images), parallelism, "docker-pull", this::pullImage);
+    }
+
+    /**
+     * Pull only the images that are not already present locally, up to {@code parallelism} at a
+     * time. Unlike {@link #pullImages(Collection, int)} this does not contact the registry for
+     * images the host already has, so locally built images keep working offline.
+     *
+     * @return the images that had to be pulled
+     */
+    public List<String> ensureImages(Collection<String> images, int parallelism) {
+        List<String> pulled = new CopyOnWriteArrayList<>();
+        ParallelDockerCalls.forEach(distinctImages(images), parallelism, "docker-pull", image -> {
+            if (!imageExists(image)) {
+                pullImage(image);
+                pulled.add(image);
+            }
+        });
+        return List.copyOf(pulled);
+    }
+
+    public boolean imageExists(String image) {
+        try {
+            callDocker("inspect image", () -> dockerClient.inspectImageCmd(image).exec());
+            return true;
+        } catch (NotFoundException e) {
+            return false;
+        }
+    }
+
+    private static List<String> distinctImages(Collection<String> images) {
+        if (images == null || images.isEmpty()) {
+            return List.of();
+        }
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String image : images) {
+            if (image != null && !image.isBlank()) {
+                distinct.add(image.trim());
+            }
+        }
+        return List.copyOf(distinct);
+    }
+
     public String resolveControlNetwork() {
         String net = System.getenv("CONTROL_NETWORK");
         if (net == null || net.isBlank()) {
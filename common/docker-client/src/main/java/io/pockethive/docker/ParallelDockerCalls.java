@@ -0,0 +1,85 @@
+package io.pockethive.docker;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs independent Docker calls (create, start, remove, pull) with bounded parallelism.
+ * <p>
+ * Every item is attempted even when some fail, so callers can record the ones that succeeded
+ * before the first failure is rethrown with the others attached as suppressed exceptions. A
+ * parallelism of {@code 1} runs the calls inline on the calling thread, in order.
+ */
+public final class ParallelDockerCalls {
+
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    private ParallelDockerCalls() {
+    }
+
+    public static <T> void forEach(Collection<T> items, int parallelism, String threadName, Consumer<T> call) {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+        List<RuntimeException> failures = new ArrayList<>();
+        int threads = Math.min(Math.max(1, parallelism), items.size());
+        if (threads == 1) {
+            for (T item : items) {
+                try {
+                    call.accept(item);
+                } catch (RuntimeException e) {
+                    failures.add(e);
+                }
+            }
+            rethrow(failures);
+            return;
+        }
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, threadName + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>(items.size());
+            for (T item : items) {
+                futures.add(executor.submit(() -> call.accept(item)));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    failures.add(cause instanceof RuntimeException runtime
+                        ? runtime
+                        : new IllegalStateException(cause));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    futures.forEach(pending -> pending.cancel(true));
+                    throw new IllegalStateException("Interrupted while waiting for Docker calls", e);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        rethrow(failures);
+    }
+
+    private static void rethrow(List<RuntimeException> failures) {
+        if (failures.isEmpty()) {
+            return;
+        }
+        RuntimeException first = failures.getFirst();
+        for (int i = 1; i < failures.size(); i++) {
+            first.addSuppressed(failures.get(i));
+        }
+        throw first;
+    }
+}
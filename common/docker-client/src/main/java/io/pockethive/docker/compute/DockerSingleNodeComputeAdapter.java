@@ -3,12 +3,16 @@ package io.pockethive.docker.compute;
 import com.github.dockerjava.api.model.Bind;
 import com.github.dockerjava.api.model.HostConfig;
 import io.pockethive.docker.DockerContainerClient;
+import io.pockethive.docker.ParallelDockerCalls;
 import io.pockethive.manager.ports.ComputeAdapter;
 import io.pockethive.manager.runtime.ComputeAdapterType;
 import io.pockethive.manager.runtime.ManagerSpec;
+import io.pockethive.manager.runtime.WorkerProvisioningException;
+import io.pockethive.manager.runtime.WorkerProvisioningReport;
 import io.pockethive.manager.runtime.WorkerSpec;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,18 +25,32 @@ import org.slf4j.LoggerFactory;
  * {@link ComputeAdapter} backed by {@link DockerContainerClient} on a single Docker host.
  * <p>
  * This adapter maps managers and workers to individual containers and keeps a small
- * in-memory index of worker containers per topology so {@link #removeWorkers(String)}
- * can tear them down in a predictable order.
+ * in-memory index of worker containers per topology, keyed by worker id, so
+ * {@link #removeWorkers(String)} can tear them down in a predictable order and
+ * {@link #applyWorkers(String, List)} skips workers that are already running. Pulls,
+ * creates, starts and removals across workers run with bounded parallelism.
  */
 public final class DockerSingleNodeComputeAdapter implements ComputeAdapter {
 
   private static final Logger log = LoggerFactory.getLogger(DockerSingleNodeComputeAdapter.class);
 
   private final DockerContainerClient docker;
-  private final Map<String, List<String>> workerContainersByTopology = new LinkedHashMap<>();
+  private final int parallelism;
+  private final boolean pullMissingImages;
+  private final Map<String, Map<String, String>> workerContainersByTopology = new LinkedHashMap<>();
 
   public DockerSingleNodeComputeAdapter(DockerContainerClient docker) {
+    this(docker, ParallelDockerCalls.DEFAULT_PARALLELISM, true);
+  }
+
+  /**
+   * @param parallelism       maximum number of concurrent Docker calls per provisioning phase
+   * @param pullMissingImages pull worker images that are not present on the host before creating containers
+   */
+  public DockerSingleNodeComputeAdapter(DockerContainerClient docker, int parallelism, boolean pullMissingImages) {
     this.docker = Objects.requireNonNull(docker, "docker");
+    this.parallelism = Math.max(1, parallelism);
+    this.pullMissingImages = pullMissingImages;
   }
 
   @Override
@@ -71,40 +89,96 @@ public final class DockerSingleNodeComputeAdapter implements ComputeAdapter {
   }
 
   @Override
-  public synchronized void applyWorkers(String topologyId, List<WorkerSpec> workers) {
+  public void applyWorkers(String topologyId, List<WorkerSpec> workers) {
+    provisionWorkers(topologyId, workers);
+  }
+
+  /**
+   * Provision workers in two phases, each bounded by the configured parallelism: {@code pull}
+   * fetches images missing on the host, then {@code launch} creates and starts every container.
+   * Containers launched before a failure are still indexed so {@link #removeWorkers(String)}
+   * cleans them up, and the failure is reported as a {@link WorkerProvisioningException} that
+   * lists them.
+   */
+  @Override
+  public synchronized WorkerProvisioningReport provisionWorkers(String topologyId, List<WorkerSpec> workers) {
     if (workers == null || workers.isEmpty()) {
-      return;
+      return WorkerProvisioningReport.empty();
     }
     String resolvedTopology = requireNonBlank(topologyId, "topologyId");
-    List<String> containerIds = workerContainersByTopology.computeIfAbsent(
-        resolvedTopology, id -> new ArrayList<>());
+    Map<String, String> containerIds = workerContainersByTopology.computeIfAbsent(
+        resolvedTopology, id -> new LinkedHashMap<>());
 
+    Map<String, WorkerSpec> pending = new LinkedHashMap<>();
     for (WorkerSpec worker : workers) {
       if (worker == null) {
         continue;
       }
       String name = requireNonBlank(worker.id(), "worker.id");
-      String image = requireNonBlank(worker.image(), "worker.image");
-      Map<String, String> env = worker.environment() == null
-          ? Map.of()
-          : Map.copyOf(worker.environment());
-      List<String> volumes = safeVolumes(worker.volumes());
-
-      log.info("applyWorkers: starting worker {} for topology {} using image {} with volumes {}",
-          name, resolvedTopology, image, volumes);
-
-      UnaryOperator<HostConfig> hostConfigCustomizer = hostConfig -> {
-        applyBinds(hostConfig, volumes);
-        return hostConfig;
-      };
-      String containerId = docker.createAndStartContainer(
-          image,
-          env,
-          name,
-          hostConfigCustomizer,
-          PocketHiveDockerLabels.workerLabels(name, image, env, ComputeAdapterType.DOCKER_SINGLE));
-      containerIds.add(containerId);
+      if (containerIds.containsKey(name)) {
+        continue;
+      }
+      requireNonBlank(worker.image(), "worker.image");
+      pending.putIfAbsent(name, worker);
+    }
+    if (pending.isEmpty()) {
+      return WorkerProvisioningReport.empty();
     }
+
+    Map<String, Long> phases = new LinkedHashMap<>();
+    if (pullMissingImages) {
+      long pullStarted = System.nanoTime();
+      List<String> pulled = docker.ensureImages(
+          pending.values().stream().map(WorkerSpec::image).toList(), parallelism);
+      if (!pulled.isEmpty()) {
+        log.info("applyWorkers: pulled missing images {} for topology {}", pulled, resolvedTopology);
+      }
+      phases.put("pull", elapsedMillis(pullStarted));
+    }
+
+    // Ids are recorded even when the client returns null so the worker still counts as known.
+    Map<String, String> launched = Collections.synchronizedMap(new HashMap<>());
+    long launchStarted = System.nanoTime();
+    try {
+      ParallelDockerCalls.forEach(pending.values(), parallelism, "worker-launch",
+          worker -> launched.put(worker.id(), launchWorker(resolvedTopology, worker)));
+    } catch (RuntimeException ex) {
+      throw new WorkerProvisioningException(ex, launched.keySet());
+    } finally {
+      // Index in spec order so teardown stays last-started, first-stopped.
+      for (String name : pending.keySet()) {
+        if (launched.containsKey(name)) {
+          containerIds.put(name, launched.get(name));
+        }
+      }
+    }
+    phases.put("launch", elapsedMillis(launchStarted));
+
+    log.info("applyWorkers: provisioned {} workers for topology {} in {}", launched.size(), resolvedTopology, phases);
+    return new WorkerProvisioningReport(launched.size(), phases);
+  }
+
+  private String launchWorker(String topologyId, WorkerSpec worker) {
+    String name = worker.id();
+    String image = worker.image();
+    Map<String, String> env = worker.environment() == null
+        ? Map.of()
+        : Map.copyOf(worker.environment());
+    List<String> volumes = safeVolumes(worker.volumes());
+
+    log.info("applyWorkers: starting worker {} for topology {} using image {} with volumes {}",
+        name, topologyId, image, volumes);
+
+    UnaryOperator<HostConfig> hostConfigCustomizer = hostConfig -> {
+      applyBinds(hostConfig, volumes);
+      return hostConfig;
+    };
+    return docker.createAndStartContainer(
+        image,
+        env,
+        name,
+        hostConfigCustomizer,
+        PocketHiveDockerLabels.workerLabels(name, image, env, ComputeAdapterType.DOCKER_SINGLE));
   }
 
   @Override
@@ -112,18 +186,36 @@ public final class DockerSingleNodeComputeAdapter implements ComputeAdapter {
     if (topologyId == null || topologyId.isBlank()) {
       return;
     }
-    List<String> ids = workerContainersByTopology.remove(topologyId);
+    Map<String, String> ids = workerContainersByTopology.remove(topologyId);
     if (ids == null || ids.isEmpty()) {
       return;
     }
-    // Stop in reverse order (last started, first stopped), mirroring the
-    // previous Swarm Controller behaviour.
-    List<String> copy = new ArrayList<>(ids);
+    // Removals are started last-started first, but up to `parallelism` of them run at once, so
+    // a container can be gone before a later-started one has finished stopping. Only with
+    // parallelism 1 is teardown the strict reverse of the start order.
+    List<String> copy = new ArrayList<>(ids.values());
     Collections.reverse(copy);
-    for (String id : copy) {
+    long started = System.nanoTime();
+    ParallelDockerCalls.forEach(copy, parallelism, "worker-remove", id -> {
       log.info("removeWorkers: stopping container {} for topology {}", id, topologyId);
       docker.stopAndRemoveContainer(id);
+    });
+    log.info("removeWorkers: removed {} containers for topology {} in {} ms", copy.size(), topologyId,
+        elapsedMillis(started));
+  }
+
+  @Override
+  public synchronized void removeWorker(String topologyId, String workerId) {
+    if (topologyId == null || topologyId.isBlank() || workerId == null || workerId.isBlank()) {
+      return;
     }
+    Map<String, String> ids = workerContainersByTopology.get(topologyId);
+    String containerId = ids == null ? null : ids.remove(workerId);
+    if (containerId == null) {
+      return;
+    }
+    log.info("removeWorker: stopping worker {} (container {}) for topology {}", workerId, containerId, topologyId);
+    docker.stopAndRemoveContainer(containerId);
   }
 
   private static List<String> safeVolumes(List<String> raw) {
@@ -157,6 +249,10 @@ public final class DockerSingleNodeComputeAdapter implements ComputeAdapter {
     }
   }
 
+  private static long elapsedMillis(long startedNanos) {
+    return (System.nanoTime() - startedNanos) / 1_000_000L;
+  }
+
   private static String requireNonBlank(String value, String name) {
     if (value == null || value.isBlank()) {
       throw new IllegalArgumentException(name + " must not be blank");
@@ -1,8 +1,11 @@
 package io.pockethive.docker.compute;
 
 import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
 import com.github.dockerjava.api.command.CreateServiceResponse;
 import com.github.dockerjava.api.model.ContainerSpec;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.EventType;
 import com.github.dockerjava.api.model.Mount;
 import com.github.dockerjava.api.model.MountType;
 import com.github.dockerjava.api.model.NetworkAttachmentConfig;
@@ -13,10 +16,15 @@ import com.github.dockerjava.api.model.ServiceSpec;
 import com.github.dockerjava.api.model.Task;
 import com.github.dockerjava.api.model.TaskSpec;
 import com.github.dockerjava.api.model.TaskState;
+import io.pockethive.docker.ParallelDockerCalls;
 import io.pockethive.manager.ports.ComputeAdapter;
 import io.pockethive.manager.runtime.ComputeAdapterType;
 import io.pockethive.manager.runtime.ManagerSpec;
+import io.pockethive.manager.runtime.WorkerProvisioningException;
+import io.pockethive.manager.runtime.WorkerProvisioningReport;
 import io.pockethive.manager.runtime.WorkerSpec;
+import java.io.Closeable;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -24,12 +32,15 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HexFormat;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,7 +50,8 @@ import org.slf4j.LoggerFactory;
  * <p>
  * This adapter is deliberately minimal: it creates one service per manager or worker
  * with a single replica and does not yet attempt full reconciliation beyond basic
- * "create once, remove on teardown" semantics. It is intended as a shared building
+ * "create once, remove on teardown or scale-down" semantics. Service creation and
+ * removal across workers run with bounded parallelism. It is intended as a shared building
  * block for both the Orchestrator and Swarm Controller when running against a Swarm
  * cluster.
  */
@@ -48,22 +60,46 @@ public final class DockerSwarmServiceComputeAdapter implements ComputeAdapter {
   private static final Logger log = LoggerFactory.getLogger(DockerSwarmServiceComputeAdapter.class);
   public static final String PLACEMENT_CONSTRAINTS_ENV = "POCKETHIVE_DOCKER_SWARM_PLACEMENT_CONSTRAINTS";
   static final int DOCKER_SERVICE_NAME_MAX_LENGTH = 63;
+  private static final String SWARM_SERVICE_ID_LABEL = "com.docker.swarm.service.id";
+  private static final long DRAIN_TIMEOUT_MS = 60_000L;
+  private static final long POLL_INTERVAL_MS = 200L;
+  private static final long EVENT_FALLBACK_RECHECK_MS = 2_000L;
 
   private final DockerClient dockerClient;
   private final Supplier<String> controlNetworkSupplier;
+  private final int parallelism;
+  private final long drainTimeoutMs;
 
   // Manager id (logical) -> service id (runtime)
   private final Map<String, String> managerServices = new ConcurrentHashMap<>();
 
-  // topology id -> service ids (runtime) for workers
-  private final Map<String, List<String>> workerServicesByTopology = new ConcurrentHashMap<>();
+  // topology id -> worker id (logical) -> service id (runtime), in creation order
+  private final Map<String, Map<String, String>> workerServicesByTopology = new ConcurrentHashMap<>();
 
   public DockerSwarmServiceComputeAdapter(DockerClient dockerClient,
                                           Supplier<String> controlNetworkSupplier) {
+    this(dockerClient, controlNetworkSupplier, ParallelDockerCalls.DEFAULT_PARALLELISM);
+  }
+
+  /**
+   * @param parallelism maximum number of services created or removed concurrently
+   */
+  public DockerSwarmServiceComputeAdapter(DockerClient dockerClient,
+                                          Supplier<String> controlNetworkSupplier,
+                                          int parallelism) {
+    this(dockerClient, controlNetworkSupplier, parallelism, DRAIN_TIMEOUT_MS);
+  }
+
+  DockerSwarmServiceComputeAdapter(DockerClient dockerClient,
+                                   Supplier<String> controlNetworkSupplier,
+                                   int parallelism,
+                                   long drainTimeoutMs) {
     this.dockerClient = Objects.requireNonNull(dockerClient, "dockerClient");
     this.controlNetworkSupplier = controlNetworkSupplier != null
         ? controlNetworkSupplier
         : () -> null;
+    this.parallelism = Math.max(1, parallelism);
+    this.drainTimeoutMs = drainTimeoutMs;
   }
 
   @Override
@@ -123,39 +159,83 @@ public final class DockerSwarmServiceComputeAdapter implements ComputeAdapter {
 
   @Override
   public void applyWorkers(String topologyId, List<WorkerSpec> workers) {
+    provisionWorkers(topologyId, workers);
+  }
+
+  /**
+   * Create one service per new worker, up to the configured parallelism at a time. Swarm pulls
+   * images and starts tasks on whichever node it schedules them to, so the only phase measured
+   * here is {@code create}. When some creates fail, the services that were created stay indexed
+   * and are listed by the thrown {@link WorkerProvisioningException}.
+   */
+  @Override
+  public synchronized WorkerProvisioningReport provisionWorkers(String topologyId, List<WorkerSpec> workers) {
     if (workers == null || workers.isEmpty()) {
-      return;
+      return WorkerProvisioningReport.empty();
     }
     String resolvedTopology = requireNonBlank(topologyId, "topologyId");
-    List<String> serviceIds = workerServicesByTopology.computeIfAbsent(
-        resolvedTopology, id -> new CopyOnWriteArrayList<>());
+    Map<String, String> serviceIds = workerServicesByTopology.computeIfAbsent(
+        resolvedTopology, id -> Collections.synchronizedMap(new LinkedHashMap<>()));
+    Map<String, WorkerSpec> pending = new LinkedHashMap<>();
     for (WorkerSpec worker : workers) {
       if (worker == null) {
         continue;
       }
       String workerId = requireNonBlank(worker.id(), "worker.id");
-      String image = requireNonBlank(worker.image(), "worker.image");
-      Map<String, String> env = worker.environment() == null
-          ? Map.of()
-          : Map.copyOf(worker.environment());
-      List<String> volumes = worker.volumes() == null
-          ? List.of()
-          : List.copyOf(worker.volumes());
-      log.info("Creating Swarm service for worker {} in topology {} using image {}",
-          workerId, resolvedTopology, image);
-      String serviceName = dockerServiceName(workerId);
-      ServiceSpec spec = buildServiceSpec(
-          serviceName,
-          workerId,
-          image,
-          env,
-          volumes,
-          resolvedTopology,
-          false,
-          PocketHiveDockerLabels.workerLabels(workerId, image, env, ComputeAdapterType.SWARM_STACK));
-      CreateServiceResponse response = dockerClient.createServiceCmd(spec).exec();
-      serviceIds.add(response.getId());
+      if (serviceIds.containsKey(workerId)) {
+        continue;
+      }
+      requireNonBlank(worker.image(), "worker.image");
+      pending.putIfAbsent(workerId, worker);
+    }
+    if (pending.isEmpty()) {
+      return WorkerProvisioningReport.empty();
+    }
+
+    // Ids are recorded even when the client returns null so the worker still counts as known.
+    Map<String, String> created = Collections.synchronizedMap(new HashMap<>());
+    long started = System.nanoTime();
+    try {
+      ParallelDockerCalls.forEach(pending.values(), parallelism, "worker-service-create",
+          worker -> created.put(worker.id(), createWorkerService(resolvedTopology, worker)));
+    } catch (RuntimeException ex) {
+      throw new WorkerProvisioningException(ex, created.keySet());
+    } finally {
+      // Index in spec order so teardown stays last-created, first-removed.
+      for (String workerId : pending.keySet()) {
+        if (created.containsKey(workerId)) {
+          serviceIds.put(workerId, created.get(workerId));
+        }
+      }
     }
+    long createMillis = elapsedMillis(started);
+    log.info("Created {} Swarm services for topology {} in {} ms", created.size(), resolvedTopology, createMillis);
+    return new WorkerProvisioningReport(created.size(), Map.of("create", createMillis));
+  }
+
+  private String createWorkerService(String topologyId, WorkerSpec worker) {
+    String workerId = worker.id();
+    String image = worker.image();
+    Map<String, String> env = worker.environment() == null
+        ? Map.of()
+        : Map.copyOf(worker.environment());
+    List<String> volumes = worker.volumes() == null
+        ? List.of()
+        : List.copyOf(worker.volumes());
+    log.info("Creating Swarm service for worker {} in topology {} using image {}",
+        workerId, topologyId, image);
+    String serviceName = dockerServiceName(workerId);
+    ServiceSpec spec = buildServiceSpec(
+        serviceName,
+        workerId,
+        image,
+        env,
+        volumes,
+        topologyId,
+        false,
+        PocketHiveDockerLabels.workerLabels(workerId, image, env, ComputeAdapterType.SWARM_STACK));
+    CreateServiceResponse response = dockerClient.createServiceCmd(spec).exec();
+    return response.getId();
   }
 
   @Override
@@ -163,14 +243,19 @@ public final class DockerSwarmServiceComputeAdapter implements ComputeAdapter {
     if (topologyId == null || topologyId.isBlank()) {
       return;
     }
-    List<String> ids = workerServicesByTopology.remove(topologyId);
+    Map<String, String> ids = workerServicesByTopology.remove(topologyId);
     if (ids == null || ids.isEmpty()) {
       return;
     }
-    // Stop in reverse order, mirroring the container-based adapter.
-    List<String> copy = new ArrayList<>(ids);
+    // Removals are started last-created first, mirroring the container-based adapter, but up to
+    // `parallelism` services are removed and drained at once, so completion order is not guaranteed.
+    List<String> copy;
+    synchronized (ids) {
+      copy = new ArrayList<>(ids.values());
+    }
     Collections.reverse(copy);
-    for (String id : copy) {
+    long started = System.nanoTime();
+    ParallelDockerCalls.forEach(copy, parallelism, "worker-service-remove", id -> {
       try {
         log.info("Removing Swarm service {} for topology {}", id, topologyId);
         dockerClient.removeServiceCmd(id).exec();
@@ -178,6 +263,26 @@ public final class DockerSwarmServiceComputeAdapter implements ComputeAdapter {
       } catch (RuntimeException e) {
         log.warn("Failed to remove worker service {}: {}", id, e.getMessage());
       }
+    });
+    log.info("Removed {} Swarm services for topology {} in {} ms", copy.size(), topologyId, elapsedMillis(started));
+  }
+
+  @Override
+  public void removeWorker(String topologyId, String workerId) {
+    if (topologyId == null || topologyId.isBlank() || workerId == null || workerId.isBlank()) {
+      return;
+    }
+    Map<String, String> ids = workerServicesByTopology.get(topologyId);
+    String serviceId = ids == null ? null : ids.remove(workerId);
+    if (serviceId == null) {
+      return;
+    }
+    try {
+      log.info("Removing Swarm service {} for worker {} in topology {}", serviceId, workerId, topologyId);
+      dockerClient.removeServiceCmd(serviceId).exec();
+      waitForServiceDrain(serviceId);
+    } catch (RuntimeException e) {
+      log.warn("Failed to remove worker service {}: {}", serviceId, e.getMessage());
     }
   }
 
@@ -185,44 +290,31 @@ public final class DockerSwarmServiceComputeAdapter implements ComputeAdapter {
    * Wait for Swarm to drain tasks for the given service so that worker
    * containers have actually terminated before upstream components delete
    * their control queues.
+   * <p>
+   * Task state is re-checked whenever the Docker events stream reports a container
+   * of the service changing state on this node, and otherwise every 200ms. Tasks on
+   * other nodes emit no local events, so the slower fallback re-check is only used once
+   * an event for this service has been seen, which shows its tasks are local.
    */
-  private void waitForServiceDrain(String serviceId) {
+  void waitForServiceDrain(String serviceId) {
     if (serviceId == null || serviceId.isBlank()) {
       return;
     }
-    final long timeoutMs = 60_000L;
-    final long pollIntervalMs = 200L;
-    long deadline = System.currentTimeMillis() + timeoutMs;
+    long deadline = System.currentTimeMillis() + drainTimeoutMs;
+    Semaphore wakeUp = new Semaphore(0);
+    AtomicBoolean eventSeen = new AtomicBoolean();
+    Closeable subscription = subscribeToServiceEvents(serviceId, wakeUp, eventSeen);
     try {
       while (System.currentTimeMillis() < deadline) {
-        List<Task> tasks = dockerClient.listTasksCmd().exec();
-        boolean anyRunning = false;
-        if (tasks != null && !tasks.isEmpty()) {
-          for (Task task : tasks) {
-            if (task == null) {
-              continue;
-            }
-            if (task.getServiceId() == null || !serviceId.equals(task.getServiceId())) {
-              continue;
-            }
-            TaskState state = task.getStatus() != null ? task.getStatus().getState() : null;
-            if (state == TaskState.NEW
-                || state == TaskState.PENDING
-                || state == TaskState.ASSIGNED
-                || state == TaskState.ACCEPTED
-                || state == TaskState.PREPARING
-                || state == TaskState.STARTING
-                || state == TaskState.RUNNING) {
-              anyRunning = true;
-              break;
-            }
-          }
-        }
-        if (!anyRunning) {
+        if (!hasActiveTasks(serviceId)) {
           return;
         }
+        long recheckMs = eventSeen.get() ? EVENT_FALLBACK_RECHECK_MS : POLL_INTERVAL_MS;
+        long remaining = deadline - System.currentTimeMillis();
         try {
-          Thread.sleep(pollIntervalMs);
+          if (wakeUp.tryAcquire(Math.max(1L, Math.min(recheckMs, remaining)), TimeUnit.MILLISECONDS)) {
+            wakeUp.drainPermits();
+          }
         } catch (InterruptedException ie) {
           Thread.currentThread().interrupt();
           return;
@@ -231,9 +323,76 @@ public final class DockerSwarmServiceComputeAdapter implements ComputeAdapter {
       log.warn("Timed out waiting for Swarm service {} to drain tasks", serviceId);
     } catch (RuntimeException e) {
       log.warn("Error while waiting for Swarm service {} to drain: {}", serviceId, e.getMessage());
+    } finally {
+      closeQuietly(subscription);
     }
   }
 
+  private boolean hasActiveTasks(String serviceId) {
+    List<Task> tasks = dockerClient.listTasksCmd().exec();
+    if (tasks == null || tasks.isEmpty()) {
+      return false;
+    }
+    for (Task task : tasks) {
+      if (task == null) {
+        continue;
+      }
+      if (task.getServiceId() == null || !serviceId.equals(task.getServiceId())) {
+        continue;
+      }
+      TaskState state = task.getStatus() != null ? task.getStatus().getState() : null;
+      if (state == TaskState.NEW
+          || state == TaskState.PENDING
+          || state == TaskState.ASSIGNED
+          || state == TaskState.ACCEPTED
+          || state == TaskState.PREPARING
+          || state == TaskState.STARTING
+          || state == TaskState.RUNNING) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Closeable subscribeToServiceEvents(String serviceId, Semaphore wakeUp, AtomicBoolean eventSeen) {
+    try {
+      return dockerClient.eventsCmd()
+          .withEventTypeFilter(EventType.CONTAINER)
+          .withLabelFilter(SWARM_SERVICE_ID_LABEL + "=" + serviceId)
+          .exec(new ResultCallback.Adapter<Event>() {
+            @Override
+            public void onNext(Event event) {
+              eventSeen.set(true);
+              wakeUp.release();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+              // Stream broke: wake the waiter so it re-checks and falls back to the timeout.
+              wakeUp.release();
+              super.onError(throwable);
+            }
+          });
+    } catch (RuntimeException e) {
+      log.debug("Docker events unavailable for service {}, polling tasks instead: {}", serviceId, e.getMessage());
+      return null;
+    }
+  }
+
+  private static void closeQuietly(Closeable closeable) {
+    if (closeable == null) {
+      return;
+    }
+    try {
+      closeable.close();
+    } catch (IOException | RuntimeException ignored) {
+    }
+  }
+
+  private static long elapsedMillis(long startedNanos) {
+    return (System.nanoTime() - startedNanos) / 1_000_000L;
+  }
+
   private ServiceSpec buildServiceSpec(String serviceName,
                                        String logicalName,
                                        String image,
@@ -1,16 +1,22 @@
 package io.pockethive.docker.compute;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.pockethive.docker.DockerContainerClient;
+import io.pockethive.manager.runtime.WorkerProvisioningReport;
 import io.pockethive.manager.runtime.WorkerSpec;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.UnaryOperator;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -56,6 +62,57 @@ class DockerSingleNodeComputeAdapterTest {
     assertThat(labelsCaptor.getValue()).containsEntry("pockethive.version", "test");
   }
 
+  @Test
+  void launchesWorkersConcurrentlyAfterPullingMissingImages() {
+    DockerContainerClient docker = mock(DockerContainerClient.class);
+    CountDownLatch allLaunching = new CountDownLatch(3);
+    when(docker.createAndStartContainer(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+      allLaunching.countDown();
+      // Only returns once all three launches are in flight at the same time.
+      if (!allLaunching.await(5, TimeUnit.SECONDS)) {
+        throw new IllegalStateException("launches did not run concurrently");
+      }
+      return "id-" + invocation.getArgument(2);
+    });
+    when(docker.ensureImages(any(), anyInt())).thenReturn(List.of());
+
+    DockerSingleNodeComputeAdapter adapter = new DockerSingleNodeComputeAdapter(docker, 3, true);
+
+    WorkerProvisioningReport report = adapter.provisionWorkers("swarm-1", List.of(
+        new WorkerSpec("gen-a", "generator", "generator:test", Map.of(), null),
+        new WorkerSpec("gen-b", "generator", "generator:test", Map.of(), null),
+        new WorkerSpec("proc-a", "processor", "processor:test", Map.of(), null)));
+
+    assertThat(report.provisioned()).isEqualTo(3);
+    assertThat(report.phaseMillis()).containsOnlyKeys("pull", "launch");
+    verify(docker).ensureImages(List.of("generator:test", "generator:test", "processor:test"), 3);
+
+    WorkerProvisioningReport again = adapter.provisionWorkers("swarm-1", List.of(
+        new WorkerSpec("gen-a", "generator", "generator:test", Map.of(), null)));
+    assertThat(again.provisioned()).isZero();
+  }
+
+  @Test
+  void keepsLaunchedContainersIndexedWhenAnotherLaunchFails() {
+    DockerContainerClient docker = mock(DockerContainerClient.class);
+    when(docker.createAndStartContainer(eq("ok:test"), any(), any(), any(), any())).thenReturn("ok-id");
+    when(docker.createAndStartContainer(eq("broken:test"), any(), any(), any(), any()))
+        .thenThrow(new IllegalStateException("no such image"));
+
+    DockerSingleNodeComputeAdapter adapter = new DockerSingleNodeComputeAdapter(docker, 2, false);
+
+    assertThatThrownBy(() -> adapter.applyWorkers("swarm-1", List.of(
+        new WorkerSpec("ok-worker", "processor", "ok:test", Map.of(), null),
+        new WorkerSpec("broken-worker", "processor", "broken:test", Map.of(), null))))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("no such image");
+
+    adapter.removeWorkers("swarm-1");
+
+    verify(docker).stopAndRemoveContainer("ok-id");
+    verify(docker, never()).ensureImages(any(), anyInt());
+  }
+
   private static Map<String, String> workerEnv() {
     return Map.of(
         "POCKETHIVE_CONTROL_PLANE_SWARM_ID", "swarm-1",
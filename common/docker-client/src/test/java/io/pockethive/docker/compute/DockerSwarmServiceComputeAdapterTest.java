@@ -7,14 +7,27 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
 import com.github.dockerjava.api.command.CreateServiceCmd;
 import com.github.dockerjava.api.command.CreateServiceResponse;
+import com.github.dockerjava.api.command.EventsCmd;
+import com.github.dockerjava.api.command.ListTasksCmd;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.EventType;
 import com.github.dockerjava.api.model.NetworkAttachmentConfig;
 import com.github.dockerjava.api.model.ServiceSpec;
+import com.github.dockerjava.api.model.Task;
+import com.github.dockerjava.api.model.TaskState;
+import com.github.dockerjava.api.model.TaskStatus;
 import io.pockethive.manager.runtime.ManagerSpec;
+import io.pockethive.manager.runtime.WorkerProvisioningReport;
 import io.pockethive.manager.runtime.WorkerSpec;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
@@ -139,6 +152,123 @@ class DockerSwarmServiceComputeAdapterTest {
     assertThat(spec.getLabels()).containsEntry("pockethive.version", "test");
   }
 
+  @Test
+  void createsWorkerServicesConcurrently() {
+    DockerClient docker = mock(DockerClient.class);
+    CountDownLatch allCreating = new CountDownLatch(2);
+    when(docker.createServiceCmd(any())).thenAnswer(invocation -> {
+      ServiceSpec spec = invocation.getArgument(0);
+      CreateServiceCmd create = mock(CreateServiceCmd.class);
+      when(create.exec()).thenAnswer(exec -> {
+        allCreating.countDown();
+        if (!allCreating.await(5, TimeUnit.SECONDS)) {
+          throw new IllegalStateException("service creates did not run concurrently");
+        }
+        CreateServiceResponse response = mock(CreateServiceResponse.class);
+        when(response.getId()).thenReturn("svc-" + spec.getName());
+        return response;
+      });
+      return create;
+    });
+
+    DockerSwarmServiceComputeAdapter adapter =
+        new DockerSwarmServiceComputeAdapter(docker, () -> null, 2);
+
+    WorkerProvisioningReport report = adapter.provisionWorkers("swarm-1", List.of(
+        new WorkerSpec("gen-a", "generator", "generator:test",
+            workerEnv("swarm-1", "gen-a", "generator", Map.of()), null),
+        new WorkerSpec("gen-b", "generator", "generator:test",
+            workerEnv("swarm-1", "gen-b", "generator", Map.of()), null)));
+
+    assertThat(report.provisioned()).isEqualTo(2);
+    assertThat(report.phaseMillis()).containsOnlyKeys("create");
+  }
+
+  @Test
+  void waitsForServiceDrainOnDockerEventsInsteadOfPolling() {
+    DockerClient docker = mock(DockerClient.class);
+    EventsCmd events = mock(EventsCmd.class);
+    when(docker.eventsCmd()).thenReturn(events);
+    when(events.withEventTypeFilter(any(EventType[].class))).thenReturn(events);
+    when(events.withLabelFilter(any(String[].class))).thenReturn(events);
+    AtomicReference<ResultCallback<Event>> subscriber = new AtomicReference<>();
+    when(events.exec(any())).thenAnswer(invocation -> {
+      subscriber.set(invocation.getArgument(0));
+      return invocation.getArgument(0);
+    });
+
+    ListTasksCmd listTasks = mock(ListTasksCmd.class);
+    when(docker.listTasksCmd()).thenReturn(listTasks);
+    AtomicInteger listings = new AtomicInteger();
+    when(listTasks.exec()).thenAnswer(invocation -> {
+      if (listings.incrementAndGet() == 1) {
+        // The container stops shortly after the first check and the events stream says so.
+        Thread notifier = new Thread(() -> {
+          sleepQuietly(50);
+          subscriber.get().onNext(mock(Event.class));
+        });
+        notifier.start();
+        return List.of(task("svc-1", TaskState.RUNNING));
+      }
+      return List.of(task("svc-1", TaskState.SHUTDOWN));
+    });
+
+    DockerSwarmServiceComputeAdapter adapter =
+        new DockerSwarmServiceComputeAdapter(docker, () -> null, 1, 30_000L);
+
+    long started = System.nanoTime();
+    adapter.waitForServiceDrain("svc-1");
+    long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+    assertThat(listings).hasValue(2);
+    assertThat(elapsedMs).isLessThan(1_500L);
+  }
+
+  @Test
+  void keepsFastRecheckWhileNoEventForTheServiceHasArrived() {
+    DockerClient docker = mock(DockerClient.class);
+    EventsCmd events = mock(EventsCmd.class);
+    when(docker.eventsCmd()).thenReturn(events);
+    when(events.withEventTypeFilter(any(EventType[].class))).thenReturn(events);
+    when(events.withLabelFilter(any(String[].class))).thenReturn(events);
+    // Subscribed, but the service's tasks run on another node, so no local events ever arrive.
+    when(events.exec(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    ListTasksCmd listTasks = mock(ListTasksCmd.class);
+    when(docker.listTasksCmd()).thenReturn(listTasks);
+    AtomicInteger listings = new AtomicInteger();
+    when(listTasks.exec()).thenAnswer(invocation -> listings.incrementAndGet() < 3
+        ? List.of(task("svc-1", TaskState.RUNNING))
+        : List.of(task("svc-1", TaskState.SHUTDOWN)));
+
+    DockerSwarmServiceComputeAdapter adapter =
+        new DockerSwarmServiceComputeAdapter(docker, () -> null, 1, 30_000L);
+
+    long started = System.nanoTime();
+    adapter.waitForServiceDrain("svc-1");
+    long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+    assertThat(listings).hasValue(3);
+    assertThat(elapsedMs).isLessThan(1_500L);
+  }
+
+  private static Task task(String serviceId, TaskState state) {
+    Task task = mock(Task.class);
+    TaskStatus status = mock(TaskStatus.class);
+    when(status.getState()).thenReturn(state);
+    when(task.getServiceId()).thenReturn(serviceId);
+    when(task.getStatus()).thenReturn(status);
+    return task;
+  }
+
+  private static void sleepQuietly(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
   private static void assertNetwork(NetworkAttachmentConfig attachment) {
     assertThat(attachment.getTarget()).isEqualTo("pockethive_default");
   }
@@ -5,13 +5,19 @@ import java.sql.PreparedStatement;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -21,13 +27,41 @@ import org.slf4j.LoggerFactory;
  * Designed for high-volume control-plane journaling: uses a bounded in-memory buffer and periodic
  * batch inserts. When the buffer is full, it drops INFO entries first and attempts to evict INFO
  * entries to make room for WARN/ERROR.
+ * <p>
+ * Batches are shipped either as a JDBC insert batch or, in {@link PostgresJournalIngestMode#COPY} mode,
+ * as a single binary {@code COPY ... FROM STDIN} stream. Callers may keep driving {@link #flush()} from
+ * a scheduler, or call {@link #start()} to let a dedicated flusher thread wake up as soon as
+ * {@code flushThreshold} entries are buffered (and at the latest after {@code maxLingerMillis}).
  */
-public final class BufferedPostgresJournalWriter<T> {
+public final class BufferedPostgresJournalWriter<T> implements AutoCloseable {
 
   private static final Logger log = LoggerFactory.getLogger(BufferedPostgresJournalWriter.class);
 
   private static final long DEFAULT_DB_FAILURE_BACKOFF_MILLIS = 30_000;
   private static final long DEFAULT_DROP_QUIET_PERIOD_NANOS = TimeUnit.SECONDS.toNanos(1);
+  private static final long DEFAULT_MAX_LINGER_MILLIS = 200;
+
+  private static final String COPY_SQL = """
+      COPY journal_event (
+        ts,
+        scope,
+        swarm_id,
+        run_id,
+        scope_role,
+        scope_instance,
+        severity,
+        direction,
+        kind,
+        type,
+        origin,
+        correlation_id,
+        idempotency_key,
+        routing_key,
+        data,
+        raw,
+        extra
+      ) FROM STDIN (FORMAT binary)
+      """;
 
   private static final String INSERT_SQL = """
       INSERT INTO journal_event (
@@ -79,6 +113,15 @@ public final class BufferedPostgresJournalWriter<T> {
   private final Function<T, String> severityProvider;
   private final Function<T, PostgresJournalRecord> recordMapper;
   private final PostgresJournalBackpressureEvents<T> backpressureEvents;
+  private final PostgresJournalIngestMode ingestMode;
+  private final int flushThreshold;
+  private final long maxLingerNanos;
+  private final PostgresJournalWriterMetrics metrics;
+  private final PostgresJournalCopyEncoder copyEncoder;
+  private final ReentrantLock flushLock = new ReentrantLock();
+
+  private volatile Thread flusher;
+  private volatile boolean running;
 
   private final AtomicLong droppedInfo = new AtomicLong();
   private final AtomicLong droppedHigh = new AtomicLong();
@@ -100,6 +143,31 @@ public final class BufferedPostgresJournalWriter<T> {
                                       Function<T, String> severityProvider,
                                       Function<T, PostgresJournalRecord> recordMapper,
                                       PostgresJournalBackpressureEvents<T> backpressureEvents) {
+    this(name, dataSource, capacity, batchSize, dbFailureBackoffMillis, dropQuietPeriodMillis,
+        severityProvider, recordMapper, backpressureEvents,
+        PostgresJournalIngestMode.INSERT, null, null, null);
+  }
+
+  /**
+   * @param ingestMode      how batches are written; {@code null} means {@link PostgresJournalIngestMode#INSERT}
+   * @param flushThreshold  buffered entry count that wakes the flusher started via {@link #start()};
+   *                        {@code null} defaults to half of {@code batchSize}
+   * @param maxLingerMillis upper bound an entry may wait in the buffer when the flusher is running
+   * @param metrics         batch metrics callback; {@code null} disables metrics
+   */
+  public BufferedPostgresJournalWriter(String name,
+                                      DataSource dataSource,
+                                      int capacity,
+                                      int batchSize,
+                                      Long dbFailureBackoffMillis,
+                                      Long dropQuietPeriodMillis,
+                                      Function<T, String> severityProvider,
+                                      Function<T, PostgresJournalRecord> recordMapper,
+                                      PostgresJournalBackpressureEvents<T> backpressureEvents,
+                                      PostgresJournalIngestMode ingestMode,
+                                      Integer flushThreshold,
+                                      Long maxLingerMillis,
+                                      PostgresJournalWriterMetrics metrics) {
     this.name = requireNonBlank(name, "name");
     this.dataSource = Objects.requireNonNull(dataSource, "dataSource");
     this.batchSize = Math.max(1, batchSize);
@@ -110,6 +178,55 @@ public final class BufferedPostgresJournalWriter<T> {
     this.severityProvider = Objects.requireNonNull(severityProvider, "severityProvider");
     this.recordMapper = Objects.requireNonNull(recordMapper, "recordMapper");
     this.backpressureEvents = backpressureEvents;
+    this.ingestMode = ingestMode != null ? ingestMode : PostgresJournalIngestMode.INSERT;
+    int threshold = flushThreshold != null ? flushThreshold : this.batchSize / 2;
+    this.flushThreshold = Math.max(1, Math.min(threshold, this.batchSize));
+    long lingerMillis = maxLingerMillis != null ? Math.max(1, maxLingerMillis) : DEFAULT_MAX_LINGER_MILLIS;
+    this.maxLingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+    this.metrics = metrics != null ? metrics : PostgresJournalWriterMetrics.NOOP;
+    this.copyEncoder = this.ingestMode == PostgresJournalIngestMode.COPY ? new PostgresJournalCopyEncoder() : null;
+  }
+
+  /**
+   * Starts a daemon flusher thread that flushes when the buffer reaches {@code flushThreshold} entries
+   * or {@code maxLingerMillis} elapsed, whichever comes first. Idempotent.
+   */
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+    running = true;
+    Thread thread = new Thread(this::runFlusher, "journal-flusher-" + name.replace(' ', '-').toLowerCase(Locale.ROOT));
+    thread.setDaemon(true);
+    flusher = thread;
+    thread.start();
+  }
+
+  /**
+   * Stops the flusher thread (if started) and performs a final flush.
+   */
+  @Override
+  public synchronized void close() {
+    Thread thread = flusher;
+    running = false;
+    flusher = null;
+    if (thread != null) {
+      LockSupport.unpark(thread);
+      try {
+        thread.join(TimeUnit.NANOSECONDS.toMillis(maxLingerNanos) + 5_000L);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    flush();
+  }
+
+  public boolean isRunning() {
+    return running;
+  }
+
+  public PostgresJournalIngestMode ingestMode() {
+    return ingestMode;
   }
 
   public void append(T entry) {
@@ -121,6 +238,7 @@ public final class BufferedPostgresJournalWriter<T> {
       return;
     }
     if (buffer.offer(entry)) {
+      signalIfThresholdReached();
       return;
     }
     if (!isHighSeverity(severityProvider.apply(entry))) {
@@ -142,6 +260,38 @@ public final class BufferedPostgresJournalWriter<T> {
   }
 
   public void flush() {
+    flushLock.lock();
+    try {
+      flushBatch();
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  private void runFlusher() {
+    while (running) {
+      if (buffer.size() < flushThreshold) {
+        LockSupport.parkNanos(this, maxLingerNanos);
+      }
+      if (!running) {
+        return;
+      }
+      try {
+        flush();
+      } catch (RuntimeException e) {
+        log.warn("{} flusher iteration failed: {}", name, e.getMessage());
+      }
+    }
+  }
+
+  private void signalIfThresholdReached() {
+    Thread thread = flusher;
+    if (thread != null && buffer.size() >= flushThreshold) {
+      LockSupport.unpark(thread);
+    }
+  }
+
+  private void flushBatch() {
     long nowMillis = System.currentTimeMillis();
     long disabledUntil = dbDisabledUntilMillis.get();
     if (disabledUntil > nowMillis) {
@@ -183,9 +333,16 @@ public final class BufferedPostgresJournalWriter<T> {
       return;
     }
 
+    long startedAt = System.nanoTime();
     try {
-      insertBatch(batch);
+      if (ingestMode == PostgresJournalIngestMode.COPY) {
+        copyBatch(batch);
+      } else {
+        insertBatch(batch);
+      }
+      metrics.batchWritten(ingestMode, batch.size(), System.nanoTime() - startedAt);
     } catch (Exception e) {
+      metrics.batchFailed(ingestMode, batch.size(), System.nanoTime() - startedAt);
       dbDisabledUntilMillis.set(nowMillis + dbFailureBackoffMillis);
       dropStartedPending.set(false);
       dropStoppedPending.set(false);
@@ -196,7 +353,7 @@ public final class BufferedPostgresJournalWriter<T> {
     }
   }
 
-  private void insertBatch(java.util.List<T> batch) throws Exception {
+  private void insertBatch(List<T> batch) throws Exception {
     try (Connection connection = dataSource.getConnection();
          PreparedStatement ps = connection.prepareStatement(INSERT_SQL)) {
       for (T entry : batch) {
@@ -208,6 +365,29 @@ public final class BufferedPostgresJournalWriter<T> {
     }
   }
 
+  private void copyBatch(List<T> batch) throws Exception {
+    // Encode before borrowing a connection so mapper failures or large batches do not hold it.
+    copyEncoder.begin();
+    for (T entry : batch) {
+      copyEncoder.encode(recordMapper.apply(entry));
+    }
+    copyEncoder.end();
+    try (Connection connection = dataSource.getConnection()) {
+      CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+      try {
+        copyIn.writeToCopy(copyEncoder.array(), 0, copyEncoder.length());
+        copyIn.endCopy();
+      } finally {
+        if (copyIn.isActive()) {
+          copyIn.cancelCopy();
+        }
+      }
+      if (!connection.getAutoCommit()) {
+        connection.commit();
+      }
+    }
+  }
+
   private static void bind(PreparedStatement ps, PostgresJournalRecord record) throws Exception {
     Instant ts = record.timestamp() != null ? record.timestamp() : Instant.now();
     ps.setTimestamp(1, Timestamp.from(ts));
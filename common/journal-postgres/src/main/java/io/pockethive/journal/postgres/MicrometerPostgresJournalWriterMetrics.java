@@ -0,0 +1,59 @@
+package io.pockethive.journal.postgres;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer binding for {@link PostgresJournalWriterMetrics}.
+ * <p>
+ * Rows/sec is derived from the {@code ph_journal_rows_total} counter rate; batch sizes and time spent
+ * in the database are exported as a distribution summary and a timer. The {@code writer} tag tells the
+ * hive and swarm journals apart.
+ */
+public final class MicrometerPostgresJournalWriterMetrics implements PostgresJournalWriterMetrics {
+
+  private final Counter rows;
+  private final Counter failedRows;
+  private final DistributionSummary batchSize;
+  private final Timer dbTime;
+
+  public MicrometerPostgresJournalWriterMetrics(MeterRegistry meterRegistry, String writer, PostgresJournalIngestMode mode) {
+    Objects.requireNonNull(meterRegistry, "meterRegistry");
+    Tags tags = Tags.of("writer", writer, "mode", mode.name().toLowerCase(Locale.ROOT));
+    this.rows = Counter.builder("ph_journal_rows_total")
+        .description("Journal rows written to Postgres")
+        .tags(tags)
+        .register(meterRegistry);
+    this.failedRows = Counter.builder("ph_journal_rows_failed_total")
+        .description("Journal rows dropped because a batch write failed")
+        .tags(tags)
+        .register(meterRegistry);
+    this.batchSize = DistributionSummary.builder("ph_journal_batch_size")
+        .description("Rows per journal batch write")
+        .tags(tags)
+        .register(meterRegistry);
+    this.dbTime = Timer.builder("ph_journal_db_time")
+        .description("Time spent writing a journal batch to Postgres")
+        .tags(tags)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void batchWritten(PostgresJournalIngestMode mode, int rowCount, long dbNanos) {
+    rows.increment(rowCount);
+    batchSize.record(rowCount);
+    dbTime.record(dbNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void batchFailed(PostgresJournalIngestMode mode, int rowCount, long dbNanos) {
+    failedRows.increment(rowCount);
+    dbTime.record(dbNanos, TimeUnit.NANOSECONDS);
+  }
+}
@@ -0,0 +1,146 @@
+package io.pockethive.journal.postgres;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Encodes {@link PostgresJournalRecord}s into PostgreSQL's binary {@code COPY} format.
+ * <p>
+ * The encoder owns a single growable byte array that is reused across batches, so steady-state
+ * flushing allocates nothing beyond the UTF-8 bytes of each text value. Not thread-safe: the writer
+ * only encodes under its flush lock.
+ */
+final class PostgresJournalCopyEncoder {
+
+  static final int FIELD_COUNT = 17;
+
+  private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+  private static final long POSTGRES_EPOCH_SECONDS = 946_684_800L; // 2000-01-01T00:00:00Z
+  private static final byte JSONB_VERSION = 1;
+  private static final int INITIAL_CAPACITY = 64 * 1024;
+
+  private final int retainedCapacity;
+  private byte[] buffer;
+  private int position;
+
+  PostgresJournalCopyEncoder() {
+    this(4 * 1024 * 1024);
+  }
+
+  PostgresJournalCopyEncoder(int retainedCapacity) {
+    this.retainedCapacity = Math.max(INITIAL_CAPACITY, retainedCapacity);
+    this.buffer = new byte[INITIAL_CAPACITY];
+  }
+
+  /**
+   * Resets the buffer and writes the COPY header. Oversized buffers from a previous burst are released
+   * so one spike does not pin memory for the lifetime of the writer.
+   */
+  void begin() {
+    if (buffer.length > retainedCapacity) {
+      buffer = new byte[INITIAL_CAPACITY];
+    }
+    position = 0;
+    writeBytes(SIGNATURE);
+    writeInt(0); // flags
+    writeInt(0); // header extension length
+  }
+
+  void encode(PostgresJournalRecord record) {
+    writeShort(FIELD_COUNT);
+    writeTimestamp(record.timestamp() != null ? record.timestamp() : Instant.now());
+    writeText(record.scope());
+    writeText(record.swarmId());
+    writeText(record.runId());
+    writeText(record.scopeRole());
+    writeText(record.scopeInstance());
+    writeText(record.severity());
+    writeText(record.direction());
+    writeText(record.kind());
+    writeText(record.type());
+    writeText(record.origin());
+    writeText(record.correlationId());
+    writeText(record.idempotencyKey());
+    writeText(record.routingKey());
+    writeJsonb(record.dataJson());
+    writeJsonb(record.rawJson());
+    writeJsonb(record.extraJson());
+  }
+
+  void end() {
+    writeShort(-1);
+  }
+
+  byte[] array() {
+    return buffer;
+  }
+
+  int length() {
+    return position;
+  }
+
+  private void writeTimestamp(Instant ts) {
+    long micros = Math.addExact(
+        Math.multiplyExact(ts.getEpochSecond() - POSTGRES_EPOCH_SECONDS, 1_000_000L),
+        ts.getNano() / 1_000L);
+    writeInt(8);
+    writeLong(micros);
+  }
+
+  private void writeText(String value) {
+    if (value == null) {
+      writeInt(-1);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeInt(bytes.length);
+    writeBytes(bytes);
+  }
+
+  private void writeJsonb(String json) {
+    if (json == null) {
+      writeInt(-1);
+      return;
+    }
+    byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+    writeInt(bytes.length + 1);
+    ensureCapacity(1);
+    buffer[position++] = JSONB_VERSION;
+    writeBytes(bytes);
+  }
+
+  private void writeShort(int value) {
+    ensureCapacity(2);
+    buffer[position++] = (byte) (value >>> 8);
+    buffer[position++] = (byte) value;
+  }
+
+  private void writeInt(int value) {
+    ensureCapacity(4);
+    buffer[position++] = (byte) (value >>> 24);
+    buffer[position++] = (byte) (value >>> 16);
+    buffer[position++] = (byte) (value >>> 8);
+    buffer[position++] = (byte) value;
+  }
+
+  private void writeLong(long value) {
+    writeInt((int) (value >>> 32));
+    writeInt((int) value);
+  }
+
+  private void writeBytes(byte[] bytes) {
+    ensureCapacity(bytes.length);
+    System.arraycopy(bytes, 0, buffer, position, bytes.length);
+    position += bytes.length;
+  }
+
+  private void ensureCapacity(int extra) {
+    int required = position + extra;
+    if (required <= buffer.length) {
+      return;
+    }
+    int newCapacity = Math.max(required, buffer.length << 1);
+    buffer = Arrays.copyOf(buffer, newCapacity);
+  }
+}
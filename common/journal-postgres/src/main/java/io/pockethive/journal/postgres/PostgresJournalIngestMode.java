@@ -0,0 +1,31 @@
+package io.pockethive.journal.postgres;
+
+import java.util.Locale;
+
+/**
+ * How {@link BufferedPostgresJournalWriter} ships a drained batch to {@code journal_event}.
+ * <ul>
+ *   <li>{@link #INSERT}: JDBC {@code PreparedStatement} batch (one bind per row).</li>
+ *   <li>{@link #COPY}: {@code COPY ... FROM STDIN (FORMAT binary)} via the pgjdbc {@code CopyManager};
+ *   rows are encoded straight into a reusable byte buffer and streamed in one round-trip.</li>
+ * </ul>
+ */
+public enum PostgresJournalIngestMode {
+  INSERT,
+  COPY;
+
+  /**
+   * Parses a configuration value ({@code insert}/{@code copy}, case-insensitive). Blank values map to
+   * {@link #INSERT}.
+   */
+  public static PostgresJournalIngestMode from(String value) {
+    if (value == null || value.isBlank()) {
+      return INSERT;
+    }
+    try {
+      return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Unsupported journal ingest mode: " + value, e);
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package io.pockethive.journal.postgres;
+
+/**
+ * Metrics callback for {@link BufferedPostgresJournalWriter}.
+ * <p>
+ * {@link MicrometerPostgresJournalWriterMetrics} binds it to Micrometer; {@code micrometer-core} is an
+ * optional dependency of this module, so callers without it can still plug in their own implementation.
+ */
+public interface PostgresJournalWriterMetrics {
+
+  PostgresJournalWriterMetrics NOOP = new PostgresJournalWriterMetrics() {
+    @Override
+    public void batchWritten(PostgresJournalIngestMode mode, int rows, long dbNanos) {
+    }
+
+    @Override
+    public void batchFailed(PostgresJournalIngestMode mode, int rows, long dbNanos) {
+    }
+  };
+
+  /**
+   * Called after a batch was committed.
+   *
+   * @param rows    number of rows written
+   * @param dbNanos wall time spent talking to the database (connection borrow + write)
+   */
+  void batchWritten(PostgresJournalIngestMode mode, int rows, long dbNanos);
+
+  /**
+   * Called when a batch could not be written; the writer enters its DB-failure backoff afterwards.
+   */
+  void batchFailed(PostgresJournalIngestMode mode, int rows, long dbNanos);
+}
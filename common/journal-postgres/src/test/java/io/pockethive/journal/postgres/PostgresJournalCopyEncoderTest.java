@@ -0,0 +1,76 @@
+package io.pockethive.journal.postgres;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class PostgresJournalCopyEncoderTest {
+
+  @Test
+  void encodesHeaderTupleAndTrailerInBinaryCopyFormat() {
+    PostgresJournalCopyEncoder encoder = new PostgresJournalCopyEncoder();
+    encoder.begin();
+    encoder.encode(record(Instant.parse("2000-01-01T00:00:01.000002Z"), "{\"a\":1}"));
+    encoder.end();
+
+    ByteBuffer buf = ByteBuffer.wrap(Arrays.copyOf(encoder.array(), encoder.length()));
+    byte[] signature = new byte[11];
+    buf.get(signature);
+    assertThat(new String(signature, 0, 6, StandardCharsets.US_ASCII)).isEqualTo("PGCOPY");
+    assertThat(buf.getInt()).isZero();
+    assertThat(buf.getInt()).isZero();
+
+    assertThat(buf.getShort()).isEqualTo((short) PostgresJournalCopyEncoder.FIELD_COUNT);
+    assertThat(buf.getInt()).isEqualTo(8);
+    assertThat(buf.getLong()).isEqualTo(1_000_002L);
+    assertThat(readText(buf)).isEqualTo("SWARM");
+    assertThat(readText(buf)).isEqualTo("sw1");
+    assertThat(readText(buf)).isEqualTo("run-1");
+    assertThat(buf.getInt()).isEqualTo(-1); // scope_role
+    for (int i = 0; i < 9; i++) { // scope_instance .. routing_key
+      int length = buf.getInt();
+      buf.position(buf.position() + Math.max(0, length));
+    }
+    int dataLength = buf.getInt();
+    assertThat(dataLength).isEqualTo("{\"a\":1}".length() + 1);
+    assertThat(buf.get()).isEqualTo((byte) 1);
+    buf.position(buf.position() + dataLength - 1);
+    assertThat(buf.getInt()).isEqualTo(-1); // raw
+    assertThat(buf.getInt()).isEqualTo(-1); // extra
+    assertThat(buf.getShort()).isEqualTo((short) -1);
+    assertThat(buf.hasRemaining()).isFalse();
+  }
+
+  @Test
+  void reusesBufferAcrossBatches() {
+    PostgresJournalCopyEncoder encoder = new PostgresJournalCopyEncoder();
+    encoder.begin();
+    encoder.encode(record(Instant.now(), null));
+    encoder.end();
+    byte[] first = encoder.array();
+    int firstLength = encoder.length();
+
+    encoder.begin();
+    encoder.encode(record(Instant.now(), null));
+    encoder.end();
+
+    assertThat(encoder.array()).isSameAs(first);
+    assertThat(encoder.length()).isEqualTo(firstLength);
+  }
+
+  private static String readText(ByteBuffer buf) {
+    int length = buf.getInt();
+    byte[] bytes = new byte[length];
+    buf.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static PostgresJournalRecord record(Instant ts, String dataJson) {
+    return new PostgresJournalRecord(ts, "SWARM", "sw1", "run-1", null, "inst", "INFO", "IN",
+        "signal", "swarm-start", "swarm-controller", "c-1", "i-1", "rk", dataJson, null, null);
+  }
+}
@@ -4,7 +4,12 @@ import io.pockethive.manager.ports.QueueStatsPort;
 import io.pockethive.manager.runtime.QueueStats;
 import java.time.Duration;
 import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.OptionalDouble;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledFuture;
@@ -20,6 +25,10 @@ import org.slf4j.LoggerFactory;
  * <p>
  * Uses {@link QueueStatsPort} for queue depths and {@link BufferGuardMetrics}
  * for metrics, so it can be reused by different manager implementations.
+ * <p>
+ * In {@link BufferGuardSettings.Mode#PID} mode the rate comes from a {@link PidRateController}
+ * instead of the depth bracket. Either way the controller works on the aggregate rate of all
+ * {@link BufferGuardSettings#producers() producers} and splits it between them when publishing.
  */
 public final class BufferGuardController implements Guard {
 
@@ -28,12 +37,17 @@ public final class BufferGuardController implements Guard {
     void publish(double ratePerSec);
   }
 
+  @FunctionalInterface
+  public interface ProducerRatePublisher {
+    void publish(String role, double ratePerSec);
+  }
+
   private static final Logger log = LoggerFactory.getLogger(BufferGuardController.class);
 
   private final BufferGuardSettings settings;
   private final QueueStatsPort queues;
   private final BufferGuardMetrics metrics;
-  private final RateUpdatePublisher ratePublisher;
+  private final ProducerRatePublisher ratePublisher;
   private final ScheduledExecutorService executor;
 
   private ScheduledFuture<?> future;
@@ -44,6 +58,13 @@ public final class BufferGuardController implements Guard {
                                QueueStatsPort queues,
                                BufferGuardMetrics metrics,
                                RateUpdatePublisher ratePublisher) {
+    this(settings, queues, metrics, forSingleProducer(ratePublisher));
+  }
+
+  public BufferGuardController(BufferGuardSettings settings,
+                               QueueStatsPort queues,
+                               BufferGuardMetrics metrics,
+                               ProducerRatePublisher ratePublisher) {
     this.settings = Objects.requireNonNull(settings, "settings");
     this.queues = Objects.requireNonNull(queues, "queues");
     this.metrics = Objects.requireNonNull(metrics, "metrics");
@@ -68,10 +89,11 @@ public final class BufferGuardController implements Guard {
     runGuardTick();
     future = executor.scheduleAtFixedRate(this::runGuardTick, periodMs, periodMs, TimeUnit.MILLISECONDS);
     log.info(
-        "Buffer guard [{}] started (queue={} targetRole={})",
+        "Buffer guard [{}] started (queue={} mode={} producers={})",
         settings.queueAlias(),
         settings.queueName(),
-        settings.targetRole());
+        settings.mode(),
+        producerRoles());
   }
 
   @Override
@@ -107,6 +129,7 @@ public final class BufferGuardController implements Guard {
     }
     try {
       if (paused.get()) {
+        state.resetPid();
         metrics.update(0, settings.targetDepth(), state.currentRatePerSec, GuardMode.DISABLED.code);
         return;
       }
@@ -132,9 +155,19 @@ public final class BufferGuardController implements Guard {
       double average = state.averageDepth();
       double currentRate = state.currentRatePerSec;
       double drainPerSec = state.updateDrain(depth, settings.samplePeriod());
+      if (upstream.drainPerSec().isPresent()) {
+        // Broker-measured consumption is exact; the depth delta only sees net change and
+        // reads as zero whenever producers and consumers happen to balance.
+        drainPerSec = upstream.drainPerSec().getAsDouble();
+      }
       double nextRate = currentRate;
 
-      if (average < minDepth) {
+      if (state.pid != null) {
+        double measuredDrain = upstream.drainPerSec().isPresent()
+            ? upstream.drainPerSec().getAsDouble()
+            : state.estimateDrain(currentRate);
+        nextRate = state.pid.update(depth, targetDepth, measuredDrain, currentRate, state.lastElapsedSeconds);
+      } else if (average < minDepth) {
         mode = GuardMode.FILLING;
         double step = Math.max(1.0, currentRate * settings.adjust().maxIncreasePct() / 100.0);
         nextRate = clampRate(currentRate + step);
@@ -174,14 +207,15 @@ public final class BufferGuardController implements Guard {
         log.info(
             "Buffer guard [{}] adjusting {} rate {} -> {} (state={}, avgDepth={}, depth={}, queue={})",
             settings.queueAlias(),
-            settings.targetRole(),
+            producerRoles(),
             currentRate,
             nextRate,
             mode,
             Math.round(average),
             depth,
             settings.queueName());
-        ratePublisher.publish(nextRate);
+        splitRate(nextRate, settings.producers(), settings.adjust())
+            .forEach(ratePublisher::publish);
         state.currentRatePerSec = nextRate;
       }
       metrics.update(average, settings.targetDepth(), state.currentRatePerSec, mode.code);
@@ -195,10 +229,12 @@ public final class BufferGuardController implements Guard {
     if (stats == null) {
       return DepthWrapper.missing();
     }
-    return DepthWrapper.present(stats.depth());
+    return DepthWrapper.present(stats.depth(), stats.rates()
+        .map(rates -> OptionalDouble.of(rates.drainPerSec()))
+        .orElseGet(OptionalDouble::empty));
   }
 
-  private boolean shouldSendRateChange(double current, double candidate) {
+  static boolean shouldSendRateChange(double current, double candidate) {
     if (!Double.isFinite(candidate)) {
       return false;
     }
@@ -208,8 +244,8 @@ public final class BufferGuardController implements Guard {
   }
 
   private double clampRate(double candidate) {
-    double min = Math.max(0d, settings.adjust().minRatePerSec());
-    double max = Math.max(min, settings.adjust().maxRatePerSec());
+    double min = minAggregateRate(settings);
+    double max = maxAggregateRate(settings);
     if (!Double.isFinite(candidate)) {
       return min;
     }
@@ -236,6 +272,96 @@ public final class BufferGuardController implements Guard {
     return currentRate + delta;
   }
 
+  static double minAggregateRate(BufferGuardSettings settings) {
+    return Math.max(0d, settings.adjust().minRatePerSec()) * settings.producers().size();
+  }
+
+  static double maxAggregateRate(BufferGuardSettings settings) {
+    double perProducerMin = Math.max(0d, settings.adjust().minRatePerSec());
+    return Math.max(perProducerMin, settings.adjust().maxRatePerSec()) * settings.producers().size();
+  }
+
+  /**
+   * Split an aggregate rate between producers in proportion to their initial rates (evenly
+   * when none is known), keeping each share within the per-producer adjustment bounds and
+   * handing what a capped producer cannot take to the others.
+   */
+  static Map<String, Double> splitRate(double total,
+                                       List<BufferGuardSettings.Producer> producers,
+                                       BufferGuardSettings.Adjustment adjust) {
+    double min = Math.max(0d, adjust.minRatePerSec());
+    double max = Math.max(min, adjust.maxRatePerSec());
+    int count = producers.size();
+    double[] weights = new double[count];
+    double weightSum = 0d;
+    for (int i = 0; i < count; i++) {
+      weights[i] = Math.max(0d, producers.get(i).initialRatePerSec());
+      weightSum += weights[i];
+    }
+    if (weightSum <= 0d) {
+      Arrays.fill(weights, 1d);
+    }
+    double[] shares = new double[count];
+    boolean[] fixed = new boolean[count];
+    double remaining = total;
+    // Each pass pins at least one producer to a bound or settles all of them.
+    for (int pass = 0; pass < count; pass++) {
+      double openWeight = 0d;
+      for (int i = 0; i < count; i++) {
+        if (!fixed[i]) {
+          openWeight += weights[i];
+        }
+      }
+      if (openWeight <= 0d) {
+        break;
+      }
+      boolean pinned = false;
+      for (int i = 0; i < count; i++) {
+        if (fixed[i]) {
+          continue;
+        }
+        double share = remaining * weights[i] / openWeight;
+        if (share < min || share > max) {
+          shares[i] = share < min ? min : max;
+          fixed[i] = true;
+          pinned = true;
+        }
+      }
+      if (!pinned) {
+        for (int i = 0; i < count; i++) {
+          if (!fixed[i]) {
+            shares[i] = remaining * weights[i] / openWeight;
+          }
+        }
+        break;
+      }
+      remaining = total;
+      for (int i = 0; i < count; i++) {
+        if (fixed[i]) {
+          remaining -= shares[i];
+        }
+      }
+    }
+    Map<String, Double> result = new LinkedHashMap<>();
+    for (int i = 0; i < count; i++) {
+      result.put(producers.get(i).role(), shares[i]);
+    }
+    return result;
+  }
+
+  private static ProducerRatePublisher forSingleProducer(RateUpdatePublisher publisher) {
+    Objects.requireNonNull(publisher, "ratePublisher");
+    return (role, ratePerSec) -> publisher.publish(ratePerSec);
+  }
+
+  private String producerRoles() {
+    List<BufferGuardSettings.Producer> producers = settings.producers();
+    if (producers.size() == 1) {
+      return producers.getFirst().role();
+    }
+    return producers.stream().map(BufferGuardSettings.Producer::role).toList().toString();
+  }
+
   private enum GuardMode {
     DISABLED(0),
     STEADY(1),
@@ -258,12 +384,18 @@ public final class BufferGuardController implements Guard {
     private long prefillEnd;
     private boolean backpressureActive;
     private GuardMode mode;
+    private final PidRateController pid;
     private long lastDepth = -1;
     private long lastSampleNanos = System.nanoTime();
+    private double lastElapsedSeconds;
+    private double lastNetDrainPerSec = Double.NaN;
 
     BufferGuardState(BufferGuardSettings settings) {
       this.settings = settings;
       this.currentRatePerSec = settings.initialRatePerSec();
+      this.pid = settings.mode() == BufferGuardSettings.Mode.PID
+          ? new PidRateController(settings.pid(), minAggregateRate(settings), maxAggregateRate(settings))
+          : null;
       this.prefillEnd = System.currentTimeMillis() + settings.prefill().lookahead().toMillis();
       this.mode = GuardMode.DISABLED;
     }
@@ -324,19 +456,41 @@ public final class BufferGuardController implements Guard {
         elapsedSeconds = Math.max(0.001, samplePeriod.toMillis() / 1000.0);
       }
       double drain = lastDepth < 0 ? currentRatePerSec : (lastDepth - depth) / elapsedSeconds;
+      lastNetDrainPerSec = lastDepth < 0 ? Double.NaN : drain;
       lastDepth = depth;
       lastSampleNanos = now;
+      lastElapsedSeconds = elapsedSeconds;
       return drain;
     }
+
+    void resetPid() {
+      if (pid != null) {
+        // A paused swarm neither fills nor drains normally; restart the loop from scratch.
+        pid.reset();
+        lastDepth = -1;
+        lastSampleNanos = System.nanoTime();
+      }
+    }
+
+    /**
+     * Consumption implied by the last depth change when the broker reports no rates: whatever
+     * producers published minus what stayed in the queue.
+     */
+    double estimateDrain(double inflowPerSec) {
+      if (Double.isNaN(lastNetDrainPerSec)) {
+        return inflowPerSec;
+      }
+      return Math.max(0d, inflowPerSec + lastNetDrainPerSec);
+    }
   }
 
-  private record DepthWrapper(boolean present, long depth) {
+  private record DepthWrapper(boolean present, long depth, OptionalDouble drainPerSec) {
     static DepthWrapper missing() {
-      return new DepthWrapper(false, 0);
+      return new DepthWrapper(false, 0, OptionalDouble.empty());
     }
 
-    static DepthWrapper present(long depth) {
-      return new DepthWrapper(true, depth);
+    static DepthWrapper present(long depth, OptionalDouble drainPerSec) {
+      return new DepthWrapper(true, depth, drainPerSec);
     }
   }
 }
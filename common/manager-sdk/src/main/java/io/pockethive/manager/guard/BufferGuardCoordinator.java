@@ -106,7 +106,7 @@ public final class BufferGuardCoordinator {
           s,
           queueStats,
           metrics,
-          rate -> rateUpdateHandler.publish(s.targetRole(), rate));
+          rateUpdateHandler::publish);
       instances.add(controller);
     }
     instances.forEach(Guard::start);
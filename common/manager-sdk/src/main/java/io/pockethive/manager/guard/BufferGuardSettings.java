@@ -1,7 +1,16 @@
 package io.pockethive.manager.guard;
 
 import java.time.Duration;
+import java.util.List;
 
+/**
+ * Resolved configuration for one {@link BufferGuardController}.
+ * <p>
+ * {@code producers} lists every role publishing into the guarded queue; the controller
+ * computes one aggregate rate and splits it between them in proportion to their initial
+ * rates. {@code targetRole} and {@code initialRatePerSec} describe the first producer and the
+ * aggregate respectively. Adjustment bounds apply per producer.
+ */
 public record BufferGuardSettings(
     String queueAlias,
     String queueName,
@@ -14,7 +23,44 @@ public record BufferGuardSettings(
     int movingAverageWindow,
     Adjustment adjust,
     Prefill prefill,
-    Backpressure backpressure) {
+    Backpressure backpressure,
+    Mode mode,
+    Pid pid,
+    List<Producer> producers) {
+
+  public BufferGuardSettings {
+    mode = mode == null ? Mode.BRACKET : mode;
+    pid = pid == null ? Pid.defaults(samplePeriod) : pid;
+    producers = producers == null || producers.isEmpty()
+        ? List.of(new Producer(targetRole, initialRatePerSec))
+        : List.copyOf(producers);
+  }
+
+  public BufferGuardSettings(String queueAlias,
+                             String queueName,
+                             String targetRole,
+                             double initialRatePerSec,
+                             int targetDepth,
+                             int minDepth,
+                             int maxDepth,
+                             Duration samplePeriod,
+                             int movingAverageWindow,
+                             Adjustment adjust,
+                             Prefill prefill,
+                             Backpressure backpressure) {
+    this(queueAlias, queueName, targetRole, initialRatePerSec, targetDepth, minDepth, maxDepth,
+        samplePeriod, movingAverageWindow, adjust, prefill, backpressure, Mode.BRACKET, null, null);
+  }
+
+  /**
+   * How the guard turns queue depth into a producer rate.
+   */
+  public enum Mode {
+    /** Moving-average bracket with step-limited feed-forward inside the bracket. */
+    BRACKET,
+    /** Drain-rate feed-forward plus a PID correction on the predicted depth error. */
+    PID
+  }
 
   public record Adjustment(
       int maxIncreasePct,
@@ -36,5 +82,42 @@ public record BufferGuardSettings(
       int recoveryDepth,
       int moderatorReductionPct) {
   }
-}
 
+  /**
+   * PID gains; see {@link PidRateController}. {@code derivativeFilter} is the time constant of
+   * the first-order low-pass applied to the derivative term ({@link Duration#ZERO} disables it).
+   */
+  public record Pid(
+      double kp,
+      double ki,
+      double kd,
+      Duration derivativeFilter) {
+
+    public Pid {
+      derivativeFilter = derivativeFilter == null || derivativeFilter.isNegative()
+          ? Duration.ZERO
+          : derivativeFilter;
+    }
+
+    /**
+     * Gains that settle a step change in drain rate within a few samples without overshoot:
+     * the proportional term closes 40% of the error per sample and the integral about a
+     * sixth of that, so both scale with the sampling period.
+     */
+    public static Pid defaults(Duration samplePeriod) {
+      double periodSeconds = samplePeriod == null || samplePeriod.isZero() || samplePeriod.isNegative()
+          ? 5.0
+          : samplePeriod.toMillis() / 1000.0;
+      double kp = 0.4 / periodSeconds;
+      return new Pid(kp, kp / (6 * periodSeconds), 0.2, Duration.ofMillis(Math.round(2000 * periodSeconds)));
+    }
+  }
+
+  /**
+   * A producer role feeding the guarded queue and the rate it was configured with.
+   */
+  public record Producer(
+      String role,
+      double initialRatePerSec) {
+  }
+}
@@ -0,0 +1,198 @@
+package io.pockethive.manager.guard;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.OptionalDouble;
+
+/**
+ * Offline harness for tuning the {@link BufferGuardSettings.Mode#PID PID} buffer guard
+ * against recorded broker traces, without a broker or a running swarm.
+ * <p>
+ * A trace is a series of samples with a timestamp, the queue's measured drain rate and,
+ * optionally, its depth (for example exported from the {@code ph_swarm_queue_*} metrics).
+ * Two replays are offered:
+ * <ul>
+ *   <li>{@link #replay} closes the loop: the recorded drain rate empties a simulated queue
+ *   that the controller fills, so depth reacts to the rates the controller picks. Only the
+ *   first recorded depth is used, as the starting level.</li>
+ *   <li>{@link #commands} is open-loop: it feeds the recorded depths and drain rates to the
+ *   controller and reports the rates it would have commanded at each sample.</li>
+ * </ul>
+ * Both apply the same bounds, producer count and 1% change threshold as the live guard;
+ * prefill and backpressure are not simulated.
+ */
+public final class BufferGuardSimulator {
+
+  /**
+   * One recorded sample; {@code atSeconds} is relative to any fixed origin.
+   */
+  public record TraceSample(double atSeconds, double drainPerSec, OptionalDouble depth) {
+    public TraceSample {
+      depth = depth == null ? OptionalDouble.empty() : depth;
+    }
+  }
+
+  /**
+   * Controller state after one sample.
+   */
+  public record Step(double atSeconds, double depth, double drainPerSec, double ratePerSec) {
+  }
+
+  /**
+   * Replay outcome with the figures worth comparing between tunings.
+   *
+   * @param meanAbsDepthError mean of {@code |depth - targetDepth|} over all samples
+   * @param maxDepth          deepest the queue got
+   * @param emptySamples      samples at which the queue was empty (consumers starved)
+   * @param rateChanges       rate updates the guard would have published
+   */
+  public record Result(List<Step> steps,
+                       double meanAbsDepthError,
+                       double maxDepth,
+                       int emptySamples,
+                       int rateChanges) {
+  }
+
+  private BufferGuardSimulator() {
+  }
+
+  /**
+   * Closed-loop replay of {@code trace} against a simulated queue.
+   */
+  public static Result replay(BufferGuardSettings settings, List<TraceSample> trace) {
+    Objects.requireNonNull(settings, "settings");
+    if (trace == null || trace.isEmpty()) {
+      return new Result(List.of(), 0d, 0d, 0, 0);
+    }
+    PidRateController pid = newController(settings);
+    double rate = settings.initialRatePerSec();
+    double depth = trace.getFirst().depth().orElse(0d);
+    double previousAt = trace.getFirst().atSeconds();
+    double dt = defaultDtSeconds(settings);
+    List<Step> steps = new ArrayList<>(trace.size());
+    int rateChanges = 0;
+    for (int i = 0; i < trace.size(); i++) {
+      TraceSample sample = trace.get(i);
+      if (i > 0) {
+        dt = Math.max(0d, sample.atSeconds() - previousAt);
+        depth = Math.max(0d, depth + (rate - sample.drainPerSec()) * dt);
+      }
+      previousAt = sample.atSeconds();
+      double next = pid.update(depth, settings.targetDepth(), sample.drainPerSec(), rate, dt);
+      if (BufferGuardController.shouldSendRateChange(rate, next)) {
+        rate = next;
+        rateChanges++;
+      }
+      steps.add(new Step(sample.atSeconds(), depth, sample.drainPerSec(), rate));
+    }
+    return summarize(settings, steps, rateChanges);
+  }
+
+  /**
+   * Open-loop replay: the rates the guard would have commanded for the recorded depths.
+   *
+   * @throws IllegalArgumentException when a sample carries no depth
+   */
+  public static Result commands(BufferGuardSettings settings, List<TraceSample> trace) {
+    Objects.requireNonNull(settings, "settings");
+    if (trace == null || trace.isEmpty()) {
+      return new Result(List.of(), 0d, 0d, 0, 0);
+    }
+    PidRateController pid = newController(settings);
+    double rate = settings.initialRatePerSec();
+    double previousAt = trace.getFirst().atSeconds();
+    double dt = defaultDtSeconds(settings);
+    List<Step> steps = new ArrayList<>(trace.size());
+    int rateChanges = 0;
+    for (int i = 0; i < trace.size(); i++) {
+      TraceSample sample = trace.get(i);
+      double depth = sample.depth().orElseThrow(() -> new IllegalArgumentException(
+          "Open-loop replay needs a depth at t=" + sample.atSeconds()));
+      if (i > 0) {
+        dt = Math.max(0d, sample.atSeconds() - previousAt);
+      }
+      previousAt = sample.atSeconds();
+      double next = pid.update(depth, settings.targetDepth(), sample.drainPerSec(), rate, dt);
+      if (BufferGuardController.shouldSendRateChange(rate, next)) {
+        rate = next;
+        rateChanges++;
+      }
+      steps.add(new Step(sample.atSeconds(), depth, sample.drainPerSec(), rate));
+    }
+    return summarize(settings, steps, rateChanges);
+  }
+
+  /**
+   * Read a trace from CSV with columns {@code seconds,drainPerSec[,depth]}. A header line,
+   * blank lines and lines starting with {@code #} are skipped.
+   */
+  public static List<TraceSample> readCsv(Reader source) throws IOException {
+    Objects.requireNonNull(source, "source");
+    List<TraceSample> samples = new ArrayList<>();
+    BufferedReader reader = source instanceof BufferedReader buffered ? buffered : new BufferedReader(source);
+    String line;
+    int lineNo = 0;
+    while ((line = reader.readLine()) != null) {
+      lineNo++;
+      String trimmed = line.trim();
+      if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+        continue;
+      }
+      String[] cells = trimmed.split(",");
+      if (samples.isEmpty() && !looksNumeric(cells[0])) {
+        continue;
+      }
+      if (cells.length < 2) {
+        throw new IOException("Trace line " + lineNo + " needs at least seconds and drainPerSec: " + trimmed);
+      }
+      try {
+        OptionalDouble depth = cells.length > 2 && !cells[2].isBlank()
+            ? OptionalDouble.of(Double.parseDouble(cells[2].trim()))
+            : OptionalDouble.empty();
+        samples.add(new TraceSample(
+            Double.parseDouble(cells[0].trim()),
+            Double.parseDouble(cells[1].trim()),
+            depth));
+      } catch (NumberFormatException ex) {
+        throw new IOException("Trace line " + lineNo + " is not numeric: " + trimmed, ex);
+      }
+    }
+    return samples;
+  }
+
+  private static PidRateController newController(BufferGuardSettings settings) {
+    return new PidRateController(
+        settings.pid(),
+        BufferGuardController.minAggregateRate(settings),
+        BufferGuardController.maxAggregateRate(settings));
+  }
+
+  private static double defaultDtSeconds(BufferGuardSettings settings) {
+    return settings.samplePeriod() == null ? 1d : settings.samplePeriod().toMillis() / 1000.0;
+  }
+
+  private static Result summarize(BufferGuardSettings settings, List<Step> steps, int rateChanges) {
+    double errorSum = 0d;
+    double maxDepth = 0d;
+    int empty = 0;
+    for (Step step : steps) {
+      errorSum += Math.abs(step.depth() - settings.targetDepth());
+      maxDepth = Math.max(maxDepth, step.depth());
+      if (step.depth() <= 0d) {
+        empty++;
+      }
+    }
+    return new Result(List.copyOf(steps), errorSum / steps.size(), maxDepth, empty, rateChanges);
+  }
+
+  private static boolean looksNumeric(String cell) {
+    String trimmed = cell.trim().toLowerCase(Locale.ROOT);
+    return !trimmed.isEmpty() && (Character.isDigit(trimmed.charAt(0))
+        || trimmed.charAt(0) == '-' || trimmed.charAt(0) == '.' || trimmed.charAt(0) == '+');
+  }
+}
@@ -0,0 +1,102 @@
+package io.pockethive.manager.guard;
+
+import java.util.Objects;
+
+/**
+ * PID loop that turns queue depth into an aggregate producer rate.
+ * <p>
+ * The output is the measured drain rate (feed-forward) minus a correction on the depth error
+ * predicted one sample ahead, so the loop reacts to where the queue is heading rather than
+ * where it was when sampled:
+ * <pre>
+ *   predicted = depth + (currentRate - drain) * dt
+ *   error     = predicted - targetDepth
+ *   rate      = drain - (kp * error + ki * integral(error) + kd * filtered d(depth)/dt)
+ * </pre>
+ * The derivative acts on the measurement (not the error), so target changes such as prefill
+ * lift do not kick the output, and is smoothed by a first-order low-pass. The integral only
+ * accumulates while the output is not saturated in the direction the error pushes it, and is
+ * bounded to the rate range, so a long fill or drain does not wind it up.
+ * <p>
+ * Instances are not thread-safe and hold no clock; callers pass the elapsed time.
+ */
+public final class PidRateController {
+
+  private static final double MIN_DT_SECONDS = 0.001;
+
+  private final BufferGuardSettings.Pid gains;
+  private final double minRatePerSec;
+  private final double maxRatePerSec;
+
+  private double integral;
+  private double filteredDerivative;
+  private double lastDepth = Double.NaN;
+
+  public PidRateController(BufferGuardSettings.Pid gains, double minRatePerSec, double maxRatePerSec) {
+    this.gains = Objects.requireNonNull(gains, "gains");
+    this.minRatePerSec = Math.max(0d, minRatePerSec);
+    this.maxRatePerSec = Math.max(this.minRatePerSec, maxRatePerSec);
+  }
+
+  /**
+   * Advance the loop by one sample.
+   *
+   * @param depth        current queue depth
+   * @param targetDepth  depth the guard aims for
+   * @param drainPerSec  measured consumption rate of the queue
+   * @param currentRate  aggregate producer rate currently in effect
+   * @param dtSeconds    time since the previous sample
+   * @return the next aggregate producer rate, within the configured bounds
+   */
+  public double update(double depth,
+                       double targetDepth,
+                       double drainPerSec,
+                       double currentRate,
+                       double dtSeconds) {
+    double dt = Double.isFinite(dtSeconds) ? Math.max(MIN_DT_SECONDS, dtSeconds) : MIN_DT_SECONDS;
+    double drain = Double.isFinite(drainPerSec) ? Math.max(0d, drainPerSec) : 0d;
+
+    double predicted = Math.max(0d, depth + (currentRate - drain) * dt);
+    double error = predicted - targetDepth;
+
+    double rawDerivative = Double.isNaN(lastDepth) ? 0d : (depth - lastDepth) / dt;
+    lastDepth = depth;
+    double tau = gains.derivativeFilter().toMillis() / 1000.0;
+    double alpha = tau <= 0 ? 1.0 : dt / (tau + dt);
+    filteredDerivative += alpha * (rawDerivative - filteredDerivative);
+
+    double base = drain - gains.kp() * error - gains.kd() * filteredDerivative;
+    double candidateIntegral = integral + error * dt;
+    double unclamped = base - gains.ki() * candidateIntegral;
+    boolean saturatedHigh = unclamped > maxRatePerSec && error < 0;
+    boolean saturatedLow = unclamped < minRatePerSec && error > 0;
+    if (!saturatedHigh && !saturatedLow) {
+      integral = boundIntegral(candidateIntegral);
+    }
+    return clamp(base - gains.ki() * integral);
+  }
+
+  /**
+   * Forget accumulated integral and derivative state, e.g. after the guard was paused.
+   */
+  public void reset() {
+    integral = 0d;
+    filteredDerivative = 0d;
+    lastDepth = Double.NaN;
+  }
+
+  private double boundIntegral(double candidate) {
+    if (gains.ki() <= 0) {
+      return 0d;
+    }
+    double limit = (maxRatePerSec - minRatePerSec) / gains.ki();
+    return Math.max(-limit, Math.min(limit, candidate));
+  }
+
+  private double clamp(double candidate) {
+    if (!Double.isFinite(candidate)) {
+      return minRatePerSec;
+    }
+    return Math.max(minRatePerSec, Math.min(maxRatePerSec, candidate));
+  }
+}
@@ -0,0 +1,23 @@
+package io.pockethive.manager.guard;
+
+import java.time.Duration;
+
+/**
+ * Resolved autoscaling policy for one replicated role.
+ * <p>
+ * {@code targetQueueDepth} and {@code targetTpsPerReplica} are per-replica targets;
+ * a value of {@code 0} disables that signal.
+ */
+public record ReplicaAutoscaleSettings(
+    String role,
+    String queueAlias,
+    String queueName,
+    int minReplicas,
+    int maxReplicas,
+    int initialReplicas,
+    int targetQueueDepth,
+    double targetTpsPerReplica,
+    Duration cooldown,
+    Duration samplePeriod,
+    int movingAverageWindow) {
+}
@@ -0,0 +1,268 @@
+package io.pockethive.manager.guard;
+
+import io.pockethive.manager.ports.QueueStatsPort;
+import io.pockethive.manager.runtime.QueueStats;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Transport-agnostic guard that sizes a replicated role from the depth of the
+ * queue it consumes and, optionally, its observed throughput.
+ * <p>
+ * The desired count is {@code ceil(avgDepth / targetQueueDepth)} and
+ * {@code ceil(tps / targetTpsPerReplica)}, whichever is larger, clamped to
+ * {@code [minReplicas, maxReplicas]}. A change is only applied when it moves the
+ * count by at least one replica and the cooldown since the previous change has
+ * elapsed. When a buffer guard governs the same queue, depth is held near the
+ * guard's target by throttling the producer and stops being a demand signal, so
+ * only the throughput rule is used; the guard's producer rate then counts as
+ * offered load.
+ * <p>
+ * A failed scaling action also starts a cooldown, doubled for each consecutive
+ * failure up to {@value #MAX_FAILURE_BACKOFF_DOUBLINGS} times, so a scaler that
+ * keeps failing is not retried every sample period.
+ */
+public final class ReplicaAutoscaler implements Guard {
+
+  /**
+   * Applies a replica count and returns the count that is actually running afterwards.
+   */
+  @FunctionalInterface
+  public interface ReplicaScaler {
+    int scale(String role, int replicas);
+  }
+
+  /**
+   * Load observed outside the queue: worker-reported throughput and buffer guard state.
+   */
+  public interface LoadSignals {
+
+    /**
+     * Messages per second processed by all replicas of the role, if known.
+     */
+    OptionalDouble throughputPerSec(String role);
+
+    /**
+     * Producer rate set by a buffer guard on the queue, or empty when no guard governs it.
+     */
+    default OptionalDouble guardedRatePerSec(String queueName) {
+      return OptionalDouble.empty();
+    }
+  }
+
+  private static final Logger log = LoggerFactory.getLogger(ReplicaAutoscaler.class);
+
+  private static final int MAX_FAILURE_BACKOFF_DOUBLINGS = 4;
+
+  private final ReplicaAutoscaleSettings settings;
+  private final QueueStatsPort queues;
+  private final LoadSignals signals;
+  private final ReplicaScaler scaler;
+  private final ScheduledExecutorService executor;
+  private final LongSupplier nanoTime;
+  private final AtomicBoolean paused = new AtomicBoolean(false);
+  private final ArrayDeque<Long> samples = new ArrayDeque<>();
+
+  private ScheduledFuture<?> future;
+  private volatile int replicas;
+  private long lastScaledNanos;
+  private int consecutiveFailures;
+
+  public ReplicaAutoscaler(ReplicaAutoscaleSettings settings,
+                           QueueStatsPort queues,
+                           LoadSignals signals,
+                           ReplicaScaler scaler) {
+    this(settings, queues, signals, scaler, System::nanoTime);
+  }
+
+  ReplicaAutoscaler(ReplicaAutoscaleSettings settings,
+                    QueueStatsPort queues,
+                    LoadSignals signals,
+                    ReplicaScaler scaler,
+                    LongSupplier nanoTime) {
+    this.settings = Objects.requireNonNull(settings, "settings");
+    this.queues = Objects.requireNonNull(queues, "queues");
+    this.signals = Objects.requireNonNull(signals, "signals");
+    this.scaler = Objects.requireNonNull(scaler, "scaler");
+    this.nanoTime = Objects.requireNonNull(nanoTime, "nanoTime");
+    this.replicas = settings.initialReplicas();
+    this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "replica-autoscaler-" + settings.role());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @Override
+  public synchronized void start() {
+    if (future != null) {
+      return;
+    }
+    long periodMs = Math.max(settings.samplePeriod().toMillis(), 50L);
+    // The replicas started with the swarm count as the first scaling action.
+    lastScaledNanos = nanoTime.getAsLong();
+    future = executor.scheduleAtFixedRate(this::tick, periodMs, periodMs, TimeUnit.MILLISECONDS);
+    log.info(
+        "Replica autoscaler [{}] started (queue={} replicas={} bounds={}..{})",
+        settings.role(),
+        settings.queueName(),
+        replicas,
+        settings.minReplicas(),
+        settings.maxReplicas());
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (future != null) {
+      future.cancel(true);
+      future = null;
+    }
+    executor.shutdownNow();
+    log.info("Replica autoscaler [{}] stopped", settings.role());
+  }
+
+  @Override
+  public void pause() {
+    if (paused.compareAndSet(false, true)) {
+      log.info("Replica autoscaler [{}] paused", settings.role());
+    }
+  }
+
+  @Override
+  public void resume() {
+    if (paused.compareAndSet(true, false)) {
+      synchronized (this) {
+        samples.clear();
+      }
+      log.info("Replica autoscaler [{}] resumed", settings.role());
+    }
+  }
+
+  public int replicas() {
+    return replicas;
+  }
+
+  synchronized void tick() {
+    if (paused.get()) {
+      return;
+    }
+    try {
+      QueueStats stats = queues.getQueueStats(settings.queueName());
+      if (stats == null) {
+        log.debug("Replica autoscaler queue {} not found; skipping tick", settings.queueName());
+        return;
+      }
+      samples.addLast(stats.depth());
+      while (samples.size() > Math.max(1, settings.movingAverageWindow())) {
+        samples.removeFirst();
+      }
+      OptionalDouble guardedRate = signals.guardedRatePerSec(settings.queueName());
+      OptionalDouble tps = signals.throughputPerSec(settings.role());
+      if (guardedRate.isPresent()) {
+        double offered = Math.max(guardedRate.getAsDouble(), tps.orElse(0.0));
+        tps = OptionalDouble.of(offered);
+      }
+      int current = replicas;
+      int desired = desiredReplicas(settings, current, averageDepth(), tps, guardedRate.isPresent());
+      if (desired == current) {
+        return;
+      }
+      long sinceLast = nanoTime.getAsLong() - lastScaledNanos;
+      long cooldownNanos = cooldownNanos();
+      if (sinceLast < cooldownNanos) {
+        log.debug(
+            "Replica autoscaler [{}] wants {} -> {} but is cooling down ({}ms left)",
+            settings.role(),
+            current,
+            desired,
+            TimeUnit.NANOSECONDS.toMillis(cooldownNanos - sinceLast));
+        return;
+      }
+      log.info(
+          "Replica autoscaler [{}] scaling {} -> {} (avgDepth={}, tps={}, guarded={})",
+          settings.role(),
+          current,
+          desired,
+          Math.round(averageDepth()),
+          tps.isPresent() ? Math.round(tps.getAsDouble()) : "n/a",
+          guardedRate.isPresent());
+      try {
+        replicas = scaler.scale(settings.role(), desired);
+      } catch (RuntimeException ex) {
+        lastScaledNanos = nanoTime.getAsLong();
+        consecutiveFailures++;
+        log.warn(
+            "Replica autoscaler [{}] failed to scale {} -> {}; retrying in {}ms",
+            settings.role(),
+            current,
+            desired,
+            TimeUnit.NANOSECONDS.toMillis(cooldownNanos()),
+            ex);
+        return;
+      }
+      lastScaledNanos = nanoTime.getAsLong();
+      consecutiveFailures = 0;
+      samples.clear();
+    } catch (Exception ex) {
+      log.warn("Replica autoscaler [{}] tick failed", settings.role(), ex);
+    }
+  }
+
+  /**
+   * Wait before the next scaling action: the configured cooldown, or after failed attempts that
+   * cooldown (one sample period when none is configured) doubled per further consecutive failure.
+   */
+  private long cooldownNanos() {
+    long cooldown = settings.cooldown().toNanos();
+    if (consecutiveFailures == 0) {
+      return cooldown;
+    }
+    long base = cooldown > 0 ? cooldown : settings.samplePeriod().toNanos();
+    return base << Math.min(consecutiveFailures - 1, MAX_FAILURE_BACKOFF_DOUBLINGS);
+  }
+
+  private double averageDepth() {
+    if (samples.isEmpty()) {
+      return 0.0;
+    }
+    long total = 0;
+    for (Long sample : samples) {
+      total += sample;
+    }
+    return (double) total / samples.size();
+  }
+
+  /**
+   * Replica count for the given load, or {@code current} when no signal is usable.
+   */
+  static int desiredReplicas(ReplicaAutoscaleSettings settings,
+                             int current,
+                             double averageDepth,
+                             OptionalDouble throughputPerSec,
+                             boolean depthGuarded) {
+    int desired = 0;
+    boolean signal = false;
+    if (!depthGuarded && settings.targetQueueDepth() > 0) {
+      desired = Math.max(desired, (int) Math.ceil(averageDepth / settings.targetQueueDepth()));
+      signal = true;
+    }
+    if (settings.targetTpsPerReplica() > 0 && throughputPerSec.isPresent()) {
+      desired = Math.max(desired,
+          (int) Math.ceil(throughputPerSec.getAsDouble() / settings.targetTpsPerReplica()));
+      signal = true;
+    }
+    if (!signal) {
+      return current;
+    }
+    return Math.max(settings.minReplicas(), Math.min(settings.maxReplicas(), desired));
+  }
+}
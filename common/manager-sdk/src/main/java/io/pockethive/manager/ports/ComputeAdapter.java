@@ -2,8 +2,10 @@ package io.pockethive.manager.ports;
 
 import io.pockethive.manager.runtime.ManagerSpec;
 import io.pockethive.manager.runtime.ComputeAdapterType;
+import io.pockethive.manager.runtime.WorkerProvisioningReport;
 import io.pockethive.manager.runtime.WorkerSpec;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Abstraction over the underlying compute platform used to run managers and workers.
@@ -45,6 +47,32 @@ public interface ComputeAdapter {
    */
   void applyWorkers(String topologyId, List<WorkerSpec> workers);
 
+  /**
+   * Same as {@link #applyWorkers(String, List)}, but also reports how long each provisioning
+   * phase took so callers can journal it. Adapters that do not track phases report a single
+   * {@code apply} phase.
+   *
+   * @param topologyId logical id for the managed topology (for example swarm id)
+   * @param workers    desired worker specifications
+   * @return number of workers created and per-phase durations
+   */
+  default WorkerProvisioningReport provisionWorkers(String topologyId, List<WorkerSpec> workers) {
+    long started = System.nanoTime();
+    applyWorkers(topologyId, workers);
+    long elapsedMillis = (System.nanoTime() - started) / 1_000_000L;
+    return new WorkerProvisioningReport(workers == null ? 0 : workers.size(), Map.of("apply", elapsedMillis));
+  }
+
+  /**
+   * Stop and remove a single worker previously started through
+   * {@link #applyWorkers(String, List)}, leaving the rest of the topology running.
+   * Used when scaling a replicated bee down.
+   *
+   * @param topologyId logical id for the managed topology (for example swarm id)
+   * @param workerId   {@link WorkerSpec#id()} of the worker to remove
+   */
+  void removeWorker(String topologyId, String workerId);
+
   /**
    * Remove all workers associated with the given topology identifier.
    *
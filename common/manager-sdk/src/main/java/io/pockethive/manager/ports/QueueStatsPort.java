@@ -1,6 +1,9 @@
 package io.pockethive.manager.ports;
 
 import io.pockethive.manager.runtime.QueueStats;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Port used by the manager runtime core to read queue statistics.
@@ -14,5 +17,20 @@ public interface QueueStatsPort {
    * @return queue stats (never null)
    */
   QueueStats getQueueStats(String queueName);
-}
 
+  /**
+   * Return statistics for several queues at once, keyed by queue name in iteration order.
+   * Implementations backed by a bulk source should override this to avoid one broker
+   * round-trip per queue.
+   *
+   * @param queueNames logical queue names
+   * @return queue stats per name (never null)
+   */
+  default Map<String, QueueStats> getQueueStats(Collection<String> queueNames) {
+    Map<String, QueueStats> result = new LinkedHashMap<>();
+    for (String queueName : queueNames) {
+      result.put(queueName, getQueueStats(queueName));
+    }
+    return result;
+  }
+}
@@ -9,13 +9,19 @@ import io.pockethive.controlplane.ControlPlaneSignals;
 import io.pockethive.controlplane.routing.ControlPlaneRouting;
 import io.pockethive.manager.ports.ControlPlanePort;
 import io.pockethive.observability.ControlPlaneJson;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,12 +31,34 @@ import org.slf4j.LoggerFactory;
  * This is a shared variant of the Swarm Controller's SwarmConfigFanout that
  * uses {@link ControlPlanePort} instead of a concrete publisher so different
  * managers can reuse the same behaviour.
+ * <p>
+ * Runtime config-updates are batched: a role-wide or swarm-wide target is
+ * addressed with a single signal, and the instances known to match it are
+ * tracked as one batch keyed by correlation id. Worker outcomes are folded in
+ * through {@link #acknowledgeConfigUpdate(String, String)}; once the last
+ * instance answers, the publish-to-last-ack latency is reported to
+ * {@link ConfigFanoutMetrics}. Instances that stay silent are re-sent an
+ * instance-scoped copy of the same signal by {@link #retryUnacknowledged()},
+ * at most {@code maxParallelRetries} signals per pass and
+ * {@value #BATCH_MAX_ATTEMPTS} attempts per instance. A newer config-update for
+ * the same target supersedes older ones, so only the latest is retried.
+ * <p>
+ * Retries only help a worker that missed the signal entirely. A retry reuses the
+ * original idempotency key, and the workers' {@code DuplicateSignalGuard} (on by
+ * default, keyed on signal type and idempotency key with a five-minute TTL) drops
+ * the instance-scoped copy when the original did arrive, so a worker that received
+ * the update but whose acknowledgement got lost is not asked again.
  */
 public final class ConfigFanout {
 
   private static final Logger log = LoggerFactory.getLogger(ConfigFanout.class);
 
   private static final long BOOTSTRAP_CONFIG_RESEND_DELAY_MS = 5_000L;
+  private static final long BATCH_RESEND_DELAY_MS = 1_000L;
+  private static final int BATCH_MAX_ATTEMPTS = 5;
+  private static final int MAX_TRACKED_BATCHES = 1_024;
+
+  public static final int DEFAULT_MAX_PARALLEL_RETRIES = 8;
 
   private static final TypeReference<Map<String, Object>> MAP_TYPE =
       new TypeReference<>() {};
@@ -40,19 +68,62 @@ public final class ConfigFanout {
   private final String swarmId;
   private final String controllerInstanceId;
 
+  private final ConfigFanoutMetrics metrics;
+  private final int maxParallelRetries;
+  private final LongSupplier nanoTime;
+
   private final ConcurrentMap<String, PendingConfig> pendingConfigUpdates = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, String> instanceRoles = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, ConfigBatch> batches = new ConcurrentHashMap<>();
 
   public ConfigFanout(ObjectMapper mapper,
                       ControlPlanePort controlPlane,
                       String swarmId,
                       String controllerInstanceId) {
+    this(mapper, controlPlane, swarmId, controllerInstanceId, ConfigFanoutMetrics.NOOP, DEFAULT_MAX_PARALLEL_RETRIES);
+  }
+
+  public ConfigFanout(ObjectMapper mapper,
+                      ControlPlanePort controlPlane,
+                      String swarmId,
+                      String controllerInstanceId,
+                      ConfigFanoutMetrics metrics,
+                      int maxParallelRetries) {
+    this(mapper, controlPlane, swarmId, controllerInstanceId, metrics, maxParallelRetries, System::nanoTime);
+  }
+
+  ConfigFanout(ObjectMapper mapper,
+               ControlPlanePort controlPlane,
+               String swarmId,
+               String controllerInstanceId,
+               ConfigFanoutMetrics metrics,
+               int maxParallelRetries,
+               LongSupplier nanoTime) {
     this.mapper = Objects.requireNonNull(mapper, "mapper").findAndRegisterModules();
     this.controlPlane = Objects.requireNonNull(controlPlane, "controlPlane");
     this.swarmId = Objects.requireNonNull(swarmId, "swarmId");
     this.controllerInstanceId = Objects.requireNonNull(controllerInstanceId, "controllerInstanceId");
+    this.metrics = Objects.requireNonNull(metrics, "metrics");
+    if (maxParallelRetries <= 0) {
+      throw new IllegalArgumentException("maxParallelRetries must be positive");
+    }
+    this.maxParallelRetries = maxParallelRetries;
+    this.nanoTime = Objects.requireNonNull(nanoTime, "nanoTime");
+  }
+
+  /**
+   * Record that {@code instance} runs {@code role}, so role-wide and swarm-wide
+   * config-updates know which acknowledgements to wait for.
+   */
+  public void registerInstance(String role, String instance) {
+    if (role == null || role.isBlank() || instance == null || instance.isBlank()) {
+      return;
+    }
+    instanceRoles.put(instance, role);
   }
 
   public void registerBootstrapConfig(String instance, String role, Map<String, Object> values) {
+    registerInstance(role, instance);
     if (instance == null || instance.isBlank() || values == null || values.isEmpty()) {
       return;
     }
@@ -69,6 +140,89 @@ public final class ConfigFanout {
     }
   }
 
+  /**
+   * Drop any pending bootstrap config for an instance that has been removed.
+   */
+  public void forget(String instance) {
+    if (instance == null || instance.isBlank()) {
+      return;
+    }
+    pendingConfigUpdates.remove(instance);
+    instanceRoles.remove(instance);
+    for (ConfigBatch batch : batches.values()) {
+      if (batch.drop(instance)) {
+        completeBatch(batch);
+      }
+    }
+  }
+
+  /**
+   * Fold a worker's config-update outcome into the batch it answers.
+   * Outcomes for unknown or already completed batches are ignored.
+   */
+  public void acknowledgeConfigUpdate(String instance, String correlationId) {
+    if (instance == null || instance.isBlank() || correlationId == null || correlationId.isBlank()) {
+      return;
+    }
+    ConfigBatch batch = batches.get(correlationId);
+    if (batch != null && batch.acknowledge(instance, nanoTime.getAsLong())) {
+      completeBatch(batch);
+    }
+  }
+
+  /**
+   * Number of config-update batches still waiting for acknowledgements.
+   */
+  public int pendingBatches() {
+    return batches.size();
+  }
+
+  /**
+   * Whether the batch published with {@code correlationId} is still waiting for acknowledgements.
+   */
+  public boolean isPending(String correlationId) {
+    return correlationId != null && batches.containsKey(correlationId);
+  }
+
+  /**
+   * Re-send instance-scoped copies of unacknowledged config-updates.
+   * <p>
+   * Each call sends at most {@code maxParallelRetries} signals, so a swarm
+   * where many workers missed a broadcast is caught up over a few passes
+   * instead of in one burst. Instances still silent after
+   * {@value #BATCH_MAX_ATTEMPTS} attempts are dropped from their batch.
+   */
+  public void retryUnacknowledged() {
+    if (batches.isEmpty()) {
+      return;
+    }
+    long now = nanoTime.getAsLong();
+    int budget = maxParallelRetries;
+    for (ConfigBatch batch : batches.values()) {
+      ConfigBatch.RetryPass pass = batch.retryPass(now, budget);
+      for (String instance : pass.resend()) {
+        String role = instanceRoles.getOrDefault(instance, batch.target().role());
+        publishSignal(ControlScope.forInstance(swarmId, role, instance),
+            batch.correlationId(), batch.idempotencyKey(), batch.data(), batch.context() + "-retry");
+      }
+      budget -= pass.resend().size();
+      if (!pass.resend().isEmpty()) {
+        metrics.retried(batch.context(), pass.resend().size());
+      }
+      if (!pass.abandoned().isEmpty()) {
+        log.warn("{} config-update correlation={} not acknowledged by {} after {} attempts",
+            batch.context(), batch.correlationId(), pass.abandoned(), BATCH_MAX_ATTEMPTS);
+        metrics.abandoned(batch.context(), pass.abandoned().size());
+      }
+      if (pass.complete()) {
+        completeBatch(batch);
+      }
+      if (budget <= 0) {
+        break;
+      }
+    }
+  }
+
   public boolean hasPendingAcks() {
     for (PendingConfig pending : pendingConfigUpdates.values()) {
       if (pending.awaitingAck()) {
@@ -82,6 +236,11 @@ public final class ConfigFanout {
     if (instance == null || instance.isBlank()) {
       return Optional.empty();
     }
+    for (ConfigBatch batch : batches.values()) {
+      if (batch.drop(instance)) {
+        completeBatch(batch);
+      }
+    }
     PendingConfig pending = pendingConfigUpdates.remove(instance);
     if (pending == null) {
       return Optional.empty();
@@ -116,7 +275,7 @@ public final class ConfigFanout {
     }
     log.info("Publishing bootstrap config for role={} instance={}{}",
         pending.role(), instance, force ? " (initial)" : " (retry)");
-    publishConfigUpdate(ControlScope.forInstance(swarmId, pending.role(), instance), payload, "bootstrap-config");
+    publishConfigUpdate(ControlScope.forInstance(swarmId, pending.role(), instance), payload, "bootstrap-config", 0L, false);
     pending.markPublished(now);
   }
 
@@ -125,6 +284,25 @@ public final class ConfigFanout {
   }
 
   public void publishConfigUpdate(ControlScope target, ObjectNode data, String context) {
+    publishConfigUpdate(target, data, context, TimeUnit.MILLISECONDS.toNanos(BATCH_RESEND_DELAY_MS), true);
+  }
+
+  /**
+   * Publish a tracked config-update whose silent instances are only re-sent after {@code resendAfter},
+   * for updates that make workers do slow work (such as connection warm-up) before they answer.
+   *
+   * @return correlation id of the published signal, see {@link #isPending(String)}
+   */
+  public String publishConfigUpdate(ControlScope target, ObjectNode data, String context, Duration resendAfter) {
+    Objects.requireNonNull(resendAfter, "resendAfter");
+    return publishConfigUpdate(target, data, context, resendAfter.toNanos(), true);
+  }
+
+  private String publishConfigUpdate(ControlScope target,
+                                     ObjectNode data,
+                                     String context,
+                                     long resendNanos,
+                                     boolean track) {
     Objects.requireNonNull(target, "target");
     String targetSwarmId = target.swarmId();
     if (targetSwarmId == null || targetSwarmId.isBlank()) {
@@ -138,6 +316,18 @@ public final class ConfigFanout {
     String correlationId = UUID.randomUUID().toString();
     String idempotencyKey = UUID.randomUUID().toString();
 
+    if (track) {
+      trackBatch(target, correlationId, idempotencyKey, dataMap, context, resendNanos);
+    }
+    publishSignal(target, correlationId, idempotencyKey, dataMap, context);
+    return correlationId;
+  }
+
+  private void publishSignal(ControlScope target,
+                             String correlationId,
+                             String idempotencyKey,
+                             Map<String, Object> dataMap,
+                             String context) {
     ControlSignal signal = io.pockethive.controlplane.messaging.ControlSignals.configUpdate(
         controllerInstanceId,
         target,
@@ -152,6 +342,73 @@ public final class ConfigFanout {
     controlPlane.publishSignal(routingKey, payload);
   }
 
+  private void trackBatch(ControlScope target,
+                          String correlationId,
+                          String idempotencyKey,
+                          Map<String, Object> dataMap,
+                          String context,
+                          long resendNanos) {
+    List<String> expected = expectedInstances(target);
+    if (expected.isEmpty()) {
+      return;
+    }
+    if (batches.size() >= MAX_TRACKED_BATCHES) {
+      log.debug("Not tracking {} config-update correlation={}: {} batches already pending",
+          context, correlationId, batches.size());
+      return;
+    }
+    supersedeOlderBatches(target, expected);
+    batches.put(correlationId, new ConfigBatch(
+        target, correlationId, idempotencyKey, dataMap, context, expected, nanoTime.getAsLong(), resendNanos));
+  }
+
+  /**
+   * Stop waiting on {@code instances} in older batches for the same target; the new batch
+   * carries the update they should converge on.
+   */
+  private void supersedeOlderBatches(ControlScope target, List<String> instances) {
+    for (ConfigBatch batch : batches.values()) {
+      if (!batch.target().equals(target)) {
+        continue;
+      }
+      for (String instance : instances) {
+        if (batch.drop(instance)) {
+          completeBatch(batch);
+        }
+      }
+    }
+  }
+
+  private List<String> expectedInstances(ControlScope target) {
+    String instance = target.instance();
+    if (instance != null && !instance.isBlank() && !ControlScope.isAll(instance)) {
+      return List.of(instance);
+    }
+    String role = target.role();
+    boolean allRoles = role == null || role.isBlank() || ControlScope.isAll(role);
+    List<String> expected = new ArrayList<>();
+    instanceRoles.forEach((candidate, candidateRole) -> {
+      if (allRoles || role.equals(candidateRole)) {
+        expected.add(candidate);
+      }
+    });
+    return expected;
+  }
+
+  private void completeBatch(ConfigBatch batch) {
+    if (!batches.remove(batch.correlationId(), batch)) {
+      return;
+    }
+    int acknowledged = batch.acknowledged();
+    if (acknowledged == 0) {
+      return;
+    }
+    long latencyNanos = batch.lastAckNanos() - batch.publishedNanos();
+    metrics.applied(batch.context(), acknowledged, latencyNanos);
+    log.debug("{} config-update correlation={} applied by {} instance(s) in {} ms",
+        batch.context(), batch.correlationId(), acknowledged, TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+  }
+
   private static String payloadSnippet(String payload) {
     if (payload == null) {
       return "";
@@ -205,6 +462,127 @@ public final class ConfigFanout {
     }
   }
 
+  /**
+   * One published config-update and the instances still expected to answer it.
+   */
+  private static final class ConfigBatch {
+    private final ControlScope target;
+    private final String correlationId;
+    private final String idempotencyKey;
+    private final Map<String, Object> data;
+    private final String context;
+    private final long publishedNanos;
+    private final long resendNanos;
+    private final Map<String, Delivery> awaiting = new LinkedHashMap<>();
+    private int acknowledged;
+    private long lastAckNanos;
+
+    private ConfigBatch(ControlScope target,
+                        String correlationId,
+                        String idempotencyKey,
+                        Map<String, Object> data,
+                        String context,
+                        List<String> instances,
+                        long publishedNanos,
+                        long resendNanos) {
+      this.target = target;
+      this.correlationId = correlationId;
+      this.idempotencyKey = idempotencyKey;
+      this.data = data;
+      this.context = context;
+      this.publishedNanos = publishedNanos;
+      this.resendNanos = resendNanos;
+      for (String instance : instances) {
+        awaiting.put(instance, new Delivery(publishedNanos));
+      }
+    }
+
+    ControlScope target() {
+      return target;
+    }
+
+    String correlationId() {
+      return correlationId;
+    }
+
+    String idempotencyKey() {
+      return idempotencyKey;
+    }
+
+    Map<String, Object> data() {
+      return data;
+    }
+
+    String context() {
+      return context;
+    }
+
+    long publishedNanos() {
+      return publishedNanos;
+    }
+
+    synchronized int acknowledged() {
+      return acknowledged;
+    }
+
+    synchronized long lastAckNanos() {
+      return lastAckNanos;
+    }
+
+    /**
+     * @return {@code true} when this acknowledgement was the last one outstanding
+     */
+    synchronized boolean acknowledge(String instance, long now) {
+      if (awaiting.remove(instance) == null) {
+        return false;
+      }
+      acknowledged++;
+      lastAckNanos = now;
+      return awaiting.isEmpty();
+    }
+
+    /**
+     * @return {@code true} when dropping the instance left nothing outstanding
+     */
+    synchronized boolean drop(String instance) {
+      return awaiting.remove(instance) != null && awaiting.isEmpty();
+    }
+
+    synchronized RetryPass retryPass(long now, int budget) {
+      List<String> resend = new ArrayList<>();
+      List<String> abandoned = new ArrayList<>();
+      var iterator = awaiting.entrySet().iterator();
+      while (iterator.hasNext()) {
+        Map.Entry<String, Delivery> entry = iterator.next();
+        Delivery delivery = entry.getValue();
+        if (now - delivery.sentNanos < resendNanos) {
+          continue;
+        }
+        if (delivery.attempts >= BATCH_MAX_ATTEMPTS) {
+          iterator.remove();
+          abandoned.add(entry.getKey());
+        } else if (resend.size() < budget) {
+          delivery.sentNanos = now;
+          delivery.attempts++;
+          resend.add(entry.getKey());
+        }
+      }
+      return new RetryPass(resend, abandoned, awaiting.isEmpty() && !abandoned.isEmpty());
+    }
+
+    record RetryPass(List<String> resend, List<String> abandoned, boolean complete) {
+    }
+  }
+
+  private static final class Delivery {
+    private long sentNanos;
+    private int attempts = 1;
+
+    private Delivery(long sentNanos) {
+      this.sentNanos = sentNanos;
+    }
+  }
+
   private static String failureMessage(String role, String instance, String reason) {
     String base = "Config update failed for role=" + role + " instance=" + instance;
     if (reason == null || reason.isBlank()) {
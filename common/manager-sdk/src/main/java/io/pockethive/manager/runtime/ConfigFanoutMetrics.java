@@ -0,0 +1,43 @@
+package io.pockethive.manager.runtime;
+
+/**
+ * Metrics callback for {@link ConfigFanout} batches.
+ * <p>
+ * Kept free of any metrics library so managers can bind it to Micrometer (or anything else) without
+ * the SDK depending on it.
+ */
+public interface ConfigFanoutMetrics {
+
+  ConfigFanoutMetrics NOOP = new ConfigFanoutMetrics() {
+    @Override
+    public void applied(String context, int instances, long latencyNanos) {
+    }
+
+    @Override
+    public void retried(String context, int signals) {
+    }
+
+    @Override
+    public void abandoned(String context, int instances) {
+    }
+  };
+
+  /**
+   * Called once every targeted instance has acknowledged a config-update.
+   *
+   * @param context      fan-out context (for example {@code scenario}, {@code enable})
+   * @param instances    number of instances that acknowledged
+   * @param latencyNanos time from publishing the signal to the last acknowledgement
+   */
+  void applied(String context, int instances, long latencyNanos);
+
+  /**
+   * Called after a retry pass re-sent instance-scoped signals to instances that had not acknowledged.
+   */
+  void retried(String context, int signals);
+
+  /**
+   * Called when instances still had not acknowledged after the last retry and were given up on.
+   */
+  void abandoned(String context, int instances);
+}
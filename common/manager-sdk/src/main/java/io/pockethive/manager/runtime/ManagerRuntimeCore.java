@@ -149,9 +149,10 @@ public final class ManagerRuntimeCore implements ManagerLifecycle {
     if (trackedQueues.isEmpty()) {
       return Collections.emptyMap();
     }
+    Map<String, QueueStats> fetched = queueStats.getQueueStats(trackedQueues);
     Map<String, QueueStats> snapshot = new LinkedHashMap<>(trackedQueues.size());
     for (String queue : trackedQueues) {
-      QueueStats stats = queueStats.getQueueStats(queue);
+      QueueStats stats = fetched.get(queue);
       snapshot.put(queue, stats);
       metricsPort.updateQueueMetrics(queue, stats);
     }
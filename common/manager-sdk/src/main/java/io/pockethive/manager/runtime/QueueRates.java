@@ -0,0 +1,19 @@
+package io.pockethive.manager.runtime;
+
+/**
+ * Broker-measured message rates for a queue, in messages per second.
+ *
+ * @param publishPerSec rate at which messages are published to the queue
+ * @param deliverPerSec rate at which messages are delivered to consumers (including auto-ack and basic.get)
+ * @param ackPerSec     rate at which consumers acknowledge messages
+ */
+public record QueueRates(double publishPerSec, double deliverPerSec, double ackPerSec) {
+
+  /**
+   * Rate at which consumers actually take work off the queue: acknowledgements when consumers
+   * ack manually, otherwise deliveries.
+   */
+  public double drainPerSec() {
+    return ackPerSec > 0.0 ? ackPerSec : deliverPerSec;
+  }
+}
@@ -1,14 +1,24 @@
 package io.pockethive.manager.runtime;
 
+import java.util.Optional;
 import java.util.OptionalLong;
 
 /**
- * Snapshot of queue depth/consumers and, optionally, age of the oldest message.
+ * Snapshot of queue depth/consumers and, optionally, age of the oldest message and
+ * broker-measured message rates (only available when stats come from the management API).
  */
-public record QueueStats(long depth, int consumers, OptionalLong oldestAgeSeconds) {
+public record QueueStats(long depth, int consumers, OptionalLong oldestAgeSeconds, Optional<QueueRates> rates) {
+
+  public QueueStats {
+    oldestAgeSeconds = oldestAgeSeconds == null ? OptionalLong.empty() : oldestAgeSeconds;
+    rates = rates == null ? Optional.empty() : rates;
+  }
+
+  public QueueStats(long depth, int consumers, OptionalLong oldestAgeSeconds) {
+    this(depth, consumers, oldestAgeSeconds, Optional.empty());
+  }
 
   public static QueueStats empty() {
     return new QueueStats(0L, 0, OptionalLong.empty());
   }
 }
-
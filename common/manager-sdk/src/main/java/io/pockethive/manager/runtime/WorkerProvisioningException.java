@@ -0,0 +1,26 @@
+package io.pockethive.manager.runtime;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Thrown by {@link io.pockethive.manager.ports.ComputeAdapter#provisionWorkers} when only some of the
+ * requested workers could be created. The workers in {@link #provisioned()} are running and tracked by
+ * the adapter, so callers should record them before handling the failure.
+ */
+public class WorkerProvisioningException extends IllegalStateException {
+
+  private final Set<String> provisioned;
+
+  public WorkerProvisioningException(RuntimeException cause, Collection<String> provisioned) {
+    super(cause.getMessage(), cause);
+    this.provisioned = provisioned == null ? Set.of() : Set.copyOf(provisioned);
+  }
+
+  /**
+   * @return {@link WorkerSpec#id()} of every worker that was provisioned before the failure
+   */
+  public Set<String> provisioned() {
+    return provisioned;
+  }
+}
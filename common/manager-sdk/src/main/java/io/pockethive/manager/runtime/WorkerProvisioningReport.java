@@ -0,0 +1,27 @@
+package io.pockethive.manager.runtime;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Outcome of a worker provisioning pass: how many workers were actually created (workers that
+ * were already running are skipped) and the wall-clock duration of each phase in milliseconds,
+ * in execution order (for example {@code pull}, {@code create}, {@code start}).
+ */
+public record WorkerProvisioningReport(int provisioned, Map<String, Long> phaseMillis) {
+
+  public WorkerProvisioningReport {
+    phaseMillis = phaseMillis == null
+        ? Map.of()
+        : Collections.unmodifiableMap(new LinkedHashMap<>(phaseMillis));
+  }
+
+  public static WorkerProvisioningReport empty() {
+    return new WorkerProvisioningReport(0, Map.of());
+  }
+
+  public long totalMillis() {
+    return phaseMillis.values().stream().mapToLong(Long::longValue).sum();
+  }
+}
@@ -0,0 +1,165 @@
+package io.pockethive.manager.guard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.pockethive.manager.runtime.QueueStats;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class ReplicaAutoscalerTest {
+
+  private static final ReplicaAutoscaleSettings SETTINGS = new ReplicaAutoscaleSettings(
+      "processor",
+      "mod",
+      "ph.swarm.mod",
+      1,
+      5,
+      2,
+      100,
+      50.0,
+      Duration.ofSeconds(30),
+      Duration.ofHours(1),
+      1);
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final AtomicLong depth = new AtomicLong();
+  private final List<Integer> scaled = new ArrayList<>();
+
+  @Test
+  void sizesFromTheLargerOfDepthAndThroughput() {
+    assertThat(ReplicaAutoscaler.desiredReplicas(SETTINGS, 2, 250.0, OptionalDouble.empty(), false)).isEqualTo(3);
+    assertThat(ReplicaAutoscaler.desiredReplicas(SETTINGS, 2, 250.0, OptionalDouble.of(220.0), false)).isEqualTo(5);
+    assertThat(ReplicaAutoscaler.desiredReplicas(SETTINGS, 2, 100.0, OptionalDouble.of(60.0), false)).isEqualTo(2);
+  }
+
+  @Test
+  void clampsToMinAndMaxReplicas() {
+    assertThat(ReplicaAutoscaler.desiredReplicas(SETTINGS, 3, 10_000.0, OptionalDouble.empty(), false)).isEqualTo(5);
+    assertThat(ReplicaAutoscaler.desiredReplicas(SETTINGS, 3, 0.0, OptionalDouble.of(0.0), false)).isEqualTo(1);
+  }
+
+  @Test
+  void ignoresDepthWhenABufferGuardHoldsTheQueue() {
+    assertThat(ReplicaAutoscaler.desiredReplicas(SETTINGS, 2, 10_000.0, OptionalDouble.of(120.0), true)).isEqualTo(3);
+    assertThat(ReplicaAutoscaler.desiredReplicas(SETTINGS, 2, 10_000.0, OptionalDouble.empty(), true)).isEqualTo(2);
+  }
+
+  @Test
+  void keepsCurrentCountWhenNoSignalIsConfigured() {
+    ReplicaAutoscaleSettings noTargets = new ReplicaAutoscaleSettings(
+        "processor", "mod", "ph.swarm.mod", 1, 5, 2, 0, 0.0, Duration.ZERO, Duration.ofSeconds(1), 1);
+
+    assertThat(ReplicaAutoscaler.desiredReplicas(noTargets, 4, 10_000.0, OptionalDouble.of(500.0), false))
+        .isEqualTo(4);
+  }
+
+  @Test
+  void waitsForCooldownBetweenScalingActions() {
+    ReplicaAutoscaler autoscaler = autoscaler();
+    autoscaler.start();
+    try {
+      depth.set(500);
+      advanceSeconds(10);
+      autoscaler.tick();
+      assertThat(scaled).isEmpty();
+
+      advanceSeconds(25);
+      autoscaler.tick();
+      assertThat(scaled).containsExactly(5);
+      assertThat(autoscaler.replicas()).isEqualTo(5);
+
+      depth.set(0);
+      advanceSeconds(5);
+      autoscaler.tick();
+      assertThat(scaled).containsExactly(5);
+
+      advanceSeconds(30);
+      autoscaler.tick();
+      assertThat(scaled).containsExactly(5, 1);
+      assertThat(autoscaler.replicas()).isEqualTo(1);
+    } finally {
+      autoscaler.stop();
+    }
+  }
+
+  @Test
+  void doesNotScaleWhilePaused() {
+    ReplicaAutoscaler autoscaler = autoscaler();
+    autoscaler.start();
+    try {
+      depth.set(500);
+      advanceSeconds(60);
+      autoscaler.pause();
+      autoscaler.tick();
+      assertThat(scaled).isEmpty();
+
+      autoscaler.resume();
+      autoscaler.tick();
+      assertThat(scaled).containsExactly(5);
+    } finally {
+      autoscaler.stop();
+    }
+  }
+
+  @Test
+  void backsOffAfterFailedScalingActions() {
+    AtomicLong attempts = new AtomicLong();
+    ReplicaAutoscaler autoscaler = new ReplicaAutoscaler(
+        SETTINGS,
+        queue -> new QueueStats(depth.get(), 1, OptionalLong.empty()),
+        role -> OptionalDouble.empty(),
+        (role, replicas) -> {
+          attempts.incrementAndGet();
+          throw new IllegalStateException("docker unavailable");
+        },
+        nanos::get);
+    autoscaler.start();
+    try {
+      depth.set(500);
+      advanceSeconds(30);
+      autoscaler.tick();
+      assertThat(attempts).hasValue(1);
+
+      advanceSeconds(1);
+      autoscaler.tick();
+      assertThat(attempts).hasValue(1);
+
+      advanceSeconds(30);
+      autoscaler.tick();
+      assertThat(attempts).hasValue(2);
+
+      advanceSeconds(59);
+      autoscaler.tick();
+      assertThat(attempts).hasValue(2);
+
+      advanceSeconds(1);
+      autoscaler.tick();
+      assertThat(attempts).hasValue(3);
+      assertThat(autoscaler.replicas()).isEqualTo(2);
+    } finally {
+      autoscaler.stop();
+    }
+  }
+
+  private ReplicaAutoscaler autoscaler() {
+    return new ReplicaAutoscaler(
+        SETTINGS,
+        queue -> new QueueStats(depth.get(), 1, OptionalLong.empty()),
+        role -> OptionalDouble.empty(),
+        (role, replicas) -> {
+          scaled.add(replicas);
+          return replicas;
+        },
+        nanos::get);
+  }
+
+  private void advanceSeconds(long seconds) {
+    nanos.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+  }
+}
@@ -0,0 +1,184 @@
+package io.pockethive.manager.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.pockethive.control.ControlScope;
+import io.pockethive.controlplane.ControlPlaneSignals;
+import io.pockethive.controlplane.routing.ControlPlaneRouting;
+import io.pockethive.manager.ports.ControlPlanePort;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConfigFanoutTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final RecordingControlPlane controlPlane = new RecordingControlPlane();
+  private final RecordingMetrics metrics = new RecordingMetrics();
+  private final AtomicLong nanos = new AtomicLong();
+  private ConfigFanout fanout;
+
+  @BeforeEach
+  void setUp() {
+    fanout = new ConfigFanout(mapper, controlPlane, "sw1", "ctrl-1", metrics, 2, nanos::get);
+    fanout.registerInstance("generator", "gen-1");
+    fanout.registerInstance("generator", "gen-2");
+    fanout.registerInstance("generator", "gen-3");
+    fanout.registerInstance("processor", "proc-1");
+  }
+
+  @Test
+  void roleWideUpdateIsOneSignalAndReportsLatencyAtLastAck() throws Exception {
+    fanout.publishConfigUpdate(ControlScope.forRole("sw1", "generator"), enabled(), "scenario");
+
+    assertThat(controlPlane.routingKeys)
+        .containsExactly(ControlPlaneRouting.signal(ControlPlaneSignals.CONFIG_UPDATE, "sw1", "generator", null));
+    String correlationId = correlationId(0);
+
+    nanos.set(ms(5));
+    fanout.acknowledgeConfigUpdate("gen-1", correlationId);
+    fanout.acknowledgeConfigUpdate("proc-1", correlationId);
+    nanos.set(ms(12));
+    fanout.acknowledgeConfigUpdate("gen-2", correlationId);
+    assertThat(metrics.applied).isEmpty();
+
+    nanos.set(ms(30));
+    fanout.acknowledgeConfigUpdate("gen-3", correlationId);
+
+    assertThat(metrics.applied).containsExactly("scenario:3:" + ms(30));
+    assertThat(fanout.pendingBatches()).isZero();
+  }
+
+  @Test
+  void retriesResendInstanceScopedSignalsWithinTheParallelBound() throws Exception {
+    fanout.publishConfigUpdate(ControlScope.forSwarm("sw1"), enabled(), "enable");
+    String correlationId = correlationId(0);
+    fanout.acknowledgeConfigUpdate("proc-1", correlationId);
+
+    fanout.retryUnacknowledged();
+    assertThat(controlPlane.routingKeys).hasSize(1);
+
+    nanos.set(ms(1_000));
+    fanout.retryUnacknowledged();
+
+    assertThat(controlPlane.routingKeys).hasSize(3);
+    assertThat(controlPlane.routingKeys.subList(1, 3))
+        .allSatisfy(key -> assertThat(key).startsWith("signal.config-update.sw1.generator.gen-"));
+    assertThat(correlationId(1)).isEqualTo(correlationId);
+    assertThat(correlationId(2)).isEqualTo(correlationId);
+    assertThat(metrics.retried).containsExactly("enable:2");
+
+    fanout.retryUnacknowledged();
+    assertThat(controlPlane.routingKeys).hasSize(4);
+  }
+
+  @Test
+  void newerUpdateForTheSameTargetSupersedesOlderBatches() throws Exception {
+    fanout.publishConfigUpdate(ControlScope.forRole("sw1", "generator"), enabled(), "scenario");
+    fanout.publishConfigUpdate(ControlScope.forRole("sw1", "processor"), enabled(), "scenario");
+    fanout.publishConfigUpdate(ControlScope.forRole("sw1", "generator"), enabled(), "scenario");
+    String superseded = correlationId(0);
+
+    assertThat(fanout.pendingBatches()).isEqualTo(2);
+    assertThat(fanout.isPending(superseded)).isFalse();
+    assertThat(fanout.isPending(correlationId(1))).isTrue();
+    assertThat(fanout.isPending(correlationId(2))).isTrue();
+
+    nanos.set(ms(1_000));
+    fanout.retryUnacknowledged();
+
+    assertThat(controlPlane.routingKeys).hasSize(5);
+    assertThat(List.of(correlationId(3), correlationId(4))).doesNotContain(superseded);
+  }
+
+  @Test
+  void silentInstancesAreAbandonedAfterTheLastAttempt() {
+    fanout.publishConfigUpdate(ControlScope.forInstance("sw1", "processor", "proc-1"), enabled(), "scenario");
+
+    for (int pass = 1; pass <= 5; pass++) {
+      nanos.set(ms(1_000L * pass));
+      fanout.retryUnacknowledged();
+    }
+
+    assertThat(controlPlane.routingKeys).hasSize(5);
+    assertThat(metrics.abandoned).containsExactly("scenario:1");
+    assertThat(fanout.pendingBatches()).isZero();
+  }
+
+  @Test
+  void forgettingAnInstanceCompletesBatchesWaitingOnIt() throws Exception {
+    fanout.publishConfigUpdate(ControlScope.forRole("sw1", "processor"), enabled(), "scenario");
+    fanout.publishConfigUpdate(ControlScope.forRole("sw1", "generator"), enabled(), "scenario");
+    assertThat(fanout.pendingBatches()).isEqualTo(2);
+
+    fanout.forget("proc-1");
+
+    assertThat(fanout.pendingBatches()).isEqualTo(1);
+    assertThat(metrics.applied).isEmpty();
+  }
+
+  @Test
+  void bootstrapConfigIsNotTrackedAsABatch() {
+    fanout.registerBootstrapConfig("gen-1", "generator", java.util.Map.of("ratePerSec", 5));
+
+    fanout.publishBootstrapConfigIfNecessary("gen-1", true);
+
+    assertThat(controlPlane.routingKeys).hasSize(1);
+    assertThat(fanout.pendingBatches()).isZero();
+    assertThat(fanout.hasPendingAcks()).isTrue();
+  }
+
+  private com.fasterxml.jackson.databind.node.ObjectNode enabled() {
+    return mapper.createObjectNode().put("enabled", true);
+  }
+
+  private String correlationId(int index) throws Exception {
+    JsonNode node = mapper.readTree(controlPlane.payloads.get(index));
+    return node.path("correlationId").asText();
+  }
+
+  private static long ms(long millis) {
+    return TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+
+  private static final class RecordingControlPlane implements ControlPlanePort {
+    private final List<String> routingKeys = new ArrayList<>();
+    private final List<String> payloads = new ArrayList<>();
+
+    @Override
+    public void publishSignal(String routingKey, String payload) {
+      routingKeys.add(routingKey);
+      payloads.add(payload);
+    }
+
+    @Override
+    public void publishEvent(String routingKey, String payload) {
+    }
+  }
+
+  private static final class RecordingMetrics implements ConfigFanoutMetrics {
+    private final List<String> applied = new ArrayList<>();
+    private final List<String> retried = new ArrayList<>();
+    private final List<String> abandoned = new ArrayList<>();
+
+    @Override
+    public void applied(String context, int instances, long latencyNanos) {
+      applied.add(context + ":" + instances + ":" + latencyNanos);
+    }
+
+    @Override
+    public void retried(String context, int signals) {
+      retried.add(context + ":" + signals);
+    }
+
+    @Override
+    public void abandoned(String context, int instances) {
+      abandoned.add(context + ":" + instances);
+    }
+  }
+}
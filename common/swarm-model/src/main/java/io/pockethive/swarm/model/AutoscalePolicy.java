@@ -0,0 +1,25 @@
+package io.pockethive.swarm.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Replica autoscaling for a bee that consumes a work queue.
+ * <p>
+ * {@code targetQueueDepth} is the backlog one replica is expected to hold and
+ * {@code targetTpsPerReplica} the throughput one replica is expected to sustain;
+ * when both are set the larger replica count wins. {@code queueAlias} defaults
+ * to the bee's default input queue.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record AutoscalePolicy(
+    Boolean enabled,
+    String queueAlias,
+    @Positive Integer minReplicas,
+    @Positive Integer maxReplicas,
+    @Positive Integer targetQueueDepth,
+    @Positive Double targetTpsPerReplica,
+    String cooldown,
+    String samplePeriod,
+    Integer movingAverageWindow) {
+}
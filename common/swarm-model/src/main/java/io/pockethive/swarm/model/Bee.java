@@ -3,6 +3,7 @@ package io.pockethive.swarm.model;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -12,7 +13,9 @@ public record Bee(@NotBlank String role,
                   @Valid @NotNull Work work,
                   @Valid List<BeePort> ports,
                   Map<String, String> env,
-                  Map<String, Object> config) {
+                  Map<String, Object> config,
+                  @Positive Integer replicas,
+                  @Valid AutoscalePolicy autoscale) {
     public Bee {
         work = Objects.requireNonNull(work, "work");
         ports = ports == null ? List.of() : List.copyOf(ports);
@@ -20,6 +23,15 @@ public record Bee(@NotBlank String role,
         config = config == null || config.isEmpty() ? Map.of() : Map.copyOf(config);
     }
 
+    public Bee(String role,
+               String image,
+               Work work,
+               List<BeePort> ports,
+               Map<String, String> env,
+               Map<String, Object> config) {
+        this(role, image, work, ports, env, config, null, null);
+    }
+
     public Bee(String role,
                String image,
                Work work,
@@ -34,4 +46,21 @@ public record Bee(@NotBlank String role,
                Map<String, String> env) {
         this(role, image, work, List.of(), env, null);
     }
+
+    /**
+     * Number of instances to start with: {@code replicas}, raised to the autoscale
+     * minimum when autoscaling is enabled, and never below one.
+     */
+    public int initialReplicas() {
+        int count = replicas == null ? 1 : Math.max(1, replicas);
+        if (autoscale != null && Boolean.TRUE.equals(autoscale.enabled())) {
+            if (autoscale.minReplicas() != null) {
+                count = Math.max(count, autoscale.minReplicas());
+            }
+            if (autoscale.maxReplicas() != null) {
+                count = Math.min(count, Math.max(1, autoscale.maxReplicas()));
+            }
+        }
+        return count;
+    }
 }
@@ -14,7 +14,23 @@ public record BufferGuardPolicy(
     Integer movingAverageWindow,
     @Valid Adjustment adjust,
     @Valid Prefill prefill,
-    @Valid Backpressure backpressure) {
+    @Valid Backpressure backpressure,
+    String mode,
+    @Valid Pid pid) {
+
+    public BufferGuardPolicy(Boolean enabled,
+                             String queueAlias,
+                             Integer targetDepth,
+                             Integer minDepth,
+                             Integer maxDepth,
+                             String samplePeriod,
+                             Integer movingAverageWindow,
+                             Adjustment adjust,
+                             Prefill prefill,
+                             Backpressure backpressure) {
+        this(enabled, queueAlias, targetDepth, minDepth, maxDepth, samplePeriod, movingAverageWindow,
+            adjust, prefill, backpressure, null, null);
+    }
 
     @JsonIgnoreProperties(ignoreUnknown = true)
     public record Adjustment(
@@ -38,4 +54,16 @@ public record BufferGuardPolicy(
         Integer recoveryDepth,
         Integer moderatorReductionPct) {
     }
+
+    /**
+     * Gains for {@code mode: pid}. The error is queue depth minus {@code targetDepth} in
+     * messages, so {@code kp} reads as "msg/s of producer rate per message of error".
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Pid(
+        Double kp,
+        Double ki,
+        Double kd,
+        String derivativeFilter) {
+    }
 }
@@ -7,9 +7,18 @@ import java.util.List;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public record TrafficPolicy(
     @Valid BufferGuardPolicy bufferGuard,
-    @Valid List<BufferGuardPolicy> bufferGuards) {
+    @Valid List<BufferGuardPolicy> bufferGuards,
+    @Valid List<WorkQueuePolicy> queues) {
+
+  public TrafficPolicy {
+    queues = queues == null ? List.of() : List.copyOf(queues);
+  }
+
+  public TrafficPolicy(@Valid BufferGuardPolicy bufferGuard, @Valid List<BufferGuardPolicy> bufferGuards) {
+    this(bufferGuard, bufferGuards, null);
+  }
 
   public TrafficPolicy(@Valid BufferGuardPolicy bufferGuard) {
-    this(bufferGuard, null);
+    this(bufferGuard, null, null);
   }
 }
@@ -0,0 +1,51 @@
+package io.pockethive.swarm.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Broker layout for one swarm work queue, addressed by {@code queueAlias} (the queue suffix
+ * used in {@code work.in}/{@code work.out}).
+ * <p>
+ * With {@code shards > 1} the queue becomes {@code shards} physical queues
+ * ({@code <queue>.s0 .. <queue>.sN-1}) behind a consistent-hash exchange. Producers keep
+ * publishing to the logical queue name; the hash key is taken from the work item header named
+ * by {@code shardKeyHeader}, so items sharing a key land on the same shard and keep their
+ * relative order. Items without the header are spread at random. Consumers read from all shards.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record WorkQueuePolicy(
+    @NotBlank String queueAlias,
+    WorkQueueType type,
+    @Positive Integer shards,
+    String shardKeyHeader) {
+
+  /**
+   * AMQP header carrying the shard key; the consistent-hash exchange hashes on it.
+   */
+  public static final String SHARD_KEY_HEADER = "x-ph-shard-key";
+
+  public WorkQueuePolicy {
+    if (queueAlias == null || queueAlias.isBlank()) {
+      throw new IllegalArgumentException("work queue policy queueAlias must not be blank");
+    }
+    queueAlias = queueAlias.trim();
+    if (shards != null && shards < 1) {
+      throw new IllegalArgumentException("work queue policy shards must be positive");
+    }
+    shardKeyHeader = shardKeyHeader == null || shardKeyHeader.isBlank() ? null : shardKeyHeader.trim();
+  }
+
+  public WorkQueueType resolvedType() {
+    return WorkQueueType.classicIfNull(type);
+  }
+
+  public int resolvedShards() {
+    return shards == null ? 1 : shards;
+  }
+
+  public boolean sharded() {
+    return resolvedShards() > 1;
+  }
+}
@@ -0,0 +1,33 @@
+package io.pockethive.swarm.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.Locale;
+
+/**
+ * RabbitMQ queue type used for a swarm work queue.
+ * <ul>
+ *   <li>{@code CLASSIC} – durable classic queue (the default).</li>
+ *   <li>{@code LAZY} – classic queue that pages messages to disk early ({@code x-queue-mode=lazy}).</li>
+ *   <li>{@code QUORUM} – replicated Raft-based queue.</li>
+ *   <li>{@code STREAM} – append-only log; consumed messages stay until retention removes them,
+ *       so depth-based guards and autoscaling do not apply.</li>
+ * </ul>
+ */
+public enum WorkQueueType {
+    CLASSIC,
+    LAZY,
+    QUORUM,
+    STREAM;
+
+    @JsonCreator
+    public static WorkQueueType from(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return WorkQueueType.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public static WorkQueueType classicIfNull(WorkQueueType value) {
+        return value == null ? CLASSIC : value;
+    }
+}
@@ -62,6 +62,41 @@ class SwarmModelSerializationTest {
         assertEquals("genToMod", restored.trafficPolicy().bufferGuard().queueAlias());
     }
 
+    @Test
+    void roundTripsBeeReplicasAndAutoscalePolicy() throws Exception {
+        AutoscalePolicy autoscale = new AutoscalePolicy(true, null, 2, 6, 100, 50.0, "30s", "5s", 3);
+        Bee processor = new Bee("processor", "img", Work.ofDefaults("in", "out"),
+            List.of(), Map.of(), Map.of(), 1, autoscale);
+
+        Bee restored = mapper.readValue(mapper.writeValueAsString(processor), Bee.class);
+
+        assertEquals(1, restored.replicas());
+        assertEquals(autoscale, restored.autoscale());
+        assertEquals(2, restored.initialReplicas());
+        assertEquals(1, new Bee("gen", "img", Work.ofDefaults(null, "out"), Map.of()).initialReplicas());
+    }
+
+    @Test
+    void readsWorkQueuePoliciesFromTrafficPolicy() throws Exception {
+        String json = """
+            {"queues": [
+              {"queueAlias": "gen-out", "type": "quorum", "shards": 4, "shardKeyHeader": "customerId"},
+              {"queueAlias": "final"}
+            ]}
+            """;
+
+        TrafficPolicy policy = mapper.readValue(json, TrafficPolicy.class);
+
+        assertEquals(2, policy.queues().size());
+        WorkQueuePolicy sharded = policy.queues().get(0);
+        assertEquals(WorkQueueType.QUORUM, sharded.resolvedType());
+        assertEquals(4, sharded.resolvedShards());
+        assertEquals("customerId", sharded.shardKeyHeader());
+        WorkQueuePolicy plain = policy.queues().get(1);
+        assertEquals(WorkQueueType.CLASSIC, plain.resolvedType());
+        assertEquals(false, plain.sharded());
+    }
+
     @Test
     void templateDefaultsToEmptyBees() {
         SwarmTemplate template = new SwarmTemplate("controller", null);
@@ -0,0 +1,24 @@
+package io.pockethive.worker.sdk.api;
+
+import java.util.Map;
+
+/**
+ * Optional capability for workers that keep pooled connections to a system under test.
+ * <p>
+ * Before a swarm is enabled the swarm controller can send a {@code warmup} action in a config-update
+ * ({@code {"warmup": {"connections": 4}}}). The runtime then calls {@link #warmUp(int, Object)} on every
+ * targeted worker bean implementing this interface and only acknowledges the config-update once it
+ * returns, so connections, TLS sessions and pools are ready before the first work item. Warm-up runs
+ * outside the worker invocation chain and is therefore never counted in call or tx-outcome metrics.
+ */
+public interface WorkerWarmUp {
+
+    /**
+     * Pre-opens pooled connections for the endpoints described by {@code config}.
+     *
+     * @param connections number of connections to open per endpoint
+     * @param config      current typed worker configuration, may be {@code null}
+     * @return summary included in the config-update confirmation (for example {@code {"http": 4}})
+     */
+    Map<String, Object> warmUp(int connections, Object config) throws Exception;
+}
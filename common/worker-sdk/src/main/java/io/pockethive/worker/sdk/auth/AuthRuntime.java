@@ -31,6 +31,7 @@ import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 
@@ -178,16 +179,28 @@ public final class AuthRuntime {
     }
 
     public String applyIsoPayloadHex(AuthRef ref, String payloadHex, WorkItem item, WorkerContext context) {
+        byte[] mac = isoMac(ref, () -> HexFormat.of().parseHex(payloadHex), context);
+        return payloadHex + HexFormat.of().withUpperCase().formatHex(mac);
+    }
+
+    /**
+     * Byte-level variant of {@link #applyIsoPayloadHex}: returns only the MAC, which the caller appends
+     * after {@code payload}, so the payload is never copied or hex-encoded.
+     */
+    public byte[] isoPayloadMac(AuthRef ref, byte[] payload, WorkItem item, WorkerContext context) {
+        return isoMac(ref, () -> payload, context);
+    }
+
+    private byte[] isoMac(AuthRef ref, Supplier<byte[]> payload, WorkerContext context) {
         try {
             AuthProfile profile = profile(ref);
             if (ref.applyAs() != AuthApplyAs.ISO8583_MAC_FIELD) {
                 throw unsupported(ref, "ISO8583 processor");
             }
-            byte[] bytes = HexFormat.of().parseHex(payloadHex);
-            String mac = macHex(profile, bytes);
+            byte[] mac = mac(profile, payload.get());
             context.meterRegistry().counter("pockethive.auth.apply", "profileId", ref.profileId(), "applyAs", ref.applyAs().name()).increment();
             reportRecovery(ref, "ISO8583", context);
-            return payloadHex + mac.toUpperCase(Locale.ROOT);
+            return mac;
         } catch (RuntimeException ex) {
             reportFailure(ref, "ISO8583", context, ex);
             throw AuthFailureException.application(ref, "ISO8583", ex);
@@ -594,11 +607,11 @@ public final class AuthRuntime {
         }
     }
 
-    private static String macHex(AuthProfile profile, byte[] payload) {
+    private static byte[] mac(AuthProfile profile, byte[] payload) {
         try {
             Mac mac = Mac.getInstance(optional(profile, "algorithm") == null ? "HmacSHA256" : optional(profile, "algorithm"));
             mac.init(new SecretKeySpec(required(profile, "macKey").getBytes(StandardCharsets.UTF_8), mac.getAlgorithm()));
-            return HexFormat.of().formatHex(mac.doFinal(payload));
+            return mac.doFinal(payload);
         } catch (Exception ex) {
             throw new IllegalStateException("Failed to compute ISO8583 MAC", ex);
         }
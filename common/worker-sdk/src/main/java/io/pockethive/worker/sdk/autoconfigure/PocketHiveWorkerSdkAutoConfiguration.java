@@ -37,6 +37,7 @@ import io.pockethive.worker.sdk.config.WorkerInputType;
 import io.pockethive.worker.sdk.config.WorkerInputTypeProperties;
 import io.pockethive.worker.sdk.config.WorkerOutputType;
 import io.pockethive.worker.sdk.config.WorkerOutputTypeProperties;
+import io.pockethive.worker.sdk.api.WorkerWarmUp;
 import io.pockethive.worker.sdk.runtime.DefaultWorkerContextFactory;
 import io.pockethive.worker.sdk.runtime.DefaultWorkerRuntime;
 import io.pockethive.worker.sdk.runtime.WorkerContextFactory;
@@ -52,6 +53,8 @@ import io.pockethive.worker.sdk.runtime.WorkerRuntime;
 import io.pockethive.worker.sdk.runtime.WorkerStateStore;
 import io.pockethive.worker.sdk.runtime.WorkerStatusScheduler;
 import io.pockethive.worker.sdk.runtime.WorkerStatusSchedulerProperties;
+import io.pockethive.worker.sdk.runtime.WorkErrorAggregator;
+import io.pockethive.worker.sdk.runtime.WorkErrorAlertProperties;
 import io.pockethive.worker.sdk.runtime.WorkerInvocationInterceptor;
 import io.pockethive.worker.sdk.output.NoopWorkOutputFactory;
 import io.pockethive.worker.sdk.output.WorkOutputFactory;
@@ -68,6 +71,7 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.ListableBeanFactory;
@@ -111,6 +115,13 @@ public class PocketHiveWorkerSdkAutoConfiguration {
         return new WorkerStatusSchedulerProperties();
     }
 
+    @Bean
+    @ConfigurationProperties(prefix = "pockethive.worker.alerts.work-errors")
+    @ConditionalOnMissingBean
+    WorkErrorAlertProperties workErrorAlertProperties() {
+        return new WorkErrorAlertProperties();
+    }
+
     @Bean
     @ConditionalOnMissingBean
     WorkerRegistry workerRegistry(
@@ -243,7 +254,9 @@ public class PocketHiveWorkerSdkAutoConfiguration {
 	        @Qualifier("workerControlPlaneEmitter") ControlPlaneEmitter controlPlaneEmitter,
 	        WorkerControlPlaneProperties workerControlPlaneProperties,
 	        ObjectProvider<io.pockethive.templating.TemplateRenderer> templateRendererProvider,
-	        ObjectProvider<ObjectMapper> objectMapperProvider
+	        ObjectProvider<ObjectMapper> objectMapperProvider,
+	        WorkErrorAlertProperties workErrorAlertProperties,
+	        ConfigurableListableBeanFactory beanFactory
 	    ) {
 	        ObjectMapper mapper = objectMapperProvider.getIfAvailable(() -> new ObjectMapper().findAndRegisterModules());
 	        WorkerControlPlaneProperties.ControlPlane controlPlane = Objects
@@ -251,8 +264,16 @@ public class PocketHiveWorkerSdkAutoConfiguration {
 	            .getControlPlane();
 	        Objects.requireNonNull(controlPlane, "workerControlPlaneProperties.controlPlane must not be null");
 	        io.pockethive.templating.TemplateRenderer renderer = templateRendererProvider.getIfAvailable();
-	        return new WorkerControlPlaneRuntime(workerControlPlane, workerStateStore, mapper, controlPlaneEmitter, identity,
-	            controlPlane, renderer);
+	        WorkErrorAggregator workErrorAggregator = new WorkErrorAggregator(
+	            workErrorAlertProperties.getWindow(),
+	            workErrorAlertProperties.getMaxFingerprints(),
+	            workErrorAlertProperties.getMaxSampleMessageIds());
+	        WorkerControlPlaneRuntime runtime = new WorkerControlPlaneRuntime(workerControlPlane, workerStateStore, mapper,
+	            controlPlaneEmitter, identity, controlPlane, renderer, workErrorAggregator);
+	        runtime.registerWarmUpResolver(definition -> WorkerWarmUp.class.isAssignableFrom(definition.beanType())
+	            ? Optional.of((WorkerWarmUp) beanFactory.getBean(definition.beanType()))
+	            : Optional.empty());
+	        return runtime;
 	    }
 
     @Bean
@@ -475,6 +496,7 @@ public class PocketHiveWorkerSdkAutoConfiguration {
         WorkOutputConfigBinder outputBinder
     ) {
         String inQueue = null;
+        List<String> inShards = List.of();
         if (inputType == WorkerInputType.RABBITMQ) {
             if (!(inputConfig instanceof RabbitInputProperties rabbit)) {
                 throw new IllegalStateException(
@@ -487,6 +509,7 @@ public class PocketHiveWorkerSdkAutoConfiguration {
                         inputBinder.prefix(inputType)));
             }
             inQueue = queue;
+            inShards = rabbit.getShards();
         }
         String outQueue = null;
         String exchange = null;
@@ -510,7 +533,7 @@ public class PocketHiveWorkerSdkAutoConfiguration {
             outQueue = routingKey;
             exchange = configuredExchange;
         }
-        return new WorkIoBindings(inQueue, outQueue, exchange);
+        return new WorkIoBindings(inQueue, inShards, outQueue, exchange);
     }
 
     private static Class<? extends WorkInputConfig> resolveInputConfigType(PocketHiveWorker annotation,
@@ -1,5 +1,8 @@
 package io.pockethive.worker.sdk.config;
 
+import java.util.List;
+import java.util.Objects;
+
 /**
  * Default RabbitMQ work-input knobs bound from {@code pockethive.inputs.rabbit.*}.
  */
@@ -12,6 +15,7 @@ public class RabbitInputProperties implements WorkInputConfig {
     private boolean autoStartup = true;
     private String queue;
     private String deadLetterQueue;
+    private List<String> shards = List.of();
 
     public boolean isEnabled() {
         return enabled;
@@ -69,6 +73,21 @@ public class RabbitInputProperties implements WorkInputConfig {
         this.deadLetterQueue = normalise(deadLetterQueue);
     }
 
+    /**
+     * Physical shard queues behind a sharded {@link #getQueue() queue}. When present the listener
+     * consumes from these, while {@code queue} stays the logical name reported in status.
+     */
+    public List<String> getShards() {
+        return shards;
+    }
+
+    public void setShards(List<String> shards) {
+        this.shards = shards == null ? List.of() : shards.stream()
+            .map(RabbitInputProperties::normalise)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
     private static String normalise(String value) {
         if (value == null) {
             return null;
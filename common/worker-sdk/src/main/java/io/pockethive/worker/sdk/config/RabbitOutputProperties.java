@@ -9,6 +9,8 @@ public class RabbitOutputProperties implements WorkOutputConfig {
     private boolean publisherConfirms = false;
     private String exchange;
     private String routingKey;
+    private boolean sharded = false;
+    private String shardKeyHeader;
 
     public boolean isPersistent() {
         return persistent;
@@ -42,6 +44,30 @@ public class RabbitOutputProperties implements WorkOutputConfig {
         this.routingKey = normalise(routingKey);
     }
 
+    /**
+     * Whether the routing key targets a sharded work queue; outbound messages then carry the
+     * shard key header the consistent-hash exchange hashes on.
+     */
+    public boolean isSharded() {
+        return sharded;
+    }
+
+    public void setSharded(boolean sharded) {
+        this.sharded = sharded;
+    }
+
+    /**
+     * Work item header whose value becomes the shard key, so items sharing it keep their order.
+     * When unset, or absent on an item, the item goes to a random shard.
+     */
+    public String getShardKeyHeader() {
+        return shardKeyHeader;
+    }
+
+    public void setShardKeyHeader(String shardKeyHeader) {
+        this.shardKeyHeader = normalise(shardKeyHeader);
+    }
+
     private static String normalise(String value) {
         if (value == null) {
             return null;
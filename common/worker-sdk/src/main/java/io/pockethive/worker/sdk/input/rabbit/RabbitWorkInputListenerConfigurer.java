@@ -45,10 +45,10 @@ public final class RabbitWorkInputListenerConfigurer implements RabbitListenerCo
         String listenerId = definition.beanName() + "Listener";
         SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
         endpoint.setId(listenerId);
-        endpoint.setQueueNames(queue);
+        endpoint.setQueueNames(io.inboundConsumeQueues().toArray(String[]::new));
         endpoint.setMessageListener(asListener(definition.beanName()));
         registrar.registerEndpoint(endpoint);
-        log.debug("Registered Rabbit listener {} for queue {}", listenerId, queue);
+        log.debug("Registered Rabbit listener {} for queue {} ({})", listenerId, queue, io.inboundConsumeQueues());
     }
 
     private MessageListener asListener(String beanName) {
@@ -1,10 +1,12 @@
 package io.pockethive.worker.sdk.output;
 
+import io.pockethive.swarm.model.WorkQueuePolicy;
 import io.pockethive.worker.sdk.api.WorkItem;
 import io.pockethive.worker.sdk.config.RabbitOutputProperties;
 import io.pockethive.worker.sdk.runtime.WorkIoBindings;
 import io.pockethive.worker.sdk.runtime.WorkerDefinition;
 import io.pockethive.worker.sdk.transport.rabbit.RabbitWorkItemConverter;
+import java.util.concurrent.ThreadLocalRandom;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageDeliveryMode;
 import org.springframework.amqp.core.MessageProperties;
@@ -38,7 +40,19 @@ public final class RabbitWorkOutput implements WorkOutput {
         if (props.getContentType() == null) {
             props.setContentType(MessageProperties.CONTENT_TYPE_BYTES);
         }
+        if (properties.isSharded()) {
+            props.setHeader(WorkQueuePolicy.SHARD_KEY_HEADER, shardKey(item));
+        }
         rabbitTemplate.send(exchange, routingKey, outbound);
     }
 
+    private String shardKey(WorkItem item) {
+        String header = properties.getShardKeyHeader();
+        Object value = header == null ? null : item.headers().get(header);
+        if (value != null) {
+            return value.toString();
+        }
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+
 }
@@ -70,6 +70,15 @@ final class ControlPlaneNotifier {
         ControlSignal signal,
         WorkerState state,
         Map<String, Object> rawConfig
+    ) {
+        emitConfigReady(signal, state, rawConfig, Map.of());
+    }
+
+    void emitConfigReady(
+        ControlSignal signal,
+        WorkerState state,
+        Map<String, Object> rawConfig,
+        Map<String, Object> warmUp
     ) {
         Map<String, Object> commandDetails = new LinkedHashMap<>();
         if (!rawConfig.isEmpty()) {
@@ -90,6 +99,9 @@ final class ControlPlaneNotifier {
         if (!rawConfig.isEmpty()) {
             confirmationDetails.put("config", rawConfig);
         }
+        if (!warmUp.isEmpty()) {
+            confirmationDetails.put("warmup", warmUp);
+        }
         ControlPlaneEmitter.ReadyContext.Builder ready = ControlPlaneEmitter.ReadyContext.builder(
             signal.type(),
             signal.correlationId(),
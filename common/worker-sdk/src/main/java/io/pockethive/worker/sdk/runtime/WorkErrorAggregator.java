@@ -0,0 +1,202 @@
+package io.pockethive.worker.sdk.runtime;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * Thread-safe gate that turns a stream of work errors into first-occurrence alerts plus periodic
+ * summaries.
+ * <p>
+ * Errors are fingerprinted by worker, exception type, message template (the message with ids and
+ * numbers masked), call id and status. The first error of a fingerprint is let through
+ * immediately; repeats within {@code window} are only counted, and {@link #flush()} reports them
+ * once the window has elapsed. A fingerprint with no repeats in its window is forgotten, so the
+ * next occurrence is again reported immediately. A window of zero disables aggregation.
+ * <p>
+ * The number of tracked fingerprints is bounded; beyond the limit new fingerprints are folded into
+ * one overflow entry per worker, so memory stays flat even when messages carry unmasked ids.
+ */
+public final class WorkErrorAggregator {
+
+    public static final Duration DEFAULT_WINDOW = Duration.ofSeconds(10);
+    static final int DEFAULT_MAX_FINGERPRINTS = 256;
+    static final int DEFAULT_MAX_SAMPLE_MESSAGE_IDS = 5;
+    static final String OVERFLOW = "*";
+    private static final int MAX_TEMPLATE_LENGTH = 200;
+
+    private static final Pattern UUID = Pattern.compile(
+        "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+    private static final Pattern LONG_HEX = Pattern.compile("\\b(?=[0-9a-fA-F]*\\d)[0-9a-fA-F]{12,}\\b");
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+
+    private final long windowMillis;
+    private final int maxFingerprints;
+    private final int maxSampleMessageIds;
+    private final LongSupplier clock;
+    private final ConcurrentMap<Fingerprint, Window> windows = new ConcurrentHashMap<>();
+
+    public WorkErrorAggregator(Duration window) {
+        this(window, DEFAULT_MAX_FINGERPRINTS, DEFAULT_MAX_SAMPLE_MESSAGE_IDS, System::currentTimeMillis);
+    }
+
+    public WorkErrorAggregator(Duration window, int maxFingerprints, int maxSampleMessageIds) {
+        this(window, maxFingerprints, maxSampleMessageIds, System::currentTimeMillis);
+    }
+
+    WorkErrorAggregator(Duration window, int maxFingerprints, int maxSampleMessageIds, LongSupplier clock) {
+        Objects.requireNonNull(window, "window");
+        this.windowMillis = window.isNegative() ? 0L : window.toMillis();
+        this.maxFingerprints = Math.max(1, maxFingerprints);
+        this.maxSampleMessageIds = Math.max(0, maxSampleMessageIds);
+        this.clock = Objects.requireNonNull(clock, "clock");
+    }
+
+    public boolean enabled() {
+        return windowMillis > 0;
+    }
+
+    public Duration window() {
+        return Duration.ofMillis(windowMillis);
+    }
+
+    /**
+     * Record one failed work item.
+     *
+     * @return {@code true} when the caller should publish this error right away
+     */
+    public boolean record(Fingerprint fingerprint, String messageId, String message) {
+        Objects.requireNonNull(fingerprint, "fingerprint");
+        if (!enabled()) {
+            return true;
+        }
+        Fingerprint key = fingerprint;
+        if (!windows.containsKey(key) && windows.size() >= maxFingerprints) {
+            key = fingerprint.overflow();
+        }
+        while (true) {
+            Window window = windows.computeIfAbsent(key, ignored -> new Window(clock.getAsLong()));
+            synchronized (window) {
+                if (window.closed) {
+                    continue;
+                }
+                window.total++;
+                if (window.total == 1) {
+                    return true;
+                }
+                window.suppressed++;
+                window.lastMessage = message;
+                if (messageId != null && window.sampleMessageIds.size() < maxSampleMessageIds) {
+                    window.sampleMessageIds.add(messageId);
+                }
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Collect summaries for every window that has elapsed with suppressed errors, and forget
+     * fingerprints that went quiet.
+     */
+    public List<Summary> flush() {
+        if (!enabled() || windows.isEmpty()) {
+            return List.of();
+        }
+        long now = clock.getAsLong();
+        List<Summary> summaries = new ArrayList<>();
+        for (Map.Entry<Fingerprint, Window> entry : windows.entrySet()) {
+            Window window = entry.getValue();
+            synchronized (window) {
+                if (window.closed || now - window.startedAt < windowMillis) {
+                    continue;
+                }
+                if (window.suppressed == 0) {
+                    window.closed = true;
+                    windows.remove(entry.getKey(), window);
+                    continue;
+                }
+                summaries.add(new Summary(
+                    entry.getKey(),
+                    window.suppressed,
+                    Duration.ofMillis(now - window.startedAt),
+                    List.copyOf(window.sampleMessageIds),
+                    window.lastMessage));
+                // Keep the fingerprint: while it keeps failing, only summaries are published.
+                window.startedAt = now;
+                window.suppressed = 0;
+                window.sampleMessageIds.clear();
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * Mask the variable parts of an exception message so errors that differ only by ids, ports,
+     * counts or timings share one fingerprint.
+     */
+    public static String messageTemplate(String message) {
+        if (message == null || message.isBlank()) {
+            return "";
+        }
+        String template = UUID.matcher(message.trim()).replaceAll("<uuid>");
+        template = LONG_HEX.matcher(template).replaceAll("<hex>");
+        template = NUMBER.matcher(template).replaceAll("#");
+        return template.length() > MAX_TEMPLATE_LENGTH ? template.substring(0, MAX_TEMPLATE_LENGTH) : template;
+    }
+
+    public record Fingerprint(String worker, String errorType, String messageTemplate, String callId, String status) {
+
+        public Fingerprint {
+            Objects.requireNonNull(worker, "worker");
+            Objects.requireNonNull(errorType, "errorType");
+            messageTemplate = messageTemplate == null ? "" : messageTemplate;
+        }
+
+        public static Fingerprint of(String worker, Throwable exception, String callId, String status) {
+            Objects.requireNonNull(exception, "exception");
+            return new Fingerprint(
+                worker,
+                exception.getClass().getName(),
+                WorkErrorAggregator.messageTemplate(exception.getMessage()),
+                callId,
+                status);
+        }
+
+        Fingerprint overflow() {
+            return new Fingerprint(worker, OVERFLOW, OVERFLOW, null, null);
+        }
+
+        public boolean isOverflow() {
+            return OVERFLOW.equals(errorType);
+        }
+    }
+
+    /**
+     * Errors of one fingerprint that were counted but not published during {@code window}.
+     */
+    public record Summary(Fingerprint fingerprint,
+                          long occurrences,
+                          Duration window,
+                          List<String> sampleMessageIds,
+                          String lastMessage) {
+    }
+
+    private static final class Window {
+        private long startedAt;
+        private long total;
+        private long suppressed;
+        private String lastMessage;
+        private boolean closed;
+        private final List<String> sampleMessageIds = new ArrayList<>();
+
+        Window(long startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.pockethive.worker.sdk.runtime;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Configuration properties controlling how repeated work errors are aggregated into alerts.
+ */
+public class WorkErrorAlertProperties {
+
+    private Duration window = WorkErrorAggregator.DEFAULT_WINDOW;
+    private int maxFingerprints = WorkErrorAggregator.DEFAULT_MAX_FINGERPRINTS;
+    private int maxSampleMessageIds = WorkErrorAggregator.DEFAULT_MAX_SAMPLE_MESSAGE_IDS;
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public void setWindow(Duration window) {
+        this.window = Objects.requireNonNull(window, "window");
+    }
+
+    public int getMaxFingerprints() {
+        return maxFingerprints;
+    }
+
+    public void setMaxFingerprints(int maxFingerprints) {
+        this.maxFingerprints = maxFingerprints;
+    }
+
+    public int getMaxSampleMessageIds() {
+        return maxSampleMessageIds;
+    }
+
+    public void setMaxSampleMessageIds(int maxSampleMessageIds) {
+        this.maxSampleMessageIds = maxSampleMessageIds;
+    }
+}
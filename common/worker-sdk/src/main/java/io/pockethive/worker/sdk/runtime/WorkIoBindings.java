@@ -1,15 +1,25 @@
 package io.pockethive.worker.sdk.runtime;
 
+import java.util.List;
+import java.util.Objects;
+
 /**
  * Describes the work-queue bindings resolved for a worker. Values are populated from the runtime
  * configuration (`pockethive.inputs/outputs.*`) which the control plane wires from the active swarm plan.
+ * {@code inboundQueue} is always the logical queue name; {@code inboundShards} lists the physical
+ * queues to consume when that queue is sharded.
  */
 public record WorkIoBindings(
     String inboundQueue,
+    List<String> inboundShards,
     String outboundQueue,
     String outboundExchange
 ) {
 
+    public WorkIoBindings(String inboundQueue, String outboundQueue, String outboundExchange) {
+        this(inboundQueue, List.of(), outboundQueue, outboundExchange);
+    }
+
     public static WorkIoBindings none() {
         return new WorkIoBindings(null, null, null);
     }
@@ -20,6 +30,10 @@ public record WorkIoBindings(
 
     public WorkIoBindings {
         inboundQueue = normalise(inboundQueue);
+        inboundShards = inboundShards == null ? List.of() : inboundShards.stream()
+            .map(WorkIoBindings::normalise)
+            .filter(Objects::nonNull)
+            .toList();
         outboundQueue = normalise(outboundQueue);
         outboundExchange = normalise(outboundExchange);
     }
@@ -28,6 +42,17 @@ public record WorkIoBindings(
         return inboundQueue != null;
     }
 
+    /**
+     * Queues a listener should consume: the shards of a sharded inbound queue, otherwise the inbound
+     * queue itself.
+     */
+    public List<String> inboundConsumeQueues() {
+        if (!inboundShards.isEmpty()) {
+            return inboundShards;
+        }
+        return inboundQueue == null ? List.of() : List.of(inboundQueue);
+    }
+
     public boolean hasOutboundQueue() {
         return outboundQueue != null;
     }
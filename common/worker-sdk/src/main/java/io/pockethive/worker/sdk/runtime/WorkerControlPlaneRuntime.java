@@ -14,8 +14,10 @@ import io.pockethive.controlplane.worker.WorkerControlPlane;
 import io.pockethive.controlplane.worker.WorkerSignalListener;
 import io.pockethive.controlplane.worker.WorkerStatusRequest;
 import io.pockethive.swarm.model.BeeConfigKeys;
+import io.pockethive.swarm.model.OutcomeHeaders;
 import io.pockethive.worker.sdk.api.StatusPublisher;
 import io.pockethive.worker.sdk.api.WorkItem;
+import io.pockethive.worker.sdk.api.WorkerWarmUp;
 import io.pockethive.worker.sdk.config.PocketHiveWorker;
 import io.pockethive.worker.sdk.config.RedisSequenceConfiguration;
 import io.pockethive.worker.sdk.config.WorkerCapability;
@@ -38,6 +40,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,6 +65,7 @@ public final class WorkerControlPlaneRuntime {
     private final List<Consumer<WorkerStateSnapshot>> globalStateListeners = new CopyOnWriteArrayList<>();
     private final ControlPlaneNotifier notifier;
     private final TemplateRenderer templateRenderer;
+    private final WorkErrorAggregator workErrorAggregator;
 
     /**
      * Tracks the most recent status-delta emission so we can derive a per-second throughput
@@ -101,6 +105,8 @@ public final class WorkerControlPlaneRuntime {
     );
 
     private final AtomicReference<String> lastWorkInputState = new AtomicReference<>(null);
+    private final Map<String, String> warmUpKeys = new ConcurrentHashMap<>();
+    private volatile Function<WorkerDefinition, Optional<WorkerWarmUp>> warmUpResolver = definition -> Optional.empty();
 
     public WorkerControlPlaneRuntime(
         WorkerControlPlane workerControlPlane,
@@ -121,6 +127,20 @@ public final class WorkerControlPlaneRuntime {
         ControlPlaneIdentity identity,
         WorkerControlPlaneProperties.ControlPlane controlPlane,
         TemplateRenderer templateRenderer
+    ) {
+        this(workerControlPlane, stateStore, objectMapper, emitter, identity, controlPlane, templateRenderer,
+            new WorkErrorAggregator(WorkErrorAggregator.DEFAULT_WINDOW));
+    }
+
+    public WorkerControlPlaneRuntime(
+        WorkerControlPlane workerControlPlane,
+        WorkerStateStore stateStore,
+        ObjectMapper objectMapper,
+        ControlPlaneEmitter emitter,
+        ControlPlaneIdentity identity,
+        WorkerControlPlaneProperties.ControlPlane controlPlane,
+        TemplateRenderer templateRenderer,
+        WorkErrorAggregator workErrorAggregator
     ) {
         this.workerControlPlane = Objects.requireNonNull(workerControlPlane, "workerControlPlane");
         this.stateStore = Objects.requireNonNull(stateStore, "stateStore");
@@ -129,6 +149,7 @@ public final class WorkerControlPlaneRuntime {
         this.identity = Objects.requireNonNull(identity, "identity");
         this.configMerger = new ConfigMerger(this.objectMapper);
         this.templateRenderer = templateRenderer;
+        this.workErrorAggregator = Objects.requireNonNull(workErrorAggregator, "workErrorAggregator");
         this.runtimeMeta = buildRuntimeMeta();
         WorkerControlPlaneProperties.ControlPlane resolvedControlPlane =
             Objects.requireNonNull(controlPlane, "controlPlane");
@@ -206,12 +227,26 @@ public final class WorkerControlPlaneRuntime {
      * <p>
      * Swarm journal projections will pick this up via the swarm-controller alert listener,
      * making worker failures visible in Hive UI without introducing new contracts.
+     * <p>
+     * Repeats of the same error are aggregated by {@link WorkErrorAggregator}: only the first
+     * occurrence is published here, the rest are reported by {@link #flushWorkErrorSummaries()}.
      */
     public void publishWorkError(String workerBeanName, WorkItem workItem, Throwable exception) {
         Objects.requireNonNull(workerBeanName, "workerBeanName");
         Objects.requireNonNull(workItem, "workItem");
         Objects.requireNonNull(exception, "exception");
 
+        Object callId = workItem.headers().get(OutcomeHeaders.CALL_ID);
+        Object status = workItem.headers().get(OutcomeHeaders.PROCESSOR_STATUS);
+        WorkErrorAggregator.Fingerprint fingerprint = WorkErrorAggregator.Fingerprint.of(
+            workerBeanName,
+            exception,
+            callId != null ? String.valueOf(callId) : null,
+            status != null ? String.valueOf(status) : null);
+        if (!workErrorAggregator.record(fingerprint, workItem.messageId(), exception.getMessage())) {
+            return;
+        }
+
         String correlationId = null;
         String idempotencyKey = null;
         Object correlationHeader = workItem.headers().get("correlationId");
@@ -229,7 +264,6 @@ public final class WorkerControlPlaneRuntime {
         if (workItem.messageId() != null) {
             context.put("messageId", workItem.messageId());
         }
-        Object callId = workItem.headers().get("x-ph-call-id");
         if (callId != null) {
             context.put("callId", String.valueOf(callId));
         }
@@ -254,6 +288,62 @@ public final class WorkerControlPlaneRuntime {
         ));
     }
 
+    /**
+     * Publish one summary alert per aggregated work error whose window has elapsed. The alert
+     * keeps the {@code runtime.exception} code and carries the suppressed count, the window and
+     * a few sample message ids in its context.
+     */
+    public void flushWorkErrorSummaries() {
+        List<WorkErrorAggregator.Summary> summaries = workErrorAggregator.flush();
+        if (summaries.isEmpty()) {
+            return;
+        }
+        ControlScope scope = ControlScope.forInstance(identity.swarmId(), identity.role(), identity.instanceId());
+        Instant now = Instant.now();
+        for (WorkErrorAggregator.Summary summary : summaries) {
+            WorkErrorAggregator.Fingerprint fingerprint = summary.fingerprint();
+            Map<String, Object> context = new LinkedHashMap<>();
+            context.put("phase", "work");
+            context.put("worker", fingerprint.worker());
+            if (fingerprint.callId() != null) {
+                context.put("callId", fingerprint.callId());
+            }
+            if (fingerprint.status() != null) {
+                context.put("status", fingerprint.status());
+            }
+            context.put("aggregated", true);
+            context.put("occurrences", summary.occurrences());
+            context.put("windowMs", summary.window().toMillis());
+            if (!summary.sampleMessageIds().isEmpty()) {
+                context.put("sampleMessageIds", summary.sampleMessageIds());
+            }
+            String errorType = fingerprint.isOverflow() ? null : fingerprint.errorType();
+            String detail = normalizeBlank(summary.lastMessage());
+            String headline = fingerprint.isOverflow()
+                ? "Assorted work errors"
+                : detail != null ? detail : fingerprint.errorType();
+            String message = "%s (%d more in %ds)".formatted(
+                headline, summary.occurrences(), Math.max(1L, summary.window().toSeconds()));
+            try {
+                emitter.publishAlert(Alerts.error(
+                    identity.instanceId(),
+                    scope,
+                    null,
+                    null,
+                    runtimeMeta,
+                    Alerts.Codes.RUNTIME_EXCEPTION,
+                    message,
+                    errorType,
+                    detail,
+                    null,
+                    context,
+                    now));
+            } catch (RuntimeException ex) {
+                log.warn("Failed to publish work error summary for worker {}", fingerprint.worker(), ex);
+            }
+        }
+    }
+
     /**
      * Publish a control-plane outcome (kind=event,type=outcome) for non-error worker journal entries.
      * This is intended for informational lifecycle events that must be visible in journal projections
@@ -330,6 +420,14 @@ public final class WorkerControlPlaneRuntime {
         }
     }
 
+    /**
+     * Registers how worker beans that support connection warm-up are looked up. The resolver is consulted
+     * lazily when a {@code warmup} action arrives, so worker beans are never instantiated early.
+     */
+    public void registerWarmUpResolver(Function<WorkerDefinition, Optional<WorkerWarmUp>> resolver) {
+        this.warmUpResolver = Objects.requireNonNull(resolver, "resolver");
+    }
+
     /**
      * Registers a listener that will be notified for every worker state change. Existing worker snapshots are
      * delivered immediately upon registration.
@@ -449,8 +547,11 @@ public final class WorkerControlPlaneRuntime {
                 state.updateRawConfig(mergeResult.rawConfig());
                 RedisSequenceConfiguration.configureFromWorkerConfig(mergeResult.rawConfig());
                 Map<String, Object> appliedConfig = mergeResult.replaced() ? mergeResult.rawConfig() : Map.of();
+                Map<String, Object> warmUp = filtered.warmUpConnections() != null
+                    ? warmUp(signal, state, filtered.warmUpConnections())
+                    : Map.of();
                 if (hasCorrelation(signal)) {
-                    notifier.emitConfigReady(signal, state, appliedConfig);
+                    notifier.emitConfigReady(signal, state, appliedConfig, warmUp);
                 } else {
                     log.warn(
                         "Skipping ready confirmation for signal {} due to missing correlation/idempotency",
@@ -502,9 +603,40 @@ public final class WorkerControlPlaneRuntime {
         emitStatusSnapshot();
     }
 
+    /**
+     * Runs the worker's connection warm-up once per signal. Re-sent copies of the same config-update carry
+     * the same idempotency key and are acknowledged without warming up again. Failures are reported in the
+     * confirmation but do not fail the config-update: connections are still opened lazily on first use.
+     */
+    private Map<String, Object> warmUp(ControlSignal signal, WorkerState state, int connections) {
+        WorkerDefinition definition = state.definition();
+        String key = signal.idempotencyKey();
+        if (key != null && key.equals(warmUpKeys.put(definition.beanName(), key))) {
+            return Map.of("skipped", "duplicate");
+        }
+        Optional<WorkerWarmUp> warmUp = warmUpResolver.apply(definition);
+        if (warmUp.isEmpty()) {
+            return Map.of();
+        }
+        long started = System.nanoTime();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        try {
+            Map<String, Object> result = warmUp.get().warmUp(connections, state.config(Object.class).orElse(null));
+            if (result != null) {
+                summary.putAll(result);
+            }
+        } catch (Exception ex) {
+            log.warn("Connection warm-up failed for worker {}", definition.beanName(), ex);
+            summary.put("error", ex.getMessage() == null ? ex.getClass().getSimpleName() : ex.getMessage());
+        }
+        summary.put("durationMs", (System.nanoTime() - started) / 1_000_000L);
+        log.info("Connection warm-up for worker {} finished: {}", definition.beanName(), summary);
+        return Map.copyOf(summary);
+    }
+
     private FilteredConfigUpdate preprocessConfigUpdate(Map<String, Object> source) {
         if (source == null || source.isEmpty()) {
-            return new FilteredConfigUpdate(Map.of(), false);
+            return new FilteredConfigUpdate(Map.of(), false, null);
         }
         Map<String, Object> filtered = new LinkedHashMap<>();
         source.forEach((key, value) -> {
@@ -527,10 +659,32 @@ public final class WorkerControlPlaneRuntime {
                 }
             }
         }
+        Integer warmUpConnections = null;
+        Object warmUp = filtered.remove("warmup");
+        if (warmUp instanceof Map<?, ?> map) {
+            warmUpConnections = positiveInt(map.get("connections"), 1);
+        } else if (isTruthy(warmUp)) {
+            warmUpConnections = 1;
+        }
         if (filtered.isEmpty()) {
-            return new FilteredConfigUpdate(Map.of(), reseedRequested);
+            return new FilteredConfigUpdate(Map.of(), reseedRequested, warmUpConnections);
+        }
+        return new FilteredConfigUpdate(Map.copyOf(filtered), reseedRequested, warmUpConnections);
+    }
+
+    private static int positiveInt(Object value, int fallback) {
+        if (value instanceof Number number && number.intValue() > 0) {
+            return number.intValue();
+        }
+        if (value instanceof String s) {
+            try {
+                int parsed = Integer.parseInt(s.trim());
+                return parsed > 0 ? parsed : fallback;
+            } catch (NumberFormatException ignored) {
+                return fallback;
+            }
         }
-        return new FilteredConfigUpdate(Map.copyOf(filtered), reseedRequested);
+        return fallback;
     }
 
     private static boolean isTruthy(Object value) {
@@ -550,7 +704,9 @@ public final class WorkerControlPlaneRuntime {
         return false;
     }
 
-    private record FilteredConfigUpdate(Map<String, Object> values, boolean reseedRequested) { }
+    private record FilteredConfigUpdate(Map<String, Object> values,
+                                        boolean reseedRequested,
+                                        Integer warmUpConnections) { }
 
     private String resolveSignalName(WorkerStatusRequest request) {
         ControlSignal signal = request.signal();
@@ -6,7 +6,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 
 /**
- * Periodically emits worker status deltas via the {@link WorkerControlPlaneRuntime}.
+ * Periodically emits worker status deltas and aggregated work error summaries via the
+ * {@link WorkerControlPlaneRuntime}.
  */
 public class WorkerStatusScheduler {
 
@@ -31,4 +32,9 @@ public class WorkerStatusScheduler {
         }
         controlPlaneRuntime.emitStatusDelta();
     }
+
+    @Scheduled(fixedDelay = 1000L)
+    public void flushWorkErrorSummaries() {
+        controlPlaneRuntime.flushWorkErrorSummaries();
+    }
 }
@@ -0,0 +1,84 @@
+package io.pockethive.worker.sdk.transport.http;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.DefaultSchemePortResolver;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.client5.http.routing.RoutingSupport;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+/**
+ * Opens pooled HTTP connections to a base URL before traffic starts.
+ * <p>
+ * Connections are leased from the pool, connected in parallel (including the TLS handshake) and released
+ * back as idle, so the first work items reuse them instead of paying for connection setup. Shared by the
+ * HTTP-speaking workers that implement {@link io.pockethive.worker.sdk.api.WorkerWarmUp}.
+ */
+public final class HttpPoolWarmUp {
+
+    // Matches the client's default keep-alive for responses without a Keep-Alive header.
+    private static final TimeValue KEEP_ALIVE = TimeValue.ofMinutes(3);
+
+    private HttpPoolWarmUp() {
+    }
+
+    /**
+     * @return number of connections opened; connections that were already open and idle are not counted
+     */
+    public static int warmUp(PoolingHttpClientConnectionManager manager,
+                             String baseUrl,
+                             int connections,
+                             Timeout timeout) throws Exception {
+        HttpHost target = RoutingSupport.normalize(HttpHost.create(URI.create(baseUrl)), DefaultSchemePortResolver.INSTANCE);
+        HttpRoute route = new HttpRoute(target, null, URIScheme.HTTPS.same(target.getSchemeName()));
+        int count = Math.min(connections, manager.getMaxPerRoute(route));
+        List<ConnectionEndpoint> leased = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                leased.add(manager.lease("warm-up-" + i, route, timeout, null).get(timeout));
+            }
+            List<Future<Boolean>> pending = new ArrayList<>(count);
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (ConnectionEndpoint endpoint : leased) {
+                    pending.add(executor.submit(() -> {
+                        if (endpoint.isConnected()) {
+                            return false;
+                        }
+                        manager.connect(endpoint, timeout, HttpClientContext.create());
+                        return true;
+                    }));
+                }
+            }
+            int opened = 0;
+            Exception failure = null;
+            for (Future<Boolean> future : pending) {
+                try {
+                    if (future.get()) {
+                        opened++;
+                    }
+                } catch (ExecutionException ex) {
+                    failure = ex.getCause() instanceof Exception cause ? cause : ex;
+                }
+            }
+            if (opened == 0 && failure != null) {
+                throw failure;
+            }
+            return opened;
+        } finally {
+            for (ConnectionEndpoint endpoint : leased) {
+                manager.release(endpoint, null, endpoint.isConnected() ? KEEP_ALIVE : TimeValue.ZERO_MILLISECONDS);
+            }
+        }
+    }
+}
@@ -19,6 +19,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Base64;
+import java.util.HexFormat;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -291,6 +292,9 @@ class AuthRuntimeTest {
             .matches("payload\\nmac=[0-9a-f]{64}");
         assertThat(runtime.applyIsoPayloadHex(refs.get(2), "0200A1B2", null, context))
             .matches("0200A1B2[0-9A-F]{64}");
+        assertThat(HexFormat.of().withUpperCase().formatHex(
+            runtime.isoPayloadMac(refs.get(2), HexFormat.of().parseHex("0200A1B2"), null, context)))
+            .isEqualTo(runtime.applyIsoPayloadHex(refs.get(2), "0200A1B2", null, context).substring(8));
         assertThat(runtime.transportOptions(refs.get(3), context))
             .containsEntry("ssl", true)
             .containsEntry("keyStorePath", "/certs/client.p12")
@@ -71,6 +71,38 @@ class RabbitWorkInputListenerConfigurerTest {
         verify(delegateListener).onMessage(message);
     }
 
+    @Test
+    void consumesAllShardsOfAShardedInboundQueue() {
+        WorkerDefinition definition = new WorkerDefinition(
+            "testWorker",
+            TestWorker.class,
+            WorkerInputType.RABBITMQ,
+            "moderator",
+            new WorkIoBindings(
+                "ph.swarm.generator",
+                List.of("ph.swarm.generator.s0", "ph.swarm.generator.s1"),
+                "ph.swarm.moderator",
+                "ph.control"),
+            TestConfig.class,
+            WorkInputConfig.class,
+            WorkOutputConfig.class,
+            WorkerOutputType.RABBITMQ,
+            "Test worker",
+            Set.of(WorkerCapability.MESSAGE_DRIVEN)
+        );
+        WorkInputRegistry inputRegistry = new WorkInputRegistry();
+        inputRegistry.register(definition, new TestRabbitWorkInput(delegateListener));
+
+        new RabbitWorkInputListenerConfigurer(new WorkerRegistry(List.of(definition)), inputRegistry)
+            .configureRabbitListeners(registrar);
+
+        ArgumentCaptor<RabbitListenerEndpoint> captor = ArgumentCaptor.forClass(RabbitListenerEndpoint.class);
+        verify(registrar).registerEndpoint(captor.capture());
+        SimpleRabbitListenerEndpoint endpoint = (SimpleRabbitListenerEndpoint) captor.getValue();
+        assertThat(endpoint.getQueueNames()).containsExactly("ph.swarm.generator.s0", "ph.swarm.generator.s1");
+        assertThat(definition.io().inboundQueue()).isEqualTo("ph.swarm.generator");
+    }
+
     private static final class TestRabbitWorkInput implements WorkInput, MessageListener {
 
         private final MessageListener delegate;
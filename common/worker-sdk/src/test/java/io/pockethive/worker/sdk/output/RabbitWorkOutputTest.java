@@ -6,6 +6,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 import io.pockethive.observability.ObservabilityContextUtil;
+import io.pockethive.swarm.model.WorkQueuePolicy;
 import io.pockethive.worker.sdk.api.WorkItem;
 import io.pockethive.worker.sdk.api.WorkerInfo;
 import io.pockethive.worker.sdk.config.RabbitOutputProperties;
@@ -44,4 +45,29 @@ class RabbitWorkOutputTest {
         assertThat(props.getContentType()).isEqualTo("application/json");
         assertThat(props.getHeaders()).isEmpty();
     }
+
+    @Test
+    void stampsShardKeyFromConfiguredWorkItemHeaderWhenSharded() {
+        RabbitTemplate template = mock(RabbitTemplate.class);
+        RabbitOutputProperties properties = new RabbitOutputProperties();
+        properties.setExchange("ex");
+        properties.setRoutingKey("rk");
+        properties.setSharded(true);
+        properties.setShardKeyHeader("customerId");
+        RabbitWorkOutput output = new RabbitWorkOutput(template, properties);
+
+        WorkerInfo info = new WorkerInfo("processor", "swarm", "instance", null, null);
+        WorkItem keyed = WorkItem.json(info, Map.of("status", 200)).header("customerId", 42).build();
+        WorkItem unkeyed = WorkItem.json(info, Map.of("status", 200)).build();
+
+        output.publish(keyed, mock(WorkerDefinition.class));
+        output.publish(unkeyed, mock(WorkerDefinition.class));
+
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(template, org.mockito.Mockito.times(2)).send(eq("ex"), eq("rk"), captor.capture());
+        assertThat(captor.getAllValues().get(0).getMessageProperties().getHeaders())
+            .containsEntry(WorkQueuePolicy.SHARD_KEY_HEADER, "42");
+        assertThat(captor.getAllValues().get(1).getMessageProperties().getHeaders())
+            .containsKey(WorkQueuePolicy.SHARD_KEY_HEADER);
+    }
 }
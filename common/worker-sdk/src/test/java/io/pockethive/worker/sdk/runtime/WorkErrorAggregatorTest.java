@@ -0,0 +1,87 @@
+package io.pockethive.worker.sdk.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class WorkErrorAggregatorTest {
+
+    private final AtomicLong now = new AtomicLong(1_000L);
+    private final WorkErrorAggregator aggregator =
+        new WorkErrorAggregator(Duration.ofSeconds(10), 2, 2, now::get);
+
+    @Test
+    void publishesFirstOccurrenceAndSummarisesRepeatsAfterWindow() {
+        WorkErrorAggregator.Fingerprint fingerprint = fingerprint("Connection refused: sut/10.0.0.7:8080");
+
+        assertThat(aggregator.record(fingerprint, "m1", "Connection refused")).isTrue();
+        assertThat(aggregator.record(fingerprint, "m2", "Connection refused")).isFalse();
+        assertThat(aggregator.record(fingerprint, "m3", "Connection refused")).isFalse();
+        assertThat(aggregator.record(fingerprint, "m4", "Connection refused")).isFalse();
+        assertThat(aggregator.flush()).isEmpty();
+
+        now.addAndGet(10_000L);
+        List<WorkErrorAggregator.Summary> summaries = aggregator.flush();
+
+        assertThat(summaries).singleElement().satisfies(summary -> {
+            assertThat(summary.occurrences()).isEqualTo(3);
+            assertThat(summary.sampleMessageIds()).containsExactly("m2", "m3");
+            assertThat(summary.window()).isEqualTo(Duration.ofSeconds(10));
+        });
+        // Still failing: repeats stay suppressed until a window passes without any.
+        assertThat(aggregator.record(fingerprint, "m5", "Connection refused")).isFalse();
+    }
+
+    @Test
+    void forgetsFingerprintAfterQuietWindow() {
+        WorkErrorAggregator.Fingerprint fingerprint = fingerprint("boom");
+        assertThat(aggregator.record(fingerprint, "m1", "boom")).isTrue();
+
+        now.addAndGet(10_000L);
+        assertThat(aggregator.flush()).isEmpty();
+
+        assertThat(aggregator.record(fingerprint, "m2", "boom")).isTrue();
+    }
+
+    @Test
+    void messagesDifferingOnlyByIdsShareFingerprint() {
+        assertThat(WorkErrorAggregator.messageTemplate(
+            "Timeout after 3000 ms for call 1b4e28ba-2fa1-11d2-883f-0016d3cca427"))
+            .isEqualTo("Timeout after # ms for call <uuid>");
+        assertThat(fingerprint("Read timed out on port 41234"))
+            .isEqualTo(fingerprint("Read timed out on port 50122"));
+    }
+
+    @Test
+    void foldsNewFingerprintsIntoOverflowBeyondLimit() {
+        assertThat(aggregator.record(fingerprint("a"), "m1", "a")).isTrue();
+        assertThat(aggregator.record(fingerprint("b"), "m2", "b")).isTrue();
+        // The overflow entry behaves like any fingerprint: its first error is published.
+        assertThat(aggregator.record(fingerprint("c"), "m3", "c")).isTrue();
+        assertThat(aggregator.record(fingerprint("d"), "m4", "d")).isFalse();
+
+        now.addAndGet(10_000L);
+
+        assertThat(aggregator.flush()).singleElement().satisfies(summary -> {
+            assertThat(summary.fingerprint().isOverflow()).isTrue();
+            assertThat(summary.occurrences()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void zeroWindowPublishesEveryError() {
+        WorkErrorAggregator disabled = new WorkErrorAggregator(Duration.ZERO);
+        WorkErrorAggregator.Fingerprint fingerprint = fingerprint("boom");
+
+        assertThat(disabled.record(fingerprint, "m1", "boom")).isTrue();
+        assertThat(disabled.record(fingerprint, "m2", "boom")).isTrue();
+        assertThat(disabled.flush()).isEmpty();
+    }
+
+    private static WorkErrorAggregator.Fingerprint fingerprint(String message) {
+        return WorkErrorAggregator.Fingerprint.of("worker", new IllegalStateException(message), "call-1", "503");
+    }
+}
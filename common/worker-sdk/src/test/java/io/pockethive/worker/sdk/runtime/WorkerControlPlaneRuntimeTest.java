@@ -21,10 +21,13 @@ import io.pockethive.worker.sdk.config.WorkerOutputType;
 import io.pockethive.worker.sdk.testing.ControlPlaneTestFixtures;
 import io.pockethive.templating.TemplateRenderer;
 import io.pockethive.controlplane.spring.WorkerControlPlaneProperties;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -213,6 +216,39 @@ class WorkerControlPlaneRuntimeTest {
 	        assertThat(seededRuntime.workerRawConfig(definition.beanName())).doesNotContainKey("templating");
 	    }
 
+    @Test
+    void configUpdateWarmUpRunsOncePerSignalBeforeConfirming() throws Exception {
+        AtomicLong warmUps = new AtomicLong();
+        runtime.registerWarmUpResolver(def -> Optional.of((connections, config) -> {
+            warmUps.incrementAndGet();
+            return Map.of("http", connections);
+        }));
+        ControlSignal signal = ControlSignal.forInstance(
+            "config-update",
+            IDENTITY.swarmId(),
+            IDENTITY.role(),
+            IDENTITY.instanceId(),
+            ORIGIN,
+            UUID.randomUUID().toString(),
+            UUID.randomUUID().toString(),
+            Map.of("warmup", Map.of("connections", 3))
+        );
+        String payload = MAPPER.writeValueAsString(signal);
+        String routingKey = ControlPlaneRouting.signal("config-update", IDENTITY.swarmId(), IDENTITY.role(), IDENTITY.instanceId());
+
+        runtime.handle(payload, routingKey);
+        runtime.handle(payload, routingKey);
+
+        assertThat(warmUps.get()).isEqualTo(1);
+        assertThat(runtime.workerRawConfig(definition.beanName())).doesNotContainKey("warmup");
+        ArgumentCaptor<ControlPlaneEmitter.ReadyContext> captor = ArgumentCaptor.forClass(ControlPlaneEmitter.ReadyContext.class);
+        verify(emitter, times(2)).emitReady(captor.capture());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> first = (Map<String, Object>) captor.getAllValues().get(0).details().get("warmup");
+        assertThat(first).containsEntry("http", 3).containsKey("durationMs");
+        assertThat(captor.getAllValues().get(1).details().get("warmup")).isEqualTo(Map.of("skipped", "duplicate"));
+    }
+
 	    @Test
 	    void configUpdateValidationFailureEmitsErrorContext() throws Exception {
 	        String correlationId = UUID.randomUUID().toString();
@@ -521,6 +557,41 @@ class WorkerControlPlaneRuntimeTest {
             .containsEntry("traceId", trace.getTraceId());
     }
 
+    @Test
+    void publishWorkErrorAggregatesRepeatsIntoSummaryAlert() {
+        AtomicLong now = new AtomicLong(0L);
+        WorkErrorAggregator aggregator = new WorkErrorAggregator(Duration.ofSeconds(5), 16, 2, now::get);
+        WorkerControlPlaneRuntime aggregating = new WorkerControlPlaneRuntime(controlPlane, stateStore, MAPPER,
+            emitter, IDENTITY, PROPERTIES.getControlPlane(), null, aggregator);
+        reset(emitter);
+        WorkerInfo info = new WorkerInfo("worker", IDENTITY.swarmId(), IDENTITY.instanceId(), null, null);
+        for (int i = 1; i <= 4; i++) {
+            WorkItem item = WorkItem.text(info, "payload")
+                .messageId("mid-" + i)
+                .header("x-ph-call-id", "login")
+                .build();
+            aggregating.publishWorkError(definition.beanName(), item,
+                new IllegalStateException("Connection refused after " + (100 + i) + " ms"));
+        }
+
+        verify(emitter, times(1)).publishAlert(any(AlertMessage.class));
+
+        now.set(5_000L);
+        aggregating.flushWorkErrorSummaries();
+
+        ArgumentCaptor<AlertMessage> alertCaptor = ArgumentCaptor.forClass(AlertMessage.class);
+        verify(emitter, times(2)).publishAlert(alertCaptor.capture());
+        AlertMessage summary = alertCaptor.getAllValues().get(1);
+        assertThat(summary.data().code()).isEqualTo("runtime.exception");
+        assertThat(summary.data().message()).isEqualTo("Connection refused after 104 ms (3 more in 5s)");
+        assertThat(summary.data().context())
+            .containsEntry("worker", definition.beanName())
+            .containsEntry("callId", "login")
+            .containsEntry("aggregated", true)
+            .containsEntry("occurrences", 3L)
+            .containsEntry("sampleMessageIds", List.of("mid-2", "mid-3"));
+    }
+
     @Test
     void publishWorkJournalEventEmitsOutcomeReadyContext() {
         ObservabilityContext trace = ObservabilityContextUtil.init("worker", IDENTITY.instanceId(), IDENTITY.swarmId());
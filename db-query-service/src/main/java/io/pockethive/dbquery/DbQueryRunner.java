@@ -1,6 +1,8 @@
 package io.pockethive.dbquery;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.pockethive.swarm.model.OutcomeHeaders;
 import io.pockethive.worker.sdk.api.WorkItem;
 import io.pockethive.worker.sdk.api.WorkerContext;
@@ -9,6 +11,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 class DbQueryRunner {
@@ -20,6 +24,7 @@ class DbQueryRunner {
 
   private volatile String lastTemplateConfigKey;
   private volatile Map<String, DbQueryTemplate> templates;
+  private final Map<String, NamedSql> parsedSql = new ConcurrentHashMap<>();
 
   DbQueryRunner(ObjectMapper mapper,
                 DbQueryTemplateLoader templateLoader,
@@ -45,7 +50,7 @@ class DbQueryRunner {
 
     DbValueResolver resolver = new DbValueResolver(mapper, item, config.vars());
     BoundSql boundSql = bindSql(template, resolver);
-    Attempt attempt = executeWithRetry(config, template, boundSql);
+    Attempt attempt = executeWithRetry(context, config, template, boundSql);
     validateResult(template, attempt.result());
 
     Map<String, Object> payload = resolver.payloadAsMap();
@@ -60,7 +65,7 @@ class DbQueryRunner {
   }
 
   private BoundSql bindSql(DbQueryTemplate template, DbValueResolver resolver) {
-    NamedSql parsed = sqlParser.parse(template.sqlTemplate());
+    NamedSql parsed = parsedSql.computeIfAbsent(template.sqlTemplate(), sqlParser::parse);
     Map<String, DbQueryTemplate.Param> paramsByName = new LinkedHashMap<>();
     for (DbQueryTemplate.Param param : template.params()) {
       DbQueryTemplate.Param previous = paramsByName.putIfAbsent(param.name(), param);
@@ -87,17 +92,21 @@ class DbQueryRunner {
     return new BoundSql(parsed.jdbcSql(), values, orderedParams);
   }
 
-  private Attempt executeWithRetry(DbQueryWorkerConfig config,
+  private Attempt executeWithRetry(WorkerContext context,
+                                   DbQueryWorkerConfig config,
                                    DbQueryTemplate template,
                                    BoundSql sql) throws Exception {
     DbQueryWorkerConfig.Retry retry = config.retry();
     int maxAttempts = retry == null ? 1 : retry.maxAttempts();
     Exception last = null;
     for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+      long started = System.nanoTime();
       try {
         DbExecutionResult result = executor.execute(config, template, sql);
+        recordLatency(context, template, "success", started);
         return new Attempt(result, attempt);
       } catch (Exception ex) {
+        recordLatency(context, template, "error", started);
         last = ex;
         if (attempt >= maxAttempts || !shouldRetry(retry, ex)) {
           throw ex;
@@ -116,6 +125,29 @@ class DbQueryRunner {
     throw last == null ? new IllegalStateException("DB query failed without an exception") : last;
   }
 
+  /**
+   * Records one statement attempt in {@code ph_db_query_latency}, tagged per template. With batching enabled this
+   * includes the time spent waiting for the batch to fill.
+   */
+  private static void recordLatency(WorkerContext context, DbQueryTemplate template, String outcome, long startedNanos) {
+    MeterRegistry registry = context.meterRegistry();
+    if (registry == null) {
+      return;
+    }
+    Timer.builder("ph_db_query_latency")
+        .description("DB query statement latency per template")
+        .tag("ph_role", context.info().role())
+        .tag("ph_instance", context.info().instanceId())
+        .tag("ph_swarm", context.info().swarmId())
+        .tag("service_id", template.serviceId())
+        .tag("query_id", template.queryId())
+        .tag("statement_type", template.statementType().name())
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(registry)
+        .record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+  }
+
   private boolean shouldRetry(DbQueryWorkerConfig.Retry retry, Exception ex) {
     if (retry == null || retry.on().isEmpty()) {
       return false;
@@ -315,6 +347,7 @@ class DbQueryRunner {
     Map<String, DbQueryTemplate> current = templates;
     if (current == null || !key.equals(lastTemplateConfigKey)) {
       templates = templateLoader.load(config.templateRoot(), config.serviceId());
+      parsedSql.clear();
       lastTemplateConfigKey = key;
     }
   }
@@ -95,6 +95,10 @@ record DbQueryTemplate(
     static Validation empty() {
       return new Validation(null, null, null, null, List.of());
     }
+
+    boolean checksAffectedRows() {
+      return minAffectedRows != null || maxAffectedRows != null;
+    }
   }
 
   record ColumnCheck(String name, Object equals, Boolean notNull, String regex) {
@@ -15,6 +15,7 @@ public record DbQueryWorkerConfig(
     Connection connection,
     Pool pool,
     Retry retry,
+    Execution execution,
     Map<String, Object> vars
 ) implements MaxInFlightConfig {
 
@@ -39,6 +40,7 @@ public record DbQueryWorkerConfig(
       throw new IllegalArgumentException("retry is required");
     }
     connection = Objects.requireNonNull(connection, "connection");
+    execution = execution == null ? Execution.defaults() : execution;
     vars = vars == null ? Map.of() : Map.copyOf(vars);
   }
 
@@ -135,6 +137,47 @@ public record DbQueryWorkerConfig(
     }
   }
 
+  /**
+   * Throughput knobs for load scenarios. All of them are off by default, which keeps the one statement per work
+   * item behaviour.
+   *
+   * @param statementCacheSize driver-side prepared statement cache per connection; {@code 0} keeps driver defaults
+   * @param batchSize          INSERT/UPDATE work items grouped into one JDBC batch; {@code 0} or {@code 1} disables
+   *                           batching. Only concurrently running items can join a batch, so it is effectively
+   *                           capped at {@code threadCount}
+   * @param batchLingerMs      how long the first item of a batch waits for others before executing it
+   * @param fetchSize          rows fetched per round trip for SELECTs; {@code 0} keeps driver defaults
+   */
+  public record Execution(
+      int statementCacheSize,
+      int batchSize,
+      long batchLingerMs,
+      int fetchSize
+  ) {
+    public Execution {
+      if (statementCacheSize < 0) {
+        throw new IllegalArgumentException("execution.statementCacheSize must be >= 0");
+      }
+      if (batchSize < 0) {
+        throw new IllegalArgumentException("execution.batchSize must be >= 0");
+      }
+      if (batchLingerMs < 0L) {
+        throw new IllegalArgumentException("execution.batchLingerMs must be >= 0");
+      }
+      if (fetchSize < 0) {
+        throw new IllegalArgumentException("execution.fetchSize must be >= 0");
+      }
+    }
+
+    static Execution defaults() {
+      return new Execution(0, 0, 0L, 0);
+    }
+
+    boolean batched() {
+      return batchSize > 1;
+    }
+  }
+
   static String normalise(String value) {
     return value == null || value.isBlank() ? null : value.trim();
   }
@@ -4,8 +4,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.pockethive.worker.sdk.api.PocketHiveWorkerFunction;
 import io.pockethive.worker.sdk.api.WorkItem;
 import io.pockethive.worker.sdk.api.WorkerContext;
+import io.pockethive.worker.sdk.api.WorkerWarmUp;
 import io.pockethive.worker.sdk.config.PocketHiveWorker;
 import io.pockethive.worker.sdk.config.WorkerCapability;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -14,12 +16,14 @@ import org.springframework.stereotype.Component;
     capabilities = {WorkerCapability.MESSAGE_DRIVEN},
     config = DbQueryWorkerConfig.class
 )
-class DbQueryWorkerImpl implements PocketHiveWorkerFunction {
+class DbQueryWorkerImpl implements PocketHiveWorkerFunction, WorkerWarmUp {
 
+  private final DbStatementExecutor executor;
   private final DbQueryRunner runner;
 
   @Autowired
   DbQueryWorkerImpl(ObjectMapper mapper, DbQueryWorkerProperties properties, DbStatementExecutor executor) {
+    this.executor = executor;
     this.runner = new DbQueryRunner(
         mapper,
         new DbQueryTemplateLoader(),
@@ -39,4 +43,12 @@ class DbQueryWorkerImpl implements PocketHiveWorkerFunction {
             .data("poolMaxSize", config.pool() == null ? null : config.pool().maxSize()));
     return runner.run(item, context, config);
   }
+
+  @Override
+  public Map<String, Object> warmUp(int connections, Object config) throws Exception {
+    if (!(config instanceof DbQueryWorkerConfig dbConfig)) {
+      return Map.of();
+    }
+    return Map.of("jdbc", executor.warmUp(dbConfig, connections));
+  }
 }
@@ -6,6 +6,15 @@ interface DbStatementExecutor extends AutoCloseable {
 
   DbExecutionResult execute(DbQueryWorkerConfig config, DbQueryTemplate template, BoundSql sql) throws SQLException;
 
+  /**
+   * Opens up to {@code connections} pooled connections for {@code config} before traffic starts.
+   *
+   * @return number of connections held open at once
+   */
+  default int warmUp(DbQueryWorkerConfig config, int connections) throws SQLException {
+    return 0;
+  }
+
   @Override
   default void close() {
   }
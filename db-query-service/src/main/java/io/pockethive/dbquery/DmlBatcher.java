@@ -0,0 +1,109 @@
+package io.pockethive.dbquery;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Groups concurrent INSERT/UPDATE executions of the same SQL into JDBC batches.
+ * <p>
+ * The first caller for a statement leads the batch: it waits until {@code batchSize} callers have joined or the
+ * linger time has passed, executes all rows through one {@code executeBatch} and hands every caller its own
+ * update count. A failed batch fails every caller, so each work item can still be retried on its own.
+ */
+final class DmlBatcher {
+
+  @FunctionalInterface
+  interface BatchRunner {
+    int[] run(String jdbcSql, List<List<Object>> rows) throws SQLException;
+  }
+
+  private final Map<String, Batch> open = new HashMap<>();
+
+  /**
+   * @return update count reported for this row, or {@code null} when the driver reports
+   *     {@link Statement#SUCCESS_NO_INFO}
+   */
+  Integer execute(String jdbcSql,
+                  List<Object> values,
+                  int batchSize,
+                  long lingerMs,
+                  BatchRunner runner) throws SQLException {
+    Batch batch;
+    int index;
+    synchronized (open) {
+      batch = open.computeIfAbsent(jdbcSql, ignored -> new Batch());
+      index = batch.rows.size();
+      batch.rows.add(values);
+      if (batch.rows.size() >= batchSize) {
+        open.remove(jdbcSql);
+        batch.full.countDown();
+      }
+    }
+    if (index == 0) {
+      lead(jdbcSql, batch, lingerMs, runner);
+    }
+    return batch.countFor(index);
+  }
+
+  private void lead(String jdbcSql, Batch batch, long lingerMs, BatchRunner runner) {
+    boolean interrupted = false;
+    try {
+      batch.full.await(lingerMs, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException ex) {
+      // Other callers are already waiting on this batch, so it still has to run.
+      interrupted = true;
+    }
+    List<List<Object>> rows;
+    synchronized (open) {
+      open.remove(jdbcSql, batch);
+      rows = List.copyOf(batch.rows);
+    }
+    try {
+      batch.result.complete(runner.run(jdbcSql, rows));
+    } catch (SQLException | RuntimeException ex) {
+      batch.result.completeExceptionally(ex);
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private static final class Batch {
+    private final List<List<Object>> rows = new ArrayList<>();
+    private final CountDownLatch full = new CountDownLatch(1);
+    private final CompletableFuture<int[]> result = new CompletableFuture<>();
+
+    Integer countFor(int index) throws SQLException {
+      int[] counts;
+      try {
+        counts = result.get();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new SQLException("Interrupted while waiting for JDBC batch", ex);
+      } catch (ExecutionException ex) {
+        // Every caller rethrows, so hand each one its own exception that keeps the SQLSTATE for retry matching.
+        if (ex.getCause() instanceof SQLException sql) {
+          throw new SQLException(sql.getMessage(), sql.getSQLState(), sql.getErrorCode(), sql);
+        }
+        if (ex.getCause() instanceof RuntimeException runtime) {
+          throw new IllegalStateException(runtime.getMessage(), runtime);
+        }
+        throw new SQLException("JDBC batch failed", ex.getCause());
+      }
+      int count = index < counts.length ? counts[index] : Statement.SUCCESS_NO_INFO;
+      if (count == Statement.EXECUTE_FAILED) {
+        throw new SQLException("Batched statement " + (index + 1) + " of " + counts.length + " failed");
+      }
+      return count == Statement.SUCCESS_NO_INFO ? null : count;
+    }
+  }
+}
@@ -18,35 +18,98 @@ import org.springframework.stereotype.Component;
 class JdbcDbStatementExecutor implements DbStatementExecutor {
 
   private final AtomicReference<PoolState> state = new AtomicReference<>();
+  private final DmlBatcher batcher = new DmlBatcher();
 
   @Override
   public DbExecutionResult execute(DbQueryWorkerConfig config, DbQueryTemplate template, BoundSql sql) throws SQLException {
     HikariDataSource dataSource = dataSource(config);
     long start = System.nanoTime();
+    if (usesBatch(config, template)) {
+      return executeBatched(dataSource, config, template, sql, start);
+    }
+    boolean cursor = usesCursor(config, template);
     try (Connection connection = dataSource.getConnection();
          PreparedStatement statement = connection.prepareStatement(sql.jdbcSql())) {
-      int timeoutSeconds = queryTimeoutSeconds(config.queryTimeoutMs());
-      if (timeoutSeconds > 0) {
-        statement.setQueryTimeout(timeoutSeconds);
+      applyQueryTimeout(config, statement);
+      bind(statement, sql.values());
+      if (cursor) {
+        // PostgreSQL only honours the fetch size inside a transaction; Hikari restores auto-commit on return.
+        connection.setAutoCommit(false);
       }
-      for (int i = 0; i < sql.values().size(); i++) {
-        statement.setObject(i + 1, sql.values().get(i));
+      DbExecutionResult result = executeStatement(config, template, statement, start);
+      if (cursor) {
+        connection.commit();
       }
-      DbExecutionResult result = executeStatement(template, statement, start);
       return result;
     }
   }
 
-  private DbExecutionResult executeStatement(DbQueryTemplate template,
+  private DbExecutionResult executeBatched(HikariDataSource dataSource,
+                                           DbQueryWorkerConfig config,
+                                           DbQueryTemplate template,
+                                           BoundSql sql,
+                                           long start) throws SQLException {
+    requireUpdateResultMode(template);
+    DbQueryWorkerConfig.Execution execution = config.execution();
+    Integer count = batcher.execute(
+        sql.jdbcSql(),
+        sql.values(),
+        execution.batchSize(),
+        execution.batchLingerMs(),
+        (jdbcSql, rows) -> executeBatch(dataSource, config, jdbcSql, rows));
+    Integer updateCount = template.result().mode() == DbQueryTemplate.ResultMode.NONE ? null : count;
+    return new DbExecutionResult(List.of(), updateCount, elapsedMs(start));
+  }
+
+  private int[] executeBatch(HikariDataSource dataSource,
+                             DbQueryWorkerConfig config,
+                             String jdbcSql,
+                             List<List<Object>> rows) throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+         PreparedStatement statement = connection.prepareStatement(jdbcSql)) {
+      applyQueryTimeout(config, statement);
+      for (List<Object> values : rows) {
+        bind(statement, values);
+        statement.addBatch();
+      }
+      return statement.executeBatch();
+    }
+  }
+
+  /**
+   * Borrows up to {@code connections} connections (capped at the pool's max size) at the same time so Hikari has
+   * to open that many, then hands them back as idle. Connections above {@code minIdle} are retired again after
+   * the pool's idle timeout.
+   */
+  @Override
+  public int warmUp(DbQueryWorkerConfig config, int connections) throws SQLException {
+    HikariDataSource dataSource = dataSource(config);
+    int count = Math.min(connections, dataSource.getMaximumPoolSize());
+    List<Connection> held = new ArrayList<>(count);
+    try {
+      for (int i = 0; i < count; i++) {
+        held.add(dataSource.getConnection());
+      }
+      return held.size();
+    } finally {
+      for (Connection connection : held) {
+        connection.close();
+      }
+    }
+  }
+
+  private DbExecutionResult executeStatement(DbQueryWorkerConfig config,
+                                             DbQueryTemplate template,
                                              PreparedStatement statement,
                                              long start) throws SQLException {
     return switch (template.statementType()) {
-      case SELECT -> executeSelect(template, statement, start);
+      case SELECT -> executeSelect(config, template, statement, start);
       case INSERT, UPDATE -> executeUpdate(template, statement, start);
     };
   }
 
-  private DbExecutionResult executeSelect(DbQueryTemplate template,
+  private DbExecutionResult executeSelect(DbQueryWorkerConfig config,
+                                          DbQueryTemplate template,
                                           PreparedStatement statement,
                                           long start) throws SQLException {
     if (template.result().mode() != DbQueryTemplate.ResultMode.FIRST_ROW
@@ -54,6 +117,11 @@ class JdbcDbStatementExecutor implements DbStatementExecutor {
         && template.result().mode() != DbQueryTemplate.ResultMode.NONE) {
       throw new IllegalArgumentException("SELECT requires result.mode FIRST_ROW, ALL_ROWS, or NONE");
     }
+    if (template.result().mode() == DbQueryTemplate.ResultMode.FIRST_ROW) {
+      statement.setMaxRows(1);
+    } else if (config.execution().fetchSize() > 0) {
+      statement.setFetchSize(config.execution().fetchSize());
+    }
     boolean hasResultSet = statement.execute();
     if (!hasResultSet) {
       throw new SQLException("SELECT did not return a result set");
@@ -70,23 +138,62 @@ class JdbcDbStatementExecutor implements DbStatementExecutor {
   private DbExecutionResult executeUpdate(DbQueryTemplate template,
                                           PreparedStatement statement,
                                           long start) throws SQLException {
+    requireUpdateResultMode(template);
+    int count = statement.executeUpdate();
+    Integer updateCount = template.result().mode() == DbQueryTemplate.ResultMode.NONE ? null : count;
+    return new DbExecutionResult(List.of(), updateCount, elapsedMs(start));
+  }
+
+  private static void requireUpdateResultMode(DbQueryTemplate template) {
     if (template.result().mode() != DbQueryTemplate.ResultMode.UPDATE_COUNT
         && template.result().mode() != DbQueryTemplate.ResultMode.NONE) {
       throw new IllegalArgumentException(template.statementType() + " requires result.mode UPDATE_COUNT or NONE");
     }
-    int count = statement.executeUpdate();
-    Integer updateCount = template.result().mode() == DbQueryTemplate.ResultMode.NONE ? null : count;
-    return new DbExecutionResult(List.of(), updateCount, elapsedMs(start));
+  }
+
+  /**
+   * Batched INSERTs on PostgreSQL are rewritten into multi-row statements that report
+   * {@link java.sql.Statement#SUCCESS_NO_INFO}, so templates validating affected rows run on their own to keep
+   * an exact update count.
+   */
+  private static boolean usesBatch(DbQueryWorkerConfig config, DbQueryTemplate template) {
+    return config.execution().batched()
+        && template.statementType() != DbQueryTemplate.StatementType.SELECT
+        && !template.validation().checksAffectedRows();
+  }
+
+  private static boolean usesCursor(DbQueryWorkerConfig config, DbQueryTemplate template) {
+    return config.adapter() == DbQueryWorkerConfig.Adapter.POSTGRES
+        && config.execution().fetchSize() > 0
+        && template.statementType() == DbQueryTemplate.StatementType.SELECT
+        && template.result().mode() == DbQueryTemplate.ResultMode.ALL_ROWS;
+  }
+
+  private static void applyQueryTimeout(DbQueryWorkerConfig config, PreparedStatement statement) throws SQLException {
+    int timeoutSeconds = queryTimeoutSeconds(config.queryTimeoutMs());
+    if (timeoutSeconds > 0) {
+      statement.setQueryTimeout(timeoutSeconds);
+    }
+  }
+
+  private static void bind(PreparedStatement statement, List<Object> values) throws SQLException {
+    for (int i = 0; i < values.size(); i++) {
+      statement.setObject(i + 1, values.get(i));
+    }
   }
 
   private List<Map<String, Object>> readRows(ResultSet rs, boolean firstOnly) throws SQLException {
     List<Map<String, Object>> rows = new ArrayList<>();
     ResultSetMetaData meta = rs.getMetaData();
     int columns = meta.getColumnCount();
+    String[] labels = new String[columns];
+    for (int i = 1; i <= columns; i++) {
+      labels[i - 1] = meta.getColumnLabel(i);
+    }
     while (rs.next()) {
       Map<String, Object> row = new LinkedHashMap<>();
       for (int i = 1; i <= columns; i++) {
-        row.put(meta.getColumnLabel(i), rs.getObject(i));
+        row.put(labels[i - 1], rs.getObject(i));
       }
       rows.add(row);
       if (firstOnly) {
@@ -133,9 +240,30 @@ class JdbcDbStatementExecutor implements DbStatementExecutor {
     if (key.pool().maxLifetimeMs() > 0L) {
       hikari.setMaxLifetime(key.pool().maxLifetimeMs());
     }
+    applyDriverProperties(hikari, key);
     return new HikariDataSource(hikari);
   }
 
+  private static void applyDriverProperties(HikariConfig hikari, PoolKey key) {
+    switch (key.adapter()) {
+      case POSTGRES -> {
+        if (key.statementCacheSize() > 0) {
+          // Server-prepare on first use instead of the fifth, and keep that many statements per connection.
+          hikari.addDataSourceProperty("prepareThreshold", "1");
+          hikari.addDataSourceProperty("preparedStatementCacheQueries", String.valueOf(key.statementCacheSize()));
+        }
+        if (key.batched()) {
+          hikari.addDataSourceProperty("reWriteBatchedInserts", "true");
+        }
+      }
+      case ORACLE -> {
+        if (key.statementCacheSize() > 0) {
+          hikari.addDataSourceProperty("oracle.jdbc.implicitStatementCacheSize", String.valueOf(key.statementCacheSize()));
+        }
+      }
+    }
+  }
+
   private static int queryTimeoutSeconds(int timeoutMs) {
     if (timeoutMs <= 0) {
       return 0;
@@ -160,7 +288,9 @@ class JdbcDbStatementExecutor implements DbStatementExecutor {
       String jdbcUrl,
       String username,
       String password,
-      DbQueryWorkerConfig.Pool pool
+      DbQueryWorkerConfig.Pool pool,
+      int statementCacheSize,
+      boolean batched
   ) {
     static PoolKey from(DbQueryWorkerConfig config) {
       if (config.adapter() == null) {
@@ -177,7 +307,9 @@ class JdbcDbStatementExecutor implements DbStatementExecutor {
           config.connection().jdbcUrl(),
           config.connection().username(),
           config.connection().password(),
-          config.pool());
+          config.pool(),
+          config.execution().statementCacheSize(),
+          config.execution().batched());
     }
   }
 
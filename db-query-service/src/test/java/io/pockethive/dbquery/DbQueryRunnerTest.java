@@ -117,6 +117,7 @@ class DbQueryRunnerTest {
         connection(),
         pool(),
         new DbQueryWorkerConfig.Retry(2, 0, 1.0, 0, List.of("SQLSTATE_CLASS_08")),
+        null,
         Map.of());
 
     WorkItem out = newRunner(executor).run(seed("{\"probeId\":\"P-1\"}"), context(), config);
@@ -184,6 +185,7 @@ class DbQueryRunnerTest {
         connection(),
         pool(),
         DbQueryWorkerConfig.Retry.noRetry(),
+        null,
         Map.of());
   }
 
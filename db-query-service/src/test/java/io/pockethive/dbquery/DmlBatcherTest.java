@@ -0,0 +1,73 @@
+package io.pockethive.dbquery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class DmlBatcherTest {
+
+  private final DmlBatcher batcher = new DmlBatcher();
+  private final List<List<List<Object>>> batches = new CopyOnWriteArrayList<>();
+
+  @Test
+  void concurrentCallersShareOneBatchAndGetTheirOwnCounts() throws Exception {
+    DmlBatcher.BatchRunner runner = (sql, rows) -> {
+      batches.add(rows);
+      int[] counts = new int[rows.size()];
+      for (int i = 0; i < rows.size(); i++) {
+        counts[i] = (Integer) rows.get(i).getFirst();
+      }
+      return counts;
+    };
+
+    List<Future<Integer>> results = new ArrayList<>();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 1; i <= 3; i++) {
+        int value = i;
+        results.add(executor.submit(() -> batcher.execute("insert", List.of(value), 3, 5_000L, runner)));
+      }
+    }
+
+    assertThat(batches).hasSize(1);
+    assertThat(batches.getFirst()).hasSize(3);
+    assertThat(results.stream().map(this::join).toList()).containsExactlyInAnyOrder(1, 2, 3);
+  }
+
+  @Test
+  void lingerExpiryRunsPartialBatch() throws Exception {
+    Integer count = batcher.execute("update", List.of("a"), 10, 20L, (sql, rows) -> {
+      batches.add(rows);
+      return new int[] {Statement.SUCCESS_NO_INFO};
+    });
+
+    assertThat(count).isNull();
+    assertThat(batches).containsExactly(List.of(List.of("a")));
+  }
+
+  @Test
+  void batchFailureKeepsSqlStateForEveryCaller() {
+    assertThatThrownBy(() -> batcher.execute("insert", List.of(1), 2, 10L, (sql, rows) -> {
+      throw new SQLException("connection lost", "08006");
+    }))
+        .isInstanceOf(SQLException.class)
+        .extracting(ex -> ((SQLException) ex).getSQLState())
+        .isEqualTo("08006");
+  }
+
+  private Integer join(Future<Integer> future) {
+    try {
+      return future.get();
+    } catch (Exception ex) {
+      throw new AssertionError(ex);
+    }
+  }
+}
@@ -3,8 +3,12 @@ package io.pockethive.dbquery;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.sql.DriverManager;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -80,7 +84,63 @@ class JdbcDbStatementExecutorPostgresTest {
     }
   }
 
+  @Test
+  void batchesConcurrentInsertsAndKeepsExactCountsForValidatedTemplates() throws Exception {
+    try (JdbcDbStatementExecutor executor = new JdbcDbStatementExecutor()) {
+      DbQueryWorkerConfig config = config(new DbQueryWorkerConfig.Execution(16, 4, 2_000L, 0));
+      DbQueryTemplate batchedInsert =
+          template(DbQueryTemplate.StatementType.INSERT, DbQueryTemplate.ResultMode.UPDATE_COUNT);
+
+      List<Future<DbExecutionResult>> results = new ArrayList<>();
+      try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+        for (int i = 1; i <= 4; i++) {
+          BoundSql insert = new BoundSql(
+              "insert into db_query_probe (probe_id, status, remote_marker) values (?, ?, ?)",
+              List.of("B-" + i, "PENDING", "batch"),
+              List.of());
+          results.add(callers.submit(() -> executor.execute(config, batchedInsert, insert)));
+        }
+      }
+      for (Future<DbExecutionResult> result : results) {
+        // reWriteBatchedInserts folds the batch into one multi-row INSERT, which reports no per-row count.
+        assertThat(result.get().updateCount()).isNull();
+      }
+
+      DbExecutionResult counted = executor.execute(
+          config,
+          template(DbQueryTemplate.StatementType.SELECT, DbQueryTemplate.ResultMode.FIRST_ROW),
+          new BoundSql(
+              "select count(*) as total from db_query_probe where remote_marker = ?",
+              List.of("batch"),
+              List.of()));
+      assertThat(((Number) counted.rows().getFirst().get("total")).longValue()).isEqualTo(4L);
+
+      DbQueryTemplate validatedInsert = new DbQueryTemplate(
+          "db",
+          "postgres-integration",
+          DbQueryWorkerConfig.Adapter.POSTGRES,
+          DbQueryTemplate.StatementType.INSERT,
+          "unused",
+          List.of(),
+          new DbQueryTemplate.Result(DbQueryTemplate.ResultMode.UPDATE_COUNT),
+          new DbQueryTemplate.Validation(null, null, 1, 1, List.of()),
+          List.of());
+      DbExecutionResult exact = executor.execute(
+          config,
+          validatedInsert,
+          new BoundSql(
+              "insert into db_query_probe (probe_id, status, remote_marker) values (?, ?, ?)",
+              List.of("V-1", "PENDING", "validated"),
+              List.of()));
+      assertThat(exact.updateCount()).isEqualTo(1);
+    }
+  }
+
   private DbQueryWorkerConfig config() {
+    return config(null);
+  }
+
+  private DbQueryWorkerConfig config(DbQueryWorkerConfig.Execution execution) {
     return new DbQueryWorkerConfig(
         DbQueryWorkerConfig.Adapter.POSTGRES,
         "/unused",
@@ -91,6 +151,7 @@ class JdbcDbStatementExecutorPostgresTest {
         new DbQueryWorkerConfig.Connection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()),
         new DbQueryWorkerConfig.Pool(3, 1, 3000, 1000, 60000, 1800000),
         DbQueryWorkerConfig.Retry.noRetry(),
+        execution,
         Map.of());
   }
 
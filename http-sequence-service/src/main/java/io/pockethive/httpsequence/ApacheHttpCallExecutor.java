@@ -5,6 +5,7 @@ import java.util.Map;
 import java.util.Objects;
 import org.apache.hc.client5.http.classic.HttpClient;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
 import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.Header;
@@ -21,6 +22,11 @@ final class ApacheHttpCallExecutor implements HttpCallExecutor {
 
   @Override
   public HttpCallResult execute(String baseUrl, RenderedCall call) throws Exception {
+    return execute(baseUrl, call, null);
+  }
+
+  @Override
+  public HttpCallResult execute(String baseUrl, RenderedCall call, Object connectionToken) throws Exception {
     Objects.requireNonNull(call, "call");
     if (baseUrl == null || baseUrl.isBlank()) {
       throw new IllegalArgumentException("baseUrl is required");
@@ -41,8 +47,13 @@ final class ApacheHttpCallExecutor implements HttpCallExecutor {
       request.setEntity(new StringEntity(call.body(), contentType));
     }
 
+    // The pool only hands a connection whose state matches the user token to requests carrying that token.
+    HttpClientContext httpContext = HttpClientContext.create();
+    if (connectionToken != null) {
+      httpContext.setUserToken(connectionToken);
+    }
     try {
-      return httpClient.execute(request, response -> {
+      return httpClient.execute(request, httpContext, response -> {
         int code = response.getCode();
         String responseBody = response.getEntity() == null
             ? ""
@@ -4,6 +4,14 @@ interface HttpCallExecutor {
 
   HttpCallResult execute(String baseUrl, RenderedCall call) throws Exception;
 
+  /**
+   * Executes {@code call} on a keep-alive connection bound to {@code connectionToken}, so calls sharing a token
+   * reuse the same connections the way a single client would. A {@code null} token uses any pooled connection.
+   */
+  default HttpCallResult execute(String baseUrl, RenderedCall call, Object connectionToken) throws Exception {
+    return execute(baseUrl, call);
+  }
+
   record RenderedCall(String method, String path, String body, java.util.Map<String, String> headers) {
   }
 
@@ -1,5 +1,6 @@
 package io.pockethive.httpsequence;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -19,16 +20,30 @@ import io.pockethive.worker.sdk.templating.TemplatingRenderException;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.LongAdder;
 
 final class HttpSequenceRunner {
 
+  private static final TypeReference<LinkedHashMap<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {
+  };
+
   private final ObjectMapper mapper;
   private final Clock clock;
   private final TemplateRenderer templateRenderer;
@@ -40,6 +55,9 @@ final class HttpSequenceRunner {
 
   private volatile Map<String, TemplateDefinition> templates;
   private volatile String lastTemplateConfigKey;
+  private volatile StepGraph stepGraph;
+  // Keep-alive identities for connection affinity, reused LIFO so a journey picks up a warm connection.
+  private final Deque<Object> connectionTokens = new ConcurrentLinkedDeque<>();
 
   private final LongAdder journeys = new LongAdder();
   private final LongAdder okJourneys = new LongAdder();
@@ -68,7 +86,6 @@ final class HttpSequenceRunner {
     Objects.requireNonNull(config, "config");
 
     journeys.increment();
-    WorkerInfo info = context.info();
 
     Map<String, Object> payload = parsePayloadAsMap(seed.payload());
     if (payload == null) {
@@ -80,74 +97,24 @@ final class HttpSequenceRunner {
       seed = seed.toBuilder().headers(headers).build();
     }
 
-    WorkItem current = seed;
-    boolean failed = false;
-    int totalCapturedBytes = 0;
+    Journey journey = new Journey(payload, seed, config.connectionAffinity() ? acquireConnectionToken() : null);
     try {
       reloadTemplatesIfNeeded(config);
       AuthRuntime authRuntime = AuthRuntime.forTemplates(
           config.templateRoot(), authRefs(templates), config.vars(), config.authProfileSutContext(), context, templateRenderer, redisProperties);
-      for (int i = 0; i < config.steps().size(); i++) {
-        HttpSequenceWorkerConfig.Step step = config.steps().get(i);
-        if (step.callId() == null) {
-          throw new IllegalArgumentException("Missing callId for sequence step index " + i);
-        }
-
-        String serviceId = step.serviceId() != null ? step.serviceId() : config.serviceId();
-        String key = TemplateLoader.key(serviceId, step.callId());
-        TemplateDefinition definition = templates.get(key);
-        if (!(definition instanceof HttpTemplateDefinition httpDef)) {
-          throw new IllegalArgumentException("Missing HTTP template for " + key);
-        }
-
-        HttpCallExecutor.RenderedCall rendered =
-            renderCall(httpDef, serviceId, step.callId(), payload, current, context, authRuntime);
-
-        HttpCallAttempt attempt = executeWithRetry(config, step, rendered, context);
-        HttpCallExecutor.HttpCallResult result = attempt.result();
-
-        long durationMs = attempt.totalDurationMs();
-        int attempts = attempt.attempts();
-
-        boolean isError = result.statusCode() < 200 || result.statusCode() >= 300;
-        String sha256 = sha256Hex(result.body());
-        String debugRef = null;
-        String bodyPreview = preview(result.body(), config.debugCapture().bodyPreviewBytes());
-
-        if (shouldCapture(config.debugCapture(), isError)) {
-          int maxBodyBytes = config.debugCapture().maxBodyBytes();
-          int bodyBytes = result.body() == null ? 0 : result.body().getBytes(StandardCharsets.UTF_8).length;
-          if (bodyBytes > maxBodyBytes) {
-            bodyBytes = maxBodyBytes;
-          }
-          if ((totalCapturedBytes + bodyBytes) <= config.debugCapture().maxJourneyBytes()) {
-            totalCapturedBytes += bodyBytes;
-            debugRef = debugCaptureStore.store(info, config.baseUrl(), serviceId, step.callId(), rendered, result,
-                config.debugCapture());
-          }
-        }
-
-        boolean extractedOk = applyExtracts(step, payload, result, context);
-        if (!extractedOk) {
-          throw new IllegalStateException("Required extract missing for callId=" + step.callId());
-        }
-        applySetters(step, payload, current, context);
-
-        current = appendResultStep(current, context, i, step, payload, serviceId, step.callId(), result, durationMs,
-            attempts, sha256, debugRef, bodyPreview, null);
-
-        if (isError && !step.continueOnNon2xx()) {
-          failed = true;
-          break;
-        }
+      StepGraph graph = stepGraph(config.steps());
+      if (graph == null) {
+        runInOrder(journey, config, context, authRuntime);
+      } else {
+        runGraph(journey, graph, config, context, authRuntime);
       }
 
-      if (failed) {
+      if (journey.failed) {
         errorJourneys.increment();
       } else {
         okJourneys.increment();
       }
-      return current;
+      return journey.current;
     } catch (RuntimeException ex) {
       errorJourneys.increment();
       var authFailure = AuthFailureException.find(ex);
@@ -167,10 +134,175 @@ final class HttpSequenceRunner {
       context.logger().warn("HTTP sequence runtime failure: {}", ex.toString(), ex);
       throw ex;
     } finally {
+      if (journey.connectionToken != null) {
+        connectionTokens.offerFirst(journey.connectionToken);
+      }
       publishStatus(context, config);
     }
   }
 
+  private void runInOrder(Journey journey,
+                          HttpSequenceWorkerConfig config,
+                          WorkerContext context,
+                          AuthRuntime authRuntime) {
+    for (int i = 0; i < config.steps().size(); i++) {
+      PreparedCall call = prepare(i, config.steps().get(i), journey, config, context, authRuntime);
+      HttpCallAttempt attempt = executeWithRetry(config, call.step(), call.rendered(), journey.connectionToken);
+      if (!complete(journey, call, attempt, config, context)) {
+        break;
+      }
+    }
+  }
+
+  /**
+   * Runs every step as soon as its dependencies are done. Rendering, extracts and setters stay on the calling
+   * thread in completion order, so only the HTTP calls (including retries) overlap on virtual threads. A step
+   * renders from the payload as it is when the step starts. Once a step fails, no further steps are started; calls
+   * already in flight are still recorded.
+   */
+  private void runGraph(Journey journey,
+                        StepGraph graph,
+                        HttpSequenceWorkerConfig config,
+                        WorkerContext context,
+                        AuthRuntime authRuntime) {
+    List<HttpSequenceWorkerConfig.Step> steps = config.steps();
+    int[] waitingOn = graph.dependencyCounts().clone();
+    boolean[] started = new boolean[steps.size()];
+    ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    CompletionService<StepOutcome> completions = new ExecutorCompletionService<>(executor);
+    int inFlight = 0;
+    try {
+      while (true) {
+        if (!journey.failed) {
+          for (int i = 0; i < steps.size(); i++) {
+            if (started[i] || waitingOn[i] > 0) {
+              continue;
+            }
+            started[i] = true;
+            PreparedCall call = prepare(i, steps.get(i), journey, config, context, authRuntime);
+            completions.submit(() -> new StepOutcome(call,
+                executeWithRetry(config, call.step(), call.rendered(), journey.connectionToken)));
+            inFlight++;
+          }
+        }
+        if (inFlight == 0) {
+          return;
+        }
+        StepOutcome outcome = takeCompleted(completions);
+        inFlight--;
+        complete(journey, outcome.call(), outcome.attempt(), config, context);
+        for (int dependent : graph.dependents().get(outcome.call().index())) {
+          waitingOn[dependent]--;
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static StepOutcome takeCompleted(CompletionService<StepOutcome> completions) {
+    try {
+      return completions.take().get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for sequence steps", ex);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      throw new IllegalStateException("Sequence step failed", ex.getCause());
+    }
+  }
+
+  private PreparedCall prepare(int index,
+                               HttpSequenceWorkerConfig.Step step,
+                               Journey journey,
+                               HttpSequenceWorkerConfig config,
+                               WorkerContext context,
+                               AuthRuntime authRuntime) {
+    if (step.callId() == null) {
+      throw new IllegalArgumentException("Missing callId for sequence step index " + index);
+    }
+
+    String serviceId = step.serviceId() != null ? step.serviceId() : config.serviceId();
+    String key = TemplateLoader.key(serviceId, step.callId());
+    TemplateDefinition definition = templates.get(key);
+    if (!(definition instanceof HttpTemplateDefinition httpDef)) {
+      throw new IllegalArgumentException("Missing HTTP template for " + key);
+    }
+
+    HttpCallExecutor.RenderedCall rendered =
+        renderCall(httpDef, serviceId, step.callId(), journey.payload, journey.current, context, authRuntime);
+    return new PreparedCall(index, step, serviceId, rendered);
+  }
+
+  /**
+   * Records a finished call on the journey.
+   *
+   * @return {@code false} when the journey has to stop after this step
+   */
+  private boolean complete(Journey journey,
+                           PreparedCall call,
+                           HttpCallAttempt attempt,
+                           HttpSequenceWorkerConfig config,
+                           WorkerContext context) {
+    HttpSequenceWorkerConfig.Step step = call.step();
+    HttpCallExecutor.HttpCallResult result = attempt.result();
+
+    boolean isError = result.statusCode() < 200 || result.statusCode() >= 300;
+    int responseBytes = utf8Length(result.body());
+    String sha256 = null;
+    String debugRef = null;
+    String bodyPreview = null;
+
+    // Hashing and previews are only needed for captured calls; skip them on the hot path.
+    if (shouldCapture(config.debugCapture(), isError)) {
+      sha256 = sha256Hex(result.body());
+      bodyPreview = preview(result.body(), config.debugCapture().bodyPreviewBytes());
+      int bodyBytes = Math.min(responseBytes, config.debugCapture().maxBodyBytes());
+      if ((journey.capturedBytes + bodyBytes) <= config.debugCapture().maxJourneyBytes()) {
+        journey.capturedBytes += bodyBytes;
+        debugRef = debugCaptureStore.store(context.info(), config.baseUrl(), call.serviceId(), step.callId(),
+            call.rendered(), result, config.debugCapture());
+      }
+    }
+
+    boolean extractedOk = applyExtracts(step, journey.payload, result, context);
+    if (!extractedOk) {
+      throw new IllegalStateException("Required extract missing for callId=" + step.callId());
+    }
+    applySetters(step, journey.payload, journey.current, context);
+
+    journey.current = appendResultStep(journey.current, context, call.index(), step, journey.payload,
+        call.serviceId(), step.callId(), result, attempt.totalDurationMs(), attempt.attempts(), responseBytes,
+        sha256, debugRef, bodyPreview, null);
+
+    if (isError && !step.continueOnNon2xx()) {
+      journey.failed = true;
+      return false;
+    }
+    return true;
+  }
+
+  private Object acquireConnectionToken() {
+    Object token = connectionTokens.pollFirst();
+    return token != null ? token : new Object();
+  }
+
+  /**
+   * Returns the dependency graph for {@code steps}, or {@code null} when no step declares {@code dependsOn} and the
+   * journey simply runs in order. The graph is cached for the current step list.
+   */
+  private StepGraph stepGraph(List<HttpSequenceWorkerConfig.Step> steps) {
+    StepGraph cached = stepGraph;
+    if (cached != null && cached.steps() == steps) {
+      return cached.linear() ? null : cached;
+    }
+    StepGraph graph = StepGraph.of(steps);
+    stepGraph = graph;
+    return graph.linear() ? null : graph;
+  }
+
   private void publishStatus(WorkerContext context, HttpSequenceWorkerConfig config) {
     context.statusPublisher().update(status -> status
         .data("baseUrl", config.baseUrl())
@@ -247,7 +379,7 @@ final class HttpSequenceRunner {
   private HttpCallAttempt executeWithRetry(HttpSequenceWorkerConfig worker,
                                           HttpSequenceWorkerConfig.Step step,
                                           HttpCallExecutor.RenderedCall rendered,
-                                          WorkerContext context) {
+                                          Object connectionToken) {
     HttpSequenceWorkerConfig.Retry retry = step.retry();
     int maxAttempts = retry == null ? 1 : retry.maxAttempts();
     if (maxAttempts <= 0) {
@@ -258,7 +390,7 @@ final class HttpSequenceRunner {
     HttpCallExecutor.HttpCallResult last = null;
     for (int attempt = 1; attempt <= maxAttempts; attempt++) {
       try {
-        last = httpExecutor.execute(worker.baseUrl(), rendered);
+        last = httpExecutor.execute(worker.baseUrl(), rendered, connectionToken);
       } catch (Exception ex) {
         last = new HttpCallExecutor.HttpCallResult(-1, Map.of(), "", ex.toString());
       }
@@ -462,6 +594,7 @@ final class HttpSequenceRunner {
                                    HttpCallExecutor.HttpCallResult result,
                                    long durationMs,
                                    int attempts,
+                                   int responseBytes,
                                    String sha256,
                                    String debugRef,
                                    String bodyPreview,
@@ -476,8 +609,10 @@ final class HttpSequenceRunner {
     stepHeaders.put("x-ph-http-seq-status", result.statusCode());
     stepHeaders.put("x-ph-http-seq-duration-ms", durationMs);
     stepHeaders.put("x-ph-http-seq-attempts", attempts);
-    stepHeaders.put("x-ph-http-seq-sha256", sha256);
-    stepHeaders.put("x-ph-http-seq-response-bytes", result.body() == null ? 0 : result.body().getBytes(StandardCharsets.UTF_8).length);
+    if (sha256 != null) {
+      stepHeaders.put("x-ph-http-seq-sha256", sha256);
+    }
+    stepHeaders.put("x-ph-http-seq-response-bytes", responseBytes);
     if (bodyPreview != null && !bodyPreview.isEmpty()) {
       stepHeaders.put("x-ph-http-seq-body-preview", bodyPreview);
     }
@@ -513,22 +648,25 @@ final class HttpSequenceRunner {
   }
 
   private Map<String, Object> parsePayloadAsMap(String payload) {
-    if (payload == null || payload.isBlank()) {
+    if (payload == null || payload.isBlank() || payload.charAt(firstNonWhitespace(payload)) != '{') {
       return null;
     }
     try {
-      Object obj = mapper.readValue(payload, Object.class);
-      if (obj instanceof Map<?, ?> map) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> cast = (Map<String, Object>) map;
-        return new java.util.LinkedHashMap<>(cast);
-      }
-      return null;
+      // Steps mutate the map, so it is parsed straight into a fresh LinkedHashMap instead of copied afterwards.
+      return mapper.readValue(payload, PAYLOAD_TYPE);
     } catch (Exception ignored) {
       return null;
     }
   }
 
+  private static int firstNonWhitespace(String value) {
+    int i = 0;
+    while (i < value.length() - 1 && Character.isWhitespace(value.charAt(i))) {
+      i++;
+    }
+    return i;
+  }
+
   private JsonNode tryParseJson(String body) {
     if (body == null || body.isBlank()) {
       return null;
@@ -594,6 +732,30 @@ final class HttpSequenceRunner {
     }
   }
 
+  private static int utf8Length(String body) {
+    if (body == null || body.isEmpty()) {
+      return 0;
+    }
+    int bytes = 0;
+    for (int i = 0; i < body.length(); i++) {
+      char c = body.charAt(i);
+      if (c < 0x80) {
+        bytes++;
+      } else if (c < 0x800) {
+        bytes += 2;
+      } else if (Character.isHighSurrogate(c) && i + 1 < body.length() && Character.isLowSurrogate(body.charAt(i + 1))) {
+        bytes += 4;
+        i++;
+      } else if (Character.isSurrogate(c)) {
+        // Unpaired surrogates are encoded as a single '?'.
+        bytes++;
+      } else {
+        bytes += 3;
+      }
+    }
+    return bytes;
+  }
+
   private static String preview(String body, int maxBytes) {
     if (body == null || body.isEmpty() || maxBytes <= 0) {
       return "";
@@ -696,4 +858,74 @@ final class HttpSequenceRunner {
 
   private record HttpCallAttempt(int attempts, long totalDurationMs, HttpCallExecutor.HttpCallResult result) {
   }
+
+  private record PreparedCall(int index,
+                              HttpSequenceWorkerConfig.Step step,
+                              String serviceId,
+                              HttpCallExecutor.RenderedCall rendered) {
+  }
+
+  private record StepOutcome(PreparedCall call, HttpCallAttempt attempt) {
+  }
+
+  /**
+   * Mutable state of one journey. Only the thread running the journey touches it.
+   */
+  private static final class Journey {
+    private final Map<String, Object> payload;
+    private final Object connectionToken;
+    private WorkItem current;
+    private boolean failed;
+    private int capturedBytes;
+
+    Journey(Map<String, Object> payload, WorkItem seed, Object connectionToken) {
+      this.payload = payload;
+      this.current = seed;
+      this.connectionToken = connectionToken;
+    }
+  }
+
+  /**
+   * Step dependencies by index. {@code dependsOn} may only name earlier steps, which keeps the graph acyclic and
+   * the declared order a valid execution order.
+   */
+  private record StepGraph(List<HttpSequenceWorkerConfig.Step> steps,
+                           boolean linear,
+                           int[] dependencyCounts,
+                           List<List<Integer>> dependents) {
+
+    static StepGraph of(List<HttpSequenceWorkerConfig.Step> steps) {
+      boolean linear = steps.stream().allMatch(step -> step.dependsOn() == null);
+      int[] counts = new int[steps.size()];
+      List<List<Integer>> dependents = new ArrayList<>(steps.size());
+      Map<String, Integer> indexById = new HashMap<>();
+      for (int i = 0; i < steps.size(); i++) {
+        dependents.add(new ArrayList<>());
+        HttpSequenceWorkerConfig.Step step = steps.get(i);
+        Set<Integer> dependencies = new LinkedHashSet<>();
+        if (step.dependsOn() == null) {
+          if (i > 0) {
+            dependencies.add(i - 1);
+          }
+        } else {
+          for (String id : step.dependsOn()) {
+            Integer index = indexById.get(id);
+            if (index == null) {
+              throw new IllegalArgumentException("Sequence step index " + i + " depends on " + id
+                  + ", which is not the id of an earlier step");
+            }
+            dependencies.add(index);
+          }
+        }
+        counts[i] = dependencies.size();
+        for (int dependency : dependencies) {
+          dependents.get(dependency).add(i);
+        }
+        if (step.id() != null && indexById.putIfAbsent(step.id(), i) != null && !linear) {
+          throw new IllegalArgumentException("Duplicate sequence step id " + step.id());
+        }
+      }
+      return new StepGraph(steps, linear, counts, dependents);
+    }
+  }
 }
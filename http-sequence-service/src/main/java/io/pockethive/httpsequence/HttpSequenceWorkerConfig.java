@@ -13,6 +13,7 @@ public record HttpSequenceWorkerConfig(
     Integer threadCount,
     List<Step> steps,
     DebugCapture debugCapture,
+    boolean connectionAffinity,
     Map<String, Object> vars,
     Map<String, Object> privateConfig
 ) implements MaxInFlightConfig {
@@ -24,7 +25,18 @@ public record HttpSequenceWorkerConfig(
                                   List<Step> steps,
                                   DebugCapture debugCapture,
                                   Map<String, Object> vars) {
-    this(baseUrl, templateRoot, serviceId, threadCount, steps, debugCapture, vars, Map.of());
+    this(baseUrl, templateRoot, serviceId, threadCount, steps, debugCapture, false, vars, Map.of());
+  }
+
+  public HttpSequenceWorkerConfig(String baseUrl,
+                                  String templateRoot,
+                                  String serviceId,
+                                  Integer threadCount,
+                                  List<Step> steps,
+                                  DebugCapture debugCapture,
+                                  Map<String, Object> vars,
+                                  Map<String, Object> privateConfig) {
+    this(baseUrl, templateRoot, serviceId, threadCount, steps, debugCapture, false, vars, privateConfig);
   }
 
   public HttpSequenceWorkerConfig {
@@ -56,6 +68,13 @@ public record HttpSequenceWorkerConfig(
     return threadCount;
   }
 
+  /**
+   * One call in the journey.
+   * <p>
+   * {@code dependsOn} lists ids of earlier steps that must finish first. When it is omitted the step waits for the
+   * previous step, so a journey without any {@code dependsOn} runs strictly in order; {@code dependsOn: []} lets a
+   * step start straight away. Steps whose dependencies are done run concurrently.
+   */
   public record Step(
       String id,
       String callId,
@@ -63,9 +82,20 @@ public record HttpSequenceWorkerConfig(
       boolean continueOnNon2xx,
       Retry retry,
       List<Extract> extracts,
-      List<SetValue> set
+      List<SetValue> set,
+      List<String> dependsOn
   ) {
 
+    public Step(String id,
+                String callId,
+                String serviceId,
+                boolean continueOnNon2xx,
+                Retry retry,
+                List<Extract> extracts,
+                List<SetValue> set) {
+      this(id, callId, serviceId, continueOnNon2xx, retry, extracts, set, null);
+    }
+
     public Step {
       id = normalise(id);
       callId = normalise(callId);
@@ -73,6 +103,10 @@ public record HttpSequenceWorkerConfig(
       retry = retry == null ? Retry.defaults() : retry;
       extracts = extracts == null ? List.of() : List.copyOf(extracts);
       set = set == null ? List.of() : List.copyOf(set);
+      dependsOn = dependsOn == null ? null : dependsOn.stream()
+          .map(HttpSequenceWorkerConfig::normalise)
+          .filter(Objects::nonNull)
+          .toList();
     }
   }
 
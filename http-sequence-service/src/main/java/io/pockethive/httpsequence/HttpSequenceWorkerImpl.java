@@ -5,14 +5,18 @@ import io.pockethive.requesttemplates.TemplateLoader;
 import io.pockethive.worker.sdk.api.PocketHiveWorkerFunction;
 import io.pockethive.worker.sdk.api.WorkItem;
 import io.pockethive.worker.sdk.api.WorkerContext;
+import io.pockethive.worker.sdk.api.WorkerWarmUp;
 import io.pockethive.worker.sdk.config.PocketHiveWorker;
 import io.pockethive.worker.sdk.config.WorkerCapability;
 import io.pockethive.worker.sdk.config.RedisSequenceProperties;
+import io.pockethive.worker.sdk.transport.http.HttpPoolWarmUp;
 import io.pockethive.templating.TemplateRenderer;
 import java.time.Clock;
+import java.util.Map;
 import org.apache.hc.client5.http.classic.HttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -21,11 +25,13 @@ import org.springframework.stereotype.Component;
     capabilities = {WorkerCapability.MESSAGE_DRIVEN, WorkerCapability.HTTP},
     config = HttpSequenceWorkerConfig.class
 )
-class HttpSequenceWorkerImpl implements PocketHiveWorkerFunction {
+class HttpSequenceWorkerImpl implements PocketHiveWorkerFunction, WorkerWarmUp {
 
   private static final int GLOBAL_MAX_CONNECTIONS = 200;
   private static final int GLOBAL_MAX_PER_ROUTE = 200;
+  private static final Timeout WARM_UP_TIMEOUT = Timeout.ofSeconds(10);
 
+  private final PoolingHttpClientConnectionManager pool;
   private final HttpSequenceRunner runner;
 
   @Autowired
@@ -35,7 +41,8 @@ class HttpSequenceWorkerImpl implements PocketHiveWorkerFunction {
       TemplateRenderer templateRenderer,
       RedisSequenceProperties redisProperties
   ) {
-    HttpClient pooled = newPooledClient();
+    this.pool = newConnectionManager();
+    HttpClient pooled = HttpClients.custom().setConnectionManager(pool).build();
     this.runner = new HttpSequenceRunner(
         mapper,
         Clock.systemUTC(),
@@ -52,10 +59,22 @@ class HttpSequenceWorkerImpl implements PocketHiveWorkerFunction {
     return runner.run(seed, context, config);
   }
 
-  private static HttpClient newPooledClient() {
+  /**
+   * Pre-opens pooled connections to {@code baseUrl} so the first sequence steps do not pay for connection setup.
+   * Steps that call other hosts still connect lazily.
+   */
+  @Override
+  public Map<String, Object> warmUp(int connections, Object config) throws Exception {
+    if (!(config instanceof HttpSequenceWorkerConfig sequenceConfig)) {
+      return Map.of();
+    }
+    return Map.of("http", HttpPoolWarmUp.warmUp(pool, sequenceConfig.baseUrl(), connections, WARM_UP_TIMEOUT));
+  }
+
+  private static PoolingHttpClientConnectionManager newConnectionManager() {
     PoolingHttpClientConnectionManager manager = new PoolingHttpClientConnectionManager();
     manager.setMaxTotal(GLOBAL_MAX_CONNECTIONS);
     manager.setDefaultMaxPerRoute(GLOBAL_MAX_PER_ROUTE);
-    return HttpClients.custom().setConnectionManager(manager).build();
+    return manager;
   }
 }
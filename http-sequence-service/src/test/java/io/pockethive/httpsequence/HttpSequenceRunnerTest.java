@@ -17,6 +17,9 @@ import java.time.Clock;
 import java.util.ArrayDeque;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.slf4j.Logger;
@@ -234,7 +237,138 @@ class HttpSequenceRunnerTest {
             .containsEntry("Authorization", "Bearer http://wiremock:8080/sequence-token"));
   }
 
-  private HttpSequenceRunner newRunner(RecordingExecutor executor) {
+  @Test
+  void independentStepsRunConcurrentlyAndJoinBeforeDependents() throws Exception {
+    writeTemplate("A");
+    writeTemplate("B");
+    writeTemplate("C");
+
+    CyclicBarrier bothStarted = new CyclicBarrier(2);
+    List<String> completed = new CopyOnWriteArrayList<>();
+    HttpCallExecutor executor = (baseUrl, call) -> {
+      if (!call.path().equals("/c")) {
+        // Times out (and fails the step) unless A and B are in flight at the same time.
+        bothStarted.await(2, TimeUnit.SECONDS);
+      }
+      completed.add(call.path());
+      return new HttpCallExecutor.HttpCallResult(200, Map.of(), "", null);
+    };
+
+    HttpSequenceRunner runner = newRunner(executor);
+    WorkerInfo info = new WorkerInfo("http-sequence", "swarm-1", "inst-1", null, null);
+    WorkItem seed = WorkItem.text(info, "{\"seed\":true}").contentType("application/json").build();
+
+    HttpSequenceWorkerConfig config = new HttpSequenceWorkerConfig(
+        "http://sut",
+        tempDir.toString(),
+        "default",
+        1,
+        List.of(
+            new HttpSequenceWorkerConfig.Step("a", "A", null, false, null, List.of(), List.of(), List.of()),
+            new HttpSequenceWorkerConfig.Step("b", "B", null, false, null, List.of(), List.of(), List.of()),
+            new HttpSequenceWorkerConfig.Step("c", "C", null, false, null, List.of(), List.of(), List.of("a", "b"))
+        ),
+        new HttpSequenceWorkerConfig.DebugCapture(HttpSequenceWorkerConfig.DebugCaptureMode.NONE, 0.0, 1, 1, false, false, 0, 1),
+        Map.of()
+    );
+
+    WorkItem out = runner.run(seed, new TestWorkerContext(info), config);
+
+    assertThat(completed).hasSize(3).last().isEqualTo("/c");
+    assertThat(out.steps()).hasSize(4);
+    assertThat(out.stepHeaders())
+        .containsEntry("x-ph-http-seq-call-id", "C")
+        .containsEntry("x-ph-http-seq-status", 200);
+  }
+
+  @Test
+  void rejectsDependencyOnUnknownStep() throws Exception {
+    writeTemplate("A");
+    HttpSequenceRunner runner = newRunner(new RecordingExecutor());
+    WorkerInfo info = new WorkerInfo("http-sequence", "swarm-1", "inst-1", null, null);
+    WorkItem seed = WorkItem.text(info, "{}").contentType("application/json").build();
+
+    HttpSequenceWorkerConfig config = new HttpSequenceWorkerConfig(
+        "http://sut",
+        tempDir.toString(),
+        "default",
+        1,
+        List.of(new HttpSequenceWorkerConfig.Step("a", "A", null, false, null, List.of(), List.of(), List.of("later"))),
+        new HttpSequenceWorkerConfig.DebugCapture(HttpSequenceWorkerConfig.DebugCaptureMode.NONE, 0.0, 1, 1, false, false, 0, 1),
+        Map.of()
+    );
+
+    assertThatThrownBy(() -> runner.run(seed, new TestWorkerContext(info), config))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("not the id of an earlier step");
+  }
+
+  @Test
+  void hashesAndPreviewsOnlyCapturedResponses() throws Exception {
+    writeTemplate("A");
+
+    RecordingExecutor executor = new RecordingExecutor();
+    executor.enqueue(new HttpCallExecutor.HttpCallResult(200, Map.of(), "hello", null));
+    executor.enqueue(new HttpCallExecutor.HttpCallResult(500, Map.of(), "boom", null));
+
+    HttpSequenceRunner runner = newRunner(executor);
+    WorkerInfo info = new WorkerInfo("http-sequence", "swarm-1", "inst-1", null, null);
+    WorkItem seed = WorkItem.text(info, "{}").contentType("application/json").build();
+
+    HttpSequenceWorkerConfig config = new HttpSequenceWorkerConfig(
+        "http://sut",
+        tempDir.toString(),
+        "default",
+        1,
+        List.of(new HttpSequenceWorkerConfig.Step("s1", "A", null, false, null, List.of(), List.of())),
+        new HttpSequenceWorkerConfig.DebugCapture(HttpSequenceWorkerConfig.DebugCaptureMode.ERROR_ONLY, 0.0, 1024, 4096, false, false, 16, 1),
+        Map.of()
+    );
+
+    WorkItem ok = runner.run(seed, new TestWorkerContext(info), config);
+    WorkItem failed = runner.run(seed, new TestWorkerContext(info), config);
+
+    assertThat(ok.stepHeaders())
+        .containsEntry("x-ph-http-seq-response-bytes", 5)
+        .doesNotContainKeys("x-ph-http-seq-sha256", "x-ph-http-seq-body-preview");
+    assertThat(failed.stepHeaders())
+        .containsKey("x-ph-http-seq-sha256")
+        .containsEntry("x-ph-http-seq-body-preview", "boom");
+  }
+
+  @Test
+  void connectionAffinityKeepsOneTokenPerJourneyAndReusesIt() throws Exception {
+    writeTemplate("A");
+    writeTemplate("B");
+
+    RecordingExecutor executor = new RecordingExecutor();
+    HttpSequenceRunner runner = newRunner(executor);
+    WorkerInfo info = new WorkerInfo("http-sequence", "swarm-1", "inst-1", null, null);
+    WorkItem seed = WorkItem.text(info, "{}").contentType("application/json").build();
+
+    HttpSequenceWorkerConfig config = new HttpSequenceWorkerConfig(
+        "http://sut",
+        tempDir.toString(),
+        "default",
+        1,
+        List.of(
+            new HttpSequenceWorkerConfig.Step("s1", "A", null, false, null, List.of(), List.of()),
+            new HttpSequenceWorkerConfig.Step("s2", "B", null, false, null, List.of(), List.of())
+        ),
+        new HttpSequenceWorkerConfig.DebugCapture(HttpSequenceWorkerConfig.DebugCaptureMode.NONE, 0.0, 1, 1, false, false, 0, 1),
+        true,
+        Map.of(),
+        Map.of()
+    );
+
+    runner.run(seed, new TestWorkerContext(info), config);
+    runner.run(seed, new TestWorkerContext(info), config);
+
+    assertThat(executor.tokens()).hasSize(4).doesNotContainNull();
+    assertThat(executor.tokens().stream().distinct()).hasSize(1);
+  }
+
+  private HttpSequenceRunner newRunner(HttpCallExecutor executor) {
     ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
     TemplateRenderer templateRenderer = (template, context) -> template == null ? "" : template;
     RedisSequenceProperties redis = new RedisSequenceProperties();
@@ -264,6 +398,7 @@ class HttpSequenceRunnerTest {
   private static final class RecordingExecutor implements HttpCallExecutor {
     private final ArrayDeque<HttpCallResult> results = new ArrayDeque<>();
     private final java.util.List<RenderedCall> calls = new java.util.ArrayList<>();
+    private final java.util.List<Object> tokens = new java.util.ArrayList<>();
 
     void enqueue(HttpCallResult result) {
       results.add(result);
@@ -273,6 +408,16 @@ class HttpSequenceRunnerTest {
       return List.copyOf(calls);
     }
 
+    java.util.List<Object> tokens() {
+      return java.util.Collections.unmodifiableList(tokens);
+    }
+
+    @Override
+    public HttpCallResult execute(String baseUrl, RenderedCall call, Object connectionToken) {
+      tokens.add(connectionToken);
+      return execute(baseUrl, call);
+    }
+
     @Override
     public HttpCallResult execute(String baseUrl, RenderedCall call) {
       calls.add(call);
@@ -47,6 +47,7 @@ public class StatusEnvelopeBuilder {
     private boolean workPlaneEnabled = true;
     private boolean tpsEnabled = true;
     private boolean filesystemEnabled = false;
+    private StatusSequence sequence;
 
     private static final Set<String> INPUT_STATES = Set.of(
         "ok",
@@ -393,6 +394,15 @@ public class StatusEnvelopeBuilder {
         return trimmed;
     }
 
+    /**
+     * Stamp the envelope with the emitter's status sequence; deltas then carry only the context
+     * entries that changed since the previous emission (see {@link StatusSequence}).
+     */
+    public StatusEnvelopeBuilder sequence(StatusSequence sequence) {
+        this.sequence = sequence;
+        return this;
+    }
+
     /**
      * Serialise the collected fields into a JSON document.
      */
@@ -484,7 +494,9 @@ public class StatusEnvelopeBuilder {
         }
         canonicalData.put("ioState", data.get("ioState"));
         Object ctx = data.get("context");
-        if (ctx != null) {
+        if (sequence != null) {
+            canonicalData.put("context", sequence.stamp(isFull, ctx));
+        } else if (ctx != null) {
             canonicalData.put("context", ctx);
         }
         if (isFull) {
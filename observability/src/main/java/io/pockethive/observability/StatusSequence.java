@@ -0,0 +1,128 @@
+package io.pockethive.observability;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Per-emitter sequence and baseline for status envelopes.
+ * <p>
+ * Every envelope stamped by the same instance carries a monotonically increasing
+ * {@code data.context.statusSeq}. A {@code status-delta} additionally carries
+ * {@code data.context.statusBaseSeq} (the sequence of the previous emission) and only the context
+ * entries that changed since that emission: nested objects are diffed recursively, arrays and
+ * scalars are sent whole. As before, a delta never removes entries (full-only context such as
+ * bindings stays with the last {@code status-full}), so the baseline is the merged view a receiver
+ * holds, not the literal previous envelope. The top-level {@code data} fields ({@code enabled},
+ * {@code tps}, {@code ioState}) are always sent in full.
+ * <p>
+ * Receivers deep-merge each delta onto the last state they hold for the emitter. When
+ * {@code statusBaseSeq} does not match the sequence they last applied, a delta was lost or
+ * reordered; they should drop it and ask the emitter for a {@code status-full} via
+ * {@code status-request}, which restarts the baseline. Envelopes without a sequence are complete
+ * and merged as before.
+ */
+public final class StatusSequence {
+
+    public static final String SEQ_FIELD = "statusSeq";
+    public static final String BASE_SEQ_FIELD = "statusBaseSeq";
+
+    private long sequence;
+    private ObjectNode lastContext;
+
+    /**
+     * Assign the next sequence to an envelope's context and, for deltas, reduce it to the entries
+     * that changed since the previous emission.
+     *
+     * @param full    whether the envelope is a {@code status-full}
+     * @param context the complete context that would otherwise be sent
+     * @return the context to serialise
+     */
+    public synchronized ObjectNode stamp(boolean full, Object context) {
+        JsonNode tree = context == null ? null : ControlPlaneJson.mapper().valueToTree(context);
+        ObjectNode current = tree instanceof ObjectNode object
+            ? object
+            : ControlPlaneJson.mapper().createObjectNode();
+        current.remove(SEQ_FIELD);
+        current.remove(BASE_SEQ_FIELD);
+        long base = sequence;
+        long next = ++sequence;
+        ObjectNode out;
+        if (full || lastContext == null) {
+            out = current.deepCopy();
+            lastContext = current;
+        } else {
+            out = diff(lastContext, current);
+            out.put(BASE_SEQ_FIELD, base);
+            merge(lastContext, out);
+        }
+        out.put(SEQ_FIELD, next);
+        return out;
+    }
+
+    /**
+     * Sequence carried by a status envelope, or {@code -1} when it has none.
+     */
+    public static long sequenceOf(JsonNode envelope) {
+        return longField(envelope, SEQ_FIELD);
+    }
+
+    /**
+     * Base sequence of a status delta, or {@code -1} when it has none.
+     */
+    public static long baseSequenceOf(JsonNode envelope) {
+        return longField(envelope, BASE_SEQ_FIELD);
+    }
+
+    private static long longField(JsonNode envelope, String field) {
+        if (envelope == null) {
+            return -1L;
+        }
+        JsonNode value = envelope.path("data").path("context").path(field);
+        return value.isIntegralNumber() ? value.asLong() : -1L;
+    }
+
+    /**
+     * Deep-merge a received delta context onto the context a receiver holds for the emitter. Nested
+     * objects are merged, everything else replaced; {@code statusBaseSeq} is not carried over.
+     */
+    public static void mergeContext(ObjectNode target, ObjectNode delta) {
+        merge(target, delta);
+    }
+
+    private static ObjectNode diff(JsonNode previous, ObjectNode current) {
+        ObjectNode out = ControlPlaneJson.mapper().createObjectNode();
+        Iterator<Map.Entry<String, JsonNode>> fields = current.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> entry = fields.next();
+            JsonNode before = previous.get(entry.getKey());
+            JsonNode after = entry.getValue();
+            if (after.equals(before)) {
+                continue;
+            }
+            if (before instanceof ObjectNode && after instanceof ObjectNode afterObject) {
+                out.set(entry.getKey(), diff(before, afterObject));
+            } else {
+                out.set(entry.getKey(), after);
+            }
+        }
+        return out;
+    }
+
+    private static void merge(ObjectNode target, ObjectNode delta) {
+        Iterator<Map.Entry<String, JsonNode>> fields = delta.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> entry = fields.next();
+            if (BASE_SEQ_FIELD.equals(entry.getKey())) {
+                continue;
+            }
+            JsonNode existing = target.get(entry.getKey());
+            if (existing instanceof ObjectNode existingObject && entry.getValue() instanceof ObjectNode deltaObject) {
+                merge(existingObject, deltaObject);
+            } else {
+                target.set(entry.getKey(), entry.getValue().deepCopy());
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.pockethive.observability;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatusSequenceTest {
+
+    private final StatusSequence sequence = new StatusSequence();
+
+    @Test
+    void deltaAfterDeltaDiffsAgainstPreviousEmission() {
+        sequence.stamp(true, Map.of("state", "Ready", "totals", Map.of("desired", 3, "running", 1)));
+        JsonNode first = sequence.stamp(false, Map.of("state", "Ready", "totals", Map.of("desired", 3, "running", 2)));
+        JsonNode second = sequence.stamp(false, Map.of("state", "Running", "totals", Map.of("desired", 3, "running", 2)));
+
+        assertEquals(2, first.path("statusSeq").asLong());
+        assertEquals(1, first.path("statusBaseSeq").asLong());
+        assertFalse(first.has("state"));
+        assertEquals(2, first.path("totals").path("running").asInt());
+        assertFalse(first.path("totals").has("desired"));
+
+        assertEquals(3, second.path("statusSeq").asLong());
+        assertEquals(2, second.path("statusBaseSeq").asLong());
+        assertEquals("Running", second.path("state").asText());
+        assertFalse(second.has("totals"));
+    }
+
+    @Test
+    void arraysAreSentWholeWhenAnyElementChanges() {
+        sequence.stamp(true, Map.of("workers", List.of(Map.of("role", "gen", "tps", 1), Map.of("role", "proc", "tps", 1))));
+        JsonNode delta = sequence.stamp(false, Map.of("workers", List.of(Map.of("role", "gen", "tps", 2), Map.of("role", "proc", "tps", 1))));
+
+        assertEquals(2, delta.path("workers").size());
+        assertEquals("proc", delta.path("workers").get(1).path("role").asText());
+    }
+
+    @Test
+    void fullResetsBaselineAndCarriesEverything() {
+        sequence.stamp(true, Map.of("state", "Ready"));
+        sequence.stamp(false, Map.of("state", "Running"));
+        JsonNode full = sequence.stamp(true, Map.of("state", "Running"));
+
+        assertEquals(3, full.path("statusSeq").asLong());
+        assertFalse(full.has("statusBaseSeq"));
+        assertEquals("Running", full.path("state").asText());
+    }
+
+    @Test
+    void firstDeltaWithoutBaselineIsComplete() {
+        JsonNode delta = sequence.stamp(false, Map.of("state", "Ready"));
+
+        assertEquals(1, delta.path("statusSeq").asLong());
+        assertFalse(delta.has("statusBaseSeq"));
+        assertEquals("Ready", delta.path("state").asText());
+    }
+
+    @Test
+    void readsSequenceFieldsFromEnvelope() throws Exception {
+        String json = new StatusEnvelopeBuilder()
+                .type("status-delta")
+                .role("processor")
+                .instance("proc-1")
+                .origin("proc-1")
+                .swarmId("sw1")
+                .enabled(true)
+                .tps(0)
+                .runtime(Map.of("templateId", "tpl-1", "runId", "run-1"))
+                .sequence(sequence)
+                .toJson();
+        JsonNode node = new ObjectMapper().readTree(json);
+
+        assertEquals(1, StatusSequence.sequenceOf(node));
+        assertEquals(-1, StatusSequence.baseSequenceOf(node));
+        assertEquals(-1, StatusSequence.sequenceOf(new ObjectMapper().createObjectNode()));
+    }
+}
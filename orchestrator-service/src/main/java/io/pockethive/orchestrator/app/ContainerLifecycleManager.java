@@ -6,6 +6,7 @@ import io.pockethive.controlplane.spring.ControlPlaneProperties;
 import io.pockethive.controlplane.topology.ControlQueueDescriptor;
 import io.pockethive.controlplane.topology.SwarmControllerControlPlaneTopologyDescriptor;
 import io.pockethive.docker.DockerContainerClient;
+import io.pockethive.docker.ParallelDockerCalls;
 import io.pockethive.docker.compute.DockerSwarmServiceComputeAdapter;
 import io.pockethive.manager.ports.ComputeAdapter;
 import io.pockethive.manager.runtime.ComputeAdapterType;
@@ -21,6 +22,7 @@ import io.pockethive.orchestrator.runtime.RuntimeOwnershipManifest;
 import io.pockethive.sink.clickhouse.ClickHouseSinkProperties;
 import io.pockethive.swarm.model.NetworkMode;
 import io.pockethive.swarm.model.Bee;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -236,7 +238,9 @@ public class ContainerLifecycleManager {
         java.util.List<String> volumes = new java.util.ArrayList<>();
         volumes.add(dockerSocket + ":" + dockerSocket);
         if (runtimeRootSource != null && !runtimeRootSource.isBlank()) {
-            volumes.add(runtimeRootSource + ":" + SCENARIOS_RUNTIME_DESTINATION);
+            // The controller only adds its journal files under its own swarm directory; the rest of the runtime
+            // root (other swarms and the shared bundle store) stays out of reach.
+            volumes.add(runtimeRootSource + "/" + resolvedSwarmId + ":" + SCENARIOS_RUNTIME_DESTINATION + "/" + resolvedSwarmId);
         }
         ManagerSpec managerSpec = new ManagerSpec(
             resolvedInstance,
@@ -398,21 +402,23 @@ public class ContainerLifecycleManager {
      */
     public void preloadSwarmImages(String swarmId) {
         store.find(swarmId).ifPresent(swarm -> {
+            List<String> images = new ArrayList<>();
             String controllerImage = swarm.controllerImage();
             if (controllerImage != null && !controllerImage.isBlank()) {
                 String resolved = resolveImage(controllerImage);
                 log.info("auto-pull: controller image {} (from {}) for swarm {}", resolved, controllerImage, swarmId);
-                docker.pullImage(resolved);
+                images.add(resolved);
             }
-            swarm.bees().stream()
+            List<String> beeImages = swarm.bees().stream()
                 .map(bee -> bee.image())
                 .filter(image -> image != null && !image.isBlank())
                 .map(this::resolveImage)
                 .distinct()
-                .forEach(resolved -> {
-                    log.info("auto-pull: bee image {} for swarm {}", resolved, swarmId);
-                    docker.pullImage(resolved);
-                });
+                .toList();
+            log.info("auto-pull: bee images {} for swarm {}", beeImages, swarmId);
+            images.addAll(beeImages);
+            // Pulls are independent and dominated by registry round-trips, so run a few at once.
+            docker.pullImages(images, ParallelDockerCalls.DEFAULT_PARALLELISM);
         });
     }
 
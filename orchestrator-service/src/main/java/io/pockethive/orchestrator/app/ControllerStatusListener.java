@@ -8,6 +8,7 @@ import io.pockethive.orchestrator.domain.Swarm;
 import io.pockethive.orchestrator.domain.SwarmLifecycleStatus;
 import io.pockethive.orchestrator.domain.HiveJournal;
 import io.pockethive.control.ControlScope;
+import io.pockethive.observability.StatusSequence;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
@@ -90,8 +91,8 @@ public class ControllerStatusListener {
             boolean controllerScope = SWARM_CONTROLLER_ROLE.equals(role);
 
             if (controllerScope && swarm != null) {
-                hydrateNetworkMetadata(swarm, context);
                 if (statusFull) {
+                    hydrateNetworkMetadata(swarm, context);
                     store.cacheControllerStatusFull(swarmId, node, Instant.now());
                     swarmSignals.handleControllerStatusFull(routingKey);
                     if (discovered) {
@@ -99,7 +100,21 @@ public class ControllerStatusListener {
                     }
                 } else if (statusDelta) {
                     SwarmStore.DeltaApplyResult result = store.applyControllerStatusDelta(swarmId, node, Instant.now());
-                    if (result == SwarmStore.DeltaApplyResult.MISSING_BASELINE) {
+                    if (result == SwarmStore.DeltaApplyResult.MERGED) {
+                        // Sequenced deltas only carry what changed; read the merged view.
+                        JsonNode merged = swarm.getControllerStatusFull();
+                        if (merged != null) {
+                            data = merged.path("data");
+                            context = data.path("context");
+                            swarmStatusText = context.path("swarmStatus").asText(null);
+                        }
+                        hydrateNetworkMetadata(swarm, context);
+                    } else if (StatusSequence.baseSequenceOf(node) < 0) {
+                        // Unsequenced deltas are complete and can be read on their own.
+                        hydrateNetworkMetadata(swarm, context);
+                    }
+                    if (result == SwarmStore.DeltaApplyResult.MISSING_BASELINE
+                        || result == SwarmStore.DeltaApplyResult.SEQUENCE_GAP) {
                         requestStatusFull(swarmId);
                     } else if (result == SwarmStore.DeltaApplyResult.REJECTED_FULL_ONLY_FIELDS) {
                         log.warn("Ignoring status-delta with full-only fields for swarm {} rk={}", swarmId, routingKey);
@@ -13,6 +13,7 @@ import java.util.Map;
 import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
@@ -37,6 +38,7 @@ public class JournalController {
   private final JdbcTemplate jdbc;
   private final ObjectMapper json;
   private final OrchestratorEndpointAuthorization endpointAuthorization;
+  private final JournalQueryCache queryCache;
 
   @Value("${pockethive.journal.sink:postgres}")
   private String journalSink;
@@ -44,9 +46,18 @@ public class JournalController {
   public JournalController(JdbcTemplate jdbc,
                            ObjectMapper json,
                            OrchestratorEndpointAuthorization endpointAuthorization) {
+    this(jdbc, json, endpointAuthorization, JournalQueryCache.disabled());
+  }
+
+  @Autowired
+  public JournalController(JdbcTemplate jdbc,
+                           ObjectMapper json,
+                           OrchestratorEndpointAuthorization endpointAuthorization,
+                           JournalQueryCache queryCache) {
     this.jdbc = Objects.requireNonNull(jdbc, "jdbc");
     this.json = Objects.requireNonNull(json, "json").findAndRegisterModules();
     this.endpointAuthorization = Objects.requireNonNull(endpointAuthorization, "endpointAuthorization");
+    this.queryCache = Objects.requireNonNull(queryCache, "queryCache");
   }
 
   /**
@@ -78,15 +89,66 @@ public class JournalController {
     }
     int pageSize = limit == null ? 200 : Math.max(1, Math.min(1000, limit));
     String cleanedSwarmId = swarmId == null ? null : sanitizeSegment(swarmId.trim());
-    String resolvedRunId = runId == null ? null : runId.trim();
-    if (resolvedRunId != null && resolvedRunId.isBlank()) {
-      resolvedRunId = null;
+    String resolvedRunId = runId == null || runId.isBlank() ? null : runId.trim();
+    String corr = correlationId == null || correlationId.isBlank() ? null : correlationId.trim();
+    JournalPageResponse page = queryCache.get(
+        List.of("hive-page", String.valueOf(cleanedSwarmId), String.valueOf(resolvedRunId), String.valueOf(corr),
+            String.valueOf(beforeTs), String.valueOf(beforeId), pageSize),
+        () -> readHiveEvents(cleanedSwarmId, resolvedRunId, corr, beforeTs, beforeId, false, pageSize));
+    return ResponseEntity.ok(page);
+  }
+
+  /**
+   * GET {@code /api/journal/hive/since} — incremental Hive journal query (Postgres only).
+   * <p>
+   * Returns entries stored after the {@code afterTs}/{@code afterId} cursor in insert order, including entries
+   * that were flushed late with an older event timestamp. The returned {@code nextCursor} always points past the
+   * last entry returned (or echoes the request cursor when nothing new arrived), so the UI can keep polling with
+   * it and only ever fetch new rows. Seed the cursor from the first item of a {@code /hive/page} response and
+   * de-duplicate by {@code eventId} when re-seeding from a page.
+   */
+  @GetMapping("/hive/since")
+  public ResponseEntity<JournalPageResponse> hiveJournalSince(
+      @RequestParam(required = false) String swarmId,
+      @RequestParam(required = false) String runId,
+      @RequestParam(required = false) String correlationId,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant afterTs,
+      @RequestParam long afterId,
+      @RequestParam(required = false) Integer limit) {
+    String path = "/api/journal/hive/since";
+    log.debug("[REST] GET {}", path);
+    if (swarmId == null || swarmId.isBlank()) {
+      endpointAuthorization.requireReadDeployment();
+    } else {
+      endpointAuthorization.requireReadSwarm(swarmId);
     }
-    String corr = correlationId == null ? null : correlationId.trim();
-    if (corr != null && corr.isBlank()) {
-      corr = null;
+    if (!"postgres".equalsIgnoreCase(journalSink)) {
+      return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
     }
+    int pageSize = limit == null ? 200 : Math.max(1, Math.min(1000, limit));
+    String cleanedSwarmId = swarmId == null ? null : sanitizeSegment(swarmId.trim());
+    String resolvedRunId = runId == null || runId.isBlank() ? null : runId.trim();
+    String corr = correlationId == null || correlationId.isBlank() ? null : correlationId.trim();
+    JournalPageResponse page = queryCache.get(
+        List.of("hive-since", String.valueOf(cleanedSwarmId), String.valueOf(resolvedRunId), String.valueOf(corr),
+            afterTs.toString(), afterId, pageSize),
+        () -> readHiveEvents(cleanedSwarmId, resolvedRunId, corr, afterTs, afterId, true, pageSize));
+    return ResponseEntity.ok(page);
+  }
 
+  /**
+   * Keyset query over {@code journal_event}: {@code forward=false} walks older entries by {@code (ts, id)}
+   * (newest-first, strictly before the cursor); {@code forward=true} returns entries inserted after the cursor
+   * in {@code id} order, limited to {@link JournalPageResponse#SINCE_TS_WINDOW} before the cursor timestamp.
+   * Both directions are index-backed on every partition, so cost does not depend on how deep the caller paged.
+   */
+  private JournalPageResponse readHiveEvents(String cleanedSwarmId,
+                                             String resolvedRunId,
+                                             String corr,
+                                             Instant cursorTs,
+                                             Long cursorId,
+                                             boolean forward,
+                                             int pageSize) {
     record Row(long id, Instant ts, Map<String, Object> entry) {}
 
     StringBuilder sql = new StringBuilder("""
@@ -124,12 +186,18 @@ public class JournalController {
       sql.append(" AND correlation_id = ?");
       args.add(corr);
     }
-    if (beforeTs != null && beforeId != null) {
-      sql.append(" AND (ts, id) < (?, ?)");
-      args.add(java.sql.Timestamp.from(beforeTs));
-      args.add(beforeId);
+    if (cursorTs != null && cursorId != null) {
+      if (forward) {
+        sql.append(" AND id > ? AND ts >= ?");
+        args.add(cursorId);
+        args.add(java.sql.Timestamp.from(cursorTs.minus(JournalPageResponse.SINCE_TS_WINDOW)));
+      } else {
+        sql.append(" AND (ts, id) < (?, ?)");
+        args.add(java.sql.Timestamp.from(cursorTs));
+        args.add(cursorId);
+      }
     }
-    sql.append(" ORDER BY ts DESC, id DESC LIMIT ?");
+    sql.append(forward ? " ORDER BY id ASC LIMIT ?" : " ORDER BY ts DESC, id DESC LIMIT ?");
     args.add(pageSize + 1);
 
     List<Row> rows = jdbc.query(sql.toString(), args.toArray(), (rs, rowNum) -> {
@@ -164,12 +232,21 @@ public class JournalController {
       rows = rows.subList(0, pageSize);
     }
     JournalPageResponse.Cursor cursor = null;
-    if (hasMore && !rows.isEmpty()) {
+    if (forward) {
+      // Incremental polling: always hand back a resumable cursor, even when nothing new arrived.
+      Instant newestTs = cursorTs;
+      for (Row row : rows) {
+        if (newestTs == null || row.ts().isAfter(newestTs)) {
+          newestTs = row.ts();
+        }
+      }
+      cursor = new JournalPageResponse.Cursor(newestTs, rows.isEmpty() ? cursorId : rows.get(rows.size() - 1).id());
+    } else if (hasMore && !rows.isEmpty()) {
       Row last = rows.get(rows.size() - 1);
       cursor = new JournalPageResponse.Cursor(last.ts(), last.id());
     }
     List<Map<String, Object>> items = rows.stream().map(Row::entry).toList();
-    return ResponseEntity.ok(new JournalPageResponse(items, cursor, hasMore));
+    return new JournalPageResponse(items, cursor, hasMore);
   }
 
   /**
@@ -193,166 +270,171 @@ public class JournalController {
     int pageSize = limit == null ? 500 : Math.max(1, Math.min(5000, limit));
     boolean pinnedOnly = pinned != null && pinned;
 
+    try {
+      List<SwarmRunSummary> runs = queryCache.get(
+          List.of("swarm-runs", pageSize, pinnedOnly, String.valueOf(afterTs)),
+          () -> listSwarmRuns(pageSize, pinnedOnly, afterTs));
+      return ResponseEntity.ok(runs);
+    } catch (Exception ex) {
+      log.warn("Failed to list swarm journal runs: {}", ex.getMessage());
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+  }
+
+  private List<SwarmRunSummary> listSwarmRuns(int pageSize, boolean pinnedOnly, Instant afterTs) {
     record Key(String swarmId, String runId) {}
 
-    try {
-      String captureSql = """
-          SELECT
-            c.swarm_id,
-            c.run_id,
-            c.first_ts,
-            c.last_ts,
-            c.entries,
-            r.scenario_id,
-            r.test_plan,
-            r.description,
-            r.tags::text AS tags
-          FROM journal_capture c
-          LEFT JOIN journal_run r
-            ON r.swarm_id = c.swarm_id AND r.run_id = c.run_id
-          WHERE c.scope = 'SWARM' AND c.pinned = true
-          ORDER BY c.last_ts DESC NULLS LAST
-          """;
-      List<SwarmRunSummary> pinnedRuns = jdbc.query(captureSql, (rs, rowNum) -> {
-        String swarmId = rs.getString("swarm_id");
-        String runId = rs.getString("run_id");
-        java.sql.Timestamp first = rs.getTimestamp("first_ts");
-        java.sql.Timestamp last = rs.getTimestamp("last_ts");
-        long entries = rs.getLong("entries");
-        String scenarioId = rs.getString("scenario_id");
-        String testPlan = rs.getString("test_plan");
-        String description = rs.getString("description");
-        List<String> tags = parseJsonStringList(rs.getString("tags"));
-        return new SwarmRunSummary(
-            swarmId,
-            runId,
-            first == null ? null : first.toInstant(),
-            last == null ? null : last.toInstant(),
-            entries,
-            true,
-            scenarioId,
-            testPlan,
-            tags,
-            description);
-      });
+    String captureSql = """
+        SELECT
+          c.swarm_id,
+          c.run_id,
+          c.first_ts,
+          c.last_ts,
+          c.entries,
+          r.scenario_id,
+          r.test_plan,
+          r.description,
+          r.tags::text AS tags
+        FROM journal_capture c
+        LEFT JOIN journal_run r
+          ON r.swarm_id = c.swarm_id AND r.run_id = c.run_id
+        WHERE c.scope = 'SWARM' AND c.pinned = true
+        ORDER BY c.last_ts DESC NULLS LAST
+        """;
+    List<SwarmRunSummary> pinnedRuns = jdbc.query(captureSql, (rs, rowNum) -> {
+      String swarmId = rs.getString("swarm_id");
+      String runId = rs.getString("run_id");
+      java.sql.Timestamp first = rs.getTimestamp("first_ts");
+      java.sql.Timestamp last = rs.getTimestamp("last_ts");
+      long entries = rs.getLong("entries");
+      String scenarioId = rs.getString("scenario_id");
+      String testPlan = rs.getString("test_plan");
+      String description = rs.getString("description");
+      List<String> tags = parseJsonStringList(rs.getString("tags"));
+      return new SwarmRunSummary(
+          swarmId,
+          runId,
+          first == null ? null : first.toInstant(),
+          last == null ? null : last.toInstant(),
+          entries,
+          true,
+          scenarioId,
+          testPlan,
+          tags,
+          description);
+    });
 
-      if (pinnedOnly) {
-        List<SwarmRunSummary> runs = pinnedRuns.stream()
-            .filter(run -> run.runId() != null && run.swarmId() != null)
-            .limit(pageSize)
-            .toList();
-        return ResponseEntity.ok(runs);
+    if (pinnedOnly) {
+      return pinnedRuns.stream()
+          .filter(run -> run.runId() != null && run.swarmId() != null)
+          .limit(pageSize)
+          .toList();
+    }
+
+    String mainSql = afterTs != null ? """
+        SELECT
+          e.swarm_id,
+          e.run_id,
+          MIN(e.ts) AS first_ts,
+          MAX(e.ts) AS last_ts,
+          COUNT(*) AS entries,
+          r.scenario_id,
+          r.test_plan,
+          r.description,
+          r.tags::text AS tags
+        FROM journal_event e
+        LEFT JOIN journal_run r
+          ON r.swarm_id = e.swarm_id AND r.run_id = e.run_id
+        WHERE e.scope = 'SWARM' AND e.ts >= ?
+        GROUP BY e.swarm_id, e.run_id, r.scenario_id, r.test_plan, r.description, r.tags
+        ORDER BY last_ts DESC
+        LIMIT ?
+        """ : """
+        SELECT
+          e.swarm_id,
+          e.run_id,
+          MIN(e.ts) AS first_ts,
+          MAX(e.ts) AS last_ts,
+          COUNT(*) AS entries,
+          r.scenario_id,
+          r.test_plan,
+          r.description,
+          r.tags::text AS tags
+        FROM journal_event e
+        LEFT JOIN journal_run r
+          ON r.swarm_id = e.swarm_id AND r.run_id = e.run_id
+        WHERE e.scope = 'SWARM'
+        GROUP BY e.swarm_id, e.run_id, r.scenario_id, r.test_plan, r.description, r.tags
+        ORDER BY last_ts DESC
+        LIMIT ?
+        """;
+    List<SwarmRunSummary> mainRuns = jdbc.query(mainSql, ps -> {
+      if (afterTs != null) {
+        ps.setTimestamp(1, java.sql.Timestamp.from(afterTs));
+        ps.setInt(2, pageSize);
+      } else {
+        ps.setInt(1, pageSize);
       }
+    }, (rs, rowNum) -> {
+      String swarmId = rs.getString("swarm_id");
+      String runId = rs.getString("run_id");
+      java.sql.Timestamp first = rs.getTimestamp("first_ts");
+      java.sql.Timestamp last = rs.getTimestamp("last_ts");
+      long entries = rs.getLong("entries");
+      String scenarioId = rs.getString("scenario_id");
+      String testPlan = rs.getString("test_plan");
+      String description = rs.getString("description");
+      List<String> tags = parseJsonStringList(rs.getString("tags"));
+      return new SwarmRunSummary(
+          swarmId,
+          runId,
+          first == null ? null : first.toInstant(),
+          last == null ? null : last.toInstant(),
+          entries,
+          false,
+          scenarioId,
+          testPlan,
+          tags,
+          description);
+    });
 
-      String mainSql = afterTs != null ? """
-          SELECT
-            e.swarm_id,
-            e.run_id,
-            MIN(e.ts) AS first_ts,
-            MAX(e.ts) AS last_ts,
-            COUNT(*) AS entries,
-            r.scenario_id,
-            r.test_plan,
-            r.description,
-            r.tags::text AS tags
-          FROM journal_event e
-          LEFT JOIN journal_run r
-            ON r.swarm_id = e.swarm_id AND r.run_id = e.run_id
-          WHERE e.scope = 'SWARM' AND e.ts >= ?
-          GROUP BY e.swarm_id, e.run_id, r.scenario_id, r.test_plan, r.description, r.tags
-          ORDER BY last_ts DESC
-          LIMIT ?
-          """ : """
-          SELECT
-            e.swarm_id,
-            e.run_id,
-            MIN(e.ts) AS first_ts,
-            MAX(e.ts) AS last_ts,
-            COUNT(*) AS entries,
-            r.scenario_id,
-            r.test_plan,
-            r.description,
-            r.tags::text AS tags
-          FROM journal_event e
-          LEFT JOIN journal_run r
-            ON r.swarm_id = e.swarm_id AND r.run_id = e.run_id
-          WHERE e.scope = 'SWARM'
-          GROUP BY e.swarm_id, e.run_id, r.scenario_id, r.test_plan, r.description, r.tags
-          ORDER BY last_ts DESC
-          LIMIT ?
-          """;
-      List<SwarmRunSummary> mainRuns = jdbc.query(mainSql, ps -> {
-        if (afterTs != null) {
-          ps.setTimestamp(1, java.sql.Timestamp.from(afterTs));
-          ps.setInt(2, pageSize);
-        } else {
-          ps.setInt(1, pageSize);
-        }
-      }, (rs, rowNum) -> {
-        String swarmId = rs.getString("swarm_id");
-        String runId = rs.getString("run_id");
-        java.sql.Timestamp first = rs.getTimestamp("first_ts");
-        java.sql.Timestamp last = rs.getTimestamp("last_ts");
-        long entries = rs.getLong("entries");
-        String scenarioId = rs.getString("scenario_id");
-        String testPlan = rs.getString("test_plan");
-        String description = rs.getString("description");
-        List<String> tags = parseJsonStringList(rs.getString("tags"));
-        return new SwarmRunSummary(
-            swarmId,
-            runId,
-            first == null ? null : first.toInstant(),
-            last == null ? null : last.toInstant(),
-            entries,
-            false,
+    Map<Key, SwarmRunSummary> merged = new LinkedHashMap<>();
+    for (SwarmRunSummary run : pinnedRuns) {
+      if (run.runId() != null && run.swarmId() != null) {
+        merged.put(new Key(run.swarmId(), run.runId()), run);
+      }
+    }
+    for (SwarmRunSummary run : mainRuns) {
+      if (run.runId() == null || run.swarmId() == null) {
+        continue;
+      }
+      Key key = new Key(run.swarmId(), run.runId());
+      SwarmRunSummary existing = merged.get(key);
+      if (existing == null) {
+        merged.put(key, run);
+      } else if (existing.lastTs() == null || (run.lastTs() != null && run.lastTs().isAfter(existing.lastTs()))) {
+        String scenarioId = existing.scenarioId() != null ? existing.scenarioId() : run.scenarioId();
+        String testPlan = existing.testPlan() != null ? existing.testPlan() : run.testPlan();
+        List<String> tags = existing.tags() != null ? existing.tags() : run.tags();
+        String description = existing.description() != null ? existing.description() : run.description();
+        merged.put(key, new SwarmRunSummary(
+            existing.swarmId(),
+            existing.runId(),
+            existing.firstTs() != null ? existing.firstTs() : run.firstTs(),
+            run.lastTs(),
+            Math.max(existing.entries(), run.entries()),
+            true,
             scenarioId,
             testPlan,
             tags,
-            description);
-      });
-
-      Map<Key, SwarmRunSummary> merged = new LinkedHashMap<>();
-      for (SwarmRunSummary run : pinnedRuns) {
-        if (run.runId() != null && run.swarmId() != null) {
-          merged.put(new Key(run.swarmId(), run.runId()), run);
-        }
-      }
-      for (SwarmRunSummary run : mainRuns) {
-        if (run.runId() == null || run.swarmId() == null) {
-          continue;
-        }
-        Key key = new Key(run.swarmId(), run.runId());
-        SwarmRunSummary existing = merged.get(key);
-        if (existing == null) {
-          merged.put(key, run);
-        } else if (existing.lastTs() == null || (run.lastTs() != null && run.lastTs().isAfter(existing.lastTs()))) {
-          String scenarioId = existing.scenarioId() != null ? existing.scenarioId() : run.scenarioId();
-          String testPlan = existing.testPlan() != null ? existing.testPlan() : run.testPlan();
-          List<String> tags = existing.tags() != null ? existing.tags() : run.tags();
-          String description = existing.description() != null ? existing.description() : run.description();
-          merged.put(key, new SwarmRunSummary(
-              existing.swarmId(),
-              existing.runId(),
-              existing.firstTs() != null ? existing.firstTs() : run.firstTs(),
-              run.lastTs(),
-              Math.max(existing.entries(), run.entries()),
-              true,
-              scenarioId,
-              testPlan,
-              tags,
-              description));
-        }
+            description));
       }
-
-      List<SwarmRunSummary> runs = merged.values().stream()
-          .sorted(Comparator.comparing(SwarmRunSummary::lastTs, Comparator.nullsLast(Comparator.naturalOrder())).reversed())
-          .limit(pageSize)
-          .toList();
-      return ResponseEntity.ok(runs);
-    } catch (Exception ex) {
-      log.warn("Failed to list swarm journal runs: {}", ex.getMessage());
-      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
     }
+
+    return merged.values().stream()
+        .sorted(Comparator.comparing(SwarmRunSummary::lastTs, Comparator.nullsLast(Comparator.naturalOrder())).reversed())
+        .limit(pageSize)
+        .toList();
   }
 
   /**
@@ -390,6 +472,7 @@ public class JournalController {
             updated_at = now()
           """;
       jdbc.update(sql, swarmId, resolvedRunId, cleaned.testPlan(), cleaned.description(), tagsJson);
+      queryCache.invalidateAll();
       // Return the updated summary row (best-effort: if the run has no events anymore, return just metadata).
       String summarySql = """
           SELECT
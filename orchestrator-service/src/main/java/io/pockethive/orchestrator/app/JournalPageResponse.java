@@ -1,5 +1,6 @@
 package io.pockethive.orchestrator.app;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -9,6 +10,13 @@ public record JournalPageResponse(
     Cursor nextCursor,
     boolean hasMore) {
 
+  /**
+   * Incremental ({@code /since}) reads key on the insert-ordered {@code id}, so entries that commit late with an
+   * older event time are still returned. The cursor timestamp only bounds the partitions scanned: entries whose
+   * event time lags the cursor by more than this window are not picked up.
+   */
+  static final Duration SINCE_TS_WINDOW = Duration.ofMinutes(5);
+
   public record Cursor(Instant ts, long id) {}
 }
 
@@ -0,0 +1,116 @@
+package io.pockethive.orchestrator.app;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived result cache for journal read queries.
+ * <p>
+ * The Hive UI polls the same journal pages from every open tab. Identical requests that arrive while a
+ * query is in flight share its result, and completed results are reused for {@code ttl-ms}. Failures
+ * are never cached. A TTL of {@code 0} disables caching entirely.
+ */
+@Component
+public class JournalQueryCache {
+
+  private static final JournalQueryCache DISABLED = new JournalQueryCache(0L, 0);
+
+  private final long ttlNanos;
+  private final int maxEntries;
+  private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+
+  public JournalQueryCache(@Value("${pockethive.journal.query-cache.ttl-ms:1000}") long ttlMillis,
+                           @Value("${pockethive.journal.query-cache.max-entries:512}") int maxEntries) {
+    this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, ttlMillis));
+    this.maxEntries = Math.max(1, maxEntries);
+  }
+
+  static JournalQueryCache disabled() {
+    return DISABLED;
+  }
+
+  /**
+   * Returns the cached value for {@code key}, or runs {@code loader} once for all concurrent callers.
+   * Keys must implement value equality (records or {@code List.of(...)}).
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Supplier<T> loader) {
+    if (ttlNanos <= 0L) {
+      return loader.get();
+    }
+    while (true) {
+      long now = System.nanoTime();
+      Entry existing = entries.get(key);
+      if (existing != null && existing.usableAt(now)) {
+        return (T) await(existing.value());
+      }
+      Entry mine = new Entry(new CompletableFuture<>(), now + ttlNanos);
+      boolean installed = existing == null
+          ? entries.putIfAbsent(key, mine) == null
+          : entries.replace(key, existing, mine);
+      if (!installed) {
+        continue;
+      }
+      evictIfFull(now);
+      try {
+        T value = loader.get();
+        mine.value().complete(value);
+        return value;
+      } catch (RuntimeException | Error e) {
+        entries.remove(key, mine);
+        mine.value().completeExceptionally(e);
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Drops all cached results (used after writes that change what a page would return).
+   */
+  public void invalidateAll() {
+    entries.clear();
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  private void evictIfFull(long now) {
+    if (entries.size() <= maxEntries) {
+      return;
+    }
+    entries.entrySet().removeIf(e -> !e.getValue().usableAt(now));
+    if (entries.size() > maxEntries) {
+      // Still over budget with only live entries: drop completed ones rather than grow unbounded.
+      entries.entrySet().removeIf(e -> e.getValue().value().isDone());
+    }
+  }
+
+  private static Object await(CompletableFuture<Object> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  private record Entry(CompletableFuture<Object> value, long expiresAtNanos) {
+
+    boolean usableAt(long now) {
+      return !value.isDone() || expiresAtNanos - now > 0;
+    }
+  }
+}
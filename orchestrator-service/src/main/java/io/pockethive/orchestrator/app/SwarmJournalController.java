@@ -19,6 +19,7 @@ import java.util.Map;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
@@ -43,6 +44,7 @@ public class SwarmJournalController {
     private final JdbcTemplate jdbc;
     private final SwarmStore store;
     private final OrchestratorEndpointAuthorization endpointAuthorization;
+    private final JournalQueryCache queryCache;
 
     @Value("${pockethive.journal.sink:postgres}")
     private String journalSink;
@@ -51,10 +53,20 @@ public class SwarmJournalController {
                                   JdbcTemplate jdbc,
                                   SwarmStore store,
                                   OrchestratorEndpointAuthorization endpointAuthorization) {
+        this(json, jdbc, store, endpointAuthorization, JournalQueryCache.disabled());
+    }
+
+    @Autowired
+    public SwarmJournalController(ObjectMapper json,
+                                  JdbcTemplate jdbc,
+                                  SwarmStore store,
+                                  OrchestratorEndpointAuthorization endpointAuthorization,
+                                  JournalQueryCache queryCache) {
         this.json = json;
         this.jdbc = jdbc;
         this.store = store;
         this.endpointAuthorization = endpointAuthorization;
+        this.queryCache = queryCache;
     }
 
     /**
@@ -138,7 +150,12 @@ public class SwarmJournalController {
         }
         ResponseEntity<JournalPageResponse> response;
         try {
-            JournalPageResponse page = readJournalPageFromPostgres("SWARM", swarmId, runId, corr, severityFilter, beforeTs, beforeId, pageSize);
+            String corrFilter = corr;
+            JournalPageResponse page = queryCache.get(
+                List.of("swarm-page", swarmId, String.valueOf(runId), String.valueOf(corrFilter),
+                    String.valueOf(severityFilter), String.valueOf(beforeTs), String.valueOf(beforeId), pageSize),
+                () -> readJournalPageFromPostgres("SWARM", swarmId, runId, corrFilter, severityFilter,
+                    beforeTs, beforeId, false, pageSize));
             if (page == null) {
                 response = ResponseEntity.notFound().build();
             } else {
@@ -152,6 +169,50 @@ public class SwarmJournalController {
         return response;
     }
 
+    /**
+     * GET {@code /api/swarms/{swarmId}/journal/since} — incremental swarm journal query (Postgres only).
+     * <p>
+     * Returns entries stored after the {@code afterTs}/{@code afterId} cursor in insert order, including entries
+     * that were flushed late with an older event timestamp. The returned {@code nextCursor} always points past the
+     * last entry returned (or echoes the request cursor when nothing new arrived), so pollers only ever transfer
+     * new rows.
+     */
+    @GetMapping("/{swarmId}/journal/since")
+    public ResponseEntity<JournalPageResponse> journalSince(@PathVariable String swarmId,
+                                                            @RequestParam
+                                                            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                            Instant afterTs,
+                                                            @RequestParam long afterId,
+                                                            @RequestParam(required = false) Integer limit,
+                                                            @RequestParam(required = false) String runId,
+                                                            @RequestParam(required = false) String correlationId,
+                                                            @RequestParam(required = false) String severity) {
+        String path = "/api/swarms/" + swarmId + "/journal/since";
+        endpointAuthorization.requireReadSwarm(swarmId);
+        if (!"postgres".equalsIgnoreCase(journalSink)) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+        }
+        String severityFilter;
+        try {
+            severityFilter = normalizeSeverityFilter(severity);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+        int pageSize = limit == null ? 200 : Math.max(1, Math.min(1000, limit));
+        String corr = correlationId == null || correlationId.isBlank() ? null : correlationId.trim();
+        try {
+            JournalPageResponse page = queryCache.get(
+                List.of("swarm-since", swarmId, String.valueOf(runId), String.valueOf(corr),
+                    String.valueOf(severityFilter), afterTs.toString(), afterId, pageSize),
+                () -> readJournalPageFromPostgres("SWARM", swarmId, runId, corr, severityFilter,
+                    afterTs, afterId, true, pageSize));
+            return page == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(page);
+        } catch (Exception ex) {
+            log.warn("Failed to query journal since cursor for swarm {} ({}): {}", swarmId, path, ex.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     /**
      * GET {@code /api/swarms/{swarmId}/journal/runs} — list known journal runs for a swarm (Postgres only).
      * <p>
@@ -355,6 +416,7 @@ public class SwarmJournalController {
 
             long inserted = copyIntoArchive(captureId, cleanedId, runId, mode);
             long entries = refreshCaptureStats(captureId);
+            queryCache.invalidateAll();
             response = ResponseEntity.ok(new PinRunResponse(captureId.toString(), cleanedId, runId, mode.name(), inserted, entries));
         } catch (Exception ex) {
             log.warn("Failed to pin journal run for swarm {}: {}", swarmId, ex.getMessage());
@@ -455,8 +517,9 @@ public class SwarmJournalController {
                                                            String requestedRunId,
                                                            String correlationId,
                                                            String severityFilter,
-                                                           Instant beforeTs,
-                                                           Long beforeId,
+                                                           Instant cursorTs,
+                                                           Long cursorId,
+                                                           boolean forward,
                                                            int limit) {
         String cleanedId = sanitizeSegment(swarmId);
         if (cleanedId == null) {
@@ -469,7 +532,7 @@ public class SwarmJournalController {
 
         UUID pinnedCapture = "SWARM".equalsIgnoreCase(scope) ? findPinnedCaptureId(cleanedId, runId) : null;
         if (pinnedCapture != null) {
-            return readJournalPageFromArchive(pinnedCapture, scope, cleanedId, runId, correlationId, severityFilter, beforeTs, beforeId, limit);
+            return readJournalPageFromArchive(pinnedCapture, scope, cleanedId, runId, correlationId, severityFilter, cursorTs, cursorId, forward, limit);
         }
         record Row(long id, Instant ts, Map<String, Object> entry) {}
 
@@ -507,12 +570,18 @@ public class SwarmJournalController {
             sql.append(" AND severity = ?");
             args.add(severityFilter);
         }
-        if (beforeTs != null && beforeId != null) {
-            sql.append(" AND (ts, id) < (?, ?)");
-            args.add(java.sql.Timestamp.from(beforeTs));
-            args.add(beforeId);
+        if (cursorTs != null && cursorId != null) {
+            if (forward) {
+                sql.append(" AND id > ? AND ts >= ?");
+                args.add(cursorId);
+                args.add(java.sql.Timestamp.from(cursorTs.minus(JournalPageResponse.SINCE_TS_WINDOW)));
+            } else {
+                sql.append(" AND (ts, id) < (?, ?)");
+                args.add(java.sql.Timestamp.from(cursorTs));
+                args.add(cursorId);
+            }
         }
-        sql.append(" ORDER BY ts DESC, id DESC LIMIT ?");
+        sql.append(forward ? " ORDER BY id ASC LIMIT ?" : " ORDER BY ts DESC, id DESC LIMIT ?");
         args.add(limit + 1);
 
         List<Row> rows = jdbc.query(sql.toString(), args.toArray(), (rs, rowNum) -> {
@@ -551,7 +620,15 @@ public class SwarmJournalController {
             rows = rows.subList(0, limit);
         }
         JournalPageResponse.Cursor cursor = null;
-        if (hasMore && !rows.isEmpty()) {
+        if (forward) {
+            Instant newestTs = cursorTs;
+            for (Row row : rows) {
+                if (newestTs == null || row.ts().isAfter(newestTs)) {
+                    newestTs = row.ts();
+                }
+            }
+            cursor = new JournalPageResponse.Cursor(newestTs, rows.isEmpty() ? cursorId : rows.get(rows.size() - 1).id());
+        } else if (hasMore && !rows.isEmpty()) {
             Row last = rows.get(rows.size() - 1);
             cursor = new JournalPageResponse.Cursor(last.ts(), last.id());
         }
@@ -771,8 +848,9 @@ public class SwarmJournalController {
                                                           String runId,
                                                           String correlationId,
                                                           String severityFilter,
-                                                          Instant beforeTs,
-                                                          Long beforeId,
+                                                          Instant cursorTs,
+                                                          Long cursorId,
+                                                          boolean forward,
                                                           int limit) {
         record Row(long id, Instant ts, Map<String, Object> entry) {}
         StringBuilder sql = new StringBuilder("""
@@ -810,12 +888,17 @@ public class SwarmJournalController {
             sql.append(" AND severity = ?");
             args.add(severityFilter);
         }
-        if (beforeTs != null && beforeId != null) {
-            sql.append(" AND (ts, id) < (?, ?)");
-            args.add(java.sql.Timestamp.from(beforeTs));
-            args.add(beforeId);
+        if (cursorTs != null && cursorId != null) {
+            if (forward) {
+                sql.append(" AND id > ?");
+                args.add(cursorId);
+            } else {
+                sql.append(" AND (ts, id) < (?, ?)");
+                args.add(java.sql.Timestamp.from(cursorTs));
+                args.add(cursorId);
+            }
         }
-        sql.append(" ORDER BY ts DESC, id DESC LIMIT ?");
+        sql.append(forward ? " ORDER BY id ASC LIMIT ?" : " ORDER BY ts DESC, id DESC LIMIT ?");
         args.add(limit + 1);
 
         List<Row> rows = jdbc.query(sql.toString(), args.toArray(), (rs, rowNum) -> {
@@ -850,7 +933,15 @@ public class SwarmJournalController {
             rows = rows.subList(0, limit);
         }
         JournalPageResponse.Cursor cursor = null;
-        if (hasMore && !rows.isEmpty()) {
+        if (forward) {
+            Instant newestTs = cursorTs;
+            for (Row row : rows) {
+                if (newestTs == null || row.ts().isAfter(newestTs)) {
+                    newestTs = row.ts();
+                }
+            }
+            cursor = new JournalPageResponse.Cursor(newestTs, rows.isEmpty() ? cursorId : rows.get(rows.size() - 1).id());
+        } else if (hasMore && !rows.isEmpty()) {
             Row last = rows.get(rows.size() - 1);
             cursor = new JournalPageResponse.Cursor(last.ts(), last.id());
         }
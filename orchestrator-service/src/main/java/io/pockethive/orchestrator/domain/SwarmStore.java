@@ -2,6 +2,7 @@ package io.pockethive.orchestrator.domain;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.pockethive.observability.StatusSequence;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -22,6 +23,7 @@ public class SwarmStore {
     public enum DeltaApplyResult {
         MERGED,
         MISSING_BASELINE,
+        SEQUENCE_GAP,
         REJECTED_FULL_ONLY_FIELDS,
         NOT_OBJECT,
         SWARM_NOT_FOUND
@@ -199,8 +201,16 @@ public class SwarmStore {
         if (deltaContainsFullOnlyFields(deltaObject.path("data"))) {
             return DeltaApplyResult.REJECTED_FULL_ONLY_FIELDS;
         }
+        long baseSeq = StatusSequence.baseSequenceOf(deltaObject);
+        if (baseSeq >= 0 && baseSeq != StatusSequence.sequenceOf(currentObject)) {
+            // The delta only lists changes since a status this cache never applied.
+            return DeltaApplyResult.SEQUENCE_GAP;
+        }
         ObjectNode merged = currentObject.deepCopy();
         mergeStatusDeltaPayload(merged, deltaObject);
+        if (merged.path("data").path("context") instanceof ObjectNode mergedContext) {
+            mergedContext.remove(StatusSequence.BASE_SEQ_FIELD);
+        }
         swarm.updateControllerStatusFull(merged, receivedAt);
         return DeltaApplyResult.MERGED;
     }
@@ -1,17 +1,22 @@
 package io.pockethive.orchestrator.infra;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.pockethive.control.ControlScope;
 import io.pockethive.journal.postgres.BufferedPostgresJournalWriter;
+import io.pockethive.journal.postgres.MicrometerPostgresJournalWriterMetrics;
 import io.pockethive.journal.postgres.PostgresJournalBackpressureEvents;
+import io.pockethive.journal.postgres.PostgresJournalIngestMode;
 import io.pockethive.journal.postgres.PostgresJournalRecord;
 import io.pockethive.orchestrator.domain.HiveJournal;
 import io.pockethive.orchestrator.domain.SwarmStore;
+import jakarta.annotation.PreDestroy;
 import java.time.Instant;
 import java.util.Map;
 import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -35,11 +40,27 @@ public class PostgresHiveJournal implements HiveJournal {
   private static final int DEFAULT_BATCH_SIZE = 1_000;
   private static final long DEFAULT_DB_FAILURE_BACKOFF_MILLIS = 30_000;
   private static final long DEFAULT_DROP_QUIET_PERIOD_MILLIS = 1_000;
+  private static final String DEFAULT_INGEST_MODE = "insert";
+  private static final String DEFAULT_FLUSH_MODE = "scheduled";
+  private static final int DEFAULT_FLUSH_THRESHOLD = 500;
+  private static final long DEFAULT_MAX_LINGER_MILLIS = 200;
 
   private final ObjectMapper mapper;
   private final SwarmStore store;
   private final BufferedPostgresJournalWriter<HiveJournalEntry> writer;
 
+  PostgresHiveJournal(ObjectMapper mapper,
+                      JdbcTemplate jdbc,
+                      SwarmStore store,
+                      int capacity,
+                      int batchSize,
+                      long dbFailureBackoffMillis,
+                      long dropQuietPeriodMillis) {
+    this(mapper, jdbc, store, capacity, batchSize, dbFailureBackoffMillis, dropQuietPeriodMillis,
+        DEFAULT_INGEST_MODE, DEFAULT_FLUSH_MODE, DEFAULT_FLUSH_THRESHOLD, DEFAULT_MAX_LINGER_MILLIS, null);
+  }
+
+  @Autowired
   public PostgresHiveJournal(ObjectMapper mapper,
                              JdbcTemplate jdbc,
                              SwarmStore store,
@@ -50,10 +71,20 @@ public class PostgresHiveJournal implements HiveJournal {
                              @Value("${pockethive.journal.postgres.db-failure-backoff-ms:" + DEFAULT_DB_FAILURE_BACKOFF_MILLIS + "}")
                              long dbFailureBackoffMillis,
                              @Value("${pockethive.journal.postgres.drop-quiet-period-ms:" + DEFAULT_DROP_QUIET_PERIOD_MILLIS + "}")
-                             long dropQuietPeriodMillis) {
+                             long dropQuietPeriodMillis,
+                             @Value("${pockethive.journal.postgres.ingest-mode:" + DEFAULT_INGEST_MODE + "}")
+                             String ingestMode,
+                             @Value("${pockethive.journal.postgres.flush-mode:" + DEFAULT_FLUSH_MODE + "}")
+                             String flushMode,
+                             @Value("${pockethive.journal.postgres.flush-threshold:" + DEFAULT_FLUSH_THRESHOLD + "}")
+                             int flushThreshold,
+                             @Value("${pockethive.journal.postgres.max-linger-ms:" + DEFAULT_MAX_LINGER_MILLIS + "}")
+                             long maxLingerMillis,
+                             MeterRegistry meterRegistry) {
     this.mapper = Objects.requireNonNull(mapper, "mapper").findAndRegisterModules();
     Objects.requireNonNull(jdbc, "jdbc");
     this.store = Objects.requireNonNull(store, "store");
+    PostgresJournalIngestMode mode = PostgresJournalIngestMode.from(ingestMode);
     this.writer = new BufferedPostgresJournalWriter<>(
         "Hive journal",
         Objects.requireNonNull(jdbc.getDataSource(), "dataSource"),
@@ -63,7 +94,16 @@ public class PostgresHiveJournal implements HiveJournal {
         dropQuietPeriodMillis,
         HiveJournalEntry::severity,
         this::toRecord,
-        new HiveBackpressureEvents());
+        new HiveBackpressureEvents(),
+        mode,
+        flushThreshold,
+        maxLingerMillis,
+        meterRegistry != null
+            ? new MicrometerPostgresJournalWriterMetrics(meterRegistry, "hive", mode)
+            : null);
+    if ("adaptive".equalsIgnoreCase(flushMode != null ? flushMode.trim() : null)) {
+      writer.start();
+    }
   }
 
   @Override
@@ -88,9 +128,18 @@ public class PostgresHiveJournal implements HiveJournal {
 
   @Scheduled(fixedDelay = 200L)
   public void flush() {
+    if (writer.isRunning()) {
+      // Adaptive flush mode: the writer's own flusher wakes on buffer threshold / max linger.
+      return;
+    }
     writer.flush();
   }
 
+  @PreDestroy
+  public void close() {
+    writer.close();
+  }
+
   private String resolveRunId(HiveJournalEntry entry) {
     String swarmId = entry.swarmId();
     if (HIVE_SWARM_ID.equals(swarmId)) {
@@ -0,0 +1,24 @@
+-- Read-path indexes for the journal page/since/runs queries.
+-- Declared on the partitioned parent, so Postgres attaches a matching index to every existing
+-- and future daily partition (including ones the partition manager creates later).
+
+CREATE INDEX IF NOT EXISTS idx_journal_event_scope_ts_id
+  ON journal_event (scope, ts DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_journal_event_swarm_run_severity_ts_id
+  ON journal_event (scope, swarm_id, run_id, severity, ts DESC, id DESC);
+
+-- Covering index: /swarm/runs aggregates MIN/MAX(ts) per run from the index alone.
+CREATE INDEX IF NOT EXISTS idx_journal_event_scope_swarm_run_cover
+  ON journal_event (scope, swarm_id, run_id) INCLUDE (ts);
+
+-- BRIN keeps afterTs range filters cheap on append-only partitions.
+CREATE INDEX IF NOT EXISTS idx_journal_event_ts_brin
+  ON journal_event USING BRIN (ts) WITH (pages_per_range = 32);
+
+-- Incremental (/since) polling walks the insert-ordered id after the cursor.
+CREATE INDEX IF NOT EXISTS idx_journal_event_scope_id
+  ON journal_event (scope, id);
+
+CREATE INDEX IF NOT EXISTS idx_journal_event_swarm_run_id
+  ON journal_event (scope, swarm_id, run_id, id);
@@ -9,6 +9,7 @@ import static org.mockito.Mockito.when;
 
 import io.pockethive.controlplane.spring.ControlPlaneProperties;
 import io.pockethive.docker.DockerContainerClient;
+import io.pockethive.docker.ParallelDockerCalls;
 import io.pockethive.manager.ports.ComputeAdapter;
 import io.pockethive.manager.runtime.ComputeAdapterType;
 import io.pockethive.manager.runtime.ManagerSpec;
@@ -378,9 +379,10 @@ class ContainerLifecycleManagerTest {
 
         manager.preloadSwarmImages("sw1");
 
-        verify(docker).pullImage("ghcr.io/acme/pockethive/swarm-controller:latest");
-        verify(docker).pullImage("ghcr.io/acme/pockethive/generator:latest");
-        verify(docker).pullImage("ghcr.io/acme/pockethive/processor:latest");
+        verify(docker).pullImages(List.of(
+            "ghcr.io/acme/pockethive/swarm-controller:latest",
+            "ghcr.io/acme/pockethive/generator:latest",
+            "ghcr.io/acme/pockethive/processor:latest"), ParallelDockerCalls.DEFAULT_PARALLELISM);
     }
 
     private static OrchestratorProperties defaultProperties() {
@@ -0,0 +1,81 @@
+package io.pockethive.orchestrator.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class JournalQueryCacheTest {
+
+  @Test
+  void identicalConcurrentQueriesShareOneLoad() throws Exception {
+    JournalQueryCache cache = new JournalQueryCache(60_000L, 16);
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        results.add(executor.submit(() -> cache.get(List.of("hive-page", "s1"), () -> {
+          loads.incrementAndGet();
+          await(release);
+          return "page";
+        })));
+      }
+      Thread.sleep(100);
+      release.countDown();
+      for (Future<String> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("page");
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void failuresAreNotCached() {
+    JournalQueryCache cache = new JournalQueryCache(60_000L, 16);
+    assertThatThrownBy(() -> cache.get("k", () -> {
+      throw new IllegalStateException("db down");
+    })).isInstanceOf(IllegalStateException.class);
+
+    assertThat(cache.get("k", () -> "ok")).isEqualTo("ok");
+  }
+
+  @Test
+  void zeroTtlDisablesCaching() {
+    JournalQueryCache cache = new JournalQueryCache(0L, 16);
+    AtomicInteger loads = new AtomicInteger();
+    cache.get("k", loads::incrementAndGet);
+    cache.get("k", loads::incrementAndGet);
+    assertThat(loads).hasValue(2);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void invalidateAllForcesReload() {
+    JournalQueryCache cache = new JournalQueryCache(60_000L, 16);
+    AtomicInteger loads = new AtomicInteger();
+    cache.get("k", loads::incrementAndGet);
+    cache.invalidateAll();
+    cache.get("k", loads::incrementAndGet);
+    assertThat(loads).hasValue(2);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
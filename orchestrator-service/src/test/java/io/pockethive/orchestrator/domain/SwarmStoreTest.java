@@ -1,5 +1,7 @@
 package io.pockethive.orchestrator.domain;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
@@ -92,4 +94,36 @@ class SwarmStoreTest {
         assertTrue(store.find("s2").isEmpty());
         assertEquals(1, store.count());
     }
+
+    @Test
+    void sequencedDeltasMergeOntoBaselineAndGapsAreRejected() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        SwarmStore store = new SwarmStore();
+        Swarm swarm = new Swarm("s1", "inst1", "container", "run-1");
+        store.register(swarm);
+        Instant now = Instant.parse("2026-01-25T12:00:00Z");
+        store.cacheControllerStatusFull("s1", mapper.readTree("""
+            {"timestamp":"t0","data":{"enabled":true,"context":{"statusSeq":1,"swarmStatus":"RUNNING","networkMode":"DIRECT","totals":{"desired":2,"running":2}}}}
+            """), now);
+
+        SwarmStore.DeltaApplyResult merged = store.applyControllerStatusDelta("s1", mapper.readTree("""
+            {"timestamp":"t1","data":{"enabled":true,"context":{"statusSeq":2,"statusBaseSeq":1,"totals":{"running":1}}}}
+            """), now);
+
+        assertEquals(SwarmStore.DeltaApplyResult.MERGED, merged);
+        JsonNode context = swarm.getControllerStatusFull().path("data").path("context");
+        assertEquals(2, context.path("statusSeq").asLong());
+        assertFalse(context.has("statusBaseSeq"));
+        assertEquals("RUNNING", context.path("swarmStatus").asText());
+        assertEquals("DIRECT", context.path("networkMode").asText());
+        assertEquals(2, context.path("totals").path("desired").asInt());
+        assertEquals(1, context.path("totals").path("running").asInt());
+
+        SwarmStore.DeltaApplyResult gap = store.applyControllerStatusDelta("s1", mapper.readTree("""
+            {"timestamp":"t3","data":{"enabled":true,"context":{"statusSeq":4,"statusBaseSeq":3,"swarmStatus":"STOPPED"}}}
+            """), now);
+
+        assertEquals(SwarmStore.DeltaApplyResult.SEQUENCE_GAP, gap);
+        assertEquals("RUNNING", swarm.getControllerStatusFull().path("data").path("context").path("swarmStatus").asText());
+    }
 }
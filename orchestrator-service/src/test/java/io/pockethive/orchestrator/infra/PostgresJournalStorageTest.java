@@ -318,6 +318,66 @@ class PostgresJournalStorageTest {
     assertThat(page.items().get(0).get("type")).isEqualTo("error-event");
   }
 
+  @Test
+  void swarmJournalSinceReturnsOnlyEntriesAfterCursor() {
+    jdbc.update("DELETE FROM journal_event");
+    Instant base = Instant.parse("2025-01-01T00:00:00Z");
+    insertSwarmJournalEvent(base, "sw-since", "run-since", "INFO", "e-1");
+    insertSwarmJournalEvent(base.plusSeconds(1), "sw-since", "run-since", "INFO", "e-2");
+
+    SwarmJournalController ctrl = new SwarmJournalController(mapper, jdbc, store, endpointAuthorization(store));
+    ReflectionTestUtils.setField(ctrl, "journalSink", "postgres");
+
+    JournalPageResponse latest = ctrl.journalPage("sw-since", null, null, 1, "run-since", null, null).getBody();
+    assertThat(latest).isNotNull();
+    long latestId = ((Number) latest.items().get(0).get("eventId")).longValue();
+    Instant latestTs = (Instant) latest.items().get(0).get("timestamp");
+
+    JournalPageResponse empty = ctrl.journalSince("sw-since", latestTs, latestId, 10, "run-since", null, null).getBody();
+    assertThat(empty).isNotNull();
+    assertThat(empty.items()).isEmpty();
+    assertThat(empty.nextCursor()).isEqualTo(new JournalPageResponse.Cursor(latestTs, latestId));
+
+    insertSwarmJournalEvent(base.plusSeconds(2), "sw-since", "run-since", "INFO", "e-3");
+    insertSwarmJournalEvent(base.plusSeconds(3), "sw-since", "run-since", "INFO", "e-4");
+
+    JournalPageResponse fresh = ctrl.journalSince("sw-since", latestTs, latestId, 10, "run-since", null, null).getBody();
+    assertThat(fresh).isNotNull();
+    assertThat(fresh.items()).extracting(item -> item.get("type")).containsExactly("e-3", "e-4");
+    assertThat(fresh.hasMore()).isFalse();
+    assertThat(fresh.nextCursor().ts()).isEqualTo(base.plusSeconds(3));
+  }
+
+  @Test
+  void swarmJournalSinceReturnsLateCommittedOlderEntries() {
+    jdbc.update("DELETE FROM journal_event");
+    Instant base = Instant.parse("2025-01-01T00:00:00Z");
+    insertSwarmJournalEvent(base, "sw-late", "run-late", "INFO", "e-1");
+    insertSwarmJournalEvent(base.plusSeconds(10), "sw-late", "run-late", "INFO", "e-2");
+
+    SwarmJournalController ctrl = new SwarmJournalController(mapper, jdbc, store, endpointAuthorization(store));
+    ReflectionTestUtils.setField(ctrl, "journalSink", "postgres");
+
+    JournalPageResponse latest = ctrl.journalPage("sw-late", null, null, 1, "run-late", null, null).getBody();
+    assertThat(latest).isNotNull();
+    long latestId = ((Number) latest.items().get(0).get("eventId")).longValue();
+    Instant latestTs = (Instant) latest.items().get(0).get("timestamp");
+
+    // Buffered by a slower writer: committed after the cursor was read, but stamped before it.
+    insertSwarmJournalEvent(base.plusSeconds(5), "sw-late", "run-late", "INFO", "e-late");
+
+    JournalPageResponse fresh = ctrl.journalSince("sw-late", latestTs, latestId, 10, "run-late", null, null).getBody();
+    assertThat(fresh).isNotNull();
+    assertThat(fresh.items()).extracting(item -> item.get("type")).containsExactly("e-late");
+    assertThat(fresh.nextCursor().ts()).isEqualTo(latestTs);
+    assertThat(fresh.nextCursor().id()).isGreaterThan(latestId);
+
+    JournalPageResponse again = ctrl.journalSince(
+        "sw-late", fresh.nextCursor().ts(), fresh.nextCursor().id(), 10, "run-late", null, null).getBody();
+    assertThat(again).isNotNull();
+    assertThat(again.items()).isEmpty();
+  }
+
   @Test
   void hiveJournalOverloadEvictsInfoToKeepError() throws Exception {
     jdbc.update("DELETE FROM journal_event");
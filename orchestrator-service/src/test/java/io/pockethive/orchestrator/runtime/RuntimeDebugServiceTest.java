@@ -373,6 +373,11 @@ class RuntimeDebugServiceTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public void removeWorker(String topologyId, String workerId) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public void removeWorkers(String topologyId) {
             throw new UnsupportedOperationException();
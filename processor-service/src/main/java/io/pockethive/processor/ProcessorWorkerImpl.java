@@ -8,17 +8,21 @@ import io.pockethive.processor.handler.Iso8583ProtocolHandler;
 import io.pockethive.processor.handler.TcpProtocolHandler;
 import io.pockethive.processor.metrics.CallMetricsRecorder;
 import io.pockethive.processor.exception.ProcessorCallException;
+import io.pockethive.processor.transport.TcpPoolMetrics;
 import io.pockethive.worker.sdk.api.PocketHiveWorkerFunction;
 import io.pockethive.worker.sdk.api.WorkItem;
 import io.pockethive.worker.sdk.api.WorkerContext;
+import io.pockethive.worker.sdk.api.WorkerWarmUp;
 import io.pockethive.worker.sdk.auth.AuthFailureException;
 import io.pockethive.worker.sdk.auth.AuthFailureJournalDeduplicator;
 import io.pockethive.worker.sdk.config.RedisSequenceProperties;
 import io.pockethive.worker.sdk.config.PocketHiveWorker;
 import io.pockethive.worker.sdk.config.WorkerCapability;
+import io.pockethive.worker.sdk.transport.http.HttpPoolWarmUp;
 import io.pockethive.templating.TemplateRenderer;
 
 import java.time.Clock;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -32,6 +36,7 @@ import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactoryBuilder;
 import org.apache.hc.client5.http.ssl.TrustAllStrategy;
 import org.apache.hc.core5.http.ConnectionReuseStrategy;
 import org.apache.hc.core5.ssl.SSLContextBuilder;
+import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -61,23 +66,32 @@ import org.springframework.stereotype.Component;
  * emitting error payload steps.
  * <p>
  * Configuration is supplied by the control plane on the {@code processor.control.*} routing keys.
+ * <p>
+ * Before a swarm is enabled the controller can ask for a connection warm-up; the worker then pre-opens pooled
+ * HTTP or TCP connections to {@code baseUrl} (see {@link #warmUp(int, Object)}) without recording any calls.
  */
 @Component("processorWorker")
 @PocketHiveWorker(
     capabilities = {WorkerCapability.MESSAGE_DRIVEN, WorkerCapability.HTTP},
     config = ProcessorWorkerConfig.class
 )
-class ProcessorWorkerImpl implements PocketHiveWorkerFunction {
+class ProcessorWorkerImpl implements PocketHiveWorkerFunction, WorkerWarmUp {
 
   private static final int GLOBAL_MAX_CONNECTIONS = 200;
   private static final int GLOBAL_MAX_PER_ROUTE = 200;
 
-  private record HttpClientBundle(HttpClient pooled, HttpClient noKeepAlive, ThreadLocal<HttpClient> perThread) {
+  private record HttpClientBundle(HttpClient pooled,
+                                  HttpClient noKeepAlive,
+                                  ThreadLocal<HttpClient> perThread,
+                                  PoolingHttpClientConnectionManager pooledManager) {
   }
 
   private final ObjectMapper mapper;
   private final CallMetricsRecorder metricsRecorder = new CallMetricsRecorder();
   private final Map<String, ProtocolHandler> protocolHandlers;
+  private final TcpProtocolHandler tcpHandler;
+  private final PoolingHttpClientConnectionManager verifiedPool;
+  private final PoolingHttpClientConnectionManager insecurePool;
   private final AuthFailureJournalDeduplicator authFailureJournal = new AuthFailureJournalDeduplicator();
 
   @Autowired
@@ -95,8 +109,8 @@ class ProcessorWorkerImpl implements PocketHiveWorkerFunction {
 
   ProcessorWorkerImpl(ObjectMapper mapper, ProcessorWorkerProperties properties, HttpClient httpClient, HttpClient noKeepAliveClient, Clock clock) {
     this(mapper, properties,
-        new HttpClientBundle(httpClient, noKeepAliveClient, ThreadLocal.withInitial(() -> httpClient)),
-        new HttpClientBundle(httpClient, noKeepAliveClient, ThreadLocal.withInitial(() -> httpClient)),
+        new HttpClientBundle(httpClient, noKeepAliveClient, ThreadLocal.withInitial(() -> httpClient), null),
+        new HttpClientBundle(httpClient, noKeepAliveClient, ThreadLocal.withInitial(() -> httpClient), null),
         clock,
         new io.pockethive.templating.PebbleTemplateRenderer(),
         new RedisSequenceProperties());
@@ -110,8 +124,8 @@ class ProcessorWorkerImpl implements PocketHiveWorkerFunction {
                       HttpClient insecureNoKeepAliveClient,
                       Clock clock) {
     this(mapper, properties,
-        new HttpClientBundle(verifiedClient, verifiedNoKeepAliveClient, ThreadLocal.withInitial(() -> verifiedClient)),
-        new HttpClientBundle(insecureClient, insecureNoKeepAliveClient, ThreadLocal.withInitial(() -> insecureClient)),
+        new HttpClientBundle(verifiedClient, verifiedNoKeepAliveClient, ThreadLocal.withInitial(() -> verifiedClient), null),
+        new HttpClientBundle(insecureClient, insecureNoKeepAliveClient, ThreadLocal.withInitial(() -> insecureClient), null),
         clock,
         new io.pockethive.templating.PebbleTemplateRenderer(),
         new RedisSequenceProperties());
@@ -126,6 +140,10 @@ class ProcessorWorkerImpl implements PocketHiveWorkerFunction {
                               RedisSequenceProperties redisProperties) {
     this.mapper = Objects.requireNonNull(mapper, "mapper");
     java.util.concurrent.atomic.AtomicLong nextAllowedTimeNanos = new java.util.concurrent.atomic.AtomicLong(0L);
+    this.tcpHandler = new TcpProtocolHandler(mapper, clock, metricsRecorder, nextAllowedTimeNanos,
+        templateRenderer, redisProperties);
+    this.verifiedPool = verifiedClients.pooledManager();
+    this.insecurePool = insecureClients.pooledManager();
     this.protocolHandlers = Map.of(
         "HTTP", new HttpProtocolHandler(
             mapper,
@@ -138,8 +156,7 @@ class ProcessorWorkerImpl implements PocketHiveWorkerFunction {
             insecureClients.noKeepAlive(),
             insecureClients.perThread(),
             nextAllowedTimeNanos),
-        "TCP", new TcpProtocolHandler(mapper, clock, metricsRecorder, nextAllowedTimeNanos,
-            templateRenderer, redisProperties),
+        "TCP", tcpHandler,
         "ISO8583", new Iso8583ProtocolHandler(
             mapper,
             clock,
@@ -184,6 +201,30 @@ class ProcessorWorkerImpl implements PocketHiveWorkerFunction {
     }
   }
 
+  /**
+   * Pre-opens up to {@code connections} pooled connections to {@code baseUrl}: on the shared TCP transport for
+   * {@code tcp(s)://} targets, otherwise on the keep-alive HTTP pool. Connection modes that do not share a pool
+   * across work items ({@code PER_THREAD}, {@code NONE}, keep-alive off) have nothing to warm.
+   */
+  @Override
+  public Map<String, Object> warmUp(int connections, Object config) throws Exception {
+    if (!(config instanceof ProcessorWorkerConfig processorConfig)) {
+      return Map.of();
+    }
+    Map<String, Object> summary = new LinkedHashMap<>();
+    String baseUrl = processorConfig.baseUrl();
+    if (baseUrl.startsWith("tcp://") || baseUrl.startsWith("tcps://")) {
+      summary.put("tcp", tcpHandler.warmUp(processorConfig, connections));
+      return summary;
+    }
+    PoolingHttpClientConnectionManager pool = Boolean.TRUE.equals(processorConfig.sslVerify()) ? verifiedPool : insecurePool;
+    boolean shared = Boolean.TRUE.equals(processorConfig.keepAlive())
+        && processorConfig.connectionReuse() == ProcessorWorkerConfig.ConnectionReuse.GLOBAL;
+    summary.put("http", pool == null || !shared ? 0
+        : HttpPoolWarmUp.warmUp(pool, baseUrl, connections, Timeout.ofMilliseconds(processorConfig.timeoutMs())));
+    return summary;
+  }
+
   private WorkItem handleAuthFailure(AuthFailureException failure, WorkerContext context) {
     AuthFailureJournalDeduplicator.Decision decision = authFailureJournal.record(
         context.info().swarmId() + ":" + context.info().instanceId() + ":processor",
@@ -220,6 +261,7 @@ class ProcessorWorkerImpl implements PocketHiveWorkerFunction {
 
   private void publishStatus(WorkerContext context, ProcessorWorkerConfig config) {
     int httpMaxConnections = httpMaxConnections(config);
+    TcpPoolMetrics tcpPool = TcpPoolMetrics.global();
     context.statusPublisher()
         .update(status -> status
             .data("baseUrl", config.baseUrl())
@@ -229,7 +271,14 @@ class ProcessorWorkerImpl implements PocketHiveWorkerFunction {
             .data("httpMaxConnections", httpMaxConnections)
             .data("transactions", metricsRecorder.totalCalls())
             .data("successRatio", metricsRecorder.successRatio())
-            .data("avgLatencyMs", metricsRecorder.averageLatencyMs()));
+            .data("avgLatencyMs", metricsRecorder.averageLatencyMs())
+            .data("tcpPoolLeased", tcpPool.leased())
+            .data("tcpPoolIdle", tcpPool.idle())
+            .data("tcpPoolAvgWaitMs", tcpPool.averageWaitMs())
+            .data("tcpPoolMaxWaitMs", tcpPool.maxWaitMs())
+            .data("tcpPoolAcquireTimeouts", tcpPool.acquireTimeouts())
+            .data("tcpPoolIdleEvictions", tcpPool.idleEvictions())
+            .data("tcpPoolValidationFailures", tcpPool.validationFailures()));
   }
 
   private int httpMaxConnections(ProcessorWorkerConfig config) {
@@ -240,14 +289,15 @@ class ProcessorWorkerImpl implements PocketHiveWorkerFunction {
   }
 
   private static HttpClientBundle newHttpClientBundle(boolean sslVerify) {
+    PoolingHttpClientConnectionManager pooledManager = newConnectionManager(sslVerify);
     return new HttpClientBundle(
-        newHttpClient(sslVerify, true),
-        newHttpClient(sslVerify, false),
-        ThreadLocal.withInitial(() -> newHttpClient(sslVerify, true)));
+        newHttpClient(pooledManager, true),
+        newHttpClient(newConnectionManager(sslVerify), false),
+        ThreadLocal.withInitial(() -> newHttpClient(newConnectionManager(sslVerify), true)),
+        pooledManager);
   }
 
-  private static HttpClient newHttpClient(boolean sslVerify, boolean keepAlive) {
-    PoolingHttpClientConnectionManager manager = newConnectionManager(sslVerify);
+  private static HttpClient newHttpClient(PoolingHttpClientConnectionManager manager, boolean keepAlive) {
     var builder = HttpClients.custom()
         .useSystemProperties()
         .setConnectionManager(manager);
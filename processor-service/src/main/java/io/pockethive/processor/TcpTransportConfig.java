@@ -10,13 +10,68 @@ public record TcpTransportConfig(
     boolean tcpNoDelay,    // TCP_NODELAY option
     boolean sslVerify,     // SSL certificate verification
     ConnectionReuse connectionReuse,  // connection pooling strategy
-    int maxRetries         // retry attempts
+    int maxRetries,        // retry attempts
+    Pool pool              // socket transport pool settings
 ) {
 
     public enum ConnectionReuse {
         GLOBAL, PER_THREAD, NONE
     }
 
+    public TcpTransportConfig {
+        pool = pool == null ? Pool.defaults() : pool;
+    }
+
+    public TcpTransportConfig(String type,
+                              int connectTimeoutMs,
+                              int readTimeoutMs,
+                              int maxBytes,
+                              boolean keepAlive,
+                              int workerThreads,
+                              boolean tcpNoDelay,
+                              boolean sslVerify,
+                              ConnectionReuse connectionReuse,
+                              int maxRetries) {
+        this(type, connectTimeoutMs, readTimeoutMs, maxBytes, keepAlive, workerThreads, tcpNoDelay, sslVerify,
+            connectionReuse, maxRetries, Pool.defaults());
+    }
+
+    /**
+     * Per-endpoint ({@code host:port}) socket pool used by the {@code socket} transport.
+     * <p>
+     * At most {@code maxPerEndpoint} sockets are leased at once; callers wait up to {@code acquireTimeoutMs}
+     * for a free slot. Idle sockets are closed after {@code idleTimeoutMs} (keeping {@code minIdle} warm) and,
+     * with {@code validateOnBorrow}, checked for peer close or stray bytes before reuse.
+     * {@code pipelineDepth > 1} lets that many LENGTH_PREFIX_2B requests share one socket before their
+     * responses are read back in send order. Unset or non-positive values fall back to the defaults.
+     */
+    public record Pool(
+        int minIdle,
+        int maxPerEndpoint,
+        long idleTimeoutMs,
+        long acquireTimeoutMs,
+        Boolean validateOnBorrow,
+        int pipelineDepth
+    ) {
+
+        public Pool {
+            maxPerEndpoint = maxPerEndpoint > 0 ? maxPerEndpoint : 64;
+            minIdle = Math.min(Math.max(minIdle, 0), maxPerEndpoint);
+            idleTimeoutMs = idleTimeoutMs > 0 ? idleTimeoutMs : 60_000L;
+            acquireTimeoutMs = acquireTimeoutMs > 0 ? acquireTimeoutMs : 5_000L;
+            validateOnBorrow = validateOnBorrow == null || validateOnBorrow;
+            pipelineDepth = Math.max(pipelineDepth, 1);
+        }
+
+        public static Pool defaults() {
+            return new Pool(0, 64, 60_000L, 5_000L, true, 1);
+        }
+
+        public boolean pipelined() {
+            return pipelineDepth > 1;
+        }
+    }
+
     public static TcpTransportConfig defaults() {
         return new TcpTransportConfig(
             "socket",
@@ -28,7 +83,8 @@ public record TcpTransportConfig(
             true,
             false,
             ConnectionReuse.GLOBAL,
-            2
+            2,
+            Pool.defaults()
         );
     }
 }
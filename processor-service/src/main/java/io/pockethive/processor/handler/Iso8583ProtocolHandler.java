@@ -1,10 +1,14 @@
 package io.pockethive.processor.handler;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import io.pockethive.processor.ProcessorWorkerConfig;
 import io.pockethive.processor.TcpTransportConfig;
 import io.pockethive.processor.ResultRulesExtractor;
@@ -26,6 +30,7 @@ import io.pockethive.worker.sdk.api.WorkItem;
 import io.pockethive.worker.sdk.api.WorkerContext;
 import io.pockethive.worker.sdk.config.RedisSequenceProperties;
 import io.pockethive.templating.TemplateRenderer;
+import java.io.IOException;
 import java.net.URI;
 import java.time.Clock;
 import java.util.HashMap;
@@ -38,6 +43,9 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class Iso8583ProtocolHandler implements ProtocolHandler {
+  private static final HexFormat HEX = HexFormat.of().withUpperCase();
+  private static final byte[] EMPTY = new byte[0];
+
   private final ObjectMapper mapper;
   private final ObjectReader strictEnvelopeReader;
   private final Clock clock;
@@ -87,6 +95,7 @@ public class Iso8583ProtocolHandler implements ProtocolHandler {
 
     WireProfile wireProfile;
     byte[] payloadBytes;
+    byte[] trailer = EMPTY;
     Map<String, Object> authTransportOptions = Map.of();
     try {
       wireProfile = WireProfile.fromId(request.wireProfileId());
@@ -94,15 +103,17 @@ public class Iso8583ProtocolHandler implements ProtocolHandler {
       if (request.authApplications() != null && !request.authApplications().isEmpty()) {
         AuthRuntime authRuntime = AuthRuntime.forApplications(
             request.authApplications(), Map.of(), config.authProfileSutContext(), context, templateRenderer, redisProperties);
-        String payloadHex = HexFormat.of().withUpperCase().formatHex(payloadBytes);
         for (AuthRef authRef : request.authApplications()) {
           if (authRef.applyAs() == AuthApplyAs.MTLS_CLIENT_CERT) {
             authTransportOptions = authRuntime.transportOptions(authRef, context);
           } else {
-            payloadHex = authRuntime.applyIsoPayloadHex(authRef, payloadHex, message, context);
+            // A MAC covers everything before it, including earlier MACs; only chained MACs need a joined copy.
+            if (trailer.length > 0) {
+              payloadBytes = concat(payloadBytes, trailer);
+            }
+            trailer = authRuntime.isoPayloadMac(authRef, payloadBytes, message, context);
           }
         }
-        payloadBytes = HexFormat.of().parseHex(payloadHex);
       }
     } catch (IllegalArgumentException ex) {
       throw new ProcessorCallException(
@@ -124,7 +135,7 @@ public class Iso8583ProtocolHandler implements ProtocolHandler {
       pacingMillis = applyExecutionMode(config);
 
       TcpTransportConfig transportConfig = activeConfig;
-      byte[] framedPayload = wireProfile.frame(payloadBytes);
+      byte[] framedPayload = wireProfile.frame(payloadBytes, trailer);
       Map<String, Object> options = new HashMap<>();
       options.put("connectTimeoutMs", transportConfig.connectTimeoutMs());
       options.put("readTimeoutMs", transportConfig.readTimeoutMs());
@@ -168,6 +179,8 @@ public class Iso8583ProtocolHandler implements ProtocolHandler {
       CallMetrics metrics = CallMetrics.success(callDuration, connectionLatency, 200);
       metricsRecorder.record(metrics);
 
+      // Hex-encoded at most once, and only when the step is serialized or a result rule reads it.
+      LazyHex responseHex = new LazyHex(response.body());
       Iso8583ResultEnvelope resultEnvelope = Iso8583ResultEnvelope.of(
           new Iso8583ResultEnvelope.Iso8583RequestInfo(
               "iso8583",
@@ -176,26 +189,28 @@ public class Iso8583ProtocolHandler implements ProtocolHandler {
               endpoint.endpoint(),
               wireProfile.id(),
               request.payloadAdapter(),
-              payloadBytes.length
+              framedPayload.length - WireProfile.HEADER_BYTES
           ),
           new Iso8583ResultEnvelope.Iso8583Outcome(
               Iso8583ResultEnvelope.OUTCOME_ISO8583_RESPONSE,
               200,
-              HexFormat.of().withUpperCase().formatHex(response.body()),
+              null,
               null
           ),
           new Iso8583ResultEnvelope.Iso8583Metrics(metrics.durationMs(), metrics.connectionLatencyMs())
       );
 
       ObjectNode result = mapper.valueToTree(resultEnvelope);
-      String responseHex = resultEnvelope.outcome().responseHex();
-      Map<String, Object> extractionHeaders = ResultRulesExtractor.extract(
-          requestEnvelope.resultRules(),
-          request.payload(),
-          request.headers(),
-          responseHex,
-          Map.of()
-      );
+      ((ObjectNode) result.get("outcome")).putPOJO("responseHex", responseHex);
+      Map<String, Object> extractionHeaders = requestEnvelope.resultRules() == null
+          ? Map.of()
+          : ResultRulesExtractor.extract(
+              requestEnvelope.resultRules(),
+              request.payload(),
+              request.headers(),
+              responseHex.value(),
+              Map.of()
+          );
 
       WorkItem responseItem = ResponseBuilder.build(result, context.info(), metrics, extractionHeaders);
       WorkItem updated = message.addStep(context.info(), responseItem.asString(), responseItem.stepHeaders());
@@ -248,7 +263,14 @@ public class Iso8583ProtocolHandler implements ProtocolHandler {
     if ((payload.length() & 1) != 0) {
       throw new IllegalArgumentException("Invalid RAW_HEX payload length");
     }
-    return HexFormat.of().parseHex(payload);
+    return HEX.parseHex(payload);
+  }
+
+  private static byte[] concat(byte[] head, byte[] tail) {
+    byte[] joined = new byte[head.length + tail.length];
+    System.arraycopy(head, 0, joined, 0, head.length);
+    System.arraycopy(tail, 0, joined, head.length, tail.length);
+    return joined;
   }
 
   private Endpoint parseEndpoint(String baseUrl) {
@@ -371,14 +393,21 @@ public class Iso8583ProtocolHandler implements ProtocolHandler {
       throw new IllegalArgumentException("Unsupported ISO8583 wireProfileId: " + id);
     }
 
-    byte[] frame(byte[] payload) {
-      if (payload.length > 65535) {
+    private static final int HEADER_BYTES = 2;
+
+    /**
+     * Length header, payload and trailer (e.g. a MAC) written into a single buffer.
+     */
+    byte[] frame(byte[] payload, byte[] trailer) {
+      int length = payload.length + trailer.length;
+      if (length > 65535) {
         throw new IllegalArgumentException("ISO8583 payload exceeds 65535 bytes");
       }
-      byte[] framed = new byte[2 + payload.length];
-      framed[0] = (byte) ((payload.length >> 8) & 0xFF);
-      framed[1] = (byte) (payload.length & 0xFF);
-      System.arraycopy(payload, 0, framed, 2, payload.length);
+      byte[] framed = new byte[HEADER_BYTES + length];
+      framed[0] = (byte) ((length >> 8) & 0xFF);
+      framed[1] = (byte) (length & 0xFF);
+      System.arraycopy(payload, 0, framed, HEADER_BYTES, payload.length);
+      System.arraycopy(trailer, 0, framed, HEADER_BYTES + payload.length, trailer.length);
       return framed;
     }
 
@@ -387,6 +416,37 @@ public class Iso8583ProtocolHandler implements ProtocolHandler {
     }
   }
 
+  /**
+   * Response bytes rendered as uppercase hex on first use and written straight into the result step JSON.
+   */
+  private static final class LazyHex extends JsonSerializable.Base {
+    private final byte[] bytes;
+    private String hex;
+
+    private LazyHex(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    String value() {
+      if (hex == null) {
+        hex = HEX.formatHex(bytes);
+      }
+      return hex;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+      gen.writeString(value());
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen,
+                                  SerializerProvider serializers,
+                                  TypeSerializer typeSer) throws IOException {
+      serialize(gen, serializers);
+    }
+  }
+
   private static final class PerThreadTransportPool {
     private final ConcurrentLinkedQueue<TcpTransport> created = new ConcurrentLinkedQueue<>();
     private final ThreadLocal<TcpTransport> transport;
@@ -228,6 +228,25 @@ public class TcpProtocolHandler implements ProtocolHandler {
     }
   }
 
+  /**
+   * Pre-opens pooled connections to the TCP {@code baseUrl} on the shared transport. Only {@code GLOBAL} reuse
+   * keeps sockets across work items, so the other reuse modes have nothing to warm.
+   *
+   * @return number of connections opened
+   */
+  public int warmUp(ProcessorWorkerConfig processorConfig, int connections) throws Exception {
+    String baseUrl = processorConfig.baseUrl();
+    if (!baseUrl.startsWith("tcp://") && !baseUrl.startsWith("tcps://")) {
+      return 0;
+    }
+    ensureTransportConfig(processorConfig.tcpTransport());
+    if (activeConfig.connectionReuse() != TcpTransportConfig.ConnectionReuse.GLOBAL) {
+      return 0;
+    }
+    String[] parts = parseUrl(baseUrl);
+    return globalTransport.warmUp(parts[0], Integer.parseInt(parts[1]), baseUrl.startsWith("tcps://"), connections);
+  }
+
   private String[] parseUrl(String baseUrl) {
     String url = baseUrl.startsWith("tcps://") ? baseUrl.substring(7)
         : baseUrl.startsWith("tcp://") ? baseUrl.substring(6)
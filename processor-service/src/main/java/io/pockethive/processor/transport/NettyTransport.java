@@ -2,8 +2,12 @@ package io.pockethive.processor.transport;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.*;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
@@ -30,7 +34,14 @@ import org.slf4j.LoggerFactory;
 public class NettyTransport implements TcpTransport {
     private static final Logger logger = LoggerFactory.getLogger(NettyTransport.class);
     private static final ConcurrentHashMap<Integer, SharedGroup> SHARED_GROUPS = new ConcurrentHashMap<>();
+    /**
+     * Native epoll on Linux when the transport jar is on the classpath; disable with
+     * {@code -Dio.netty.transport.noNative=true}.
+     */
+    private static final boolean EPOLL = Epoll.isAvailable();
     private final int workerThreads;
+    private final boolean tcpNoDelay;
+    private final boolean keepAlive;
     private final SharedGroup sharedGroup;
     private final EventLoopGroup group;
     private final AtomicBoolean closed = new AtomicBoolean(false);
@@ -40,11 +51,14 @@ public class NettyTransport implements TcpTransport {
     }
 
     public NettyTransport(TcpTransportConfig config) {
-        int workerThreads = config == null ? TcpTransportConfig.defaults().workerThreads() : config.workerThreads();
+        TcpTransportConfig effective = config == null ? TcpTransportConfig.defaults() : config;
+        int workerThreads = effective.workerThreads();
         this.workerThreads = workerThreads;
+        this.tcpNoDelay = effective.tcpNoDelay();
+        this.keepAlive = effective.keepAlive();
         this.sharedGroup = SHARED_GROUPS.compute(workerThreads, (key, existing) -> {
             if (existing == null) {
-                existing = new SharedGroup(new NioEventLoopGroup(workerThreads));
+                existing = new SharedGroup(EPOLL ? new EpollEventLoopGroup(workerThreads) : new NioEventLoopGroup(workerThreads));
             }
             existing.retain();
             return existing;
@@ -71,8 +85,11 @@ public class NettyTransport implements TcpTransport {
 
             Bootstrap bootstrap = new Bootstrap()
                 .group(group)
-                .channel(NioSocketChannel.class)
+                .channel(channelClass())
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
+                .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .option(ChannelOption.TCP_NODELAY, tcpNoDelay)
+                .option(ChannelOption.SO_KEEPALIVE, keepAlive)
                 .handler(new ChannelInitializer<SocketChannel>() {
                     @Override
                     protected void initChannel(SocketChannel ch) {
@@ -122,6 +139,10 @@ public class NettyTransport implements TcpTransport {
         });
     }
 
+    static Class<? extends SocketChannel> channelClass() {
+        return EPOLL ? EpollSocketChannel.class : NioSocketChannel.class;
+    }
+
     static {
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             SHARED_GROUPS.values().forEach(group -> group.group().shutdownGracefully());
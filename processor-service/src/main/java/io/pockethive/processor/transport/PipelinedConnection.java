@@ -0,0 +1,155 @@
+package io.pockethive.processor.transport;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * One socket shared by up to {@code depth} concurrent LENGTH_PREFIX_2B exchanges.
+ * <p>
+ * Requests are written back-to-back without waiting for earlier replies, and replies are matched to
+ * requests in send order. A dedicated reader thread reads one frame per sent request and completes the
+ * oldest pending exchange; each caller only waits for its own exchange, so a slow reply never holds up a
+ * caller whose response already arrived. Any I/O error or read timeout fails every pending exchange and
+ * closes the socket, because request/response alignment is lost at that point.
+ */
+final class PipelinedConnection {
+
+    private static final ResponseReader READER = new ResponseReader.LengthPrefix2BResponseReader();
+
+    private final Socket socket;
+    private final OutputStream out;
+    private final InputStream in;
+    private final int depth;
+    private final Semaphore slots;
+    // One permit per request on the wire; the reader only reads while a reply is owed, so the socket
+    // read timeout measures the wait for an actual response.
+    private final Semaphore sent = new Semaphore(0);
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Queue<Exchange> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final Consumer<PipelinedConnection> onClose;
+    private volatile IOException failure;
+
+    PipelinedConnection(Socket socket, int depth, Consumer<PipelinedConnection> onClose) throws IOException {
+        this.socket = socket;
+        this.out = socket.getOutputStream();
+        this.in = new BufferedInputStream(socket.getInputStream());
+        this.depth = depth;
+        this.slots = new Semaphore(depth, true);
+        this.onClose = onClose;
+        Thread.ofVirtual().name("tcp-pipeline-reader").start(this::readLoop);
+    }
+
+    int inFlight() {
+        return depth - slots.availablePermits();
+    }
+
+    boolean isOpen() {
+        return !closed.get();
+    }
+
+    byte[] exchange(TcpRequest request, long acquireTimeoutMs) throws IOException, TcpException, InterruptedException {
+        if (!slots.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+            throw new TcpException("Pipeline full (depth=" + depth + ") for " + acquireTimeoutMs + "ms");
+        }
+        try {
+            Exchange mine = new Exchange(request);
+            writeLock.lock();
+            try {
+                ensureOpen();
+                pending.add(mine);
+                out.write(request.payload());
+                out.flush();
+                sent.release();
+            } catch (IOException ex) {
+                fail(ex);
+                throw ex;
+            } finally {
+                writeLock.unlock();
+            }
+            return mine.await();
+        } finally {
+            slots.release();
+        }
+    }
+
+    void close() {
+        fail(new IOException("Pipelined connection closed"));
+    }
+
+    private void readLoop() {
+        try {
+            while (true) {
+                sent.acquire();
+                Exchange oldest = pending.peek();
+                if (closed.get() || oldest == null) {
+                    return;
+                }
+                byte[] frame = READER.read(in, oldest.request);
+                Exchange completed = pending.poll();
+                if (completed != null) {
+                    completed.response.complete(frame);
+                }
+            }
+        } catch (IOException ex) {
+            fail(ex);
+        } catch (InterruptedException ex) {
+            fail(new IOException("Pipeline reader interrupted", ex));
+        } catch (RuntimeException ex) {
+            fail(new IOException("Pipeline reader failed", ex));
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed.get()) {
+            throw new IOException("Pipelined connection is broken", failure);
+        }
+    }
+
+    private void fail(IOException cause) {
+        if (closed.compareAndSet(false, true)) {
+            failure = cause;
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+            // Wake the reader so it can observe the close and exit.
+            sent.release();
+            onClose.accept(this);
+        }
+        // Drain even when already closed: a writer may have queued after the first drain.
+        Exchange exchange;
+        while ((exchange = pending.poll()) != null) {
+            exchange.response.completeExceptionally(cause);
+        }
+    }
+
+    private static final class Exchange {
+        private final TcpRequest request;
+        private final CompletableFuture<byte[]> response = new CompletableFuture<>();
+
+        Exchange(TcpRequest request) {
+            this.request = request;
+        }
+
+        byte[] await() throws IOException, InterruptedException {
+            try {
+                return response.get();
+            } catch (ExecutionException ex) {
+                throw new IOException("Pipelined exchange failed", ex.getCause());
+            }
+        }
+    }
+}
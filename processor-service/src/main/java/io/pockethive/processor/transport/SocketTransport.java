@@ -6,8 +6,10 @@ import java.net.Socket;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.KeyStore;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.KeyManagerFactory;
 import org.slf4j.Logger;
@@ -18,18 +20,22 @@ public class SocketTransport implements TcpTransport {
     private static final Logger logger = LoggerFactory.getLogger(SocketTransport.class);
     private final TcpTransportConfig config;
     private final TcpConnectionPool pool;
-    private final ConcurrentHashMap<String, Object> locks;
+    private final ConcurrentHashMap<String, List<PipelinedConnection>> pipelines;
 
     public SocketTransport() {
         this.config = null;
         this.pool = null;
-        this.locks = null;
+        this.pipelines = null;
     }
 
     public SocketTransport(TcpTransportConfig config) {
+        this(config, TcpPoolMetrics.global());
+    }
+
+    public SocketTransport(TcpTransportConfig config, TcpPoolMetrics metrics) {
         this.config = Objects.requireNonNull(config, "config");
-        this.pool = new TcpConnectionPool(config.sslVerify());
-        this.locks = new ConcurrentHashMap<>();
+        this.pool = new TcpConnectionPool(config.sslVerify(), config.pool(), metrics);
+        this.pipelines = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -42,6 +48,9 @@ public class SocketTransport implements TcpTransport {
         int readTimeout = (Integer) request.options().getOrDefault("readTimeoutMs", config != null ? config.readTimeoutMs() : 30000);
 
         if (shouldPool(request)) {
+            if (behavior == TcpBehavior.LENGTH_PREFIX_2B && config.pool().pipelined()) {
+                return executePipelined(request, start, connectTimeout, readTimeout, useSsl);
+            }
             return executeWithPooledSocket(request, behavior, start, connectTimeout, readTimeout, useSsl);
         }
 
@@ -92,15 +101,85 @@ public class SocketTransport implements TcpTransport {
             return response;
         } catch (Exception ex) {
             if (socket != null) {
-                try {
-                    socket.close();
-                } catch (Exception ignored) {}
+                pool.invalidate(request.host(), request.port(), useSsl, socket);
+                pool.remove(request.host(), request.port(), useSsl);
             }
-            pool.remove(request.host(), request.port(), useSsl);
             throw new TcpException("TCP operation failed", ex);
         }
     }
 
+    private TcpResponse executePipelined(TcpRequest request,
+                                         long start,
+                                         int connectTimeout,
+                                         int readTimeout,
+                                         boolean useSsl) throws TcpException {
+        try {
+            PipelinedConnection connection = pipelineFor(request, useSsl, connectTimeout, readTimeout);
+            byte[] response = connection.exchange(request, config.pool().acquireTimeoutMs());
+            long latency = System.currentTimeMillis() - start;
+
+            logger.debug("TCP_RECV host={} port={} bytes={} latency={}ms pipelined=true payload=<redacted>",
+                request.host(), request.port(), response.length, latency);
+
+            return new TcpResponse(200, response, latency);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TcpException("TCP operation interrupted", ex);
+        } catch (Exception ex) {
+            throw new TcpException("TCP operation failed", ex);
+        }
+    }
+
+    /**
+     * Picks the least-busy open pipeline for the endpoint. A new socket is only leased from the pool when
+     * every existing pipeline is at full depth and fewer than {@code maxPerEndpoint} are open.
+     */
+    private PipelinedConnection pipelineFor(TcpRequest request,
+                                            boolean useSsl,
+                                            int connectTimeout,
+                                            int readTimeout) throws Exception {
+        String key = (useSsl ? "tcps://" : "tcp://") + request.host() + ":" + request.port();
+        List<PipelinedConnection> lanes = pipelines.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>());
+        int depth = config.pool().pipelineDepth();
+        PipelinedConnection candidate = leastBusy(lanes);
+        if (candidate != null && candidate.inFlight() < depth) {
+            return candidate;
+        }
+        synchronized (lanes) {
+            candidate = leastBusy(lanes);
+            if (candidate != null
+                && (candidate.inFlight() < depth || lanes.size() >= config.pool().maxPerEndpoint())) {
+                return candidate;
+            }
+            String host = request.host();
+            int port = request.port();
+            Socket socket = pool.getOrCreate(host, port, useSsl, connectTimeout, config.keepAlive(), config.tcpNoDelay());
+            PipelinedConnection created;
+            try {
+                socket.setSoTimeout(readTimeout);
+                created = new PipelinedConnection(socket, depth, connection -> {
+                    lanes.remove(connection);
+                    pool.invalidate(host, port, useSsl, socket);
+                });
+            } catch (IOException ex) {
+                pool.invalidate(host, port, useSsl, socket);
+                throw ex;
+            }
+            lanes.add(created);
+            return created;
+        }
+    }
+
+    private static PipelinedConnection leastBusy(List<PipelinedConnection> lanes) {
+        PipelinedConnection best = null;
+        for (PipelinedConnection lane : lanes) {
+            if (lane.isOpen() && (best == null || lane.inFlight() < best.inFlight())) {
+                best = lane;
+            }
+        }
+        return best;
+    }
+
     private TcpResponse executeWithSocket(Socket socket,
                                          TcpRequest request,
                                          TcpBehavior behavior,
@@ -178,8 +257,25 @@ public class SocketTransport implements TcpTransport {
         return factory.getKeyManagers();
     }
 
+    @Override
+    public int warmUp(String host, int port, boolean useSsl, int connections) throws TcpException {
+        if (pool == null || !config.keepAlive()
+            || config.connectionReuse() == TcpTransportConfig.ConnectionReuse.NONE) {
+            return 0;
+        }
+        try {
+            return pool.warmUp(host, port, useSsl, config.connectTimeoutMs(), connections);
+        } catch (Exception e) {
+            throw new TcpException("Warm-up to " + host + ":" + port + " failed: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public void close() {
+        if (pipelines != null) {
+            pipelines.values().forEach(lanes -> lanes.forEach(PipelinedConnection::close));
+            pipelines.clear();
+        }
         if (pool != null) {
             pool.closeAll();
         }
@@ -1,24 +1,60 @@
 package io.pockethive.processor.transport;
 
+import io.pockethive.processor.TcpTransportConfig;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import java.security.cert.X509Certificate;
 
+/**
+ * Bounded socket pool keyed by endpoint ({@code tcp(s)://host:port}).
+ * <p>
+ * At most {@code maxPerEndpoint} sockets are leased per endpoint; {@link #getOrCreate} waits up to
+ * {@code acquireTimeoutMs} for a slot and fails with {@link TcpException} after that. Idle sockets are reused
+ * most-recently-returned first. Once the first endpoint is used, a background sweep closes sockets idle longer
+ * than {@code idleTimeoutMs} and, off the sweep thread, opens new ones until each endpoint has {@code minIdle}
+ * again.
+ */
 public class TcpConnectionPool {
-  private static final int POOL_SIZE = 4;
-  private final Map<String, ArrayBlockingQueue<Socket>> pools = new ConcurrentHashMap<>();
+  // Sockets returned less than this long ago skip the read probe; the peer rarely closes that fast.
+  private static final long PROBE_AFTER_IDLE_NANOS = TimeUnit.SECONDS.toNanos(1);
+  private static final ScheduledThreadPoolExecutor EVICTOR = evictor();
+
+  private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
   private final boolean sslVerify;
+  private final TcpTransportConfig.Pool settings;
+  private final TcpPoolMetrics metrics;
+  private volatile ScheduledFuture<?> sweep;
+  private volatile boolean closed;
 
   public TcpConnectionPool(boolean sslVerify) {
+    this(sslVerify, TcpTransportConfig.Pool.defaults(), TcpPoolMetrics.global());
+  }
+
+  public TcpConnectionPool(boolean sslVerify, TcpTransportConfig.Pool settings, TcpPoolMetrics metrics) {
     this.sslVerify = sslVerify;
+    this.settings = settings == null ? TcpTransportConfig.Pool.defaults() : settings;
+    this.metrics = metrics == null ? TcpPoolMetrics.global() : metrics;
   }
 
   public Socket getOrCreate(String host,
@@ -27,50 +63,257 @@ public class TcpConnectionPool {
                             int timeout,
                             boolean keepAlive,
                             boolean tcpNoDelay) throws Exception {
-    String key = (useSsl ? "tcps://" : "tcp://") + host + ":" + port;
-    ArrayBlockingQueue<Socket> pool = pools.computeIfAbsent(key, k -> new ArrayBlockingQueue<>(POOL_SIZE));
+    Endpoint endpoint = endpoint(host, port, useSsl);
+    endpoint.connectTimeout = timeout;
+
+    long waitStart = System.nanoTime();
+    if (!endpoint.slots.tryAcquire(settings.acquireTimeoutMs(), TimeUnit.MILLISECONDS)) {
+      metrics.acquireTimedOut();
+      throw new TcpException("No free connection to " + endpoint.key + " within "
+          + settings.acquireTimeoutMs() + "ms (maxPerEndpoint=" + settings.maxPerEndpoint() + ")");
+    }
+    metrics.acquired(System.nanoTime() - waitStart);
 
-    Socket socket = pool.poll();
-    if (socket != null && !socket.isClosed() && socket.isConnected()) {
+    Socket socket = null;
+    try {
+      socket = pollUsable(endpoint);
+      if (socket == null) {
+        socket = open(endpoint, timeout);
+      }
       configure(socket, timeout, keepAlive, tcpNoDelay);
+      metrics.leased(1);
       return socket;
+    } catch (Exception ex) {
+      closeQuietly(socket);
+      endpoint.slots.release();
+      throw ex;
     }
-
-    socket = useSsl ? createSslSocket(host, port, timeout) : createSocket(host, port, timeout);
-    configure(socket, timeout, keepAlive, tcpNoDelay);
-    return socket;
   }
 
   public void returnToPool(String host, int port, boolean useSsl, Socket socket) {
-    if (socket == null || socket.isClosed()) return;
-    String key = (useSsl ? "tcps://" : "tcp://") + host + ":" + port;
-    ArrayBlockingQueue<Socket> pool = pools.get(key);
-    if (pool != null && !pool.offer(socket)) {
+    if (socket == null) return;
+    Endpoint endpoint = endpoints.get(key(host, port, useSsl));
+    if (endpoint == null) {
+      closeQuietly(socket);
+      return;
+    }
+    metrics.leased(-1);
+    if (socket.isClosed() || closed) {
+      closeQuietly(socket);
+    } else {
+      endpoint.idle.offerFirst(new Idle(socket, System.nanoTime()));
+      metrics.idle(1);
+      if (closed) {
+        drain(endpoint);
+      }
+    }
+    endpoint.slots.release();
+  }
+
+  /**
+   * Opens sockets until the endpoint holds {@code count} connections (capped at {@code maxPerEndpoint}) and parks
+   * them as idle. Sockets are connected in parallel so TLS handshakes overlap. Fails only when no socket could be
+   * opened at all.
+   *
+   * @return number of sockets opened
+   */
+  public int warmUp(String host, int port, boolean useSsl, int timeout, int count) throws Exception {
+    Endpoint endpoint = endpoint(host, port, useSsl);
+    endpoint.connectTimeout = timeout;
+    int missing = Math.min(count, settings.maxPerEndpoint()) - endpoint.idle.size() - endpoint.leased();
+    if (missing <= 0 || closed) {
+      return 0;
+    }
+    List<Future<Socket>> pending = new ArrayList<>(missing);
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < missing; i++) {
+        pending.add(executor.submit(() -> open(endpoint, timeout)));
+      }
+    }
+    int opened = 0;
+    Exception failure = null;
+    for (Future<Socket> future : pending) {
       try {
-        socket.close();
-      } catch (IOException ignored) {}
+        endpoint.idle.offerLast(new Idle(future.get(), System.nanoTime()));
+        metrics.idle(1);
+        opened++;
+      } catch (ExecutionException ex) {
+        failure = ex.getCause() instanceof Exception cause ? cause : ex;
+      }
+    }
+    if (opened == 0 && failure != null) {
+      throw failure;
+    }
+    return opened;
+  }
+
+  /**
+   * Closes a leased socket that must not be reused (I/O failure, broken pipeline) and frees its slot.
+   */
+  public void invalidate(String host, int port, boolean useSsl, Socket socket) {
+    if (socket == null) return;
+    closeQuietly(socket);
+    Endpoint endpoint = endpoints.get(key(host, port, useSsl));
+    if (endpoint != null) {
+      metrics.leased(-1);
+      endpoint.slots.release();
     }
   }
 
+  /**
+   * Closes every idle socket for the endpoint; leased sockets are unaffected.
+   */
   public void remove(String host, int port, boolean useSsl) {
-    String key = (useSsl ? "tcps://" : "tcp://") + host + ":" + port;
-    ArrayBlockingQueue<Socket> pool = pools.remove(key);
-    if (pool != null) {
-      pool.forEach(socket -> {
-        try {
-          socket.close();
-        } catch (IOException ignored) {}
-      });
+    Endpoint endpoint = endpoints.get(key(host, port, useSsl));
+    if (endpoint != null) {
+      drain(endpoint);
     }
   }
 
   void closeAll() {
-    pools.values().forEach(pool -> pool.forEach(socket -> {
+    synchronized (this) {
+      closed = true;
+      if (sweep != null) {
+        sweep.cancel(false);
+      }
+    }
+    endpoints.values().forEach(this::drain);
+  }
+
+  boolean sweepScheduled() {
+    return sweep != null;
+  }
+
+  private Endpoint endpoint(String host, int port, boolean useSsl) {
+    Endpoint endpoint = endpoints.computeIfAbsent(key(host, port, useSsl),
+        k -> new Endpoint(k, host, port, useSsl, settings.maxPerEndpoint()));
+    if (sweep == null) {
+      scheduleSweep();
+    }
+    return endpoint;
+  }
+
+  /**
+   * Transports that never pool (connection reuse NONE) never register an endpoint, so they never occupy the
+   * shared evictor.
+   */
+  private synchronized void scheduleSweep() {
+    if (sweep != null || closed) {
+      return;
+    }
+    long period = Math.max(100L, settings.idleTimeoutMs() / 2);
+    sweep = EVICTOR.scheduleWithFixedDelay(this::sweep, period, period, TimeUnit.MILLISECONDS);
+  }
+
+  private Socket pollUsable(Endpoint endpoint) {
+    Idle entry;
+    while ((entry = endpoint.idle.pollFirst()) != null) {
+      metrics.idle(-1);
+      if (isUsable(entry)) {
+        return entry.socket();
+      }
+      metrics.validationFailed();
+      closeQuietly(entry.socket());
+    }
+    return null;
+  }
+
+  private boolean isUsable(Idle entry) {
+    Socket socket = entry.socket();
+    if (socket.isClosed() || !socket.isConnected() || socket.isInputShutdown() || socket.isOutputShutdown()) {
+      return false;
+    }
+    if (!settings.validateOnBorrow()) {
+      return true;
+    }
+    try {
+      // Unread bytes on an idle socket are a late reply that would be taken for the next response.
+      if (socket.getInputStream().available() > 0) {
+        return false;
+      }
+    } catch (IOException ex) {
+      return false;
+    }
+    return System.nanoTime() - entry.since() < PROBE_AFTER_IDLE_NANOS || probe(socket);
+  }
+
+  /**
+   * A 1ms read on a healthy idle socket times out; EOF means the peer closed it and data means stray bytes.
+   */
+  static boolean probe(Socket socket) {
+    try {
+      int soTimeout = socket.getSoTimeout();
+      socket.setSoTimeout(1);
       try {
-        socket.close();
-      } catch (IOException ignored) {}
-    }));
-    pools.clear();
+        socket.getInputStream().read();
+        return false;
+      } catch (SocketTimeoutException expected) {
+        return true;
+      } finally {
+        socket.setSoTimeout(soTimeout);
+      }
+    } catch (IOException ex) {
+      return false;
+    }
+  }
+
+  private void sweep() {
+    if (closed) return;
+    long now = System.nanoTime();
+    long maxIdleNanos = TimeUnit.MILLISECONDS.toNanos(settings.idleTimeoutMs());
+    for (Endpoint endpoint : endpoints.values()) {
+      // Returns go to the head, so the longest-idle sockets sit at the tail.
+      Idle oldest;
+      while (endpoint.idle.size() > settings.minIdle()
+          && (oldest = endpoint.idle.peekLast()) != null
+          && now - oldest.since() > maxIdleNanos) {
+        if (endpoint.idle.removeLastOccurrence(oldest)) {
+          metrics.idle(-1);
+          metrics.idleEvicted();
+          closeQuietly(oldest.socket());
+        }
+      }
+      if (needsTopUp(endpoint) && endpoint.toppingUp.compareAndSet(false, true)) {
+        // Connects (and TLS handshakes) block, so they must not stall the evictor shared by every pool.
+        Thread.ofVirtual().name("tcp-pool-top-up").start(() -> topUp(endpoint));
+      }
+    }
+  }
+
+  private boolean needsTopUp(Endpoint endpoint) {
+    return !closed
+        && endpoint.idle.size() < settings.minIdle()
+        && endpoint.idle.size() + endpoint.leased() < settings.maxPerEndpoint();
+  }
+
+  private void topUp(Endpoint endpoint) {
+    try {
+      while (needsTopUp(endpoint)) {
+        endpoint.idle.offerLast(new Idle(open(endpoint, endpoint.connectTimeout), System.nanoTime()));
+        metrics.idle(1);
+      }
+    } catch (Exception ex) {
+      // Retried on the next sweep.
+    } finally {
+      endpoint.toppingUp.set(false);
+      if (closed) {
+        drain(endpoint);
+      }
+    }
+  }
+
+  private void drain(Endpoint endpoint) {
+    Idle entry;
+    while ((entry = endpoint.idle.pollFirst()) != null) {
+      metrics.idle(-1);
+      closeQuietly(entry.socket());
+    }
+  }
+
+  private Socket open(Endpoint endpoint, int timeout) throws Exception {
+    return endpoint.useSsl
+        ? createSslSocket(endpoint.host, endpoint.port, timeout)
+        : createSocket(endpoint.host, endpoint.port, timeout);
   }
 
   private Socket createSocket(String host, int port, int timeout) throws IOException {
@@ -100,4 +343,53 @@ public class TcpConnectionPool {
     socket.setKeepAlive(keepAlive);
     socket.setTcpNoDelay(tcpNoDelay);
   }
+
+  private static String key(String host, int port, boolean useSsl) {
+    return (useSsl ? "tcps://" : "tcp://") + host + ":" + port;
+  }
+
+  private static void closeQuietly(Socket socket) {
+    if (socket == null) return;
+    try {
+      socket.close();
+    } catch (IOException ignored) {}
+  }
+
+  private static ScheduledThreadPoolExecutor evictor() {
+    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+      Thread thread = new Thread(r, "tcp-pool-evictor");
+      thread.setDaemon(true);
+      return thread;
+    });
+    // Closed pools must not leave their cancelled sweeps queued for the lifetime of the process.
+    executor.setRemoveOnCancelPolicy(true);
+    return executor;
+  }
+
+  private record Idle(Socket socket, long since) {}
+
+  private static final class Endpoint {
+    private final String key;
+    private final String host;
+    private final int port;
+    private final boolean useSsl;
+    private final int maxLeased;
+    private final Semaphore slots;
+    private final Deque<Idle> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicBoolean toppingUp = new AtomicBoolean();
+    private volatile int connectTimeout;
+
+    private Endpoint(String key, String host, int port, boolean useSsl, int maxLeased) {
+      this.key = key;
+      this.host = host;
+      this.port = port;
+      this.useSsl = useSsl;
+      this.maxLeased = maxLeased;
+      this.slots = new Semaphore(maxLeased, true);
+    }
+
+    private int leased() {
+      return maxLeased - slots.availablePermits();
+    }
+  }
 }
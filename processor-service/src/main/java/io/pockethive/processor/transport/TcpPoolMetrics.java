@@ -0,0 +1,81 @@
+package io.pockethive.processor.transport;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters shared by every {@link TcpConnectionPool} in the process: occupancy (leased and idle sockets),
+ * time spent waiting for a slot, acquire timeouts and evictions. Published with the processor status.
+ */
+public class TcpPoolMetrics {
+    private static final TcpPoolMetrics GLOBAL_INSTANCE = new TcpPoolMetrics();
+
+    private final LongAdder leased = new LongAdder();
+    private final LongAdder idle = new LongAdder();
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0L);
+    private final LongAdder acquireTimeouts = new LongAdder();
+    private final LongAdder idleEvictions = new LongAdder();
+    private final LongAdder validationFailures = new LongAdder();
+
+    public static TcpPoolMetrics global() {
+        return GLOBAL_INSTANCE;
+    }
+
+    void leased(int delta) {
+        leased.add(delta);
+    }
+
+    void idle(int delta) {
+        idle.add(delta);
+    }
+
+    void acquired(long waitedNanos) {
+        acquisitions.increment();
+        waitNanos.add(waitedNanos);
+        maxWaitNanos.accumulate(waitedNanos);
+    }
+
+    void acquireTimedOut() {
+        acquireTimeouts.increment();
+    }
+
+    void idleEvicted() {
+        idleEvictions.increment();
+    }
+
+    void validationFailed() {
+        validationFailures.increment();
+    }
+
+    public long leased() {
+        return leased.sum();
+    }
+
+    public long idle() {
+        return idle.sum();
+    }
+
+    public double averageWaitMs() {
+        long count = acquisitions.sum();
+        return count == 0L ? 0.0 : waitNanos.sum() / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double maxWaitMs() {
+        return maxWaitNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public long acquireTimeouts() {
+        return acquireTimeouts.sum();
+    }
+
+    public long idleEvictions() {
+        return idleEvictions.sum();
+    }
+
+    public long validationFailures() {
+        return validationFailures.sum();
+    }
+}
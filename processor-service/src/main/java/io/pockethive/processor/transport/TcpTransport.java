@@ -3,4 +3,14 @@ package io.pockethive.processor.transport;
 public interface TcpTransport {
     TcpResponse execute(TcpRequest request, TcpBehavior behavior) throws TcpException;
     void close();
+
+    /**
+     * Pre-opens up to {@code connections} pooled connections to the endpoint before traffic starts.
+     * Transports without a connection pool have nothing to warm and open none.
+     *
+     * @return number of connections opened
+     */
+    default int warmUp(String host, int port, boolean useSsl, int connections) throws TcpException {
+        return 0;
+    }
 }
\ No newline at end of file
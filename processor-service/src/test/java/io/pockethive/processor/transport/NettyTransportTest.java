@@ -12,9 +12,13 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.SelfSignedCertificate;
@@ -206,6 +210,20 @@ class NettyTransportTest {
     assertThat(groupC).isNotSameAs(groupA);
   }
 
+  @Test
+  void nettyTransportUsesEpollOnlyWhenNativeTransportIsAvailable() throws Exception {
+    NettyTransport transport = new NettyTransport();
+    try {
+      boolean epoll = Epoll.isAvailable();
+
+      assertThat(extractGroup(transport) instanceof EpollEventLoopGroup).isEqualTo(epoll);
+      assertThat(NettyTransport.channelClass())
+          .isEqualTo(epoll ? EpollSocketChannel.class : NioSocketChannel.class);
+    } finally {
+      transport.close();
+    }
+  }
+
   private static EventLoopGroup extractGroup(NettyTransport transport) throws Exception {
     Field groupField = NettyTransport.class.getDeclaredField("group");
     groupField.setAccessible(true);
@@ -4,16 +4,22 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.pockethive.processor.TcpTransportConfig;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
@@ -104,6 +110,122 @@ class SocketTransportTest {
     }
   }
 
+  @Test
+  void pipelinesLengthPrefixedRequestsOnOneSocket() throws Exception {
+    try (ServerSocket serverSocket = new ServerSocket(0)) {
+      AtomicInteger connections = new AtomicInteger();
+      Thread acceptor = new Thread(() -> {
+        while (!serverSocket.isClosed()) {
+          try {
+            Socket socket = serverSocket.accept();
+            connections.incrementAndGet();
+            Thread echo = new Thread(() -> echoFrames(socket), "test-tcp-echo");
+            echo.setDaemon(true);
+            echo.start();
+          } catch (Exception ignored) {
+            return;
+          }
+        }
+      }, "test-tcp-accept");
+      acceptor.setDaemon(true);
+      acceptor.start();
+
+      TcpTransportConfig config = new TcpTransportConfig(
+          "socket",
+          1_000,
+          2_000,
+          8192,
+          true,
+          4,
+          true,
+          false,
+          TcpTransportConfig.ConnectionReuse.GLOBAL,
+          0,
+          new TcpTransportConfig.Pool(0, 4, 60_000L, 1_000L, true, 8)
+      );
+      SocketTransport transport = new SocketTransport(config, new TcpPoolMetrics());
+
+      int callers = 8;
+      ExecutorService executor = Executors.newFixedThreadPool(callers);
+      try {
+        List<Future<String>> replies = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+          String body = "msg-" + i;
+          replies.add(executor.submit(() -> {
+            TcpRequest request = new TcpRequest("127.0.0.1", serverSocket.getLocalPort(), frame(body), Map.of("maxBytes", 8192));
+            return new String(transport.execute(request, TcpBehavior.LENGTH_PREFIX_2B).body(), StandardCharsets.UTF_8);
+          }));
+        }
+        for (int i = 0; i < callers; i++) {
+          assertThat(replies.get(i).get(5, TimeUnit.SECONDS)).isEqualTo("msg-" + i);
+        }
+      } finally {
+        executor.shutdownNow();
+        transport.close();
+      }
+      assertThat(connections.get()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void pipelinedCallerGetsItsReplyWhileALaterReplyIsStillOutstanding() throws Exception {
+    try (ServerSocket serverSocket = new ServerSocket(0);
+         Socket client = new Socket("127.0.0.1", serverSocket.getLocalPort());
+         Socket server = serverSocket.accept()) {
+      client.setSoTimeout(5_000);
+      PipelinedConnection connection = new PipelinedConnection(client, 2, closed -> { });
+      ExecutorService executor = Executors.newFixedThreadPool(2);
+      try {
+        Future<byte[]> first = executor.submit(() -> connection.exchange(
+            new TcpRequest("127.0.0.1", serverSocket.getLocalPort(), frame("first"), Map.of("maxBytes", 8192)), 1_000L));
+        DataInputStream in = new DataInputStream(server.getInputStream());
+        byte[] firstFrame = new byte[in.readUnsignedShort()];
+        in.readFully(firstFrame);
+
+        Future<byte[]> second = executor.submit(() -> connection.exchange(
+            new TcpRequest("127.0.0.1", serverSocket.getLocalPort(), frame("second"), Map.of("maxBytes", 8192)), 1_000L));
+        byte[] secondFrame = new byte[in.readUnsignedShort()];
+        in.readFully(secondFrame);
+
+        server.getOutputStream().write(frame("first"));
+        server.getOutputStream().flush();
+
+        assertThat(new String(first.get(1, TimeUnit.SECONDS), StandardCharsets.UTF_8)).isEqualTo("first");
+        assertThat(second.isDone()).isFalse();
+
+        server.getOutputStream().write(frame("second"));
+        server.getOutputStream().flush();
+        assertThat(new String(second.get(1, TimeUnit.SECONDS), StandardCharsets.UTF_8)).isEqualTo("second");
+      } finally {
+        executor.shutdownNow();
+        connection.close();
+      }
+    }
+  }
+
+  private static byte[] frame(String body) {
+    byte[] payload = body.getBytes(StandardCharsets.UTF_8);
+    byte[] framed = new byte[payload.length + 2];
+    framed[0] = (byte) (payload.length >> 8);
+    framed[1] = (byte) payload.length;
+    System.arraycopy(payload, 0, framed, 2, payload.length);
+    return framed;
+  }
+
+  private static void echoFrames(Socket socket) {
+    try (socket;
+         DataInputStream in = new DataInputStream(socket.getInputStream());
+         OutputStream out = socket.getOutputStream()) {
+      while (true) {
+        byte[] frame = new byte[in.readUnsignedShort()];
+        in.readFully(frame);
+        out.write(frame(new String(frame, StandardCharsets.UTF_8)));
+        out.flush();
+      }
+    } catch (Exception ignored) {
+    }
+  }
+
   private static final class TestTcpServer implements AutoCloseable {
     private final ServerSocket serverSocket;
     private final AtomicInteger connectionCount = new AtomicInteger();
@@ -0,0 +1,162 @@
+package io.pockethive.processor.transport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.pockethive.processor.TcpTransportConfig;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TcpConnectionPoolTest {
+
+  private ServerSocket server;
+  private final List<Socket> accepted = new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  void startServer() throws Exception {
+    server = new ServerSocket(0);
+    Thread acceptor = new Thread(() -> {
+      while (!server.isClosed()) {
+        try {
+          accepted.add(server.accept());
+        } catch (Exception ignored) {
+          return;
+        }
+      }
+    }, "test-pool-accept");
+    acceptor.setDaemon(true);
+    acceptor.start();
+  }
+
+  @AfterEach
+  void stopServer() throws Exception {
+    server.close();
+    for (Socket socket : accepted) {
+      socket.close();
+    }
+  }
+
+  @Test
+  void waitsForSlotAndTimesOutWhenEndpointIsFull() throws Exception {
+    TcpPoolMetrics metrics = new TcpPoolMetrics();
+    TcpConnectionPool pool = pool(new TcpTransportConfig.Pool(0, 1, 60_000L, 100L, true, 1), metrics);
+
+    Socket first = borrow(pool);
+    assertThat(metrics.leased()).isEqualTo(1);
+
+    assertThatThrownBy(() -> borrow(pool)).isInstanceOf(TcpException.class);
+    assertThat(metrics.acquireTimeouts()).isEqualTo(1);
+
+    pool.returnToPool("127.0.0.1", server.getLocalPort(), false, first);
+    assertThat(metrics.leased()).isZero();
+    assertThat(metrics.idle()).isEqualTo(1);
+
+    assertThat(borrow(pool)).isSameAs(first);
+    pool.closeAll();
+  }
+
+  @Test
+  void dropsIdleSocketWithUnreadBytesOnBorrow() throws Exception {
+    TcpPoolMetrics metrics = new TcpPoolMetrics();
+    TcpConnectionPool pool = pool(TcpTransportConfig.Pool.defaults(), metrics);
+
+    Socket first = borrow(pool);
+    pool.returnToPool("127.0.0.1", server.getLocalPort(), false, first);
+    awaitAccepted(1);
+    accepted.get(0).getOutputStream().write("late".getBytes());
+    accepted.get(0).getOutputStream().flush();
+    Thread.sleep(100);
+
+    Socket second = borrow(pool);
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(first.isClosed()).isTrue();
+    assertThat(metrics.validationFailures()).isEqualTo(1);
+    pool.closeAll();
+  }
+
+  @Test
+  void evictsSocketsIdleLongerThanTimeout() throws Exception {
+    TcpPoolMetrics metrics = new TcpPoolMetrics();
+    TcpConnectionPool pool = pool(new TcpTransportConfig.Pool(0, 4, 100L, 1_000L, true, 1), metrics);
+
+    Socket socket = borrow(pool);
+    pool.returnToPool("127.0.0.1", server.getLocalPort(), false, socket);
+
+    long deadline = System.currentTimeMillis() + 2_000L;
+    while (metrics.idleEvictions() == 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(20);
+    }
+
+    assertThat(metrics.idleEvictions()).isEqualTo(1);
+    assertThat(metrics.idle()).isZero();
+    assertThat(socket.isClosed()).isTrue();
+    pool.closeAll();
+  }
+
+  @Test
+  void warmUpOpensIdleSocketsUpToTheEndpointLimit() throws Exception {
+    TcpPoolMetrics metrics = new TcpPoolMetrics();
+    TcpConnectionPool pool = pool(new TcpTransportConfig.Pool(0, 3, 60_000L, 1_000L, true, 1), metrics);
+
+    int opened = pool.warmUp("127.0.0.1", server.getLocalPort(), false, 1_000, 5);
+    awaitAccepted(3);
+
+    assertThat(opened).isEqualTo(3);
+    assertThat(metrics.idle()).isEqualTo(3);
+    assertThat(pool.warmUp("127.0.0.1", server.getLocalPort(), false, 1_000, 5)).isZero();
+
+    borrow(pool);
+    assertThat(accepted).hasSize(3);
+    pool.closeAll();
+  }
+
+  @Test
+  void schedulesSweepOnlyOnceAnEndpointIsUsed() throws Exception {
+    TcpConnectionPool pool = pool(TcpTransportConfig.Pool.defaults(), new TcpPoolMetrics());
+    assertThat(pool.sweepScheduled()).isFalse();
+
+    borrow(pool);
+
+    assertThat(pool.sweepScheduled()).isTrue();
+    pool.closeAll();
+  }
+
+  @Test
+  void topsUpToMinIdleInTheBackground() throws Exception {
+    TcpPoolMetrics metrics = new TcpPoolMetrics();
+    TcpConnectionPool pool = pool(new TcpTransportConfig.Pool(2, 4, 200L, 1_000L, true, 1), metrics);
+
+    Socket socket = borrow(pool);
+    pool.returnToPool("127.0.0.1", server.getLocalPort(), false, socket);
+
+    long deadline = System.currentTimeMillis() + 2_000L;
+    while (metrics.idle() < 2 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(20);
+    }
+
+    assertThat(metrics.idle()).isEqualTo(2);
+    awaitAccepted(2);
+    pool.closeAll();
+  }
+
+  private TcpConnectionPool pool(TcpTransportConfig.Pool settings, TcpPoolMetrics metrics) {
+    return new TcpConnectionPool(false, settings, metrics);
+  }
+
+  private Socket borrow(TcpConnectionPool pool) throws Exception {
+    return pool.getOrCreate("127.0.0.1", server.getLocalPort(), false, 1_000, true, true);
+  }
+
+  private void awaitAccepted(int count) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 2_000L;
+    while (accepted.size() < count && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package io.pockethive.processor.transport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.pockethive.processor.TcpTransportConfig;
+import org.junit.jupiter.api.Test;
+
+class TcpTransportFactoryTest {
+
+  @Test
+  void selectsTransportFromConfiguredType() {
+    assertCreates(config("socket"), SocketTransport.class);
+    assertCreates(config("NIO"), NioTransport.class);
+    assertCreates(config("netty"), NettyTransport.class);
+  }
+
+  @Test
+  void fallsBackToSocketTransportForMissingOrUnknownType() {
+    assertCreates(null, SocketTransport.class);
+    assertCreates(config(null), SocketTransport.class);
+    assertCreates(config("udp"), SocketTransport.class);
+  }
+
+  private static void assertCreates(TcpTransportConfig config, Class<? extends TcpTransport> expected) {
+    TcpTransport transport = TcpTransportFactory.create(config);
+    try {
+      assertThat(transport).isExactlyInstanceOf(expected);
+    } finally {
+      transport.close();
+    }
+  }
+
+  private static TcpTransportConfig config(String type) {
+    TcpTransportConfig defaults = TcpTransportConfig.defaults();
+    return new TcpTransportConfig(
+        type,
+        defaults.connectTimeoutMs(),
+        defaults.readTimeoutMs(),
+        defaults.maxBytes(),
+        defaults.keepAlive(),
+        defaults.workerThreads(),
+        defaults.tcpNoDelay(),
+        defaults.sslVerify(),
+        defaults.connectionReuse(),
+        defaults.maxRetries()
+    );
+  }
+}
@@ -22,9 +22,13 @@ import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
+/**
+ * Compiles each schema pack once and shares the result across threads. The j8583 {@link MessageFactory}
+ * is fully configured before it is published and afterwards only used for {@code newMessage}, which reads
+ * its templates without mutating them.
+ */
 final class Iso8583SchemaPackRegistry {
-  private final Map<String, ThreadLocal<MessageFactory<IsoMessage>>> factoryCache = new ConcurrentHashMap<>();
-  private final Map<String, IsoSchemaDefinition> schemaCache = new ConcurrentHashMap<>();
+  private final Map<String, ResolvedSchema> schemaCache = new ConcurrentHashMap<>();
 
   ResolvedSchema resolve(Iso8583RequestEnvelope.IsoSchemaRef schemaRef) {
     Objects.requireNonNull(schemaRef, "schemaRef");
@@ -32,17 +36,16 @@ final class Iso8583SchemaPackRegistry {
       throw new IllegalArgumentException("Unsupported ISO8583 schemaAdapter: " + schemaRef.schemaAdapter());
     }
 
-    Path schemaPath = resolveSchemaPath(schemaRef);
+    // Hot path is a single map lookup; the schema path is only resolved and checked on first use.
     String key = cacheKey(schemaRef);
-
-    ThreadLocal<MessageFactory<IsoMessage>> holder = factoryCache.computeIfAbsent(
-        key,
-        ignored -> ThreadLocal.withInitial(() -> loadJ8583Xml(schemaPath)));
-    IsoSchemaDefinition schemaDefinition = schemaCache.computeIfAbsent(
-        key,
-        ignored -> loadSchemaDefinition(schemaPath));
-
-    return new ResolvedSchema(holder.get(), schemaDefinition);
+    ResolvedSchema cached = schemaCache.get(key);
+    if (cached != null) {
+      return cached;
+    }
+    return schemaCache.computeIfAbsent(key, ignored -> {
+      Path schemaPath = resolveSchemaPath(schemaRef);
+      return new ResolvedSchema(loadJ8583Xml(schemaPath), loadSchemaDefinition(schemaPath));
+    });
   }
 
   private Path resolveSchemaPath(Iso8583RequestEnvelope.IsoSchemaRef schemaRef) {
@@ -83,7 +86,7 @@ final class Iso8583SchemaPackRegistry {
   private IsoSchemaDefinition loadSchemaDefinition(Path schemaPath) {
     Document document = parseXml(schemaPath);
     NodeList parseNodes = document.getElementsByTagName("parse");
-    Map<Integer, Map<Integer, FieldDefinition>> fieldsByMti = new LinkedHashMap<>();
+    Map<Integer, MtiFields> fieldsByMti = new LinkedHashMap<>();
 
     for (int i = 0; i < parseNodes.getLength(); i++) {
       Node node = parseNodes.item(i);
@@ -93,7 +96,7 @@ final class Iso8583SchemaPackRegistry {
       int mti = parseMti(parseElement.getAttribute("type"));
       Map<Integer, FieldDefinition> fields = parseFields(parseElement);
       if (!fields.isEmpty()) {
-        fieldsByMti.put(mti, Map.copyOf(fields));
+        fieldsByMti.put(mti, new MtiFields(fields));
       }
     }
 
@@ -191,16 +194,31 @@ final class Iso8583SchemaPackRegistry {
   ) {
   }
 
-  record IsoSchemaDefinition(Map<Integer, Map<Integer, FieldDefinition>> fieldsByMti) {
-    Map<Integer, FieldDefinition> fieldsForMti(int mti) {
-      Map<Integer, FieldDefinition> fields = fieldsByMti.get(mti);
-      if (fields == null || fields.isEmpty()) {
+  record IsoSchemaDefinition(Map<Integer, MtiFields> fieldsByMti) {
+    MtiFields fieldsForMti(int mti) {
+      MtiFields fields = fieldsByMti.get(mti);
+      if (fields == null) {
         throw new IllegalArgumentException("No schema parse guide found for MTI " + String.format("%04X", mti));
       }
       return fields;
     }
   }
 
+  /**
+   * Parse guide for one MTI, indexed by field number.
+   */
+  static final class MtiFields {
+    private final FieldDefinition[] byNumber = new FieldDefinition[129];
+
+    private MtiFields(Map<Integer, FieldDefinition> fields) {
+      fields.forEach((number, definition) -> byNumber[number] = definition);
+    }
+
+    FieldDefinition get(int fieldNumber) {
+      return fieldNumber < 0 || fieldNumber >= byNumber.length ? null : byNumber[fieldNumber];
+    }
+  }
+
   record FieldDefinition(IsoType type, int length) {
   }
 }
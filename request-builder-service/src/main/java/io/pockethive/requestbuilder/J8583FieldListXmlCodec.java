@@ -2,25 +2,20 @@ package io.pockethive.requestbuilder;
 
 import com.solab.iso8583.IsoMessage;
 import com.solab.iso8583.IsoType;
-import com.solab.iso8583.MessageFactory;
 import io.pockethive.worker.sdk.api.Iso8583RequestEnvelope;
 import java.io.StringReader;
 import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.HexFormat;
-import java.util.List;
-import java.util.Map;
-import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 final class J8583FieldListXmlCodec {
 
+  // Configured once and then only used to create readers, which is safe to share across threads.
+  private static final XMLInputFactory XML_INPUT = newXmlInputFactory();
+
   private final Iso8583SchemaPackRegistry schemaPackRegistry;
 
   J8583FieldListXmlCodec(Iso8583SchemaPackRegistry schemaPackRegistry) {
@@ -33,22 +28,87 @@ final class J8583FieldListXmlCodec {
     }
 
     Iso8583SchemaPackRegistry.ResolvedSchema resolvedSchema = schemaPackRegistry.resolve(schemaRef);
-    MessageFactory<IsoMessage> messageFactory = resolvedSchema.messageFactory();
+    if (xmlPayload == null || xmlPayload.isBlank()) {
+      throw new IllegalArgumentException("FIELD_LIST_XML payload must not be blank");
+    }
 
-    ParsedIsoXmlMessage parsed = parsePayload(xmlPayload);
-    IsoMessage isoMessage = messageFactory.newMessage(parsed.mti());
-    Map<Integer, Iso8583SchemaPackRegistry.FieldDefinition> parseGuide =
-        resolvedSchema.schemaDefinition().fieldsForMti(parsed.mti());
+    XMLStreamReader reader = null;
+    try {
+      reader = XML_INPUT.createXMLStreamReader(new StringReader(xmlPayload));
+      IsoMessage isoMessage = encode(reader, resolvedSchema);
+      return isoMessage.writeData();
+    } catch (XMLStreamException ex) {
+      throw new IllegalArgumentException("Failed to parse FIELD_LIST_XML payload", ex);
+    } finally {
+      if (reader != null) {
+        try {
+          reader.close();
+        } catch (XMLStreamException ignored) {
+        }
+      }
+    }
+  }
 
-    for (IsoFieldValue field : parsed.fields()) {
-      Iso8583SchemaPackRegistry.FieldDefinition fieldDefinition = parseGuide.get(field.number());
+  /**
+   * Single pass over the payload: the root's MTI selects the parse guide, then each {@code <field>} is
+   * set on the message as soon as its value is read.
+   */
+  private IsoMessage encode(XMLStreamReader reader, Iso8583SchemaPackRegistry.ResolvedSchema resolvedSchema)
+      throws XMLStreamException {
+    IsoMessage isoMessage = null;
+    Iso8583SchemaPackRegistry.MtiFields parseGuide = null;
+    int mti = -1;
+    int fieldCount = 0;
+
+    while (reader.hasNext()) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.DTD) {
+        throw new IllegalArgumentException("Failed to parse FIELD_LIST_XML payload: DOCTYPE is not allowed");
+      }
+      if (event != XMLStreamConstants.START_ELEMENT) {
+        continue;
+      }
+      if (isoMessage == null) {
+        if (!"iso8583".equals(reader.getLocalName())) {
+          throw new IllegalArgumentException("FIELD_LIST_XML root element must be <iso8583>");
+        }
+        String mtiText = reader.getAttributeValue(null, "mti");
+        if (mtiText == null || mtiText.isBlank()) {
+          throw new IllegalArgumentException("FIELD_LIST_XML requires iso8583@mti");
+        }
+        mti = parseMti(mtiText);
+        parseGuide = resolvedSchema.schemaDefinition().fieldsForMti(mti);
+        isoMessage = resolvedSchema.messageFactory().newMessage(mti);
+        continue;
+      }
+      if (!"field".equals(reader.getLocalName())) {
+        continue;
+      }
+
+      int fieldNumber = parseFieldNumber(reader.getAttributeValue(null, "num"));
+      String value = reader.getAttributeValue(null, "value");
+      if (value == null || value.isEmpty()) {
+        value = textContent(reader);
+      }
+      if (value == null || value.trim().isEmpty()) {
+        throw new IllegalArgumentException("FIELD_LIST_XML field " + fieldNumber + " has empty value");
+      }
+      Iso8583SchemaPackRegistry.FieldDefinition fieldDefinition = parseGuide.get(fieldNumber);
       if (fieldDefinition == null) {
-        throw new IllegalArgumentException("Field " + field.number() + " is not defined for MTI " + parsed.mtiHex());
+        throw new IllegalArgumentException(
+            "Field " + fieldNumber + " is not defined for MTI " + String.format("%04X", mti));
       }
-      setFieldValue(isoMessage, field.number(), fieldDefinition, field.value());
+      setFieldValue(isoMessage, fieldNumber, fieldDefinition, value.trim());
+      fieldCount++;
     }
 
-    return isoMessage.writeData();
+    if (isoMessage == null) {
+      throw new IllegalArgumentException("FIELD_LIST_XML root element must be <iso8583>");
+    }
+    if (fieldCount == 0) {
+      throw new IllegalArgumentException("FIELD_LIST_XML contains no <field> elements");
+    }
+    return isoMessage;
   }
 
   private void setFieldValue(IsoMessage message,
@@ -65,87 +125,70 @@ final class J8583FieldListXmlCodec {
     message.setValue(fieldNumber, value, fieldType, length);
   }
 
-  private ParsedIsoXmlMessage parsePayload(String xmlPayload) {
-    if (xmlPayload == null || xmlPayload.isBlank()) {
-      throw new IllegalArgumentException("FIELD_LIST_XML payload must not be blank");
-    }
-    Document document = parse(xmlPayload);
-    Element root = document.getDocumentElement();
-    if (root == null || !"iso8583".equals(root.getTagName())) {
-      throw new IllegalArgumentException("FIELD_LIST_XML root element must be <iso8583>");
+  /**
+   * Text of the current element including nested elements, leaving the reader on its end tag.
+   */
+  private static String textContent(XMLStreamReader reader) throws XMLStreamException {
+    StringBuilder text = null;
+    String single = null;
+    int depth = 1;
+    while (depth > 0) {
+      int event = reader.next();
+      switch (event) {
+        case XMLStreamConstants.START_ELEMENT -> depth++;
+        case XMLStreamConstants.END_ELEMENT -> depth--;
+        case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+          if (single == null && text == null) {
+            single = reader.getText();
+          } else {
+            if (text == null) {
+              text = new StringBuilder(single);
+            }
+            text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+          }
+        }
+        default -> {
+        }
+      }
     }
+    return text != null ? text.toString() : single;
+  }
 
-    String mtiText = root.getAttribute("mti");
-    if (mtiText == null || mtiText.isBlank()) {
-      throw new IllegalArgumentException("FIELD_LIST_XML requires iso8583@mti");
-    }
-    int mti = parseMti(mtiText);
-    List<IsoFieldValue> fields = parseFields(root);
-    if (fields.isEmpty()) {
-      throw new IllegalArgumentException("FIELD_LIST_XML contains no <field> elements");
+  private static int parseMti(String mtiText) {
+    String normalized = mtiText.trim();
+    if (normalized.length() != 4 || !isHex(normalized)) {
+      throw new IllegalArgumentException("Invalid MTI in FIELD_LIST_XML: " + mtiText);
     }
-    return new ParsedIsoXmlMessage(mti, fields);
+    return Integer.parseInt(normalized, 16);
   }
 
-  private Document parse(String xmlPayload) {
+  private static int parseFieldNumber(String numText) {
+    if (numText == null || numText.isBlank()) {
+      throw new IllegalArgumentException("FIELD_LIST_XML field is missing required attribute 'num'");
+    }
+    int fieldNumber;
     try {
-      DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-      dbf.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-      dbf.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-      dbf.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-      dbf.setAttribute(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
-      dbf.setNamespaceAware(false);
-      DocumentBuilder builder = dbf.newDocumentBuilder();
-      return builder.parse(new InputSource(new StringReader(xmlPayload)));
-    } catch (Exception ex) {
-      throw new IllegalArgumentException("Failed to parse FIELD_LIST_XML payload", ex);
+      fieldNumber = Integer.parseInt(numText.trim());
+    } catch (NumberFormatException ex) {
+      throw new IllegalArgumentException("Invalid field number in FIELD_LIST_XML: " + numText, ex);
     }
-  }
-
-  private int parseMti(String mtiText) {
-    String normalized = mtiText.trim().toUpperCase();
-    if (!normalized.matches("[0-9A-F]{4}")) {
-      throw new IllegalArgumentException("Invalid MTI in FIELD_LIST_XML: " + mtiText);
+    if (fieldNumber < 2 || fieldNumber > 128) {
+      throw new IllegalArgumentException("FIELD_LIST_XML field number out of range: " + fieldNumber);
     }
-    return Integer.parseInt(normalized, 16);
+    return fieldNumber;
   }
 
-  private List<IsoFieldValue> parseFields(Element root) {
-    List<IsoFieldValue> fields = new ArrayList<>();
-    NodeList nodes = root.getElementsByTagName("field");
-    for (int i = 0; i < nodes.getLength(); i++) {
-      Node node = nodes.item(i);
-      if (!(node instanceof Element field)) {
-        continue;
-      }
-      String numText = field.getAttribute("num");
-      if (numText == null || numText.isBlank()) {
-        throw new IllegalArgumentException("FIELD_LIST_XML field is missing required attribute 'num'");
-      }
-      int fieldNumber;
-      try {
-        fieldNumber = Integer.parseInt(numText.trim());
-      } catch (NumberFormatException ex) {
-        throw new IllegalArgumentException("Invalid field number in FIELD_LIST_XML: " + numText, ex);
-      }
-      if (fieldNumber < 2 || fieldNumber > 128) {
-        throw new IllegalArgumentException("FIELD_LIST_XML field number out of range: " + fieldNumber);
+  private static boolean isHex(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      if (Character.digit(value.charAt(i), 16) < 0) {
+        return false;
       }
-
-      String value = field.getAttribute("value");
-      if (value == null || value.isEmpty()) {
-        value = field.getTextContent();
-      }
-      if (value == null || value.trim().isEmpty()) {
-        throw new IllegalArgumentException("FIELD_LIST_XML field " + fieldNumber + " has empty value");
-      }
-      fields.add(new IsoFieldValue(fieldNumber, value.trim()));
     }
-    return fields;
+    return true;
   }
 
   private byte[] decodeHex(String value) {
-    String normalized = normalizedText(value, -1).replaceAll("\\s+", "");
+    String normalized = stripWhitespace(normalizedText(value, -1));
     if ((normalized.length() & 1) != 0) {
       throw new IllegalArgumentException("Invalid hex length for binary ISO field");
     }
@@ -156,6 +199,24 @@ final class J8583FieldListXmlCodec {
     }
   }
 
+  private static String stripWhitespace(String value) {
+    int i = 0;
+    while (i < value.length() && !Character.isWhitespace(value.charAt(i))) {
+      i++;
+    }
+    if (i == value.length()) {
+      return value;
+    }
+    StringBuilder compact = new StringBuilder(value.length()).append(value, 0, i);
+    for (; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (!Character.isWhitespace(c)) {
+        compact.append(c);
+      }
+    }
+    return compact.toString();
+  }
+
   private BigDecimal parseAmount(String value) {
     String normalized = normalizedText(value, -1);
     try {
@@ -182,12 +243,12 @@ final class J8583FieldListXmlCodec {
     return normalized;
   }
 
-  private record IsoFieldValue(int number, String value) {
-  }
-
-  private record ParsedIsoXmlMessage(int mti, List<IsoFieldValue> fields) {
-    private String mtiHex() {
-      return String.format("%04X", mti);
-    }
+  private static XMLInputFactory newXmlInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    return factory;
   }
 }
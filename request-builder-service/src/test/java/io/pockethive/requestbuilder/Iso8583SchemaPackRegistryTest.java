@@ -0,0 +1,86 @@
+package io.pockethive.requestbuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.pockethive.worker.sdk.api.Iso8583RequestEnvelope;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class Iso8583SchemaPackRegistryTest {
+
+  private static final String SCHEMA = """
+      <j8583-config>
+        <parse type="0100">
+          <field num="2" type="LLVAR"/>
+          <field num="3" type="NUMERIC" length="6"/>
+        </parse>
+      </j8583-config>
+      """;
+
+  @TempDir
+  Path schemaRoot;
+
+  private final Iso8583SchemaPackRegistry registry = new Iso8583SchemaPackRegistry();
+
+  @BeforeEach
+  void writeSchemas() throws Exception {
+    Path schemaDir = schemaRoot.resolve("auth").resolve("1.0.0");
+    Files.createDirectories(schemaDir);
+    Files.writeString(schemaDir.resolve("j8583.xml"), SCHEMA);
+    Files.writeString(schemaDir.resolve("other.xml"), SCHEMA);
+  }
+
+  @Test
+  void reusesTheResolvedSchemaWithoutReadingTheFileAgain() throws Exception {
+    Iso8583SchemaPackRegistry.ResolvedSchema first = registry.resolve(ref("j8583.xml"));
+    Files.delete(schemaRoot.resolve("auth/1.0.0/j8583.xml"));
+
+    Iso8583SchemaPackRegistry.ResolvedSchema second = registry.resolve(ref("j8583.xml"));
+
+    assertThat(second).isSameAs(first);
+    assertThat(registry.resolve(ref("other.xml"))).isNotSameAs(first);
+  }
+
+  @Test
+  void concurrentCallersShareOneResolvedSchema() throws Exception {
+    int callers = 16;
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Iso8583SchemaPackRegistry.ResolvedSchema>> results = new ArrayList<>();
+    try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+      for (int i = 0; i < callers; i++) {
+        results.add(executor.submit(() -> {
+          start.await();
+          return registry.resolve(ref("j8583.xml"));
+        }));
+      }
+      start.countDown();
+    }
+
+    Iso8583SchemaPackRegistry.ResolvedSchema shared = results.getFirst().get();
+    for (Future<Iso8583SchemaPackRegistry.ResolvedSchema> result : results) {
+      assertThat(result.get()).isSameAs(shared);
+    }
+    assertThat(shared.schemaDefinition().fieldsForMti(0x0100).get(2)).isNotNull();
+  }
+
+  @Test
+  void rejectsSchemaFilesOutsideTheSchemaVersion() {
+    assertThatThrownBy(() -> registry.resolve(ref("../../escape.xml")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Invalid schemaFile path");
+  }
+
+  private Iso8583RequestEnvelope.IsoSchemaRef ref(String schemaFile) {
+    return new Iso8583RequestEnvelope.IsoSchemaRef(schemaRoot.toString(), "auth", "1.0.0", "J8583_XML", schemaFile);
+  }
+}
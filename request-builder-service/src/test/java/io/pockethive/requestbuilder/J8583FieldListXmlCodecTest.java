@@ -0,0 +1,103 @@
+package io.pockethive.requestbuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.solab.iso8583.IsoMessage;
+import io.pockethive.worker.sdk.api.Iso8583RequestEnvelope;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class J8583FieldListXmlCodecTest {
+
+  @TempDir
+  Path schemaRoot;
+
+  private final Iso8583SchemaPackRegistry registry = new Iso8583SchemaPackRegistry();
+  private final J8583FieldListXmlCodec codec = new J8583FieldListXmlCodec(registry);
+  private Iso8583RequestEnvelope.IsoSchemaRef schemaRef;
+
+  @BeforeEach
+  void writeSchema() throws Exception {
+    Path schemaDir = schemaRoot.resolve("auth").resolve("1.0.0");
+    Files.createDirectories(schemaDir);
+    Files.writeString(schemaDir.resolve("j8583.xml"), """
+        <j8583-config>
+          <parse type="0100">
+            <field num="2" type="LLVAR"/>
+            <field num="3" type="NUMERIC" length="6"/>
+            <field num="52" type="BINARY" length="8"/>
+          </parse>
+        </j8583-config>
+        """);
+    schemaRef = new Iso8583RequestEnvelope.IsoSchemaRef(
+        schemaRoot.toString(), "auth", "1.0.0", "J8583_XML", "j8583.xml");
+  }
+
+  @Test
+  void encodedPayloadParsesBackToTheSameFields() throws Exception {
+    byte[] payload = codec.encodePayload("""
+        <iso8583 mti="0100">
+          <field num="2" value="5554213493338337"/>
+          <field num="3">000000</field>
+          <field num="52">0102 0304 0506 0708</field>
+        </iso8583>
+        """, schemaRef);
+
+    IsoMessage parsed = registry.resolve(schemaRef).messageFactory().parseMessage(payload, 0);
+
+    assertThat(parsed.getType()).isEqualTo(0x0100);
+    assertThat(parsed.getObjectValue(2).toString()).isEqualTo("5554213493338337");
+    assertThat(parsed.getField(3).toString()).isEqualTo("000000");
+    assertThat((byte[]) parsed.getObjectValue(52)).containsExactly(1, 2, 3, 4, 5, 6, 7, 8);
+    assertThat(parsed.hasField(4)).isFalse();
+  }
+
+  @Test
+  void rejectsDoctypeAndExternalEntities() {
+    String externalEntity = """
+        <?xml version="1.0"?>
+        <!DOCTYPE iso8583 [<!ENTITY xxe SYSTEM "file:///etc/passwd">]>
+        <iso8583 mti="0100"><field num="2">&xxe;</field></iso8583>
+        """;
+    String externalDtd = """
+        <!DOCTYPE iso8583 SYSTEM "http://example.invalid/iso8583.dtd">
+        <iso8583 mti="0100"><field num="2" value="5554213493338337"/></iso8583>
+        """;
+
+    assertThatThrownBy(() -> codec.encodePayload(externalEntity, schemaRef))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("DOCTYPE is not allowed");
+    assertThatThrownBy(() -> codec.encodePayload(externalDtd, schemaRef))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("DOCTYPE is not allowed");
+  }
+
+  @Test
+  void reportsInvalidPayloads() {
+    assertInvalid("<message mti=\"0100\"><field num=\"2\" value=\"1\"/></message>",
+        "root element must be <iso8583>");
+    assertInvalid("<iso8583><field num=\"2\" value=\"1\"/></iso8583>", "requires iso8583@mti");
+    assertInvalid("<iso8583 mti=\"01X0\"><field num=\"2\" value=\"1\"/></iso8583>", "Invalid MTI");
+    assertInvalid("<iso8583 mti=\"0100\"/>", "contains no <field> elements");
+    assertInvalid("<iso8583 mti=\"0100\"><field value=\"1\"/></iso8583>", "missing required attribute 'num'");
+    assertInvalid("<iso8583 mti=\"0100\"><field num=\"129\" value=\"1\"/></iso8583>", "field number out of range");
+    assertInvalid("<iso8583 mti=\"0100\"><field num=\"4\" value=\"1\"/></iso8583>",
+        "Field 4 is not defined for MTI 0100");
+    assertInvalid("<iso8583 mti=\"0100\"><field num=\"2\">  </field></iso8583>", "field 2 has empty value");
+    assertInvalid("<iso8583 mti=\"0100\"><field num=\"52\" value=\"010\"/></iso8583>", "Invalid hex length");
+    assertInvalid("<iso8583 mti=\"0200\"><field num=\"2\" value=\"1\"/></iso8583>",
+        "No schema parse guide found for MTI 0200");
+    assertInvalid("<iso8583 mti=\"0100\"><field num=\"2\" value=\"1\">", "Failed to parse FIELD_LIST_XML payload");
+    assertInvalid(" ", "must not be blank");
+  }
+
+  private void assertInvalid(String payload, String message) {
+    assertThatThrownBy(() -> codec.encodePayload(payload, schemaRef))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining(message);
+  }
+}
@@ -0,0 +1,153 @@
+package io.pockethive.scenarios;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Content hashes for bundle directories.
+ * <p>
+ * The hash covers every regular file below the root, visited in relative-path order, as
+ * {@code path NUL bytes NUL}. It changes whenever a file is added, removed, renamed or edited and
+ * is independent of timestamps and of where the bundle lives on disk.
+ * <p>
+ * Reading every byte scales with bundle size, so {@link #contentHash(Path)} remembers the last
+ * hash per directory together with a stat fingerprint (relative path, size, modification time,
+ * change time and file key of each file) and only re-reads content when that fingerprint changes.
+ * The change time cannot be set back by tools that restore mtimes, and the file key catches a file
+ * replaced by a rename. Timestamps still have a granularity, so a hash taken while any file was
+ * modified within {@link #RACY_WINDOW} of the walk is not remembered: a same-size edit landing in
+ * the same timestamp tick would otherwise leave the fingerprint unchanged.
+ */
+final class BundleDigests {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /** Covers coarse filesystem timestamps (FAT/exFAT keep 2s) as well as the kernel's tick. */
+    static final Duration RACY_WINDOW = Duration.ofSeconds(2);
+    private static final boolean UNIX_ATTRIBUTES =
+        FileSystems.getDefault().supportedFileAttributeViews().contains("unix");
+
+    private final Map<Path, Memo> memo = new ConcurrentHashMap<>();
+    private final Duration racyWindow;
+
+    BundleDigests() {
+        this(RACY_WINDOW);
+    }
+
+    BundleDigests(Duration racyWindow) {
+        this.racyWindow = racyWindow;
+    }
+
+    String contentHash(Path root) throws IOException {
+        Path normalizedRoot = root.toAbsolutePath().normalize();
+        Instant racyAfter = Instant.now().minus(racyWindow);
+        List<FileStat> files = listFiles(normalizedRoot);
+        String fingerprint = fingerprint(files);
+        Memo cached = memo.get(normalizedRoot);
+        if (cached != null && cached.fingerprint().equals(fingerprint)) {
+            return cached.contentHash();
+        }
+        String hash = hashContent(files);
+        if (files.stream().anyMatch(file -> file.changed().isAfter(racyAfter))) {
+            memo.remove(normalizedRoot);
+        } else {
+            memo.put(normalizedRoot, new Memo(fingerprint, hash));
+        }
+        return hash;
+    }
+
+    /**
+     * Hash a directory without consulting or updating the memo; used for freshly written snapshots.
+     */
+    static String uncachedContentHash(Path root) throws IOException {
+        Path normalizedRoot = root.toAbsolutePath().normalize();
+        return hashContent(listFiles(normalizedRoot));
+    }
+
+    private static List<FileStat> listFiles(Path root) throws IOException {
+        List<FileStat> files = new ArrayList<>();
+        try (Stream<Path> stream = Files.walk(root)) {
+            for (Path path : (Iterable<Path>) stream::iterator) {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                if (!attributes.isRegularFile()) {
+                    continue;
+                }
+                Instant modified = attributes.lastModifiedTime().toInstant();
+                Instant changed = UNIX_ATTRIBUTES
+                    ? ((FileTime) Files.getAttribute(path, "unix:ctime")).toInstant()
+                    : modified;
+                files.add(new FileStat(
+                    path,
+                    root.relativize(path).toString().replace('\\', '/'),
+                    attributes.size(),
+                    modified,
+                    changed.isAfter(modified) ? changed : modified,
+                    String.valueOf(attributes.fileKey())));
+            }
+        }
+        files.sort(Comparator.comparing(FileStat::relativePath));
+        return files;
+    }
+
+    private static String fingerprint(List<FileStat> files) {
+        MessageDigest digest = sha256();
+        for (FileStat file : files) {
+            digest.update((file.relativePath() + '\0' + file.size() + '\0' + file.modified() + '\0'
+                + file.changed() + '\0' + file.fileKey() + '\0').getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String hashContent(List<FileStat> files) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        for (FileStat file : files) {
+            digest.update(file.relativePath().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            try (InputStream in = new DigestInputStream(Files.newInputStream(file.path()), digest)) {
+                while (in.read(buffer) != -1) {
+                    // digest is updated by the stream
+                }
+            }
+            digest.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 digest is unavailable", e);
+        }
+    }
+
+    /**
+     * @param changed the later of change time and modification time
+     */
+    private record FileStat(Path path,
+                            String relativePath,
+                            long size,
+                            Instant modified,
+                            Instant changed,
+                            String fileKey) { }
+
+    private record Memo(String fingerprint, String contentHash) { }
+}
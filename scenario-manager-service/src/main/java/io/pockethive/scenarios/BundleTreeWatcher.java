@@ -0,0 +1,144 @@
+package io.pockethive.scenarios;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Watches a bundle tree and runs a callback once a burst of file changes has settled.
+ * <p>
+ * {@link WatchService} is not recursive, so every directory below the root is registered and new
+ * directories are registered as they appear. Events are coalesced: after the first one the watcher
+ * keeps draining until nothing arrives for {@code debounceMillis}, then invokes the callback once.
+ * An overflow counts as a change, since the callback rescans anyway.
+ */
+final class BundleTreeWatcher implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BundleTreeWatcher.class);
+
+    private final Path root;
+    private final long debounceMillis;
+    private final Predicate<Path> ignored;
+    private final Runnable onChange;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    private BundleTreeWatcher(Path root, long debounceMillis, Predicate<Path> ignored, Runnable onChange)
+            throws IOException {
+        this.root = root.toAbsolutePath().normalize();
+        this.debounceMillis = Math.max(0L, debounceMillis);
+        this.ignored = ignored;
+        this.onChange = onChange;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.thread = new Thread(this::run, "scenario-bundle-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    static BundleTreeWatcher start(Path root, long debounceMillis, Predicate<Path> ignored, Runnable onChange)
+            throws IOException {
+        BundleTreeWatcher watcher = new BundleTreeWatcher(root, debounceMillis, ignored, onChange);
+        try {
+            watcher.registerTree(watcher.root);
+        } catch (IOException e) {
+            watcher.close();
+            throw e;
+        }
+        watcher.thread.start();
+        logger.info("Watching {} for scenario bundle changes ({} directories)", watcher.root, watcher.directories.size());
+        return watcher;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close bundle watch service: {}", e.getMessage());
+        }
+        thread.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                boolean changed = drain(watchService.take());
+                WatchKey next;
+                while ((next = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= drain(next);
+                }
+                if (changed) {
+                    onChange.run();
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            } catch (RuntimeException e) {
+                logger.warn("Bundle watcher callback failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private boolean drain(WatchKey key) {
+        Path dir = directories.get(key);
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || dir == null) {
+                changed = true;
+                continue;
+            }
+            Path child = dir.resolve((Path) event.context());
+            if (ignored.test(child)) {
+                continue;
+            }
+            changed = true;
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE
+                    && Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+                try {
+                    registerTree(child);
+                } catch (IOException e) {
+                    logger.warn("Failed to watch new bundle directory {}: {}", child, e.getMessage());
+                }
+            }
+        }
+        if (!key.reset()) {
+            directories.remove(key);
+        }
+        return changed;
+    }
+
+    private void registerTree(Path start) throws IOException {
+        Files.walkFileTree(start, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (!dir.equals(root) && ignored.test(dir)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                WatchKey key = dir.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+                directories.put(key, dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}
@@ -0,0 +1,178 @@
+package io.pockethive.scenarios;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed store of immutable bundle snapshots under the runtime root.
+ * <p>
+ * A bundle is copied into {@code <runtimeRoot>/.bundle-store/<sha256>/} once per distinct content
+ * and never modified afterwards: snapshot files are made read-only. A swarm's runtime directory is
+ * then materialised by hard-linking each snapshot file, so starting a swarm costs one directory entry
+ * per file instead of a copy of every byte, and identical bundles share disk blocks across swarms.
+ * <p>
+ * The runtime directory itself stays a normal, writable directory. Per-swarm overlays (journals,
+ * resolved SUT or variables files) may add files or replace a linked file with a new one, but must not
+ * write into a linked file in place: it shares its inode with the snapshot and with every other swarm
+ * started from the same bundle, and the read-only mode bit does not stop a process running as root.
+ * Containers are therefore never given the runtime root: bees mount only their swarm's directory
+ * read-only, and the swarm controller mounts its own directory to add journal files next to the links.
+ * <p>
+ * Snapshots live under the runtime root because hard links cannot cross file systems; symlinks are not an
+ * option because a container mounting a single swarm directory could not follow them into the store.
+ * When linking is not supported the store falls back to copying that file.
+ */
+final class RuntimeBundleStore {
+
+    static final String STORE_FOLDER = ".bundle-store";
+
+    private static final Logger logger = LoggerFactory.getLogger(RuntimeBundleStore.class);
+    private static final String TEMP_PREFIX = ".tmp-";
+
+    private final Path storeRoot;
+    private final BundleDigests digests;
+    private volatile boolean linksSupported = true;
+
+    RuntimeBundleStore(Path runtimeRoot, BundleDigests digests) {
+        this.storeRoot = runtimeRoot.toAbsolutePath().normalize().resolve(STORE_FOLDER);
+        this.digests = digests;
+    }
+
+    /**
+     * Snapshot {@code source} (reusing an existing snapshot with the same content) and materialise it
+     * into {@code target}, which must not exist or be empty.
+     *
+     * @return the content hash of the snapshot that was linked
+     */
+    synchronized String materialize(Path source, Path target) throws IOException {
+        String hash = digests.contentHash(source);
+        Path snapshot = storeRoot.resolve(hash);
+        if (!Files.isDirectory(snapshot)) {
+            snapshot = createSnapshot(source);
+            prune(snapshot);
+        }
+        Files.createDirectories(target);
+        try (Stream<Path> stream = Files.walk(snapshot)) {
+            for (Path path : (Iterable<Path>) stream::iterator) {
+                Path dest = target.resolve(snapshot.relativize(path).toString());
+                if (Files.isDirectory(path)) {
+                    Files.createDirectories(dest);
+                } else {
+                    link(path, dest);
+                }
+            }
+        }
+        return snapshot.getFileName().toString();
+    }
+
+    /**
+     * Delete snapshots no runtime directory links to any more, except {@code keep}. A snapshot whose
+     * files all have a single link is only referenced by the store itself. Without hard links nothing
+     * references a snapshot after materialisation, so all others are dropped.
+     */
+    private void prune(Path keep) {
+        List<Path> snapshots = new ArrayList<>();
+        try (Stream<Path> stream = Files.list(storeRoot)) {
+            stream.filter(path -> !path.equals(keep)).filter(Files::isDirectory).forEach(snapshots::add);
+        } catch (IOException e) {
+            logger.debug("Failed to list bundle store {}: {}", storeRoot, e.getMessage());
+            return;
+        }
+        for (Path snapshot : snapshots) {
+            try {
+                if (!linksSupported || snapshot.getFileName().toString().startsWith(TEMP_PREFIX) || !isReferenced(snapshot)) {
+                    deleteTree(snapshot);
+                }
+            } catch (IOException | UnsupportedOperationException | IllegalArgumentException e) {
+                logger.debug("Skipping prune of bundle snapshot {}: {}", snapshot, e.getMessage());
+            }
+        }
+    }
+
+    private Path createSnapshot(Path source) throws IOException {
+        Files.createDirectories(storeRoot);
+        Path temp = storeRoot.resolve(TEMP_PREFIX + UUID.randomUUID());
+        try {
+            copyReadOnly(source, temp);
+            // The source may have changed since it was hashed; name the snapshot after what was copied.
+            String copiedHash = BundleDigests.uncachedContentHash(temp);
+            Path snapshot = storeRoot.resolve(copiedHash);
+            if (Files.isDirectory(snapshot)) {
+                deleteTree(temp);
+            } else {
+                Files.move(temp, snapshot, StandardCopyOption.ATOMIC_MOVE);
+                logger.info("Stored bundle snapshot {} from {}", copiedHash, source);
+            }
+            return snapshot;
+        } catch (IOException | RuntimeException e) {
+            deleteTree(temp);
+            throw e;
+        }
+    }
+
+    private void link(Path snapshotFile, Path dest) throws IOException {
+        if (linksSupported) {
+            try {
+                Files.createLink(dest, snapshotFile);
+                return;
+            } catch (FileAlreadyExistsException e) {
+                throw e;
+            } catch (UnsupportedOperationException | FileSystemException e) {
+                linksSupported = false;
+                logger.warn("Hard links are not available under {} ({}); runtime bundles will be copied",
+                    storeRoot, e.getMessage());
+            }
+        }
+        Files.copy(snapshotFile, dest, StandardCopyOption.REPLACE_EXISTING);
+        dest.toFile().setWritable(true);
+    }
+
+    private static boolean isReferenced(Path snapshot) throws IOException {
+        try (Stream<Path> stream = Files.walk(snapshot)) {
+            for (Path path : (Iterable<Path>) stream::iterator) {
+                if (Files.isRegularFile(path) && ((Number) Files.getAttribute(path, "unix:nlink")).intValue() > 1) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void copyReadOnly(Path source, Path target) throws IOException {
+        try (Stream<Path> stream = Files.walk(source)) {
+            for (Path path : (Iterable<Path>) stream::iterator) {
+                Path dest = target.resolve(source.relativize(path).toString());
+                if (Files.isDirectory(path)) {
+                    Files.createDirectories(dest);
+                } else {
+                    Files.createDirectories(dest.getParent());
+                    Files.copy(path, dest, StandardCopyOption.COPY_ATTRIBUTES);
+                    dest.toFile().setWritable(false, false);
+                }
+            }
+        }
+    }
+
+    private static void deleteTree(Path root) throws IOException {
+        if (!Files.exists(root)) {
+            return;
+        }
+        try (Stream<Path> stream = Files.walk(root)) {
+            List<Path> paths = stream.sorted((a, b) -> b.getNameCount() - a.getNameCount()).toList();
+            for (Path path : paths) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
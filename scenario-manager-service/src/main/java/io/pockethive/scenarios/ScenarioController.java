@@ -10,22 +10,20 @@ import io.pockethive.scenarios.validation.BundleValidationResult;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 import io.pockethive.swarm.model.SutEnvironment;
 
 @RestController
@@ -635,72 +633,85 @@ public class ScenarioController {
     }
 
     @GetMapping(value = "/{id}/bundle", produces = "application/zip")
-    public ResponseEntity<byte[]> downloadBundle(@PathVariable("id") String id) throws IOException {
+    public ResponseEntity<StreamingResponseBody> downloadBundle(
+            @PathVariable("id") String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws IOException {
         log.info("[REST] GET /scenarios/{}/bundle", id);
         requireReadScenario(id);
         Scenario scenario = service.find(id).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
-        Path bundleDir;
+        ScenarioService.BundleArchive archive;
         try {
-            bundleDir = service.bundleDirFor(scenario.getId());
+            archive = service.scenarioBundleArchive(scenario.getId());
         } catch (IllegalArgumentException e) {
+            log.warn("Bundle directory for scenario '{}' not found: {}", id, e.getMessage());
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Scenario bundle not found", e);
         }
-        if (!Files.isDirectory(bundleDir)) {
-            log.warn("Bundle directory {} for scenario '{}' not found", bundleDir, id);
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Scenario bundle not found");
-        }
-
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        try (ZipOutputStream zip = new ZipOutputStream(out);
-             Stream<Path> paths = Files.walk(bundleDir)) {
-            for (Path path : (Iterable<Path>) paths::iterator) {
-                if (Files.isDirectory(path)) {
-                    continue;
-                }
-                Path relative = bundleDir.relativize(path);
-                String entryName = relative.toString().replace('\\', '/');
-                zip.putNextEntry(new ZipEntry(entryName));
-                Files.copy(path, zip);
-                zip.closeEntry();
-            }
-        }
-
-        byte[] bytes = out.toByteArray();
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.setContentLength(bytes.length);
-        String fileName = scenario.getId() + "-bundle.zip";
-        headers.setContentDispositionFormData("attachment", fileName);
-
-        log.info("[REST] GET /scenarios/{}/bundle -> status=200 size={} filename={}", id, bytes.length, fileName);
-        return new ResponseEntity<>(bytes, headers, HttpStatus.OK);
+        return bundleResponse("/scenarios/" + id + "/bundle", archive, ifNoneMatch);
     }
 
     @GetMapping(value = "/bundles/download", produces = "application/zip")
-    public ResponseEntity<byte[]> downloadBundleByKey(@RequestParam("bundleKey") String bundleKey) throws IOException {
+    public ResponseEntity<StreamingResponseBody> downloadBundleByKey(
+            @RequestParam("bundleKey") String bundleKey,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws IOException {
         log.info("[REST] GET /scenarios/bundles/download bundleKey={}", bundleKey);
         requireReadBundle(bundleKey);
+        ScenarioService.BundleArchive archive;
         try {
-            ScenarioService.BundleDownload bundle = service.downloadBundle(bundleKey);
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-            headers.setContentLength(bundle.bytes().length);
-            headers.setContentDispositionFormData("attachment", bundle.fileName());
-            log.info("[REST] GET /scenarios/bundles/download -> status=200 size={} filename={}",
-                    bundle.bytes().length, bundle.fileName());
-            return new ResponseEntity<>(bundle.bytes(), headers, HttpStatus.OK);
+            archive = service.bundleArchive(bundleKey);
         } catch (IllegalArgumentException e) {
             log.warn("[REST] GET /scenarios/bundles/download -> status=400 bundleKey={} {}", bundleKey, e.getMessage());
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
         }
+        return bundleResponse("/scenarios/bundles/download", archive, ifNoneMatch);
+    }
+
+    /**
+     * Stream a bundle zip straight to the response. The ETag is the bundle content hash and
+     * {@code no-cache} makes clients revalidate, so an unchanged bundle costs a 304 instead of a download.
+     */
+    private ResponseEntity<StreamingResponseBody> bundleResponse(String path,
+                                                                 ScenarioService.BundleArchive archive,
+                                                                 String ifNoneMatch) {
+        if (etagMatches(ifNoneMatch, archive.etag())) {
+            log.info("[REST] GET {} -> status=304 etag={}", path, archive.etag());
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(archive.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+        headers.setContentDispositionFormData("attachment", archive.fileName());
+        headers.setETag(archive.etag());
+        headers.setCacheControl(CacheControl.noCache());
+        log.info("[REST] GET {} -> status=200 filename={} etag={}", path, archive.fileName(), archive.etag());
+        StreamingResponseBody body = out -> service.writeBundleZip(archive, out);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    private static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @PostMapping(
             value = "/bundles",
             consumes = "application/zip",
             produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<?> uploadBundle(@RequestBody byte[] body) throws IOException {
-        int size = body != null ? body.length : 0;
+    public ResponseEntity<?> uploadBundle(InputStream body,
+                                          @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long size)
+            throws IOException {
         log.info("[REST] POST /scenarios/bundles contentType=application/zip size={}", size);
         requireManageFolder("bundles");
         Scenario created = service.createBundleFromZip(body);
@@ -715,8 +726,9 @@ public class ScenarioController {
             consumes = "application/zip",
             produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<?> replaceBundle(@PathVariable("id") String id,
-                                           @RequestBody byte[] body) throws IOException {
-        int size = body != null ? body.length : 0;
+                                           InputStream body,
+                                           @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long size)
+            throws IOException {
         log.info("[REST] PUT /scenarios/{}/bundle contentType=application/zip size={}", id, size);
         requireManageScenario(id);
         Scenario updated = service.replaceBundleFromZip(id, body);
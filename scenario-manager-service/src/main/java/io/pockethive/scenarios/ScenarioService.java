@@ -11,6 +11,7 @@ import io.pockethive.scenarios.validation.ScenarioBundleValidator;
 import io.pockethive.scenarios.validation.ValidationFinding;
 import io.pockethive.swarm.model.SwarmTemplate;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.springframework.http.MediaType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,9 +19,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.nio.file.*;
@@ -38,7 +41,10 @@ public class ScenarioService {
     private static final String SCENARIOS_RUNTIME_ROOT = "scenarios-runtime";
     private static final String DEFAULT_UPLOAD_FOLDER = "bundles";
     private static final String QUARANTINE_FOLDER = "quarantine";
-    private static final String UPLOAD_TEMP_PREFIX = "pockethive-scenario-upload-";
+    private static final String STAGING_FOLDER = ".staging";
+    private static final String UPLOAD_TEMP_PREFIX = "upload-";
+    private static final long DEFAULT_MAX_UPLOAD_BYTES = 256L * 1024 * 1024;
+    private static final long DEFAULT_MAX_EXTRACTED_BYTES = 1024L * 1024 * 1024;
     private static final String NODE_TYPE_DIRECTORY = "directory";
     private static final String NODE_TYPE_FILE = "file";
     private static final String EDITOR_KIND_TEXT = "text";
@@ -50,11 +56,34 @@ public class ScenarioService {
     private final Path testStorageDir;
     private final Path bundleRootDir;
     private final Path runtimeRootDir;
+    private final Path stagingDir;
     private final boolean showTestScenarios;
+    private final long maxUploadBytes;
+    private final long maxExtractedBytes;
     private final ObjectMapper yamlMapper = new ObjectMapper(new YAMLFactory());
+    private static final int VALIDATION_CACHE_SIZE = 256;
+    private static final long WATCH_DEBOUNCE_MS = 250L;
     private final ScenarioBundleValidator bundleValidator;
-    private final Map<String, ScenarioRecord> scenarios = new ConcurrentHashMap<>();
-    private volatile List<BundleCatalogEntry> bundleCatalog = List.of();
+    private final CapabilityCatalogueService capabilities;
+    private final boolean watchEnabled;
+    /**
+     * Immutable view of the bundle catalogue and scenario index. Readers use whatever snapshot is
+     * current and never take the service monitor; {@link #reload()} builds the next one and swaps it in.
+     */
+    private volatile CatalogSnapshot catalog = CatalogSnapshot.EMPTY;
+    /** Parsed descriptors keyed by absolute path; reused by {@link #reload()} while the content hash matches. */
+    private final Map<Path, ParsedDescriptor> descriptorCache = new ConcurrentHashMap<>();
+    private final Map<ValidationCacheKey, BundleValidationResult> validationCache = Collections.synchronizedMap(
+        new LinkedHashMap<ValidationCacheKey, BundleValidationResult>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ValidationCacheKey, BundleValidationResult> eldest) {
+                return size() > VALIDATION_CACHE_SIZE;
+            }
+        });
+    private volatile List<?> validationCacheManifests;
+    private final BundleDigests bundleDigests = new BundleDigests();
+    private final RuntimeBundleStore runtimeBundles;
+    private BundleTreeWatcher watcher;
     private final Object variablesLock = new Object();
 
     @Autowired
@@ -62,24 +91,56 @@ public class ScenarioService {
                            @Value("${scenarios.show-test:true}") boolean showTestScenarios,
                            @Value("${pockethive.images.default-tag:}") String defaultImageTag,
                            @Value("${pockethive.release.version}") String scenarioManagerVersion,
+                           @Value("${scenarios.watch:true}") boolean watchEnabled,
+                           @Value("${scenarios.bundles.max-upload-bytes:" + DEFAULT_MAX_UPLOAD_BYTES + "}") long maxUploadBytes,
+                           @Value("${scenarios.bundles.max-extracted-bytes:" + DEFAULT_MAX_EXTRACTED_BYTES + "}") long maxExtractedBytes,
+                           CapabilityCatalogueService capabilities) throws IOException {
+        this(Paths.get(dir),
+             Paths.get(SCENARIOS_RUNTIME_ROOT),
+             showTestScenarios,
+             normalizeTag(defaultImageTag),
+             scenarioManagerVersion,
+             watchEnabled,
+             maxUploadBytes,
+             maxExtractedBytes,
+             capabilities);
+    }
+
+    public ScenarioService(String dir,
+                           boolean showTestScenarios,
+                           String defaultImageTag,
+                           String scenarioManagerVersion,
                            CapabilityCatalogueService capabilities) throws IOException {
         this(Paths.get(dir),
              Paths.get(SCENARIOS_RUNTIME_ROOT),
              showTestScenarios,
              normalizeTag(defaultImageTag),
              scenarioManagerVersion,
+             false,
+             DEFAULT_MAX_UPLOAD_BYTES,
+             DEFAULT_MAX_EXTRACTED_BYTES,
              capabilities);
     }
 
     ScenarioService(String dir,
                     CapabilityCatalogueService capabilities) throws IOException {
-        this(Paths.get(dir), Paths.get(SCENARIOS_RUNTIME_ROOT), true, null, "test", capabilities);
+        this(Paths.get(dir), Paths.get(SCENARIOS_RUNTIME_ROOT), true, null, "test", false,
+             DEFAULT_MAX_UPLOAD_BYTES, DEFAULT_MAX_EXTRACTED_BYTES, capabilities);
     }
 
     ScenarioService(String dir,
                     Path runtimeRoot,
                     CapabilityCatalogueService capabilities) throws IOException {
-        this(Paths.get(dir), runtimeRoot, true, null, "test", capabilities);
+        this(Paths.get(dir), runtimeRoot, true, null, "test", false,
+             DEFAULT_MAX_UPLOAD_BYTES, DEFAULT_MAX_EXTRACTED_BYTES, capabilities);
+    }
+
+    ScenarioService(String dir,
+                    Path runtimeRoot,
+                    long maxUploadBytes,
+                    long maxExtractedBytes,
+                    CapabilityCatalogueService capabilities) throws IOException {
+        this(Paths.get(dir), runtimeRoot, true, null, "test", false, maxUploadBytes, maxExtractedBytes, capabilities);
     }
 
     ScenarioService(String dir,
@@ -90,6 +151,9 @@ public class ScenarioService {
              true,
              normalizeTag(defaultImageTag),
              "test",
+             false,
+             DEFAULT_MAX_UPLOAD_BYTES,
+             DEFAULT_MAX_EXTRACTED_BYTES,
              capabilities);
     }
 
@@ -98,13 +162,19 @@ public class ScenarioService {
                             boolean showTestScenarios,
                             String defaultImageTag,
                             String scenarioManagerVersion,
+                            boolean watchEnabled,
+                            long maxUploadBytes,
+                            long maxExtractedBytes,
                             CapabilityCatalogueService capabilities) throws IOException {
         Path normalizedDir = dir.toAbsolutePath().normalize();
         this.storageDir = normalizedDir;
         this.testStorageDir = normalizedDir.resolve("e2e");
         this.bundleRootDir = normalizedDir;
         this.runtimeRootDir = runtimeRoot.toAbsolutePath().normalize();
+        this.stagingDir = normalizedDir.resolve(STAGING_FOLDER);
         this.showTestScenarios = showTestScenarios;
+        this.maxUploadBytes = maxUploadBytes;
+        this.maxExtractedBytes = maxExtractedBytes;
         Files.createDirectories(this.storageDir);
         if (this.showTestScenarios) {
             Files.createDirectories(this.testStorageDir);
@@ -113,37 +183,75 @@ public class ScenarioService {
         Files.createDirectories(this.bundleRootDir.resolve(QUARANTINE_FOLDER));
         Files.createDirectories(this.runtimeRootDir);
         this.bundleValidator = new ScenarioBundleValidator(capabilities, defaultImageTag, scenarioManagerVersion);
+        this.capabilities = capabilities;
+        this.watchEnabled = watchEnabled;
+        this.runtimeBundles = new RuntimeBundleStore(this.runtimeRootDir, bundleDigests);
     }
 
     @PostConstruct
     void init() throws IOException {
         reload();
+        if (watchEnabled) {
+            watcher = BundleTreeWatcher.start(bundleRootDir, WATCH_DEBOUNCE_MS, this::isIgnoredByWatcher, this::reloadAfterChange);
+        }
     }
 
+    @PreDestroy
+    void shutdown() {
+        if (watcher != null) {
+            watcher.close();
+            watcher = null;
+        }
+    }
+
+    /**
+     * Rescan the bundle tree and publish a new catalogue snapshot.
+     * <p>
+     * The walk itself only lists files; a scenario descriptor is re-parsed only when its content hash
+     * differs from the one cached for its path, so a reload after editing one bundle costs one parse.
+     * Writers are serialised on the service monitor, readers keep using the previous snapshot until
+     * the new one is swapped in.
+     */
     public synchronized void reload() throws IOException {
         Files.createDirectories(bundleRootDir.resolve(QUARANTINE_FOLDER));
         List<ScannedBundle> discovered = new ArrayList<>();
         Set<Path> visitedDescriptors = new HashSet<>();
+        int[] parsed = new int[1];
 
-        loadFromBundles(bundleRootDir, discovered, visitedDescriptors);
+        loadFromBundles(bundleRootDir, discovered, visitedDescriptors, parsed);
         if (showTestScenarios && Files.isDirectory(testStorageDir)) {
-            loadFromBundles(testStorageDir, discovered, visitedDescriptors);
+            loadFromBundles(testStorageDir, discovered, visitedDescriptors, parsed);
         }
+        descriptorCache.keySet().retainAll(visitedDescriptors);
 
-        List<BundleCatalogEntry> catalog = buildBundleCatalog(discovered);
-        Map<String, ScenarioRecord> loaded = buildScenarioIndex(catalog);
-
-        scenarios.clear();
-        scenarios.putAll(loaded);
-        bundleCatalog = catalog;
+        List<BundleCatalogEntry> entries = buildBundleCatalog(discovered);
+        Map<String, ScenarioRecord> loaded = buildScenarioIndex(entries);
+        catalog = CatalogSnapshot.of(entries, loaded);
 
         long available = loaded.values().stream().filter(record -> !record.defunct()).count();
-        logger.info("Loaded {} scenario(s) from {}{} ({} available, {} bundle entries)",
+        logger.info("Loaded {} scenario(s) from {}{} ({} available, {} bundle entries, {} descriptor(s) parsed)",
             loaded.size(),
             storageDir,
             (showTestScenarios ? " and " + testStorageDir : ""),
             available,
-            catalog.size());
+            entries.size(),
+            parsed[0]);
+    }
+
+    private void reloadAfterChange() {
+        try {
+            reload();
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Scenario reload after bundle change failed: {}", e.getMessage());
+        }
+    }
+
+    private boolean isIgnoredByWatcher(Path path) {
+        Path normalized = path.toAbsolutePath().normalize();
+        if (normalized.startsWith(runtimeRootDir) || normalized.startsWith(stagingDir)) {
+            return true;
+        }
+        return !showTestScenarios && normalized.startsWith(testStorageDir);
     }
 
     public List<ScenarioSummary> list() {
@@ -174,7 +282,7 @@ public class ScenarioService {
     }
 
     public List<BundleTemplateSummary> listBundleTemplates() {
-        return bundleCatalog.stream()
+        return catalog.entries().stream()
                 .map(entry -> new BundleTemplateSummary(
                         entry.bundleKey(),
                         entry.bundlePath(),
@@ -197,7 +305,7 @@ public class ScenarioService {
         if (scenarioId == null || scenarioId.isBlank()) {
             return Optional.empty();
         }
-        return bundleCatalog.stream()
+        return catalog.entries().stream()
                 .filter(entry -> scenarioId.trim().equals(entry.scenarioId()))
                 .findFirst()
                 .map(this::toBundleTemplateSummary);
@@ -208,14 +316,14 @@ public class ScenarioService {
             return Optional.empty();
         }
         String normalizedScenarioId = scenarioId.trim();
-        Optional<ScenarioAccessDescriptor> fromBundleCatalog = bundleCatalog.stream()
+        Optional<ScenarioAccessDescriptor> fromBundleCatalog = catalog.entries().stream()
                 .filter(entry -> normalizedScenarioId.equals(entry.scenarioId()))
                 .findFirst()
                 .map(this::toAccessDescriptor);
         if (fromBundleCatalog.isPresent()) {
             return fromBundleCatalog;
         }
-        ScenarioRecord record = scenarios.get(normalizedScenarioId);
+        ScenarioRecord record = catalog.scenarios().get(normalizedScenarioId);
         return Optional.ofNullable(record)
                 .map(value -> new ScenarioAccessDescriptor(
                         normalizedScenarioId,
@@ -227,19 +335,17 @@ public class ScenarioService {
         if (bundleKey == null || bundleKey.isBlank()) {
             return Optional.empty();
         }
-        return bundleCatalog.stream()
-                .filter(entry -> bundleKey.trim().equals(entry.bundleKey()))
-                .findFirst()
+        return Optional.ofNullable(catalog.entriesByBundleKey().get(bundleKey.trim()))
                 .map(this::toAccessDescriptor);
     }
 
     public Optional<Scenario> find(String id) {
-        ScenarioRecord record = scenarios.get(id);
+        ScenarioRecord record = catalog.scenarios().get(id);
         return Optional.ofNullable(record).map(ScenarioRecord::scenario);
     }
 
     public Optional<Scenario> findAvailable(String id) {
-        ScenarioRecord record = scenarios.get(id);
+        ScenarioRecord record = catalog.scenarios().get(id);
         if (record == null || record.defunct()) {
             return Optional.empty();
         }
@@ -247,7 +353,7 @@ public class ScenarioService {
     }
 
     public boolean isDefunct(String id) {
-        ScenarioRecord record = scenarios.get(id);
+        ScenarioRecord record = catalog.scenarios().get(id);
         return record != null && record.defunct();
     }
 
@@ -261,23 +367,23 @@ public class ScenarioService {
 
         writeDescriptor(resolved, bundleDir);
         reload();
-        ScenarioRecord record = scenarios.get(id);
+        ScenarioRecord record = catalog.scenarios().get(id);
         return record != null ? record.scenario() : resolved;
     }
 
     public Scenario update(String id, Scenario scenario) throws IOException {
         scenario.setId(id);
         Scenario resolved = bundleValidator.applyDefaultImageTag(scenario);
-        ScenarioRecord existing = scenarios.get(id);
+        ScenarioRecord existing = catalog.scenarios().get(id);
         Path bundleDir = existing != null && existing.bundleDir() != null ? existing.bundleDir() : bundleDir(id);
         writeDescriptor(resolved, bundleDir);
         reload();
-        ScenarioRecord record = scenarios.get(id);
+        ScenarioRecord record = catalog.scenarios().get(id);
         return record != null ? record.scenario() : resolved;
     }
 
     public void delete(String id) throws IOException {
-        ScenarioRecord removed = scenarios.get(id);
+        ScenarioRecord removed = catalog.scenarios().get(id);
         if (removed == null) {
             return;
         }
@@ -294,7 +400,7 @@ public class ScenarioService {
         reload();
     }
 
-	    public synchronized List<String> listBundleFolders() throws IOException {
+	    public List<String> listBundleFolders() throws IOException {
 	        Files.createDirectories(bundleRootDir);
 	        Set<Path> scenarioRoots = scenarioBundleRoots();
 	        List<String> folders = new ArrayList<>();
@@ -353,7 +459,7 @@ public class ScenarioService {
         if (scenarioId == null || scenarioId.isBlank()) {
             throw new IllegalArgumentException("scenarioId must not be blank");
         }
-        ScenarioRecord record = scenarios.get(scenarioId);
+        ScenarioRecord record = catalog.scenarios().get(scenarioId);
         if (record == null) {
             throw new IllegalArgumentException("Scenario '%s' not found".formatted(scenarioId));
         }
@@ -413,15 +519,37 @@ public class ScenarioService {
         reload();
     }
 
-    public synchronized BundleDownload downloadBundle(String bundleKey) throws IOException {
+    /**
+     * Describe a bundle for download. The ETag is the bundle content hash, so a client holding the same
+     * ETag already has identical content.
+     */
+    public BundleArchive bundleArchive(String bundleKey) throws IOException {
         BundleCatalogEntry entry = bundleEntry(bundleKey);
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
         Path bundleDir = entry.bundleDir();
-        if (bundleDir == null || !Files.isDirectory(bundleDir)) {
+        if (bundleDir == null || !bundleDirPresent(bundleDir)) {
             throw new IllegalArgumentException("Bundle '%s' not found".formatted(bundleKey));
         }
-        try (ZipOutputStream zip = new ZipOutputStream(out);
-             Stream<Path> paths = Files.walk(bundleDir)) {
+        return new BundleArchive(bundleDir, fallbackBundleName(entry.bundlePath()) + "-bundle.zip",
+            "\"" + bundleDigests.contentHash(bundleDir) + "\"");
+    }
+
+    public BundleArchive scenarioBundleArchive(String scenarioId) throws IOException {
+        Path bundleDir = bundleDirFor(scenarioId);
+        if (!bundleDirPresent(bundleDir)) {
+            throw new IllegalArgumentException("Scenario '%s' has no bundle directory".formatted(scenarioId));
+        }
+        return new BundleArchive(bundleDir, scenarioId + "-bundle.zip",
+            "\"" + bundleDigests.contentHash(bundleDir) + "\"");
+    }
+
+    /**
+     * Stream a bundle as a zip archive. Files are copied straight from disk into {@code out}; nothing is
+     * buffered beyond the zip stream's own buffers, and no service lock is held.
+     */
+    public void writeBundleZip(BundleArchive archive, OutputStream out) throws IOException {
+        Path bundleDir = archive.bundleDir();
+        ZipOutputStream zip = new ZipOutputStream(out);
+        try (Stream<Path> paths = Files.walk(bundleDir)) {
             for (Path path : (Iterable<Path>) paths::iterator) {
                 if (Files.isDirectory(path)) {
                     continue;
@@ -433,10 +561,11 @@ public class ScenarioService {
                 zip.closeEntry();
             }
         }
-        return new BundleDownload(out.toByteArray(), fallbackBundleName(entry.bundlePath()) + "-bundle.zip");
+        zip.finish();
+        zip.flush();
     }
 
-    public synchronized BundleTree readBundleTree(String bundleKey) throws IOException {
+    public BundleTree readBundleTree(String bundleKey) throws IOException {
         BundleCatalogEntry entry = bundleEntry(bundleKey);
         BundleRoot root = bundleRoot(entry);
         List<BundleTreeNode> nodes = new ArrayList<>();
@@ -451,7 +580,7 @@ public class ScenarioService {
         return new BundleTree(entry.bundleKey(), nodes);
     }
 
-    public synchronized BundleFilePayload readBundleWorkspaceFile(String bundleKey, String relativePath) throws IOException {
+    public BundleFilePayload readBundleWorkspaceFile(String bundleKey, String relativePath) throws IOException {
         BundleCatalogEntry entry = bundleEntry(bundleKey);
         BundleRoot root = bundleRoot(entry);
         Path file = resolveBundleEntryPath(root, relativePath);
@@ -600,7 +729,7 @@ public class ScenarioService {
 
     private BundleRoot bundleRoot(BundleCatalogEntry entry) {
         Path bundleDir = entry.bundleDir();
-        if (bundleDir == null || !Files.isDirectory(bundleDir)) {
+        if (bundleDir == null || !bundleDirPresent(bundleDir)) {
             throw new IllegalArgumentException("Bundle '%s' not found".formatted(entry.bundleKey()));
         }
         return new BundleRoot(bundleDir.toAbsolutePath().normalize());
@@ -743,7 +872,7 @@ public class ScenarioService {
 
     private Set<Path> scenarioBundleRoots() {
         Set<Path> roots = new LinkedHashSet<>();
-        for (BundleCatalogEntry entry : bundleCatalog) {
+        for (BundleCatalogEntry entry : catalog.entries()) {
             Path dir = entry.bundleDir();
             if (dir != null) {
                 roots.add(dir.toAbsolutePath().normalize());
@@ -756,10 +885,11 @@ public class ScenarioService {
         if (bundleKey == null || bundleKey.isBlank()) {
             throw new IllegalArgumentException("bundleKey must not be blank");
         }
-        return bundleCatalog.stream()
-                .filter(entry -> bundleKey.equals(entry.bundleKey()))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Bundle '%s' not found".formatted(bundleKey)));
+        BundleCatalogEntry entry = catalog.entriesByBundleKey().get(bundleKey);
+        if (entry == null) {
+            throw new IllegalArgumentException("Bundle '%s' not found".formatted(bundleKey));
+        }
+        return entry;
     }
 
 	    private boolean isUnderAnyScenarioRoot(Path path, Set<Path> scenarioRoots) {
@@ -782,7 +912,7 @@ public class ScenarioService {
 	        }
 	        Path normalized = path.toAbsolutePath().normalize();
 	        Path testRoot = testStorageDir.toAbsolutePath().normalize();
-	        if (normalized.startsWith(testRoot)) {
+	        if (normalized.startsWith(testRoot) || normalized.startsWith(stagingDir)) {
 	            return true;
 	        }
 	        Path root = bundleRootDir.toAbsolutePath().normalize();
@@ -826,7 +956,7 @@ public class ScenarioService {
     }
 
     Path bundleDirFor(String scenarioId) {
-        ScenarioRecord record = scenarios.get(scenarioId);
+        ScenarioRecord record = catalog.scenarios().get(scenarioId);
         if (record == null) {
             throw new IllegalArgumentException("Scenario '%s' not found".formatted(scenarioId));
         }
@@ -868,6 +998,9 @@ public class ScenarioService {
 
     Path runtimeDir(String swarmId) {
         String cleaned = sanitize(swarmId);
+        if (cleaned.equals(RuntimeBundleStore.STORE_FOLDER)) {
+            throw new IllegalArgumentException("Invalid swarm id");
+        }
         Path dir = runtimeRootDir.resolve(cleaned).normalize();
         if (!dir.startsWith(runtimeRootDir)) {
             throw new IllegalArgumentException("Invalid swarm id");
@@ -896,8 +1029,10 @@ public class ScenarioService {
 
         ScenarioRecord record = bundle.record();
         Path source = record != null ? record.bundleDir() : bundle.entry().bundleDir();
-        if (source != null && Files.isDirectory(source)) {
-            copyDirectory(source, target);
+        if (source != null && bundleDirPresent(source)) {
+            String snapshot = runtimeBundles.materialize(source, target);
+            logger.debug("Linked runtime directory {} for scenario '{}' from bundle snapshot {}",
+                target, normalizedScenarioId, snapshot);
         } else {
             logger.info("No bundle directory found for scenario '{}'; runtime directory {} will be empty",
                 normalizedScenarioId, target);
@@ -924,11 +1059,11 @@ public class ScenarioService {
     }
 
     private RuntimeBundle runtimeBundleForScenario(String scenarioId) {
-        ScenarioRecord record = scenarios.get(scenarioId);
+        ScenarioRecord record = catalog.scenarios().get(scenarioId);
         if (record != null) {
             return new RuntimeBundle(record, bundleEntryForRecord(record));
         }
-        return bundleCatalog.stream()
+        return catalog.entries().stream()
             .filter(entry -> Objects.equals(entry.scenarioId(), scenarioId))
             .findFirst()
             .map(entry -> new RuntimeBundle(entry.scenarioRecord(), entry))
@@ -939,7 +1074,7 @@ public class ScenarioService {
         if (record == null) {
             return null;
         }
-        return bundleCatalog.stream()
+        return catalog.entries().stream()
             .filter(entry -> entry.scenarioRecord() == record)
             .findFirst()
             .orElse(null);
@@ -974,7 +1109,10 @@ public class ScenarioService {
         }
     }
 
-    private void loadFromBundles(Path bundleRoot, List<ScannedBundle> target, Set<Path> visitedDescriptors) throws IOException {
+    private void loadFromBundles(Path bundleRoot,
+                                 List<ScannedBundle> target,
+                                 Set<Path> visitedDescriptors,
+                                 int[] parsed) throws IOException {
         if (!Files.isDirectory(bundleRoot)) {
             return;
         }
@@ -993,6 +1131,9 @@ public class ScenarioService {
                 if (isMainScan && normalized.startsWith(normalizedTestDir)) {
                     continue;
                 }
+                if (normalized.startsWith(stagingDir)) {
+                    continue;
+                }
                 if (!Files.isRegularFile(path)) {
                     continue;
                 }
@@ -1006,38 +1147,52 @@ public class ScenarioService {
                 if (!visitedDescriptors.add(normalized)) {
                     continue;
                 }
-                scanDescriptor(path, path.getParent(), target);
+                scanDescriptor(normalized, parent, target, parsed);
             }
         }
     }
 
-    private void scanDescriptor(Path descriptorFile, Path bundleDir, List<ScannedBundle> target) {
+    private void scanDescriptor(Path descriptorFile, Path bundleDir, List<ScannedBundle> target, int[] parsed) {
         String bundlePath = relativeEntryPath(bundleDir != null ? bundleDir : descriptorFile);
         String folderPath = folderPathForBundleEntry(bundlePath);
         String fallbackName = fallbackBundleName(bundlePath);
+        ParsedDescriptor descriptor = parseDescriptor(descriptorFile, parsed);
+        target.add(new ScannedBundle(
+                bundlePath,
+                bundlePath,
+                folderPath,
+                fallbackName,
+                descriptorFile,
+                bundleDir,
+                descriptor.scenario(),
+                descriptor.loadError()));
+    }
+
+    private ParsedDescriptor parseDescriptor(Path descriptorFile, int[] parsed) {
+        String contentHash;
         try {
-            Scenario scenario = bundleValidator.readScenarioDescriptor(descriptorFile);
-            target.add(new ScannedBundle(
-                    bundlePath,
-                    bundlePath,
-                    folderPath,
-                    fallbackName,
-                    descriptorFile.toAbsolutePath().normalize(),
-                    bundleDir != null ? bundleDir.toAbsolutePath().normalize() : null,
-                    scenario,
-                    null));
+            contentHash = sha256Hex(Files.readAllBytes(descriptorFile));
+        } catch (IOException e) {
+            contentHash = null;
+        }
+        ParsedDescriptor cached = descriptorCache.get(descriptorFile);
+        if (cached != null && contentHash != null && contentHash.equals(cached.contentHash())) {
+            return cached;
+        }
+        parsed[0]++;
+        ParsedDescriptor descriptor;
+        try {
+            descriptor = new ParsedDescriptor(contentHash, bundleValidator.readScenarioDescriptor(descriptorFile), null);
         } catch (Exception e) {
             logger.warn("Failed to load bundle descriptor at {}: {}", descriptorFile, e.getMessage());
-            target.add(new ScannedBundle(
-                    bundlePath,
-                    bundlePath,
-                    folderPath,
-                    fallbackName,
-                    descriptorFile.toAbsolutePath().normalize(),
-                    bundleDir != null ? bundleDir.toAbsolutePath().normalize() : null,
-                    null,
-                    "Could not read scenario file: " + cleanError(e.getMessage())));
+            descriptor = new ParsedDescriptor(contentHash, null, "Could not read scenario file: " + cleanError(e.getMessage()));
+        }
+        if (contentHash != null) {
+            descriptorCache.put(descriptorFile, descriptor);
+        } else {
+            descriptorCache.remove(descriptorFile);
         }
+        return descriptor;
     }
 
     private List<BundleCatalogEntry> buildBundleCatalog(List<ScannedBundle> discovered) {
@@ -1216,18 +1371,18 @@ public class ScenarioService {
     }
 
     private Stream<ScenarioRecord> streamRecords() {
-        return scenarios.values().stream();
+        return catalog.scenarios().values().stream();
     }
 
     private boolean hasDiscoveredScenarioId(String scenarioId) {
         if (scenarioId == null || scenarioId.isBlank()) {
             return false;
         }
-        return bundleCatalog.stream().anyMatch(entry -> scenarioId.equals(entry.scenarioId()));
+        return catalog.entries().stream().anyMatch(entry -> scenarioId.equals(entry.scenarioId()));
     }
 
     public Map<String, Object> getPlan(String id) {
-        ScenarioRecord record = scenarios.get(id);
+        ScenarioRecord record = catalog.scenarios().get(id);
         if (record == null) {
             throw new IllegalArgumentException("Scenario '" + id + "' not found");
         }
@@ -1291,7 +1446,7 @@ public class ScenarioService {
         yamlMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), scenario);
 
         reload();
-        ScenarioRecord record = scenarios.get(id);
+        ScenarioRecord record = catalog.scenarios().get(id);
         return record != null ? record.scenario() : scenario;
     }
 
@@ -1439,7 +1594,7 @@ public class ScenarioService {
     }
 
     public String readVariablesRaw(String id) throws IOException {
-        ScenarioRecord record = scenarios.get(id);
+        ScenarioRecord record = catalog.scenarios().get(id);
         if (record == null) {
             throw new IllegalArgumentException("Scenario '%s' not found".formatted(id));
         }
@@ -1667,7 +1822,15 @@ public class ScenarioService {
     }
 
     public Scenario createBundleFromZip(byte[] zipBytes) throws IOException {
-        UploadedBundle uploaded = unpackUploadedBundle(zipBytes);
+        return createBundleFromZip(zipStream(zipBytes));
+    }
+
+    /**
+     * Create a bundle from a zip stream. The archive is extracted into the staging directory as it is
+     * read, validated there and then moved into place, so the upload is never held in memory.
+     */
+    public Scenario createBundleFromZip(InputStream zipStream) throws IOException {
+        UploadedBundle uploaded = unpackUploadedBundle(zipStream);
         try {
             ScenarioBundleValidator.ValidationRun validation = validateUploadedBundle(uploaded, null);
             if (!validation.result().ok()) {
@@ -1678,9 +1841,9 @@ public class ScenarioService {
             if (hasDiscoveredScenarioId(id)) {
                 throw new BundleValidationException(bundleValidator.duplicateScenarioValidationResult(id));
             }
-            writeBundle(validatedBundleRoot(validation), defaultUploadBundleDir(id));
+            swapBundle(validatedBundleRoot(validation), defaultUploadBundleDir(id));
             reload();
-            ScenarioRecord record = scenarios.get(id);
+            ScenarioRecord record = catalog.scenarios().get(id);
             return record != null ? record.scenario() : scenario;
         } finally {
             cleanupUploaded(uploaded);
@@ -1688,7 +1851,7 @@ public class ScenarioService {
     }
 
     private Path scenarioDescriptorFile(String id) throws IOException {
-        ScenarioRecord record = scenarios.get(id);
+        ScenarioRecord record = catalog.scenarios().get(id);
         if (record == null) {
             throw new IllegalArgumentException("Scenario '%s' not found".formatted(id));
         }
@@ -1697,7 +1860,7 @@ public class ScenarioService {
             return descriptor;
         }
         Path bundleDir = record.bundleDir();
-        if (bundleDir != null && Files.isDirectory(bundleDir)) {
+        if (bundleDir != null && bundleDirPresent(bundleDir)) {
             Path candidate = scenarioDescriptorFile(bundleDir);
             if (Files.isRegularFile(candidate)) {
                 return candidate;
@@ -1707,10 +1870,14 @@ public class ScenarioService {
     }
 
     public Scenario replaceBundleFromZip(String expectedId, byte[] zipBytes) throws IOException {
+        return replaceBundleFromZip(expectedId, zipStream(zipBytes));
+    }
+
+    public Scenario replaceBundleFromZip(String expectedId, InputStream zipStream) throws IOException {
         if (expectedId == null || expectedId.isBlank()) {
             throw new IllegalArgumentException("Scenario id must not be null or blank");
         }
-        UploadedBundle uploaded = unpackUploadedBundle(zipBytes);
+        UploadedBundle uploaded = unpackUploadedBundle(zipStream);
         try {
             ScenarioBundleValidator.ValidationRun validation = validateUploadedBundle(uploaded, expectedId);
             if (!validation.result().ok()) {
@@ -1718,29 +1885,33 @@ public class ScenarioService {
             }
             Scenario scenario = validatedScenario(validation);
             String id = scenario.getId();
-            ScenarioRecord existing = scenarios.get(id);
+            ScenarioRecord existing = catalog.scenarios().get(id);
             Path targetDir = existing != null && existing.bundleDir() != null ? existing.bundleDir() : bundleDir(id);
-            writeBundle(validatedBundleRoot(validation), targetDir);
+            swapBundle(validatedBundleRoot(validation), targetDir);
             reload();
-            ScenarioRecord record = scenarios.get(id);
+            ScenarioRecord record = catalog.scenarios().get(id);
             return record != null ? record.scenario() : scenario;
         } finally {
             cleanupUploaded(uploaded);
         }
     }
 
-    private UploadedBundle unpackUploadedBundle(byte[] zipBytes) throws IOException {
+    private UploadedBundle unpackUploadedBundle(InputStream zipStream) throws IOException {
         try {
-            return unpackBundle(zipBytes);
+            return unpackBundle(zipStream);
         } catch (IllegalArgumentException e) {
             throw new BundleValidationException(bundleValidator.uploadedBundleValidationResult(e));
         }
     }
 
     public BundleValidationResult validateBundleZip(byte[] zipBytes) throws IOException {
+        return validateBundleZip(zipStream(zipBytes));
+    }
+
+    public BundleValidationResult validateBundleZip(InputStream zipStream) throws IOException {
         UploadedBundle uploaded = null;
         try {
-            uploaded = unpackBundle(zipBytes);
+            uploaded = unpackBundle(zipStream);
             return validateUploadedBundle(uploaded, null).result();
         } catch (IllegalArgumentException e) {
             return bundleValidator.uploadedBundleValidationResult(e);
@@ -1752,10 +1923,10 @@ public class ScenarioService {
     }
 
     public BundleValidationResult validateExistingBundle(String bundleKey) throws IOException {
-        BundleCatalogEntry entry = bundleCatalog.stream()
-            .filter(candidate -> Objects.equals(candidate.bundleKey(), bundleKey))
-            .findFirst()
-            .orElseThrow(() -> new IllegalArgumentException("Bundle '%s' not found".formatted(bundleKey)));
+        BundleCatalogEntry entry = bundleKey == null ? null : catalog.entriesByBundleKey().get(bundleKey);
+        if (entry == null) {
+            throw new IllegalArgumentException("Bundle '%s' not found".formatted(bundleKey));
+        }
 
         ScenarioRecord record = entry.scenarioRecord();
         if (record == null) {
@@ -1795,7 +1966,7 @@ public class ScenarioService {
     }
 
     private String duplicateScenarioReason(String scenarioId) {
-        List<String> paths = bundleCatalog.stream()
+        List<String> paths = catalog.entries().stream()
             .filter(entry -> Objects.equals(entry.scenarioId(), scenarioId))
             .map(BundleCatalogEntry::bundlePath)
             .filter(Objects::nonNull)
@@ -1824,7 +1995,34 @@ public class ScenarioService {
         List<ValidationFinding> seedFindings,
         String expectedScenarioId
     ) throws IOException {
-        return validateScenarioBundleWithContext(
+        if (bundleRoot == null || !Files.isDirectory(bundleRoot)) {
+            return validateScenarioBundleWithContext(
+                scenario,
+                bundleRoot,
+                source,
+                bundleKey,
+                bundlePath,
+                seedFindings,
+                expectedScenarioId).result();
+        }
+        List<?> manifests = capabilities.allManifests();
+        if (manifests != validationCacheManifests) {
+            validationCache.clear();
+            validationCacheManifests = manifests;
+        }
+        ValidationCacheKey key = new ValidationCacheKey(
+            bundleDigests.contentHash(bundleRoot),
+            bundleRoot.toAbsolutePath().normalize(),
+            source,
+            bundleKey,
+            bundlePath,
+            seedFindings == null ? List.of() : List.copyOf(seedFindings),
+            expectedScenarioId);
+        BundleValidationResult cached = validationCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        BundleValidationResult result = validateScenarioBundleWithContext(
             scenario,
             bundleRoot,
             source,
@@ -1832,6 +2030,8 @@ public class ScenarioService {
             bundlePath,
             seedFindings,
             expectedScenarioId).result();
+        validationCache.put(key, result);
+        return result;
     }
 
     private ScenarioBundleValidator.ValidationRun validateScenarioBundleWithContext(
@@ -1876,12 +2076,25 @@ public class ScenarioService {
             .toList();
     }
 
-    private UploadedBundle unpackBundle(byte[] zipBytes) throws IOException {
-        if (zipBytes == null || zipBytes.length == 0) {
+    private static InputStream zipStream(byte[] zipBytes) {
+        return new ByteArrayInputStream(zipBytes == null ? new byte[0] : zipBytes);
+    }
+
+    /**
+     * Extract an uploaded zip into a fresh directory under {@link #STAGING_FOLDER}. Both the compressed
+     * payload and the total extracted size are capped while streaming, so an oversized or zip-bomb
+     * upload is rejected before it fills the disk.
+     */
+    private UploadedBundle unpackBundle(InputStream zipStream) throws IOException {
+        if (zipStream == null) {
             throw new IllegalArgumentException("Zip payload must not be empty");
         }
-        Path tempRoot = Files.createTempDirectory(UPLOAD_TEMP_PREFIX);
-        try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(zipBytes))) {
+        Files.createDirectories(stagingDir);
+        Path tempRoot = Files.createTempDirectory(stagingDir, UPLOAD_TEMP_PREFIX);
+        LimitedInputStream payload = new LimitedInputStream(zipStream, maxUploadBytes);
+        try (ZipInputStream zis = new ZipInputStream(payload)) {
+            byte[] buffer = new byte[64 * 1024];
+            long extracted = 0;
             ZipEntry entry;
             while ((entry = zis.getNextEntry()) != null) {
                 String name = entry.getName();
@@ -1902,9 +2115,22 @@ public class ScenarioService {
                     if (parent != null) {
                         Files.createDirectories(parent);
                     }
-                    Files.copy(zis, dest, StandardCopyOption.REPLACE_EXISTING);
+                    try (OutputStream out = Files.newOutputStream(dest)) {
+                        int read;
+                        while ((read = zis.read(buffer)) != -1) {
+                            extracted += read;
+                            if (extracted > maxExtractedBytes) {
+                                throw new IllegalArgumentException(
+                                    "Bundle exceeds the extracted size limit of %d bytes".formatted(maxExtractedBytes));
+                            }
+                            out.write(buffer, 0, read);
+                        }
+                    }
                 }
             }
+            if (payload.count() == 0) {
+                throw new IllegalArgumentException("Zip payload must not be empty");
+            }
             return new UploadedBundle(tempRoot);
         } catch (IOException | RuntimeException e) {
             clearDirectory(tempRoot);
@@ -1929,12 +2155,61 @@ public class ScenarioService {
         return root;
     }
 
-    private void writeBundle(Path sourceDir, Path targetDir) throws IOException {
-        if (Files.exists(targetDir)) {
-            clearDirectory(targetDir);
+    /**
+     * Replace {@code targetDir} with the validated staging directory {@code sourceDir}. Both live under
+     * the storage directory, so each step is a rename and readers never see a half-written bundle. Between
+     * the two renames {@code targetDir} is briefly missing; lock-free readers go through
+     * {@link #bundleDirPresent(Path)} to wait that gap out. Only the swap itself holds the service lock.
+     */
+    private void swapBundle(Path sourceDir, Path targetDir) throws IOException {
+        synchronized (this) {
+            Files.createDirectories(targetDir.getParent());
+            Path previous = null;
+            if (Files.exists(targetDir)) {
+                previous = stagingDir.resolve("replaced-" + UUID.randomUUID());
+                moveDirectory(targetDir, previous);
+            }
+            try {
+                moveDirectory(sourceDir, targetDir);
+            } catch (IOException | RuntimeException e) {
+                if (previous != null) {
+                    clearDirectory(targetDir);
+                    Files.deleteIfExists(targetDir);
+                    moveDirectory(previous, targetDir);
+                }
+                throw e;
+            }
+            if (previous != null) {
+                clearDirectory(previous);
+                Files.deleteIfExists(previous);
+            }
+        }
+    }
+
+    /**
+     * Whether {@code bundleDir} exists, waiting for an in-flight {@link #swapBundle(Path, Path)} when it
+     * does not. Readers work from the lock-free catalogue snapshot, so a missing directory may only mean
+     * the swap has moved the old bundle out and not yet moved the new one in; the swap holds the service
+     * monitor for that whole window, so taking it once is enough to see the settled state.
+     */
+    private boolean bundleDirPresent(Path bundleDir) {
+        if (Files.isDirectory(bundleDir)) {
+            return true;
+        }
+        synchronized (this) {
+            return Files.isDirectory(bundleDir);
+        }
+    }
+
+    private void moveDirectory(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            logger.debug("Atomic move from {} to {} not supported; copying", source, target);
+            copyDirectory(source, target);
+            clearDirectory(source);
+            Files.deleteIfExists(source);
         }
-        Files.createDirectories(targetDir);
-        copyDirectory(sourceDir, targetDir);
     }
 
     private Path defaultUploadBundleDir(String id) {
@@ -2009,12 +2284,80 @@ public class ScenarioService {
         }
     }
 
+    private record CatalogSnapshot(
+        List<BundleCatalogEntry> entries,
+        Map<String, ScenarioRecord> scenarios,
+        Map<String, BundleCatalogEntry> entriesByBundleKey
+    ) {
+        static final CatalogSnapshot EMPTY = new CatalogSnapshot(List.of(), Map.of(), Map.of());
+
+        static CatalogSnapshot of(List<BundleCatalogEntry> entries, Map<String, ScenarioRecord> scenarios) {
+            Map<String, BundleCatalogEntry> byKey = new HashMap<>();
+            for (BundleCatalogEntry entry : entries) {
+                byKey.putIfAbsent(entry.bundleKey(), entry);
+            }
+            return new CatalogSnapshot(List.copyOf(entries), Map.copyOf(scenarios), Map.copyOf(byKey));
+        }
+    }
+
+    private record ParsedDescriptor(String contentHash, Scenario scenario, String loadError) { }
+
+    private record ValidationCacheKey(
+        String contentHash,
+        Path bundleRoot,
+        BundleValidationSource source,
+        String bundleKey,
+        String bundlePath,
+        List<ValidationFinding> seedFindings,
+        String expectedScenarioId
+    ) { }
+
     private record RuntimeBundle(ScenarioRecord record, BundleCatalogEntry entry) { }
 
     private record BundleRoot(Path root) { }
 
     private record UploadedBundle(Path extractedRoot) { }
 
+    private static final class LimitedInputStream extends FilterInputStream {
+        private final long limit;
+        private long count;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        long count() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value != -1) {
+                advance(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                advance(read);
+            }
+            return read;
+        }
+
+        private void advance(long bytes) {
+            count += bytes;
+            if (count > limit) {
+                throw new IllegalArgumentException(
+                    "Bundle upload exceeds the size limit of %d bytes".formatted(limit));
+            }
+        }
+    }
+
     public record BundleBeeSummary(String role, String image) { }
 
     public record ScenarioAccessDescriptor(String scenarioId, String bundlePath, String folderPath) { }
@@ -2053,7 +2396,7 @@ public class ScenarioService {
                 entry.folderPath());
     }
 
-    public record BundleDownload(byte[] bytes, String fileName) { }
+    public record BundleArchive(Path bundleDir, String fileName, String etag) { }
 
     public record BundleTree(String bundleKey, List<BundleTreeNode> nodes) { }
 
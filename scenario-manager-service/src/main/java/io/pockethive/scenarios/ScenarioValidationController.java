@@ -6,16 +6,18 @@ import io.pockethive.scenarios.auth.ScenarioManagerCurrentUserHolder;
 import io.pockethive.scenarios.validation.BundleValidationResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 @RestController
 @RequestMapping("/validation/scenario-bundles")
@@ -31,8 +33,9 @@ public class ScenarioValidationController {
     }
 
     @PostMapping(consumes = "application/zip", produces = MediaType.APPLICATION_JSON_VALUE)
-    public BundleValidationResult validateBundle(@RequestBody byte[] body) throws IOException {
-        int size = body != null ? body.length : 0;
+    public BundleValidationResult validateBundle(InputStream body,
+                                                 @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long size)
+            throws IOException {
         log.info("[REST] POST /validation/scenario-bundles contentType=application/zip size={}", size);
         requireManagePocketHive();
         BundleValidationResult result = service.validateBundleZip(body);
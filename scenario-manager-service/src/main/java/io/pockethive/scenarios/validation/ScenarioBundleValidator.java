@@ -325,7 +325,9 @@ public final class ScenarioBundleValidator {
                         bee.work(),
                         bee.ports(),
                         bee.env(),
-                        bee.config()));
+                        bee.config(),
+                        bee.replicas(),
+                        bee.autoscale()));
                 } else {
                     updatedBees.add(bee);
                 }
@@ -0,0 +1,76 @@
+package io.pockethive.scenarios;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BundleDigestsTest {
+
+    private static final FileTime OLD = FileTime.from(Instant.parse("2024-01-01T00:00:00Z"));
+
+    @TempDir
+    Path bundle;
+
+    // No racy window, so every hash is remembered and only the fingerprint guards it.
+    private final BundleDigests digests = new BundleDigests(Duration.ZERO);
+
+    @Test
+    void unchangedBundleKeepsItsHash() throws Exception {
+        write("scenario.yaml", "id: a");
+
+        assertThat(digests.contentHash(bundle)).isEqualTo(digests.contentHash(bundle));
+        assertThat(digests.contentHash(bundle)).isEqualTo(BundleDigests.uncachedContentHash(bundle));
+    }
+
+    @Test
+    void sameSizeEditWithRestoredModificationTimeChangesTheHash() throws Exception {
+        write("scenario.yaml", "id: a");
+        String before = digests.contentHash(bundle);
+        // Let the change time move past the kernel's timestamp tick.
+        Thread.sleep(50);
+
+        write("scenario.yaml", "id: b");
+
+        assertThat(digests.contentHash(bundle))
+            .isNotEqualTo(before)
+            .isEqualTo(BundleDigests.uncachedContentHash(bundle));
+    }
+
+    @Test
+    void editWithinTheTimestampTickIsNotServedFromTheMemo() throws Exception {
+        BundleDigests racyAware = new BundleDigests();
+        write("scenario.yaml", "id: a");
+        String before = racyAware.contentHash(bundle);
+
+        write("scenario.yaml", "id: b");
+
+        assertThat(racyAware.contentHash(bundle)).isNotEqualTo(before);
+    }
+
+    @Test
+    void sameSizeFileReplacedByRenameChangesTheHash() throws Exception {
+        write("scenario.yaml", "id: a");
+        String before = digests.contentHash(bundle);
+
+        Path replacement = bundle.resolveSibling(bundle.getFileName() + "-replacement");
+        Files.writeString(replacement, "id: b");
+        Files.setLastModifiedTime(replacement, OLD);
+        Files.move(replacement, bundle.resolve("scenario.yaml"),
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        assertThat(digests.contentHash(bundle)).isNotEqualTo(before);
+    }
+
+    private void write(String name, String content) throws Exception {
+        Path file = bundle.resolve(name);
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, OLD);
+    }
+}
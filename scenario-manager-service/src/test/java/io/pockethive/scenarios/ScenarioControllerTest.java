@@ -10,7 +10,9 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.context.WebApplicationContext;
 
 import io.pockethive.auth.client.AuthServiceClient;
@@ -447,12 +449,30 @@ class ScenarioControllerTest {
         mvc.perform(post("/scenarios/reload"))
                 .andExpect(status().isNoContent());
 
-        byte[] zipBytes = mvc.perform(get("/scenarios/nested-demo/bundle").accept("application/zip"))
+        MvcResult download = mvc.perform(get("/scenarios/nested-demo/bundle").accept("application/zip"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockHttpServletResponse response = mvc.perform(asyncDispatch(download))
                 .andExpect(status().isOk())
                 .andExpect(header().string("Content-Disposition", "form-data; name=\"attachment\"; filename=\"nested-demo-bundle.zip\""))
+                .andExpect(header().string("Cache-Control", "no-cache"))
                 .andReturn()
-                .getResponse()
-                .getContentAsByteArray();
+                .getResponse();
+        byte[] zipBytes = response.getContentAsByteArray();
+        String etag = response.getHeader("ETag");
+        org.junit.jupiter.api.Assertions.assertNotNull(etag, "bundle download should carry an ETag");
+
+        mvc.perform(get("/scenarios/nested-demo/bundle").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+
+        Files.writeString(nestedBundleDir.resolve("note.txt"), "changed");
+        MvcResult changed = mvc.perform(get("/scenarios/nested-demo/bundle").header("If-None-Match", etag))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(changed))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", org.hamcrest.Matchers.not(etag)));
 
         boolean hasScenarioYaml = false;
         boolean hasNote = false;
@@ -480,9 +500,12 @@ class ScenarioControllerTest {
         mvc.perform(post("/scenarios/reload"))
                 .andExpect(status().isNoContent());
 
-        byte[] zipBytes = mvc.perform(get("/scenarios/bundles/download")
+        MvcResult download = mvc.perform(get("/scenarios/bundles/download")
                         .param("bundleKey", "broken-bundle")
                         .accept("application/zip"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        byte[] zipBytes = mvc.perform(asyncDispatch(download))
                 .andExpect(status().isOk())
                 .andExpect(header().string("Content-Disposition", "form-data; name=\"attachment\"; filename=\"broken-bundle-bundle.zip\""))
                 .andReturn()
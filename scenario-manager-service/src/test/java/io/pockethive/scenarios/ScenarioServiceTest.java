@@ -6,6 +6,7 @@ import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 import io.pockethive.capabilities.CapabilityCatalogueService;
 import io.pockethive.scenarios.validation.BundleValidationException;
+import io.pockethive.scenarios.validation.BundleValidationResult;
 import io.pockethive.scenarios.validation.ScenarioBundleValidator;
 import io.pockethive.swarm.model.Bee;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,11 +14,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.io.ByteArrayOutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -570,6 +576,86 @@ class ScenarioServiceTest {
                 .hasMessage("Scenario id must not be null or blank");
     }
 
+    @Test
+    void replaceBundleFromZipSwapsDirectoryAndLeavesNoStagingBehind() throws IOException {
+        writeManifest("ctrl", "ctrl-image");
+        writeManifest("worker", "worker-image");
+        capabilities.reload();
+        String descriptor = """
+                protocolVersion: "2.0.0"
+                id: uploaded-demo
+                name: Uploaded Demo
+                template:
+                  image: ctrl-image:latest
+                  bees:
+                    - role: worker
+                      image: worker-image:latest
+                      work:
+                        in:
+                          in: a
+                        out:
+                          out: b
+                """;
+        service.createBundleFromZip(new ByteArrayInputStream(scenarioBundleZip(Map.of(
+                "scenario.yaml", descriptor,
+                "stale.txt", "old"))));
+
+        Scenario replaced = service.replaceBundleFromZip("uploaded-demo", new ByteArrayInputStream(scenarioBundleZip(Map.of(
+                "scenario.yaml", descriptor.replace("Uploaded Demo", "Replaced Demo"),
+                "fresh.txt", "new"))));
+
+        Path targetDir = scenariosDir.resolve("bundles").resolve("uploaded-demo");
+        assertThat(replaced.getName()).isEqualTo("Replaced Demo");
+        assertThat(targetDir.resolve("fresh.txt")).hasContent("new");
+        assertThat(targetDir.resolve("stale.txt")).doesNotExist();
+        try (Stream<Path> staged = Files.list(scenariosDir.resolve(".staging"))) {
+            assertThat(staged).isEmpty();
+        }
+    }
+
+    @Test
+    void bundleReadersWaitForAnInFlightSwapInsteadOfSeeingAMissingBundle() throws Exception {
+        writeManifest("ctrl", "ctrl-image");
+        capabilities.reload();
+        writeBundleScenario("scenario-1");
+        service.reload();
+        Path bundleDir = service.bundleDirFor("scenario-1");
+        Path movedOut = tempDir.resolve("moved-out");
+
+        CompletableFuture<ScenarioService.BundleArchive> archive;
+        synchronized (service) {
+            // Same window swapBundle holds the monitor for: old bundle renamed out, new one not yet in.
+            Files.move(bundleDir, movedOut);
+            archive = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return service.scenarioBundleArchive("scenario-1");
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            Thread.sleep(100);
+            assertThat(archive).isNotDone();
+            Files.move(movedOut, bundleDir);
+        }
+
+        assertThat(archive.get(5, TimeUnit.SECONDS).bundleDir()).isEqualTo(bundleDir);
+    }
+
+    @Test
+    void uploadsOverTheExtractedSizeLimitAreRejectedWithoutTouchingTheStore() throws IOException {
+        service = new ScenarioService(scenariosDir.toString(), tempDir.resolve("runtime"), 1024 * 1024, 64, capabilities);
+        byte[] zipBytes = scenarioBundleZip(Map.of(
+                "scenario.yaml", "id: too-big\n",
+                "payload.txt", "x".repeat(4096)));
+
+        assertThatThrownBy(() -> service.createBundleFromZip(new ByteArrayInputStream(zipBytes)))
+                .isInstanceOf(BundleValidationException.class);
+        assertThat(scenariosDir.resolve("bundles").resolve("too-big")).doesNotExist();
+        try (Stream<Path> staged = Files.list(scenariosDir.resolve(".staging"))) {
+            assertThat(staged).isEmpty();
+        }
+    }
+
     @Test
     void variablesValidationEmitsCoverageWarningsForRequiredVariables() throws IOException {
         writeBundleScenario("scenario-1");
@@ -742,6 +828,90 @@ class ScenarioServiceTest {
         assertThat(Files.readString(sentinel)).isEqualTo("keep");
     }
 
+    @Test
+    void runtimeDirectoriesShareOneSnapshotPerBundleContent() throws IOException {
+        writeManifest("ctrl", "ctrl-image");
+        capabilities.reload();
+        writeBundleScenario("scenario-1");
+        Path dataset = Files.createDirectories(service.bundleDir("scenario-1").resolve("datasets")).resolve("rows.csv");
+        Files.writeString(dataset, "id\n1\n2\n");
+        service.reload();
+
+        Path first = service.prepareRuntimeDirectory("scenario-1", "sw1");
+        Path second = service.prepareRuntimeDirectory("scenario-1", "sw2");
+
+        Path firstRows = first.resolve("datasets").resolve("rows.csv");
+        Path secondRows = second.resolve("datasets").resolve("rows.csv");
+        assertThat(Files.readString(secondRows)).isEqualTo("id\n1\n2\n");
+        assertThat(Files.isSameFile(firstRows, secondRows)).isTrue();
+        assertThat(Files.isWritable(first)).isTrue();
+
+        Path store = tempDir.resolve("runtime").resolve(RuntimeBundleStore.STORE_FOLDER);
+        try (var snapshots = Files.list(store)) {
+            assertThat(snapshots.count()).isEqualTo(1);
+        }
+
+        Files.writeString(dataset, "id\n3\n");
+        service.prepareRuntimeDirectory("scenario-1", "sw1");
+        service.prepareRuntimeDirectory("scenario-1", "sw2");
+
+        assertThat(Files.readString(secondRows)).isEqualTo("id\n3\n");
+        try (var snapshots = Files.list(store)) {
+            assertThat(snapshots.count()).isEqualTo(2);
+        }
+
+        // The first snapshot is no longer linked from any runtime directory and is pruned.
+        Files.writeString(dataset, "id\n4\n5\n6\n");
+        service.prepareRuntimeDirectory("scenario-1", "sw1");
+        try (var snapshots = Files.list(store)) {
+            assertThat(snapshots.count()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void reloadReparsesOnlyChangedDescriptors() throws IOException {
+        writeManifest("ctrl", "ctrl-image");
+        capabilities.reload();
+        writeBundleScenario("scenario-1");
+        writeBundleScenario("scenario-2");
+        service.reload();
+        Scenario first = service.find("scenario-1").orElseThrow();
+        Scenario second = service.find("scenario-2").orElseThrow();
+
+        writeScenario("scenario-2", """
+                protocolVersion: "2.0.0"
+                id: scenario-2
+                name: Renamed
+                template:
+                  image: ctrl-image:latest
+                  bees: []
+                """);
+        service.reload();
+
+        assertThat(service.find("scenario-1").orElseThrow()).isSameAs(first);
+        assertThat(service.find("scenario-2").orElseThrow()).isNotSameAs(second);
+        assertThat(service.find("scenario-2").orElseThrow().getName()).isEqualTo("Renamed");
+    }
+
+    @Test
+    void existingBundleValidationIsCachedByContentHash() throws IOException {
+        writeManifest("ctrl", "ctrl-image");
+        capabilities.reload();
+        writeBundleScenario("scenario-1");
+        service.reload();
+        String bundleKey = service.findBundleTemplate("scenario-1").orElseThrow().bundleKey();
+
+        BundleValidationResult first = service.validateExistingBundle(bundleKey);
+        assertThat(service.validateExistingBundle(bundleKey)).isSameAs(first);
+
+        writeBundleSut("scenario-1", "sut-a");
+        BundleValidationResult afterEdit = service.validateExistingBundle(bundleKey);
+        assertThat(afterEdit).isNotSameAs(first);
+
+        capabilities.reload();
+        assertThat(service.validateExistingBundle(bundleKey)).isNotSameAs(afterEdit);
+    }
+
     @Test
     void variablesSupportObjectTypeForSutScope() throws IOException {
         writeBundleScenario("scenario-1");
@@ -130,6 +130,24 @@ public interface SwarmLifecycle {
   default void recordStatusSnapshot(String role, String instance, long timestamp) {
   }
 
+  /**
+   * Ask a worker instance to publish a fresh {@code status-full}.
+   * <p>
+   * Used to resynchronise when a sequenced {@code status-delta} does not follow the last status the
+   * controller applied for that instance; the default implementation ignores it.
+   */
+  default void requestStatusFull(String role, String instance, String reason) {
+  }
+
+  /**
+   * Record the throughput a worker instance reported in its latest status.
+   * <p>
+   * Used by replica autoscaling policies that target a per-replica TPS; the default
+   * implementation ignores it.
+   */
+  default void recordWorkerThroughput(String role, String instance, double tps) {
+  }
+
   /**
    * Determine whether all known worker instances have published a {@code status-full}
    * snapshot since the supplied timestamp.
@@ -219,6 +237,12 @@ public interface SwarmLifecycle {
     return Optional.empty();
   }
 
+  /**
+   * Folds a worker's config-update outcome into the batched fan-out that published it.
+   */
+  default void acknowledgeConfigUpdate(String role, String instance, String correlationId) {
+  }
+
   default String sutId() {
     return null;
   }
@@ -8,6 +8,7 @@ import io.pockethive.controlplane.messaging.ControlPlanePublisher;
 import io.pockethive.controlplane.spring.ControlPlaneContainerEnvironmentFactory.MetricsSettings;
 import io.pockethive.controlplane.spring.ControlPlaneContainerEnvironmentFactory.WorkerSettings;
 import io.pockethive.docker.DockerContainerClient;
+import io.pockethive.docker.ParallelDockerCalls;
 import io.pockethive.docker.compute.DockerSingleNodeComputeAdapter;
 import io.pockethive.docker.compute.DockerSwarmServiceComputeAdapter;
 import io.pockethive.manager.ports.ComputeAdapter;
@@ -17,6 +18,7 @@ import io.pockethive.sink.clickhouse.ClickHouseSinkProperties;
 import io.pockethive.swarm.model.TrafficPolicy;
 import io.pockethive.swarmcontroller.QueueStats;
 import io.pockethive.swarmcontroller.config.SwarmControllerProperties;
+import io.pockethive.swarmcontroller.infra.amqp.RabbitManagementQueueStatsClient;
 import io.pockethive.swarmcontroller.infra.amqp.SwarmQueueMetrics;
 import io.pockethive.swarmcontroller.infra.amqp.SwarmWorkTopologyManager;
 import io.pockethive.swarmcontroller.infra.docker.DockerWorkloadProvisioner;
@@ -48,6 +50,7 @@ public class SwarmLifecycleManager implements SwarmLifecycle {
   private final SwarmRuntimeCore core;
   private final ObjectMapper mapper;
   private final io.pockethive.swarmcontroller.guard.BufferGuardCoordinator bufferGuard;
+  private final io.pockethive.swarmcontroller.guard.ReplicaAutoscaleCoordinator autoscale;
   private final io.pockethive.swarmcontroller.runtime.SwarmJournal journal;
 
   @Autowired
@@ -91,21 +94,30 @@ public class SwarmLifecycleManager implements SwarmLifecycle {
     ComputeAdapterType adapterType = properties.getDocker() == null
         ? ComputeAdapterType.DOCKER_SINGLE
         : ComputeAdapterType.defaulted(properties.getDocker().computeAdapter());
+    int provisioningParallelism = properties.getDocker() == null
+        ? ParallelDockerCalls.DEFAULT_PARALLELISM
+        : properties.getDocker().provisioningParallelism();
+    boolean pullMissingImages = properties.getDocker() == null || properties.getDocker().pullMissingImages();
     switch (adapterType) {
-      case DOCKER_SINGLE -> computeAdapter = new DockerSingleNodeComputeAdapter(docker);
-      case SWARM_STACK ->
-          computeAdapter = new DockerSwarmServiceComputeAdapter(dockerClient, docker::resolveControlNetwork);
+      case DOCKER_SINGLE -> computeAdapter =
+          new DockerSingleNodeComputeAdapter(docker, provisioningParallelism, pullMissingImages);
+      case SWARM_STACK -> computeAdapter = new DockerSwarmServiceComputeAdapter(
+          dockerClient, docker::resolveControlNetwork, provisioningParallelism);
       default -> throw new IllegalStateException("Unsupported compute adapter type: " + adapterType);
     }
     SwarmQueueMetrics queueMetrics = new SwarmQueueMetrics(properties.getSwarmId(), meterRegistry);
     io.pockethive.manager.ports.QueueStatsPort queueStatsPort =
-        new io.pockethive.swarmcontroller.runtime.SwarmQueueStatsPortAdapter(amqp);
+        new io.pockethive.swarmcontroller.runtime.ShardAwareQueueStatsPort(
+            sharedQueueStatsPort(amqp, mapper, rabbitProperties, properties),
+            topology::physicalQueueNames);
     ConfigFanout configFanout =
         new ConfigFanout(
             mapper,
             new io.pockethive.swarmcontroller.runtime.SwarmControlPlanePortAdapter(controlPublisher),
             properties.getSwarmId(),
-            instanceId);
+            instanceId,
+            new io.pockethive.swarmcontroller.runtime.MicrometerConfigFanoutMetrics(meterRegistry, properties.getSwarmId()),
+            ConfigFanout.DEFAULT_MAX_PARALLEL_RETRIES);
 
     this.core = new SwarmRuntimeCore(
         amqp,
@@ -122,7 +134,8 @@ public class SwarmLifecycleManager implements SwarmLifecycle {
         configFanout,
         this.journal,
         instanceId,
-        clickHouseSink);
+        clickHouseSink,
+        queueStatsPort);
     this.bufferGuard = new io.pockethive.swarmcontroller.guard.BufferGuardCoordinator(
         properties,
         queueStatsPort,
@@ -130,6 +143,40 @@ public class SwarmLifecycleManager implements SwarmLifecycle {
         controlPublisher,
         mapper,
         instanceId);
+    this.autoscale = new io.pockethive.swarmcontroller.guard.ReplicaAutoscaleCoordinator(
+        properties,
+        queueStatsPort,
+        bufferGuard,
+        core::scaleRole,
+        meterRegistry,
+        mapper);
+  }
+
+  private static io.pockethive.manager.ports.QueueStatsPort sharedQueueStatsPort(
+      AmqpAdmin amqp,
+      ObjectMapper mapper,
+      RabbitProperties rabbitProperties,
+      SwarmControllerProperties properties) {
+    SwarmControllerProperties.Broker broker = properties.getBroker();
+    io.pockethive.swarmcontroller.runtime.CachingQueueStatsPort.BulkSource bulk = null;
+    if (broker.hasManagementUrl()) {
+      RabbitManagementQueueStatsClient client = new RabbitManagementQueueStatsClient(
+          mapper,
+          broker.managementUrl(),
+          rabbitProperties.determineVirtualHost(),
+          firstNonBlank(broker.managementUsername(), rabbitProperties.determineUsername()),
+          firstNonBlank(broker.managementPassword(), rabbitProperties.determinePassword()));
+      String queuePrefix = properties.getTraffic().queuePrefix();
+      bulk = () -> client.fetchByPrefix(queuePrefix);
+    }
+    return new io.pockethive.swarmcontroller.runtime.CachingQueueStatsPort(
+        new io.pockethive.swarmcontroller.runtime.SwarmQueueStatsPortAdapter(amqp),
+        bulk,
+        broker.queueStatsTtl());
+  }
+
+  private static String firstNonBlank(String preferred, String fallback) {
+    return preferred != null && !preferred.isBlank() ? preferred : fallback;
   }
 
   private static WorkerSettings deriveWorkerSettings(SwarmControllerProperties properties) {
@@ -161,6 +208,7 @@ public class SwarmLifecycleManager implements SwarmLifecycle {
   public void prepare(String templateJson) {
     core.prepare(templateJson);
     bufferGuard.configureFromTemplate(templateJson);
+    autoscale.configureFromTemplate(templateJson);
   }
 
   @Override
@@ -172,16 +220,19 @@ public class SwarmLifecycleManager implements SwarmLifecycle {
   public void start(String planJson) {
     core.start(planJson);
     bufferGuard.onSwarmEnabled(true);
+    autoscale.onSwarmEnabled(true);
   }
 
   @Override
   public void stop() {
     core.stop();
     bufferGuard.onSwarmEnabled(false);
+    autoscale.onSwarmEnabled(false);
   }
 
   @Override
   public void remove() {
+    autoscale.onRemove();
     core.remove();
     bufferGuard.onRemove();
   }
@@ -205,6 +256,10 @@ public class SwarmLifecycleManager implements SwarmLifecycle {
     core.updateHeartbeat(role, instance, timestamp);
   }
 
+  int scaleRole(String role, int replicas) {
+    return core.scaleRole(role, replicas);
+  }
+
   @Override
   public void recordStatusSnapshot(String role, String instance, long timestamp) {
     core.recordStatusSnapshot(role, instance, timestamp);
@@ -215,6 +270,16 @@ public class SwarmLifecycleManager implements SwarmLifecycle {
     return core.hasFreshWorkerStatusSnapshotsSince(cutoffMillis);
   }
 
+  @Override
+  public void requestStatusFull(String role, String instance, String reason) {
+    core.requestStatusFull(role, instance, reason);
+  }
+
+  @Override
+  public void recordWorkerThroughput(String role, String instance, double tps) {
+    autoscale.recordThroughput(role, instance, tps);
+  }
+
   @Override
   public void updateEnabled(String role, String instance, boolean enabled) {
     core.updateEnabled(role, instance, enabled);
@@ -244,6 +309,7 @@ public class SwarmLifecycleManager implements SwarmLifecycle {
   public void setSwarmEnabled(boolean enabled) {
     core.setSwarmEnabled(enabled);
     bufferGuard.onSwarmEnabled(enabled);
+    autoscale.onSwarmEnabled(enabled);
   }
 
   @Override
@@ -279,6 +345,11 @@ public class SwarmLifecycleManager implements SwarmLifecycle {
     return core.handleConfigUpdateError(role, instance, error);
   }
 
+  @Override
+  public void acknowledgeConfigUpdate(String role, String instance, String correlationId) {
+    core.acknowledgeConfigUpdate(role, instance, correlationId);
+  }
+
   @Override
   public void fail(String reason) {
     core.fail(reason);
@@ -324,6 +395,12 @@ public class SwarmLifecycleManager implements SwarmLifecycle {
     if (p.runsRemaining != null) {
       m.put("runsRemaining", p.runsRemaining);
     }
+    if (p.lastSkewMillis != null) {
+      m.put("lastSkewMillis", p.lastSkewMillis);
+    }
+    if (p.maxSkewMillis != null) {
+      m.put("maxSkewMillis", p.maxSkewMillis);
+    }
     return m;
   }
 
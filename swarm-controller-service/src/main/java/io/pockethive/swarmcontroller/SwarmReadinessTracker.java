@@ -56,6 +56,25 @@ import org.slf4j.LoggerFactory;
     expectedReady.merge(role, 1, Integer::sum);
   }
 
+  /**
+   * Drop an instance that was scaled away: it no longer counts towards the expected
+   * total and its heartbeat, snapshot and enabled state are discarded.
+   */
+  public synchronized void forget(String role, String instance) {
+    if (!hasText(role) || !hasText(instance)) {
+      return;
+    }
+    expectedReady.computeIfPresent(role, (r, count) -> count > 1 ? count - 1 : null);
+    List<String> ready = instancesByRole.get(role);
+    if (ready != null) {
+      ready.remove(instance);
+    }
+    String key = key(role, instance);
+    lastSeen.remove(key);
+    lastSnapshotSeen.remove(key);
+    enabled.remove(key);
+  }
+
   public void recordHeartbeat(String role, String instance, long timestamp) {
     if (!hasText(role) || !hasText(instance)) {
       return;
@@ -9,6 +9,7 @@ import io.pockethive.control.ConfirmationScope;
 import io.pockethive.control.ControlScope;
 import io.pockethive.control.ControlSignal;
 import io.pockethive.observability.StatusEnvelopeBuilder;
+import io.pockethive.observability.StatusSequence;
 import io.pockethive.controlplane.ControlPlaneIdentity;
 import io.pockethive.controlplane.ControlPlaneSignals;
 import io.pockethive.controlplane.consumer.ControlSignalEnvelope;
@@ -73,6 +74,8 @@ public class SwarmSignalListener {
   private final SwarmDiagnosticsAggregator diagnostics;
   private final SwarmIoStateAggregator ioStates;
   private final SwarmWorkersAggregator workers;
+  private final WorkerStatusSequences statusSequences;
+  private final StatusSequence statusSequence = new StatusSequence();
   private final SwarmJournal journal;
   private final SwarmControlPlaneJournalErrors journalErrors;
   private final String journalRunId;
@@ -114,6 +117,7 @@ public class SwarmSignalListener {
     this.diagnostics = new SwarmDiagnosticsAggregator(this.mapper);
     this.ioStates = new SwarmIoStateAggregator();
     this.workers = new SwarmWorkersAggregator(MAX_STALENESS_MS);
+    this.statusSequences = new WorkerStatusSequences(STATUS_INTERVAL_MS);
     this.journal = journal != null ? journal : SwarmJournal.noop();
     this.journalErrors = new SwarmControlPlaneJournalErrors(this.journal, swarmId, role, instanceId, "swarm-signal-listener");
     this.journalRunId = journalRunId != null && !journalRunId.isBlank() ? journalRunId.trim() : null;
@@ -165,6 +169,7 @@ public class SwarmSignalListener {
       String snippet = snippet(body);
       if (routingKey.startsWith("event.metric.status-")
           || routingKey.startsWith("event.status-")
+          || routingKey.startsWith("event.outcome.")
           || routingKey.startsWith("signal." + ControlPlaneSignals.STATUS_REQUEST)) {
         log.debug("[CTRL] RECV rk={} inst={} payload={}", routingKey, instanceId, snippet);
       } else {
@@ -185,6 +190,8 @@ public class SwarmSignalListener {
         handleStatusEvent(routingKey, body);
       } else if (routingKey.startsWith("event.alert.")) {
         handleAlertEvent(routingKey, body);
+      } else if (routingKey.startsWith("event.outcome." + ControlPlaneSignals.CONFIG_UPDATE + ".")) {
+        handleConfigUpdateOutcome(routingKey, body);
       } else {
         log.warn("Ignoring unsupported control-plane routing key {}; payload snippet={}", routingKey, snippet(body));
         journalErrors.errorDrop("event-dropped", routingKey, "unsupported routing key", body, null);
@@ -248,16 +255,29 @@ public class SwarmSignalListener {
 	        return;
 	      }
       boolean isStatusFull = isStatusFullEvent(eventKey);
+      WorkerStatusSequences.Applied sequence =
+          statusSequences.accept(role, instance, isStatusFull, node, System.currentTimeMillis());
+      if (sequence.outcome() == WorkerStatusSequences.Outcome.GAP) {
+        // Top-level data is absolute and still applied below; the context diff is not, so re-baseline.
+        log.debug("Status sequence gap for {}.{}; requesting status-full", role, instance);
+        lifecycle.requestStatusFull(role, instance, "status-sequence-gap");
+      }
       lifecycle.updateHeartbeat(role, instance);
       if (isStatusFull) {
         lifecycle.recordStatusSnapshot(role, instance, System.currentTimeMillis());
       }
-      diagnostics.updateFromWorkerStatus(role, instance, node.path("data"));
-      ioStates.updateFromWorkerStatus(role, instance, node.path("data"));
-      workers.updateFromWorkerStatus(role, instance, node.path("data"), node.path("runtime"));
-      maybeJournalWorkerErrorIndicators(role, instance, node);
+      // Deltas only carry the context entries that changed; read the merged view.
+      JsonNode data = sequence.data();
+      diagnostics.updateFromWorkerStatus(role, instance, data);
+      ioStates.updateFromWorkerStatus(role, instance, data);
+      workers.updateFromWorkerStatus(role, instance, data, node.path("runtime"));
+      JsonNode tpsNode = data.path("tps");
+      if (tpsNode.isNumber()) {
+        lifecycle.recordWorkerThroughput(role, instance, tpsNode.asDouble());
+      }
+      maybeJournalWorkerErrorIndicators(role, instance, data);
 
-      boolean enabled = node.path("data").path("enabled").asBoolean(true);
+      boolean enabled = data.path("enabled").asBoolean(true);
       lifecycle.updateEnabled(role, instance, enabled);
       if (!enabled) {
         boolean ready = lifecycle.markReady(role, instance);
@@ -273,15 +293,11 @@ public class SwarmSignalListener {
     }
   }
 
-  private void maybeJournalWorkerErrorIndicators(String workerRole, String workerInstance, JsonNode statusEnvelope) {
+  private void maybeJournalWorkerErrorIndicators(String workerRole, String workerInstance, JsonNode data) {
     if (workerRole == null || workerRole.isBlank() || workerInstance == null || workerInstance.isBlank()) {
       return;
     }
-    if (statusEnvelope == null || !statusEnvelope.isObject()) {
-      return;
-    }
-    JsonNode data = statusEnvelope.path("data");
-    if (!data.isObject()) {
+    if (data == null || !data.isObject()) {
       return;
     }
     JsonNode context = data.path("context");
@@ -371,6 +387,33 @@ public class SwarmSignalListener {
     }
   }
 
+  /**
+   * Worker outcomes for config-update signals acknowledge the batched fan-out that sent them.
+   */
+  private void handleConfigUpdateOutcome(String routingKey, String body) {
+    RoutingKey eventKey = ControlPlaneRouting.parseEvent(routingKey);
+    if (eventKey == null || !isLocalSwarm(eventKey.swarmId())) {
+      return;
+    }
+    try {
+      JsonNode node = mapper.readTree(body);
+      if (instanceId.equals(textOrNull(node.path("origin")))) {
+        return;
+      }
+      String correlationId = textOrNull(node.path("correlationId"));
+      String role = textOrNull(node.path("scope").path("role"));
+      String instance = textOrNull(node.path("scope").path("instance"));
+      if (correlationId == null || instance == null) {
+        log.debug("Ignoring config-update outcome without correlation or instance on {}", routingKey);
+        return;
+      }
+      lifecycle.acknowledgeConfigUpdate(role, instance, correlationId);
+    } catch (Exception e) {
+      log.warn("config-update outcome parse", e);
+      journalErrors.errorDrop("outcome-parse-error", routingKey, "payload parse", body, e);
+    }
+  }
+
   private void failPendingLifecycle(String reason) {
     boolean failed = false;
     PendingTemplate template = pendingTemplate.getAndSet(null);
@@ -979,9 +1022,11 @@ public class SwarmSignalListener {
         .data("startedAt", startedAt)
         .config(statusConfigSnapshot())
         .data("workers", workers.snapshot())
+        .data("workerStats", workers.stats())
         .data("swarmDiagnostics", diagnostics.snapshot())
         .data("scenario", scenarioProgress())
-        .data("bindings", Map.of("work", lifecycle.workBindingsSnapshot()));
+        .data("bindings", Map.of("work", lifecycle.workBindingsSnapshot()))
+        .sequence(statusSequence);
     appendNetworkContext(builder);
     builder.runtime(runtimeMetaSnapshot());
     String controlQueue = properties.controlQueueName(role, instanceId);
@@ -1024,7 +1069,9 @@ public class SwarmSignalListener {
         .totals(m.desired(), m.healthy(), m.running(), m.enabled())
         .data("swarmStatus", status.name())
         .data("swarmHealth", health)
-        .data("scenario", scenarioProgress());
+        .data("workerStats", workers.stats())
+        .data("scenario", scenarioProgress())
+        .sequence(statusSequence);
     appendNetworkContext(builder);
     builder.runtime(runtimeMetaSnapshot());
     appendTrafficDiagnostics(builder);
@@ -1247,7 +1294,13 @@ public class SwarmSignalListener {
         s.movingAverageWindow(),
         adjust,
         prefill,
-        backpressure);
+        backpressure,
+        s.mode().name().toLowerCase(Locale.ROOT),
+        new BufferGuardPolicy.Pid(
+            s.pid().kp(),
+            s.pid().ki(),
+            s.pid().kd(),
+            s.pid().derivativeFilter().toString()));
     return new TrafficPolicy(policy);
   }
 
@@ -1309,6 +1362,21 @@ public class SwarmSignalListener {
     BufferGuardSettings.Backpressure backpressure =
         new BufferGuardSettings.Backpressure(bpQueueAlias, baseBp.queueName(), highDepth, recoveryDepth, moderatorReductionPct);
 
+    String modeOverride = textOrNull(guardNode.path("mode"));
+    BufferGuardSettings.Mode mode = modeOverride != null
+        ? BufferGuardSettings.Mode.valueOf(modeOverride.toUpperCase(Locale.ROOT))
+        : base.mode();
+    JsonNode pidNode = guardNode.path("pid");
+    BufferGuardSettings.Pid basePid = base.pid();
+    String derivativeFilterStr = textOrNull(pidNode.path("derivativeFilter"));
+    BufferGuardSettings.Pid pid = new BufferGuardSettings.Pid(
+        doubleOr(pidNode, "kp", basePid.kp()),
+        doubleOr(pidNode, "ki", basePid.ki()),
+        doubleOr(pidNode, "kd", basePid.kd()),
+        derivativeFilterStr != null
+            ? java.time.Duration.parse(derivativeFilterStr.toUpperCase(java.util.Locale.ROOT))
+            : basePid.derivativeFilter());
+
     return new BufferGuardSettings(
         base.queueAlias(),
         base.queueName(),
@@ -1321,7 +1389,10 @@ public class SwarmSignalListener {
         movingAverageWindow,
         adj,
         prefill,
-        backpressure);
+        backpressure,
+        mode,
+        pid,
+        base.producers());
   }
 
   private static String textOrNull(JsonNode node) {
@@ -1354,6 +1425,13 @@ public class SwarmSignalListener {
     return node.path(field).isInt() ? node.path(field).asInt() : fallback;
   }
 
+  private static double doubleOr(JsonNode node, String field, double fallback) {
+    if (node == null || !node.has(field)) {
+      return fallback;
+    }
+    return node.path(field).isNumber() ? node.path(field).asDouble() : fallback;
+  }
+
 
   private String determineState(SwarmMetrics m) {
     if (m.desired() > 0 && m.healthy() == 0) {
@@ -14,8 +14,10 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * Aggregates per-worker status deltas into a swarm-level worker list snapshot.
  *
- * <p>This is intended for Swarm Controller {@code status-full} publishing so UIs
- * can avoid subscribing directly to worker status fan-out.</p>
+ * <p>This is intended for Swarm Controller status publishing so UIs can avoid
+ * subscribing directly to worker status fan-out: {@code status-full} carries the
+ * full {@code workers[]} list and every status carries the compact
+ * {@code workerStats} map.</p>
  */
 final class SwarmWorkersAggregator {
 
@@ -97,6 +99,36 @@ final class SwarmWorkersAggregator {
     return List.copyOf(out);
   }
 
+  /**
+   * Compact per-worker view for both {@code status-full} and {@code status-delta}, keyed by
+   * instance. It deliberately leaves out {@code lastSeenAt}, runtime and config so that, with
+   * sequenced deltas, only workers whose state actually changed are re-sent.
+   */
+  Map<String, Map<String, Object>> stats() {
+    if (byKey.isEmpty()) {
+      return Map.of();
+    }
+    long now = System.currentTimeMillis();
+    List<WorkerSnapshot> snapshots = new ArrayList<>(byKey.values());
+    snapshots.sort(Comparator.comparing(WorkerSnapshot::instance));
+    Map<String, Map<String, Object>> out = new LinkedHashMap<>();
+    for (WorkerSnapshot snapshot : snapshots) {
+      Map<String, Object> entry = new LinkedHashMap<>();
+      entry.put("role", snapshot.role());
+      entry.put("enabled", snapshot.enabled());
+      entry.put("tps", snapshot.tps());
+      entry.put("stale", now - snapshot.lastSeenMillis() > staleAfterMillis);
+      entry.put("ioState", Map.of(
+          "work", Map.of(
+              "input", snapshot.workInput(),
+              "output", snapshot.workOutput()
+          )
+      ));
+      out.put(snapshot.instance(), entry);
+    }
+    return Collections.unmodifiableMap(out);
+  }
+
   void clear() {
     byKey.clear();
   }
@@ -0,0 +1,105 @@
+package io.pockethive.swarmcontroller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.pockethive.observability.StatusSequence;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the last applied status sequence per worker instance so lost or reordered
+ * {@code status-delta} messages are noticed.
+ *
+ * <p>A delta whose {@code statusBaseSeq} does not match the last sequence seen for the instance is a
+ * gap: its context only lists what changed since a status the controller never applied. The caller
+ * asks the worker for a {@code status-full}; requests are throttled per instance so a burst of
+ * deltas does not fan out into a burst of {@code status-request} signals.</p>
+ *
+ * <p>A sequenced delta only lists the context entries that changed, so the merged context per
+ * instance is kept here as well and handed back with every status; consumers read that instead of
+ * the delta on its own.</p>
+ */
+final class WorkerStatusSequences {
+
+  enum Outcome {
+    /** Status carries no sequence (older workers); treat it as complete. */
+    UNSEQUENCED,
+    /** Full snapshot or a delta that follows the last applied status. */
+    IN_ORDER,
+    /** Delta that does not follow the last applied status; a resync is due. */
+    GAP,
+    /** Gap for which a resync was already requested recently. */
+    GAP_PENDING
+  }
+
+  private final long resyncIntervalMillis;
+  private final Map<String, Entry> byKey = new ConcurrentHashMap<>();
+
+  WorkerStatusSequences(long resyncIntervalMillis) {
+    this.resyncIntervalMillis = Math.max(0L, resyncIntervalMillis);
+  }
+
+  /**
+   * Outcome of a status together with its {@code data} node, whose {@code context} is the merged
+   * context held for the instance (or the envelope's own data for unsequenced statuses).
+   */
+  record Applied(Outcome outcome, JsonNode data) { }
+
+  Applied accept(String role, String instance, boolean full, JsonNode envelope, long nowMillis) {
+    JsonNode data = envelope.path("data");
+    long seq = StatusSequence.sequenceOf(envelope);
+    if (seq < 0L) {
+      return new Applied(Outcome.UNSEQUENCED, data);
+    }
+    Entry entry = byKey.computeIfAbsent(key(role, instance), ignored -> new Entry());
+    synchronized (entry) {
+      long base = StatusSequence.baseSequenceOf(envelope);
+      Outcome outcome;
+      if (full || base < 0L || base == entry.lastSeq) {
+        entry.lastSeq = seq;
+        entry.lastResyncAt = 0L;
+        outcome = Outcome.IN_ORDER;
+      } else if (entry.lastResyncAt > 0L && nowMillis - entry.lastResyncAt < resyncIntervalMillis) {
+        outcome = Outcome.GAP_PENDING;
+      } else {
+        entry.lastResyncAt = nowMillis;
+        outcome = Outcome.GAP;
+      }
+      return new Applied(outcome, mergeContext(entry, full || base < 0L, data));
+    }
+  }
+
+  /**
+   * Entries a delta carries are current even after a gap, so they are merged either way; entries it
+   * leaves out keep their last known value until the requested {@code status-full} arrives.
+   */
+  private static JsonNode mergeContext(Entry entry, boolean replace, JsonNode data) {
+    if (!(data instanceof ObjectNode dataObject) || !(data.path("context") instanceof ObjectNode context)) {
+      return data;
+    }
+    if (replace || entry.context == null) {
+      entry.context = context.deepCopy();
+      entry.context.remove(StatusSequence.BASE_SEQ_FIELD);
+    } else {
+      StatusSequence.mergeContext(entry.context, context);
+    }
+    ObjectNode merged = dataObject.deepCopy();
+    merged.set("context", entry.context.deepCopy());
+    return merged;
+  }
+
+  void clear() {
+    byKey.clear();
+  }
+
+  private static String key(String role, String instance) {
+    return Objects.requireNonNull(role).trim() + ":" + Objects.requireNonNull(instance).trim();
+  }
+
+  private static final class Entry {
+    private long lastSeq = -1L;
+    private long lastResyncAt;
+    private ObjectNode context;
+  }
+}
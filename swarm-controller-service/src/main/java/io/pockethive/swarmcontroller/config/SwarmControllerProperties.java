@@ -7,7 +7,9 @@ import io.pockethive.sink.clickhouse.metrics.ClickHouseMetricsSinkProperties;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
@@ -25,6 +27,8 @@ public class SwarmControllerProperties {
     private final Metrics metrics;
     private final Docker docker;
     private final Features features;
+    private final Broker broker;
+    private final WarmUp warmUp;
 
     public SwarmControllerProperties(@NotBlank String swarmId,
                                      @NotBlank String exchange,
@@ -41,6 +45,8 @@ public class SwarmControllerProperties {
         this.metrics = Objects.requireNonNull(resolved.metrics(), "metrics");
         this.docker = Objects.requireNonNull(resolved.docker(), "docker");
         this.features = Objects.requireNonNull(resolved.features(), "features");
+        this.broker = Objects.requireNonNull(resolved.broker(), "broker");
+        this.warmUp = Objects.requireNonNull(resolved.warmUp(), "warmUp");
     }
 
     public String getSwarmId() {
@@ -79,6 +85,14 @@ public class SwarmControllerProperties {
         return features;
     }
 
+    public Broker getBroker() {
+        return broker;
+    }
+
+    public WarmUp getWarmUp() {
+        return warmUp;
+    }
+
     public String hiveExchange() {
         return traffic.hiveExchange();
     }
@@ -116,15 +130,21 @@ public class SwarmControllerProperties {
         private final Metrics metrics;
         private final Docker docker;
         private final Features features;
+        private final Broker broker;
+        private final WarmUp warmUp;
 
         public SwarmController(@Valid Traffic traffic,
                                @Valid Metrics metrics,
                                @Valid Docker docker,
-                               @Valid Features features) {
+                               @Valid Features features,
+                               @Valid Broker broker,
+                               @Valid WarmUp warmUp) {
             this.traffic = Objects.requireNonNull(traffic, "traffic");
             this.metrics = Objects.requireNonNull(metrics, "metrics");
             this.docker = Objects.requireNonNull(docker, "docker");
             this.features = features != null ? features : new Features(null);
+            this.broker = broker != null ? broker : new Broker(null, null, null, null);
+            this.warmUp = warmUp != null ? warmUp : new WarmUp(null, null, null);
         }
 
         public Traffic traffic() {
@@ -142,6 +162,14 @@ public class SwarmControllerProperties {
         public Features features() {
             return features;
         }
+
+        public Broker broker() {
+            return broker;
+        }
+
+        public WarmUp warmUp() {
+            return warmUp;
+        }
     }
 
     private static String normalizeControlQueuePrefix(String swarmId, String prefix) {
@@ -214,14 +242,26 @@ public class SwarmControllerProperties {
 
     @Validated
     public static final class Docker {
+        private static final int DEFAULT_PROVISIONING_PARALLELISM = 4;
+
         private final String host;
         private final String socketPath;
         private final ComputeAdapterType computeAdapter;
-
-        public Docker(String host, @NotBlank String socketPath, ComputeAdapterType computeAdapter) {
+        private final int provisioningParallelism;
+        private final boolean pullMissingImages;
+
+        public Docker(String host,
+                      @NotBlank String socketPath,
+                      ComputeAdapterType computeAdapter,
+                      @Positive Integer provisioningParallelism,
+                      Boolean pullMissingImages) {
             this.host = host;
             this.socketPath = requireNonBlank(socketPath, "socketPath");
             this.computeAdapter = ComputeAdapterType.defaulted(computeAdapter);
+            this.provisioningParallelism = provisioningParallelism == null
+                ? DEFAULT_PROVISIONING_PARALLELISM
+                : provisioningParallelism;
+            this.pullMissingImages = pullMissingImages == null || pullMissingImages;
         }
 
         public String host() {
@@ -239,6 +279,20 @@ public class SwarmControllerProperties {
         public ComputeAdapterType computeAdapter() {
             return computeAdapter;
         }
+
+        /**
+         * Maximum number of worker containers or services created, started or removed at once.
+         */
+        public int provisioningParallelism() {
+            return provisioningParallelism;
+        }
+
+        /**
+         * Whether worker images missing on the Docker host are pulled before containers are created.
+         */
+        public boolean pullMissingImages() {
+            return pullMissingImages;
+        }
     }
 
     @Validated
@@ -254,6 +308,111 @@ public class SwarmControllerProperties {
         }
     }
 
+    @Validated
+    public static final class Broker {
+        private static final Duration DEFAULT_QUEUE_STATS_TTL = Duration.ofSeconds(2);
+
+        private final String managementUrl;
+        private final String managementUsername;
+        private final String managementPassword;
+        private final Duration queueStatsTtl;
+
+        public Broker(String managementUrl,
+                      String managementUsername,
+                      String managementPassword,
+                      Duration queueStatsTtl) {
+            this.managementUrl = managementUrl == null || managementUrl.isBlank() ? null : managementUrl.trim();
+            this.managementUsername = managementUsername;
+            this.managementPassword = managementPassword;
+            this.queueStatsTtl = queueStatsTtl == null ? DEFAULT_QUEUE_STATS_TTL : queueStatsTtl;
+            if (this.queueStatsTtl.isNegative()) {
+                throw new IllegalArgumentException("broker.queueStatsTtl must not be negative");
+            }
+        }
+
+        /**
+         * Base URL of the RabbitMQ management API (for example {@code http://rabbitmq:15672}), or
+         * {@code null} when queue statistics should come from per-queue passive declares only.
+         */
+        public String managementUrl() {
+            return managementUrl;
+        }
+
+        public boolean hasManagementUrl() {
+            return managementUrl != null;
+        }
+
+        /**
+         * Management API user; falls back to the AMQP username when blank.
+         */
+        public String managementUsername() {
+            return managementUsername;
+        }
+
+        /**
+         * Management API password; falls back to the AMQP password when blank.
+         */
+        public String managementPassword() {
+            return managementPassword;
+        }
+
+        /**
+         * How long a queue statistics snapshot is shared between guards, metrics and status
+         * before the broker is asked again.
+         */
+        public Duration queueStatsTtl() {
+            return queueStatsTtl;
+        }
+    }
+
+    @Validated
+    public static final class WarmUp {
+        private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+        private static final List<String> DEFAULT_ROLES = List.of("processor", "http-sequence", "db-query");
+
+        private final int connections;
+        private final Duration timeout;
+        private final List<String> roles;
+
+        public WarmUp(Integer connections, Duration timeout, List<String> roles) {
+            this.connections = connections == null ? 0 : connections;
+            this.timeout = timeout == null ? DEFAULT_TIMEOUT : timeout;
+            this.roles = roles == null || roles.isEmpty() ? DEFAULT_ROLES : List.copyOf(roles);
+            if (this.connections < 0) {
+                throw new IllegalArgumentException("warmUp.connections must not be negative");
+            }
+            if (this.timeout.isNegative() || this.timeout.isZero()) {
+                throw new IllegalArgumentException("warmUp.timeout must be positive");
+            }
+        }
+
+        /**
+         * Pooled connections each targeted bee opens per endpoint before the swarm is enabled; {@code 0} skips
+         * the warm-up phase.
+         */
+        public int connections() {
+            return connections;
+        }
+
+        public boolean enabled() {
+            return connections > 0;
+        }
+
+        /**
+         * Upper bound on the warm-up phase; the swarm is enabled once it passes even if some bees never answered.
+         */
+        public Duration timeout() {
+            return timeout;
+        }
+
+        /**
+         * Bee roles asked to warm up; other roles hold no connections to the system under test.
+         */
+        public List<String> roles() {
+            return roles;
+        }
+    }
+
     private static String requireNonBlank(String value, String name) {
         if (value == null || value.isBlank()) {
             throw new IllegalArgumentException(name + " must not be blank");
@@ -25,6 +25,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.OptionalDouble;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,6 +55,8 @@ public final class BufferGuardCoordinator {
 
   private final io.pockethive.manager.guard.BufferGuardCoordinator coordinator;
   private final Map<String, InputKind> inputKindByRole = new HashMap<>();
+  private final Map<String, Double> lastRateByRole = new ConcurrentHashMap<>();
+  private volatile boolean enabled;
   private volatile boolean active;
   private volatile String lastProblem;
 
@@ -81,6 +84,7 @@ public final class BufferGuardCoordinator {
   public void configureFromTemplate(String templateJson) {
     this.active = false;
     this.lastProblem = null;
+    lastRateByRole.clear();
     if (!properties.getFeatures().bufferGuardEnabled()) {
       coordinator.configure(List.of());
       return;
@@ -105,13 +109,37 @@ public final class BufferGuardCoordinator {
   }
 
   public synchronized void onSwarmEnabled(boolean enabled) {
+    this.enabled = enabled;
     coordinator.onEnabled(enabled);
   }
 
   public synchronized void onRemove() {
+    enabled = false;
+    lastRateByRole.clear();
     coordinator.onRemove();
   }
 
+  /**
+   * Producer rate the running guard on {@code queueName} last asked for, or empty when no
+   * enabled guard governs that queue.
+   */
+  public OptionalDouble guardedRate(String queueName) {
+    if (!enabled || queueName == null) {
+      return OptionalDouble.empty();
+    }
+    for (BufferGuardSettings settings : currentSettings()) {
+      if (queueName.equals(settings.queueName())) {
+        double total = 0d;
+        for (BufferGuardSettings.Producer producer : settings.producers()) {
+          Double rate = lastRateByRole.get(normalizeRole(producer.role()));
+          total += rate != null ? rate : producer.initialRatePerSec();
+        }
+        return OptionalDouble.of(total);
+      }
+    }
+    return OptionalDouble.empty();
+  }
+
   public synchronized void configure(java.util.List<BufferGuardSettings> settings) {
     coordinator.configure(settings);
   }
@@ -129,6 +157,7 @@ public final class BufferGuardCoordinator {
   }
 
   private void sendRateUpdate(String targetRole, double rate) {
+    lastRateByRole.put(normalizeRole(targetRole), rate);
     InputKind kind = inputKindByRole.get(normalizeRole(targetRole));
     if (kind == null) {
       log.warn("Buffer guard attempted to update rate for role {} but no input mapping is configured; ignoring", targetRole);
@@ -219,23 +248,32 @@ public final class BufferGuardCoordinator {
       lastProblem = "no-bees";
       return Optional.empty();
     }
-    Bee targetBee = plan.bees().stream()
+    List<Bee> producerBees = plan.bees().stream()
         .filter(bee -> bee.work() != null && hasQueueAlias(bee.work().out(), queueAlias))
-        .findFirst()
-        .orElse(null);
-    String targetRole = targetBee != null ? targetBee.role() : null;
-    if (!hasText(targetRole)) {
+        .filter(bee -> hasText(bee.role()))
+        .toList();
+    if (producerBees.isEmpty()) {
       log.warn("Buffer guard could not find a producer role for queue '{}'", queueAlias);
       lastProblem = "missing-producer";
       return Optional.empty();
     }
-
-    InputKind inputKind = resolveInputKind(targetBee.config());
-    if (inputKind != null) {
-      inputKindByRole.put(normalizeRole(targetRole), inputKind);
-    } else {
-      log.info("No rate-controllable input configured for role {}; buffer guard will use adjustment bounds only", targetRole);
-      lastProblem = "no-rate-input";
+    // Every producer with a rate-controllable input is steered; without any, fall back to the
+    // first producer so the guard still reports state.
+    List<Bee> controlled = producerBees.stream()
+        .filter(bee -> resolveInputKind(bee.config()) != null)
+        .toList();
+    if (controlled.isEmpty()) {
+      controlled = List.of(producerBees.getFirst());
+    }
+    String targetRole = controlled.getFirst().role();
+    for (Bee bee : controlled) {
+      InputKind inputKind = resolveInputKind(bee.config());
+      if (inputKind != null) {
+        inputKindByRole.put(normalizeRole(bee.role()), inputKind);
+      } else {
+        log.info("No rate-controllable input configured for role {}; buffer guard will use adjustment bounds only", bee.role());
+        lastProblem = "no-rate-input";
+      }
     }
 
     int targetDepth = defaultInt(guard.targetDepth(), 200);
@@ -280,8 +318,18 @@ public final class BufferGuardCoordinator {
         recoveryDepth,
         defaultInt(bpPolicy != null ? bpPolicy.moderatorReductionPct() : null, 15));
 
-    double initialRate = extractRatePerSec(targetBee.config(), inputKind).orElse(adjustment.minRatePerSec());
-    initialRate = clampRate(initialRate, adjustment);
+    List<BufferGuardSettings.Producer> producers = new ArrayList<>(controlled.size());
+    double initialRate = 0d;
+    for (Bee bee : controlled) {
+      double rate = extractRatePerSec(bee.config(), resolveInputKind(bee.config()))
+          .orElse(adjustment.minRatePerSec());
+      rate = clampRate(rate, adjustment);
+      producers.add(new BufferGuardSettings.Producer(bee.role(), rate));
+      initialRate += rate;
+    }
+
+    BufferGuardSettings.Mode mode = parseMode(guard.mode());
+    BufferGuardSettings.Pid pid = resolvePid(guard.pid(), samplePeriod);
 
     return Optional.of(new BufferGuardSettings(
         queueAlias,
@@ -295,7 +343,34 @@ public final class BufferGuardCoordinator {
         movingAverageWindow,
         adjustment,
         prefill,
-        backpressure));
+        backpressure,
+        mode,
+        pid,
+        producers));
+  }
+
+  static BufferGuardSettings.Mode parseMode(String candidate) {
+    if (candidate == null || candidate.isBlank()) {
+      return BufferGuardSettings.Mode.BRACKET;
+    }
+    try {
+      return BufferGuardSettings.Mode.valueOf(candidate.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException ex) {
+      log.warn("Unknown buffer guard mode '{}'; using bracket", candidate);
+      return BufferGuardSettings.Mode.BRACKET;
+    }
+  }
+
+  static BufferGuardSettings.Pid resolvePid(BufferGuardPolicy.Pid policy, Duration samplePeriod) {
+    BufferGuardSettings.Pid defaults = BufferGuardSettings.Pid.defaults(samplePeriod);
+    if (policy == null) {
+      return defaults;
+    }
+    return new BufferGuardSettings.Pid(
+        policy.kp() != null ? policy.kp() : defaults.kp(),
+        policy.ki() != null ? policy.ki() : defaults.ki(),
+        policy.kd() != null ? policy.kd() : defaults.kd(),
+        parseDuration(policy.derivativeFilter(), defaults.derivativeFilter()));
   }
 
   private OptionalDouble extractRatePerSec(Map<?, ?> source, InputKind kind) {
@@ -401,7 +476,7 @@ public final class BufferGuardCoordinator {
     };
   }
 
-  private static Duration parseDuration(String candidate, Duration fallback) {
+  static Duration parseDuration(String candidate, Duration fallback) {
     if (candidate == null || candidate.isBlank()) {
       return fallback;
     }
@@ -0,0 +1,235 @@
+package io.pockethive.swarmcontroller.guard;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.pockethive.manager.guard.Guard;
+import io.pockethive.manager.guard.ReplicaAutoscaleSettings;
+import io.pockethive.manager.guard.ReplicaAutoscaler;
+import io.pockethive.manager.ports.QueueStatsPort;
+import io.pockethive.swarm.model.AutoscalePolicy;
+import io.pockethive.swarm.model.Bee;
+import io.pockethive.swarm.model.SwarmPlan;
+import io.pockethive.swarmcontroller.config.SwarmControllerProperties;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs a {@link ReplicaAutoscaler} for every bee whose plan entry enables
+ * {@link AutoscalePolicy autoscale}.
+ * <p>
+ * Like {@link BufferGuardCoordinator}, the runtime core does not depend on this
+ * class; {@code SwarmLifecycleManager} drives it during prepare/start/stop/remove
+ * and supplies the scaling callback. Worker-reported TPS comes in through
+ * {@link #recordThroughput(String, String, double)} and the buffer guard's
+ * producer rate is consulted for queues it governs.
+ */
+public final class ReplicaAutoscaleCoordinator {
+
+  private static final Logger log = LoggerFactory.getLogger(ReplicaAutoscaleCoordinator.class);
+  private static final long THROUGHPUT_TTL_MS = 15_000L;
+
+  private final SwarmControllerProperties properties;
+  private final QueueStatsPort queueStatsPort;
+  private final BufferGuardCoordinator bufferGuard;
+  private final ReplicaAutoscaler.ReplicaScaler scaler;
+  private final MeterRegistry meterRegistry;
+  private final ObjectMapper mapper;
+  private final String swarmId;
+  private final Map<String, Throughput> throughputByInstance = new ConcurrentHashMap<>();
+
+  private volatile List<ReplicaAutoscaleSettings> settings = List.of();
+  private List<ReplicaAutoscaler> autoscalers;
+  private final List<Gauge> gauges = new ArrayList<>();
+  private boolean enabled;
+
+  public ReplicaAutoscaleCoordinator(SwarmControllerProperties properties,
+                                     QueueStatsPort queueStatsPort,
+                                     BufferGuardCoordinator bufferGuard,
+                                     ReplicaAutoscaler.ReplicaScaler scaler,
+                                     MeterRegistry meterRegistry,
+                                     ObjectMapper mapper) {
+    this.properties = Objects.requireNonNull(properties, "properties");
+    this.queueStatsPort = Objects.requireNonNull(queueStatsPort, "queueStatsPort");
+    this.bufferGuard = Objects.requireNonNull(bufferGuard, "bufferGuard");
+    this.scaler = Objects.requireNonNull(scaler, "scaler");
+    this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry");
+    this.mapper = Objects.requireNonNull(mapper, "mapper");
+    this.swarmId = properties.getSwarmId();
+  }
+
+  public synchronized void configureFromTemplate(String templateJson) {
+    stopAutoscalers();
+    throughputByInstance.clear();
+    try {
+      SwarmPlan plan = mapper.readValue(templateJson, SwarmPlan.class);
+      settings = resolveSettings(plan);
+    } catch (Exception ex) {
+      log.warn("Failed to parse swarm plan for replica autoscaling", ex);
+      settings = List.of();
+    }
+    if (enabled) {
+      startAutoscalers();
+    }
+  }
+
+  public synchronized void onSwarmEnabled(boolean enabledFlag) {
+    this.enabled = enabledFlag;
+    if (!enabledFlag) {
+      if (autoscalers != null) {
+        autoscalers.forEach(Guard::pause);
+      }
+    } else if (autoscalers == null) {
+      startAutoscalers();
+    } else {
+      autoscalers.forEach(Guard::resume);
+    }
+  }
+
+  public synchronized void onRemove() {
+    enabled = false;
+    settings = List.of();
+    throughputByInstance.clear();
+    stopAutoscalers();
+  }
+
+  public synchronized List<ReplicaAutoscaleSettings> currentSettings() {
+    return settings;
+  }
+
+  /**
+   * Record the TPS a worker reported in its latest status.
+   */
+  public void recordThroughput(String role, String instance, double tps) {
+    if (!hasText(role) || !hasText(instance) || !Double.isFinite(tps) || settings.isEmpty()) {
+      return;
+    }
+    throughputByInstance.put(instance, new Throughput(role, tps, System.currentTimeMillis()));
+  }
+
+  private OptionalDouble throughputPerSec(String role) {
+    long cutoff = System.currentTimeMillis() - THROUGHPUT_TTL_MS;
+    double total = 0.0;
+    boolean seen = false;
+    for (Throughput sample : throughputByInstance.values()) {
+      if (sample.role().equals(role) && sample.timestamp() >= cutoff) {
+        total += sample.tps();
+        seen = true;
+      }
+    }
+    return seen ? OptionalDouble.of(total) : OptionalDouble.empty();
+  }
+
+  private void startAutoscalers() {
+    if (settings.isEmpty()) {
+      return;
+    }
+    ReplicaAutoscaler.LoadSignals signals = new ReplicaAutoscaler.LoadSignals() {
+      @Override
+      public OptionalDouble throughputPerSec(String role) {
+        return ReplicaAutoscaleCoordinator.this.throughputPerSec(role);
+      }
+
+      @Override
+      public OptionalDouble guardedRatePerSec(String queueName) {
+        return bufferGuard.guardedRate(queueName);
+      }
+    };
+    List<ReplicaAutoscaler> instances = new ArrayList<>(settings.size());
+    for (ReplicaAutoscaleSettings s : settings) {
+      ReplicaAutoscaler autoscaler = new ReplicaAutoscaler(s, queueStatsPort, signals, scaler);
+      gauges.add(Gauge.builder("ph_swarm_autoscale_replicas", autoscaler, ReplicaAutoscaler::replicas)
+          .description("Replica count chosen by the replica autoscaler")
+          .tags("swarm", swarmId, "role", s.role())
+          .register(meterRegistry));
+      instances.add(autoscaler);
+    }
+    instances.forEach(Guard::start);
+    autoscalers = instances;
+  }
+
+  private void stopAutoscalers() {
+    if (autoscalers != null) {
+      autoscalers.forEach(Guard::stop);
+      autoscalers = null;
+    }
+    gauges.forEach(meterRegistry::remove);
+    gauges.clear();
+  }
+
+  private List<ReplicaAutoscaleSettings> resolveSettings(SwarmPlan plan) {
+    if (plan.bees() == null || plan.bees().isEmpty()) {
+      return List.of();
+    }
+    List<ReplicaAutoscaleSettings> result = new ArrayList<>();
+    for (Bee bee : plan.bees()) {
+      if (bee != null) {
+        buildSettings(bee).ifPresent(result::add);
+      }
+    }
+    return List.copyOf(result);
+  }
+
+  private Optional<ReplicaAutoscaleSettings> buildSettings(Bee bee) {
+    AutoscalePolicy policy = bee.autoscale();
+    if (policy == null || !Boolean.TRUE.equals(policy.enabled())) {
+      return Optional.empty();
+    }
+    String queueAlias = hasText(policy.queueAlias()) ? policy.queueAlias().trim() : bee.work().defaultIn();
+    if (!hasText(queueAlias)) {
+      log.warn("Autoscale for role {} ignored: no queueAlias and no default input queue", bee.role());
+      return Optional.empty();
+    }
+    String queueName;
+    try {
+      queueName = properties.queueName(queueAlias);
+    } catch (IllegalArgumentException ex) {
+      log.warn("Autoscale queue alias '{}' for role {} invalid: {}", queueAlias, bee.role(), ex.getMessage());
+      return Optional.empty();
+    }
+    int targetDepth = positive(policy.targetQueueDepth(), 0);
+    double targetTps = policy.targetTpsPerReplica() != null && policy.targetTpsPerReplica() > 0
+        ? policy.targetTpsPerReplica()
+        : 0.0;
+    if (targetDepth == 0 && targetTps == 0.0) {
+      log.warn("Autoscale for role {} ignored: neither targetQueueDepth nor targetTpsPerReplica is set", bee.role());
+      return Optional.empty();
+    }
+    int minReplicas = positive(policy.minReplicas(), 1);
+    int maxReplicas = Math.max(minReplicas, positive(policy.maxReplicas(), minReplicas));
+    Duration cooldown = BufferGuardCoordinator.parseDuration(policy.cooldown(), Duration.ofSeconds(60));
+    Duration samplePeriod = BufferGuardCoordinator.parseDuration(policy.samplePeriod(), Duration.ofSeconds(5));
+    int window = positive(policy.movingAverageWindow(), 4);
+    return Optional.of(new ReplicaAutoscaleSettings(
+        bee.role(),
+        queueAlias,
+        queueName,
+        minReplicas,
+        maxReplicas,
+        bee.initialReplicas(),
+        targetDepth,
+        targetTps,
+        cooldown,
+        samplePeriod,
+        window));
+  }
+
+  private static int positive(Integer candidate, int fallback) {
+    return candidate != null && candidate > 0 ? candidate : fallback;
+  }
+
+  private static boolean hasText(String value) {
+    return value != null && !value.isBlank();
+  }
+
+  private record Throughput(String role, double tps, long timestamp) {
+  }
+}
@@ -0,0 +1,179 @@
+package io.pockethive.swarmcontroller.infra.amqp;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.pockethive.manager.runtime.QueueRates;
+import io.pockethive.manager.runtime.QueueStats;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Reads statistics for every queue of a swarm from the RabbitMQ management API in one paged
+ * request, instead of one passive declare per queue.
+ * <p>
+ * Besides depth and consumer count the management API exposes the broker's own publish,
+ * deliver and ack rates, which are returned as {@link QueueRates}. Figures are as fresh as the
+ * broker's statistics emission interval (5s by default), so callers should not poll faster.
+ */
+public final class RabbitManagementQueueStatsClient {
+
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+  private static final int PAGE_SIZE = 500;
+  private static final String COLUMNS = String.join(",",
+      "name",
+      "messages",
+      "consumers",
+      "head_message_timestamp",
+      "message_stats.publish_details.rate",
+      "message_stats.deliver_get_details.rate",
+      "message_stats.ack_details.rate");
+
+  private final HttpClient http;
+  private final ObjectMapper json;
+  private final String baseUrl;
+  private final String vhost;
+  private final String authorization;
+  private final Clock clock;
+
+  public RabbitManagementQueueStatsClient(ObjectMapper json,
+                                          String managementUrl,
+                                          String virtualHost,
+                                          String username,
+                                          String password) {
+    this(HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build(),
+        json, managementUrl, virtualHost, username, password, Clock.systemUTC());
+  }
+
+  RabbitManagementQueueStatsClient(HttpClient http,
+                                   ObjectMapper json,
+                                   String managementUrl,
+                                   String virtualHost,
+                                   String username,
+                                   String password,
+                                   Clock clock) {
+    this.http = Objects.requireNonNull(http, "http");
+    this.json = Objects.requireNonNull(json, "json");
+    String url = Objects.requireNonNull(managementUrl, "managementUrl").trim();
+    if (url.isEmpty()) {
+      throw new IllegalArgumentException("managementUrl must not be blank");
+    }
+    this.baseUrl = url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    this.vhost = virtualHost == null || virtualHost.isBlank() ? "/" : virtualHost;
+    this.authorization = username == null || username.isBlank()
+        ? null
+        : "Basic " + Base64.getEncoder().encodeToString(
+            (username + ":" + (password == null ? "" : password)).getBytes(StandardCharsets.UTF_8));
+    this.clock = Objects.requireNonNull(clock, "clock");
+  }
+
+  /**
+   * Fetch statistics for every queue whose name starts with {@code queuePrefix + "."}.
+   *
+   * @return stats keyed by queue name; queues the broker does not list are absent
+   * @throws IOException when the management API is unreachable or answers with an error
+   */
+  public Map<String, QueueStats> fetchByPrefix(String queuePrefix) throws IOException {
+    Objects.requireNonNull(queuePrefix, "queuePrefix");
+    String nameFilter = "^" + escapeRegex(queuePrefix) + "\\.";
+    Map<String, QueueStats> result = new LinkedHashMap<>();
+    int page = 1;
+    int pageCount;
+    do {
+      String url = baseUrl + "/api/queues/" + encode(vhost)
+          + "?page=" + page
+          + "&page_size=" + PAGE_SIZE
+          + "&name=" + encode(nameFilter)
+          + "&use_regex=true"
+          + "&columns=" + encode(COLUMNS);
+      JsonNode body = get(url);
+      result.putAll(parsePage(body, clock.instant().getEpochSecond()));
+      pageCount = body.path("page_count").asInt(1);
+      page++;
+    } while (page <= pageCount);
+    return result;
+  }
+
+  static Map<String, QueueStats> parsePage(JsonNode body, long nowEpochSeconds) {
+    Map<String, QueueStats> result = new LinkedHashMap<>();
+    JsonNode items = body.has("items") ? body.get("items") : body;
+    if (items == null || !items.isArray()) {
+      return result;
+    }
+    for (JsonNode item : items) {
+      String name = item.path("name").asText(null);
+      if (name == null || name.isBlank()) {
+        continue;
+      }
+      long depth = item.path("messages").asLong(0L);
+      int consumers = item.path("consumers").asInt(0);
+      OptionalLong oldestAge = OptionalLong.empty();
+      JsonNode head = item.get("head_message_timestamp");
+      if (head != null && head.canConvertToLong() && head.asLong() > 0) {
+        oldestAge = OptionalLong.of(Math.max(0L, nowEpochSeconds - head.asLong()));
+      }
+      Optional<QueueRates> rates = Optional.empty();
+      JsonNode messageStats = item.get("message_stats");
+      if (messageStats != null && messageStats.isObject()) {
+        rates = Optional.of(new QueueRates(
+            rate(messageStats, "publish_details"),
+            rate(messageStats, "deliver_get_details"),
+            rate(messageStats, "ack_details")));
+      }
+      result.put(name, new QueueStats(depth, consumers, oldestAge, rates));
+    }
+    return result;
+  }
+
+  private JsonNode get(String url) throws IOException {
+    HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+        .timeout(REQUEST_TIMEOUT)
+        .header("Accept", "application/json")
+        .GET();
+    if (authorization != null) {
+      request.header("Authorization", authorization);
+    }
+    HttpResponse<String> response;
+    try {
+      response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while querying RabbitMQ management API", e);
+    }
+    if (response.statusCode() / 100 != 2) {
+      throw new IOException("RabbitMQ management API returned HTTP " + response.statusCode() + " for " + url);
+    }
+    return json.readTree(response.body());
+  }
+
+  private static double rate(JsonNode messageStats, String field) {
+    return messageStats.path(field).path("rate").asDouble(0.0);
+  }
+
+  private static String encode(String value) {
+    return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+  }
+
+  private static String escapeRegex(String literal) {
+    StringBuilder escaped = new StringBuilder(literal.length() + 8);
+    for (char c : literal.toCharArray()) {
+      if ("\\^$.|?*+()[]{}".indexOf(c) >= 0) {
+        escaped.append('\\');
+      }
+      escaped.append(c);
+    }
+    return escaped.toString();
+  }
+}
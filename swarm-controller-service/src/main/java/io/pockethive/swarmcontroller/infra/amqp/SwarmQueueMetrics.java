@@ -3,15 +3,20 @@ package io.pockethive.swarmcontroller.infra.amqp;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
+import io.pockethive.manager.runtime.QueueRates;
 import io.pockethive.swarmcontroller.QueueStats;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToDoubleFunction;
 
 /**
- * Tracks per-queue metrics (depth, consumers, oldest age) for a swarm.
+ * Tracks per-queue metrics (depth, consumers, oldest age and, when the broker reports them,
+ * publish/deliver/ack rates) for a swarm.
  * <p>
  * This helper owns Micrometer gauge registration and provides a small API for
  * updating and unregistering metrics so that {@code SwarmLifecycleManager}
@@ -28,6 +33,8 @@ public final class SwarmQueueMetrics {
   private final ConcurrentMap<String, Gauge> queueDepthGauges = new ConcurrentHashMap<>();
   private final ConcurrentMap<String, Gauge> queueConsumerGauges = new ConcurrentHashMap<>();
   private final ConcurrentMap<String, Gauge> queueOldestGauges = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, AtomicReference<QueueRates>> queueRateValues = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, List<Gauge>> queueRateGauges = new ConcurrentHashMap<>();
 
   public SwarmQueueMetrics(String swarmId, MeterRegistry meterRegistry) {
     this.swarmId = Objects.requireNonNull(swarmId, "swarmId");
@@ -51,6 +58,12 @@ public final class SwarmQueueMetrics {
     oldestGaugeValue.set(oldestValue);
   }
 
+  public void updateRates(String queueName, QueueRates rates) {
+    Objects.requireNonNull(queueName, "queueName");
+    Objects.requireNonNull(rates, "rates");
+    queueRateValues.computeIfAbsent(queueName, this::registerRateGauges).set(rates);
+  }
+
   public void unregister(String queueName) {
     if (queueName == null || queueName.isBlank()) {
       return;
@@ -76,6 +89,13 @@ public final class SwarmQueueMetrics {
         meterRegistry.remove(gauge);
       }
     }
+    AtomicReference<QueueRates> rateValue = queueRateValues.remove(queueName);
+    if (rateValue != null) {
+      List<Gauge> gauges = queueRateGauges.remove(queueName);
+      if (gauges != null) {
+        gauges.forEach(meterRegistry::remove);
+      }
+    }
   }
 
   private AtomicLong registerDepthGauge(String queueName) {
@@ -108,6 +128,25 @@ public final class SwarmQueueMetrics {
     return holder;
   }
 
+  private AtomicReference<QueueRates> registerRateGauges(String queueName) {
+    AtomicReference<QueueRates> holder = new AtomicReference<>(new QueueRates(0.0, 0.0, 0.0));
+    queueRateGauges.put(queueName, List.of(
+        registerRateGauge(queueName, "publish", holder, QueueRates::publishPerSec),
+        registerRateGauge(queueName, "deliver", holder, QueueRates::deliverPerSec),
+        registerRateGauge(queueName, "ack", holder, QueueRates::ackPerSec)));
+    return holder;
+  }
+
+  private Gauge registerRateGauge(String queueName,
+                                  String kind,
+                                  AtomicReference<QueueRates> holder,
+                                  ToDoubleFunction<QueueRates> value) {
+    return Gauge.builder("ph_swarm_queue_rate_per_second", holder, ref -> value.applyAsDouble(ref.get()))
+        .description("Broker-measured message rate for a PocketHive swarm queue")
+        .tags(queueTags(queueName).and("kind", kind))
+        .register(meterRegistry);
+  }
+
   private Tags queueTags(String queueName) {
     return Tags.of("swarm", swarmId, "queue", queueName);
   }
@@ -1,14 +1,21 @@
 package io.pockethive.swarmcontroller.infra.amqp;
 
+import io.pockethive.swarm.model.WorkQueuePolicy;
+import io.pockethive.swarm.model.WorkQueueType;
 import io.pockethive.swarmcontroller.config.SwarmControllerProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.core.AmqpAdmin;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.CustomExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
@@ -17,15 +24,27 @@ import org.springframework.amqp.core.TopicExchange;
  * Helper responsible for declaring and tearing down the swarm's work topology
  * (hive exchange + work queues) based on plan-derived queue suffixes.
  * <p>
+ * Queues default to durable classic queues bound to the hive exchange under their own name.
+ * A {@link WorkQueuePolicy} can select another queue type or shard the queue: producers keep
+ * publishing to the logical queue name, which is bound to a consistent-hash exchange that
+ * spreads messages over {@code <queue>.s0 .. <queue>.sN-1}. {@link #physicalQueueNames(String)}
+ * tells consumers and queue statistics which broker queues back a logical name.
+ * <p>
  * This class is deliberately small and reusable so other swarm-controller
  * implementations or tools can share the same topology wiring logic.
  */
 public final class SwarmWorkTopologyManager {
 
   private static final Logger log = LoggerFactory.getLogger(SwarmWorkTopologyManager.class);
+  private static final String CONSISTENT_HASH_EXCHANGE = "x-consistent-hash";
+  /**
+   * Every shard gets the same weight so keys spread evenly.
+   */
+  private static final String SHARD_WEIGHT = "1";
 
   private final AmqpAdmin amqp;
   private final SwarmControllerProperties properties;
+  private final Map<String, List<String>> shardsByQueue = new ConcurrentHashMap<>();
 
   public SwarmWorkTopologyManager(AmqpAdmin amqp, SwarmControllerProperties properties) {
     this.amqp = Objects.requireNonNull(amqp, "amqp");
@@ -54,12 +73,31 @@ public final class SwarmWorkTopologyManager {
   public void declareWorkQueues(TopicExchange workExchange,
                                 Set<String> suffixes,
                                 Set<String> declaredSuffixes) {
+    declareWorkQueues(workExchange, suffixes, declaredSuffixes, Map.of());
+  }
+
+  /**
+   * Same as {@link #declareWorkQueues(TopicExchange, Set, Set)}, applying the queue type and
+   * sharding from {@code policies} (keyed by queue suffix). Suffixes without a policy get a
+   * classic, unsharded queue.
+   */
+  public void declareWorkQueues(TopicExchange workExchange,
+                                Set<String> suffixes,
+                                Set<String> declaredSuffixes,
+                                Map<String, WorkQueuePolicy> policies) {
     Objects.requireNonNull(workExchange, "workExchange");
     Objects.requireNonNull(suffixes, "suffixes");
     Objects.requireNonNull(declaredSuffixes, "declaredSuffixes");
+    Objects.requireNonNull(policies, "policies");
 
     for (String suffix : suffixes) {
+      WorkQueuePolicy policy = policies.get(suffix);
+      if (policy != null && policy.sharded()) {
+        declareShardedQueue(workExchange, suffix, policy, declaredSuffixes);
+        continue;
+      }
       String queueName = properties.queueName(suffix);
+      shardsByQueue.remove(queueName);
       boolean queueMissing = amqp.getQueueProperties(queueName) == null;
       if (queueMissing) {
         declaredSuffixes.remove(suffix);
@@ -68,7 +106,7 @@ public final class SwarmWorkTopologyManager {
           workExchange.getName(), suffix, null);
       amqp.removeBinding(legacyBinding);
 
-      Queue queue = QueueBuilder.durable(queueName).build();
+      Queue queue = buildQueue(queueName, policy == null ? WorkQueueType.CLASSIC : policy.resolvedType());
       if (queueMissing || !declaredSuffixes.contains(suffix)) {
         amqp.declareQueue(queue);
         log.info("declared queue {}", queueName);
@@ -80,6 +118,68 @@ public final class SwarmWorkTopologyManager {
     }
   }
 
+  private void declareShardedQueue(TopicExchange workExchange,
+                                   String suffix,
+                                   WorkQueuePolicy policy,
+                                   Set<String> declaredSuffixes) {
+    String queueName = properties.queueName(suffix);
+    String shardExchangeName = shardExchangeName(queueName);
+    List<String> shardNames = new ArrayList<>(policy.resolvedShards());
+    for (int i = 0; i < policy.resolvedShards(); i++) {
+      shardNames.add(queueName + ".s" + i);
+    }
+    if (amqp.getQueueProperties(queueName) != null) {
+      // The queue was unsharded before; stop routing to it so messages are not duplicated.
+      amqp.removeBinding(new Binding(queueName, Binding.DestinationType.QUEUE,
+          workExchange.getName(), queueName, null));
+      log.warn("queue {} is now sharded; unbound the unsharded queue, drain or delete it manually", queueName);
+    }
+    boolean anyShardMissing = false;
+    for (String shardName : shardNames) {
+      anyShardMissing |= amqp.getQueueProperties(shardName) == null;
+    }
+    if (anyShardMissing) {
+      declaredSuffixes.remove(suffix);
+    }
+    if (!declaredSuffixes.contains(suffix)) {
+      CustomExchange shardExchange = new CustomExchange(shardExchangeName, CONSISTENT_HASH_EXCHANGE, true, false,
+          Map.of("hash-header", WorkQueuePolicy.SHARD_KEY_HEADER));
+      amqp.declareExchange(shardExchange);
+      amqp.declareBinding(BindingBuilder.bind(shardExchange).to(workExchange).with(queueName));
+      for (String shardName : shardNames) {
+        amqp.declareQueue(buildQueue(shardName, policy.resolvedType()));
+        amqp.declareBinding(new Binding(shardName, Binding.DestinationType.QUEUE,
+            shardExchangeName, SHARD_WEIGHT, null));
+      }
+      log.info("declared {} {} shards for queue {}", shardNames.size(), policy.resolvedType(), queueName);
+    }
+    shardsByQueue.put(queueName, List.copyOf(shardNames));
+    declaredSuffixes.add(suffix);
+  }
+
+  private static Queue buildQueue(String name, WorkQueueType type) {
+    QueueBuilder builder = QueueBuilder.durable(name);
+    return switch (type) {
+      case CLASSIC -> builder.build();
+      case LAZY -> builder.withArgument("x-queue-mode", "lazy").build();
+      case QUORUM -> builder.quorum().build();
+      case STREAM -> builder.stream().build();
+    };
+  }
+
+  /**
+   * Broker queues backing the given logical work queue: its shards when it is sharded,
+   * otherwise the queue itself.
+   */
+  public List<String> physicalQueueNames(String queueName) {
+    List<String> shards = shardsByQueue.get(queueName);
+    return shards != null ? shards : List.of(queueName);
+  }
+
+  private static String shardExchangeName(String queueName) {
+    return queueName + ".shards";
+  }
+
   /**
    * Delete all work queues for the provided suffixes.
    *
@@ -90,6 +190,14 @@ public final class SwarmWorkTopologyManager {
     Objects.requireNonNull(suffixes, "suffixes");
     for (String suffix : suffixes) {
       String queueName = properties.queueName(suffix);
+      List<String> shards = shardsByQueue.remove(queueName);
+      if (shards != null) {
+        for (String shardName : shards) {
+          log.info("deleting queue shard {}", shardName);
+          amqp.deleteQueue(shardName);
+        }
+        amqp.deleteExchange(shardExchangeName(queueName));
+      }
       log.info("deleting queue {}", queueName);
       amqp.deleteQueue(queueName);
       if (onQueueDeleted != null) {
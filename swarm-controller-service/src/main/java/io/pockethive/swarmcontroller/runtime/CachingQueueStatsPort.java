@@ -0,0 +1,140 @@
+package io.pockethive.swarmcontroller.runtime;
+
+import io.pockethive.manager.ports.QueueStatsPort;
+import io.pockethive.manager.runtime.QueueStats;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shared {@link QueueStatsPort} for one swarm controller.
+ * <p>
+ * Buffer guards, autoscalers, queue metrics and status snapshots all read through this port,
+ * so a burst of readers within {@code ttl} costs the broker a single request. When a bulk
+ * source (the RabbitMQ management API) is configured, all swarm queues are fetched at once;
+ * queues it does not list yet, or every queue while it is unavailable, fall back to the
+ * per-queue delegate (AMQP passive declares), whose answers are cached for the same TTL.
+ */
+public final class CachingQueueStatsPort implements QueueStatsPort {
+
+  private static final Logger log = LoggerFactory.getLogger(CachingQueueStatsPort.class);
+  // Upper bound for the retry delay while the bulk source keeps failing.
+  private static final long MAX_BULK_BACKOFF_NANOS = Duration.ofSeconds(30).toNanos();
+
+  /**
+   * Bulk source of queue statistics for the whole swarm.
+   */
+  @FunctionalInterface
+  public interface BulkSource {
+    Map<String, QueueStats> fetchAll() throws Exception;
+  }
+
+  private final QueueStatsPort perQueue;
+  private final BulkSource bulk;
+  private final long ttlNanos;
+  private final LongSupplier nanoTime;
+
+  private final Map<String, Cached> perQueueCache = new HashMap<>();
+  private final AtomicBoolean bulkRefreshing = new AtomicBoolean();
+  private volatile Map<String, QueueStats> bulkSnapshot = Map.of();
+  private volatile long nextBulkFetchAt;
+  private volatile boolean bulkFetched;
+  // Only touched by the thread holding bulkRefreshing.
+  private long bulkBackoffNanos;
+  private boolean bulkFailureLogged;
+
+  public CachingQueueStatsPort(QueueStatsPort perQueue, BulkSource bulk, Duration ttl) {
+    this(perQueue, bulk, ttl, System::nanoTime);
+  }
+
+  CachingQueueStatsPort(QueueStatsPort perQueue, BulkSource bulk, Duration ttl, LongSupplier nanoTime) {
+    this.perQueue = Objects.requireNonNull(perQueue, "perQueue");
+    this.bulk = bulk;
+    this.ttlNanos = Objects.requireNonNull(ttl, "ttl").toNanos();
+    this.nanoTime = Objects.requireNonNull(nanoTime, "nanoTime");
+  }
+
+  @Override
+  public QueueStats getQueueStats(String queueName) {
+    return getQueueStats(List.of(queueName)).get(queueName);
+  }
+
+  @Override
+  public Map<String, QueueStats> getQueueStats(Collection<String> queueNames) {
+    long now = nanoTime.getAsLong();
+    refreshBulkIfStale(now);
+    Map<String, QueueStats> snapshot = bulkSnapshot;
+    Map<String, QueueStats> result = new LinkedHashMap<>();
+    for (String queueName : queueNames) {
+      QueueStats stats = snapshot.get(queueName);
+      if (stats == null) {
+        stats = perQueueStats(queueName, now);
+      }
+      result.put(queueName, stats);
+    }
+    return result;
+  }
+
+  /**
+   * Refreshes the bulk snapshot on the calling thread without holding any lock. Only one reader fetches at a
+   * time; concurrent readers keep using the previous snapshot (or per-queue declares) instead of waiting for the
+   * management API. Failures back off exponentially from the TTL up to {@link #MAX_BULK_BACKOFF_NANOS}.
+   */
+  private void refreshBulkIfStale(long now) {
+    if (bulk == null || (bulkFetched && now - nextBulkFetchAt < 0)) {
+      return;
+    }
+    if (!bulkRefreshing.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      Map<String, QueueStats> fetched = bulk.fetchAll();
+      bulkSnapshot = fetched == null ? Map.of() : fetched;
+      bulkBackoffNanos = 0L;
+      nextBulkFetchAt = now + ttlNanos;
+      if (bulkFailureLogged) {
+        log.info("Bulk queue statistics available again");
+        bulkFailureLogged = false;
+      }
+    } catch (Exception ex) {
+      // Per-queue declares cover the gap until the next attempt.
+      bulkSnapshot = Map.of();
+      bulkBackoffNanos = bulkBackoffNanos == 0L
+          ? Math.max(ttlNanos, 1L)
+          : Math.min(bulkBackoffNanos * 2, MAX_BULK_BACKOFF_NANOS);
+      nextBulkFetchAt = now + bulkBackoffNanos;
+      if (!bulkFailureLogged) {
+        log.warn("Bulk queue statistics unavailable, falling back to per-queue declares: {}", ex.toString());
+        bulkFailureLogged = true;
+      } else {
+        log.debug("Bulk queue statistics still unavailable", ex);
+      }
+    } finally {
+      bulkFetched = true;
+      bulkRefreshing.set(false);
+    }
+  }
+
+  private QueueStats perQueueStats(String queueName, long now) {
+    synchronized (perQueueCache) {
+      Cached cached = perQueueCache.get(queueName);
+      if (cached != null && now - cached.fetchedAt() < ttlNanos) {
+        return cached.stats();
+      }
+      QueueStats stats = perQueue.getQueueStats(queueName);
+      perQueueCache.put(queueName, new Cached(stats, now));
+      return stats;
+    }
+  }
+
+  private record Cached(QueueStats stats, long fetchedAt) {
+  }
+}
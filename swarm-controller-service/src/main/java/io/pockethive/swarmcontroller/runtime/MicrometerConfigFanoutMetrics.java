@@ -0,0 +1,52 @@
+package io.pockethive.swarmcontroller.runtime;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.pockethive.manager.runtime.ConfigFanoutMetrics;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer binding for {@link ConfigFanoutMetrics}.
+ * <p>
+ * {@code ph_swarm_config_apply_latency} is the time from publishing a config-update to the last worker
+ * acknowledgement, tagged by fan-out context (for example {@code scenario}, {@code enable}).
+ */
+public final class MicrometerConfigFanoutMetrics implements ConfigFanoutMetrics {
+
+  private final MeterRegistry meterRegistry;
+  private final String swarmId;
+
+  public MicrometerConfigFanoutMetrics(MeterRegistry meterRegistry, String swarmId) {
+    this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry");
+    this.swarmId = Objects.requireNonNull(swarmId, "swarmId");
+  }
+
+  @Override
+  public void applied(String context, int instances, long latencyNanos) {
+    Timer.builder("ph_swarm_config_apply_latency")
+        .description("Time from config-update publish to the last worker acknowledgement")
+        .tags("swarm", swarmId, "context", context)
+        .register(meterRegistry)
+        .record(latencyNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void retried(String context, int signals) {
+    Counter.builder("ph_swarm_config_retries_total")
+        .description("Instance-scoped config-update signals re-sent to unacknowledged workers")
+        .tags("swarm", swarmId, "context", context)
+        .register(meterRegistry)
+        .increment(signals);
+  }
+
+  @Override
+  public void abandoned(String context, int instances) {
+    Counter.builder("ph_swarm_config_unacknowledged_total")
+        .description("Workers that never acknowledged a config-update after all retries")
+        .tags("swarm", swarmId, "context", context)
+        .register(meterRegistry)
+        .increment(instances);
+  }
+}
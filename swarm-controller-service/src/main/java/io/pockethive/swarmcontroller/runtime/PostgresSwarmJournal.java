@@ -1,13 +1,18 @@
 package io.pockethive.swarmcontroller.runtime;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.pockethive.control.ControlScope;
 import io.pockethive.journal.postgres.BufferedPostgresJournalWriter;
+import io.pockethive.journal.postgres.MicrometerPostgresJournalWriterMetrics;
 import io.pockethive.journal.postgres.PostgresJournalBackpressureEvents;
+import io.pockethive.journal.postgres.PostgresJournalIngestMode;
 import io.pockethive.journal.postgres.PostgresJournalRecord;
+import jakarta.annotation.PreDestroy;
 import java.time.Instant;
 import java.util.Map;
 import java.util.Objects;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -28,12 +33,29 @@ public class PostgresSwarmJournal implements SwarmJournal {
   private static final int DEFAULT_BATCH_SIZE = 1_000;
   private static final long DEFAULT_DB_FAILURE_BACKOFF_MILLIS = 30_000;
   private static final long DEFAULT_DROP_QUIET_PERIOD_MILLIS = 1_000;
+  private static final String DEFAULT_INGEST_MODE = "insert";
+  private static final String DEFAULT_FLUSH_MODE = "scheduled";
+  private static final int DEFAULT_FLUSH_THRESHOLD = 500;
+  private static final long DEFAULT_MAX_LINGER_MILLIS = 200;
 
   private final ObjectMapper mapper;
   private final String swarmId;
   private final String runId;
   private final BufferedPostgresJournalWriter<SwarmJournalEntry> writer;
 
+  PostgresSwarmJournal(ObjectMapper mapper,
+                       JdbcTemplate jdbc,
+                       String swarmId,
+                       String runId,
+                       int capacity,
+                       int batchSize,
+                       long dbFailureBackoffMillis,
+                       long dropQuietPeriodMillis) {
+    this(mapper, jdbc, swarmId, runId, capacity, batchSize, dbFailureBackoffMillis, dropQuietPeriodMillis,
+        DEFAULT_INGEST_MODE, DEFAULT_FLUSH_MODE, DEFAULT_FLUSH_THRESHOLD, DEFAULT_MAX_LINGER_MILLIS, null);
+  }
+
+  @Autowired
   public PostgresSwarmJournal(ObjectMapper mapper,
                               JdbcTemplate jdbc,
                               @Value("${pockethive.control-plane.swarm-id}") String swarmId,
@@ -45,11 +67,21 @@ public class PostgresSwarmJournal implements SwarmJournal {
                               @Value("${pockethive.journal.postgres.db-failure-backoff-ms:" + DEFAULT_DB_FAILURE_BACKOFF_MILLIS + "}")
                               long dbFailureBackoffMillis,
                               @Value("${pockethive.journal.postgres.drop-quiet-period-ms:" + DEFAULT_DROP_QUIET_PERIOD_MILLIS + "}")
-                              long dropQuietPeriodMillis) {
+                              long dropQuietPeriodMillis,
+                              @Value("${pockethive.journal.postgres.ingest-mode:" + DEFAULT_INGEST_MODE + "}")
+                              String ingestMode,
+                              @Value("${pockethive.journal.postgres.flush-mode:" + DEFAULT_FLUSH_MODE + "}")
+                              String flushMode,
+                              @Value("${pockethive.journal.postgres.flush-threshold:" + DEFAULT_FLUSH_THRESHOLD + "}")
+                              int flushThreshold,
+                              @Value("${pockethive.journal.postgres.max-linger-ms:" + DEFAULT_MAX_LINGER_MILLIS + "}")
+                              long maxLingerMillis,
+                              MeterRegistry meterRegistry) {
     this.mapper = Objects.requireNonNull(mapper, "mapper").findAndRegisterModules();
     Objects.requireNonNull(jdbc, "jdbc");
     this.swarmId = requireNonBlank(swarmId, "swarmId");
     this.runId = requireNonBlank(runId, "runId");
+    PostgresJournalIngestMode mode = PostgresJournalIngestMode.from(ingestMode);
     this.writer = new BufferedPostgresJournalWriter<>(
         "Swarm journal",
         Objects.requireNonNull(jdbc.getDataSource(), "dataSource"),
@@ -59,7 +91,16 @@ public class PostgresSwarmJournal implements SwarmJournal {
         dropQuietPeriodMillis,
         SwarmJournalEntry::severity,
         this::toRecord,
-        new SwarmBackpressureEvents());
+        new SwarmBackpressureEvents(),
+        mode,
+        flushThreshold,
+        maxLingerMillis,
+        meterRegistry != null
+            ? new MicrometerPostgresJournalWriterMetrics(meterRegistry, "swarm", mode)
+            : null);
+    if ("adaptive".equalsIgnoreCase(flushMode != null ? flushMode.trim() : null)) {
+      writer.start();
+    }
   }
 
   @Override
@@ -69,9 +110,18 @@ public class PostgresSwarmJournal implements SwarmJournal {
 
   @Scheduled(fixedDelay = 200L)
   public void flush() {
+    if (writer.isRunning()) {
+      // Adaptive flush mode: the writer's own flusher wakes on buffer threshold / max linger.
+      return;
+    }
     writer.flush();
   }
 
+  @PreDestroy
+  public void close() {
+    writer.close();
+  }
+
   private static String requireNonBlank(String value, String name) {
     if (value == null || value.trim().isEmpty()) {
       throw new IllegalArgumentException(name + " must not be blank");
@@ -0,0 +1,101 @@
+package io.pockethive.swarmcontroller.runtime;
+
+import io.pockethive.manager.ports.QueueStatsPort;
+import io.pockethive.manager.runtime.QueueRates;
+import io.pockethive.manager.runtime.QueueStats;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * {@link QueueStatsPort} that reports a sharded work queue under its logical name.
+ * <p>
+ * Guards, autoscalers and metrics address queues by their logical name; when that queue is
+ * backed by several shards this adapter reads all of them in one batch and folds them into a
+ * single {@link QueueStats}: depths and rates are summed, while consumers and the oldest message
+ * age are the maximum across shards (every worker consumes from all shards, so summing consumers
+ * would count each one once per shard). Like an unsharded queue, which passes straight through,
+ * a sharded queue with no readable shard reports no stats.
+ */
+public final class ShardAwareQueueStatsPort implements QueueStatsPort {
+
+  private final QueueStatsPort delegate;
+  private final Function<String, List<String>> physicalQueues;
+
+  public ShardAwareQueueStatsPort(QueueStatsPort delegate, Function<String, List<String>> physicalQueues) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+    this.physicalQueues = Objects.requireNonNull(physicalQueues, "physicalQueues");
+  }
+
+  @Override
+  public QueueStats getQueueStats(String queueName) {
+    return getQueueStats(List.of(queueName)).get(queueName);
+  }
+
+  @Override
+  public Map<String, QueueStats> getQueueStats(Collection<String> queueNames) {
+    Map<String, List<String>> shardsByQueue = new LinkedHashMap<>();
+    Set<String> physical = new LinkedHashSet<>();
+    for (String queueName : queueNames) {
+      List<String> shards = physicalQueues.apply(queueName);
+      shardsByQueue.put(queueName, shards);
+      physical.addAll(shards);
+    }
+    Map<String, QueueStats> fetched = delegate.getQueueStats(physical);
+    Map<String, QueueStats> result = new LinkedHashMap<>();
+    for (Map.Entry<String, List<String>> entry : shardsByQueue.entrySet()) {
+      List<String> shards = entry.getValue();
+      if (shards.size() == 1) {
+        result.put(entry.getKey(), fetched.get(shards.getFirst()));
+        continue;
+      }
+      List<QueueStats> shardStats = new ArrayList<>(shards.size());
+      for (String shard : shards) {
+        QueueStats stats = fetched.get(shard);
+        if (stats != null) {
+          shardStats.add(stats);
+        }
+      }
+      result.put(entry.getKey(), aggregate(shardStats));
+    }
+    return result;
+  }
+
+  static QueueStats aggregate(List<QueueStats> shards) {
+    if (shards.isEmpty()) {
+      return null;
+    }
+    long depth = 0L;
+    int consumers = 0;
+    OptionalLong oldest = OptionalLong.empty();
+    double publish = 0.0;
+    double deliver = 0.0;
+    double ack = 0.0;
+    boolean hasRates = false;
+    for (QueueStats shard : shards) {
+      depth += shard.depth();
+      consumers = Math.max(consumers, shard.consumers());
+      if (shard.oldestAgeSeconds().isPresent()
+          && (oldest.isEmpty() || shard.oldestAgeSeconds().getAsLong() > oldest.getAsLong())) {
+        oldest = shard.oldestAgeSeconds();
+      }
+      if (shard.rates().isPresent()) {
+        QueueRates rates = shard.rates().get();
+        publish += rates.publishPerSec();
+        deliver += rates.deliverPerSec();
+        ack += rates.ackPerSec();
+        hasRates = true;
+      }
+    }
+    Optional<QueueRates> rates = hasRates ? Optional.of(new QueueRates(publish, deliver, ack)) : Optional.empty();
+    return new QueueStats(depth, consumers, oldest, rates);
+  }
+}
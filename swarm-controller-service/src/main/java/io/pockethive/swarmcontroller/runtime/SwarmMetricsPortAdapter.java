@@ -21,6 +21,7 @@ public final class SwarmMetricsPortAdapter implements MetricsPort {
     io.pockethive.swarmcontroller.QueueStats controllerStats =
         new io.pockethive.swarmcontroller.QueueStats(stats.depth(), stats.consumers(), stats.oldestAgeSeconds());
     queueMetrics.update(queueName, controllerStats);
+    stats.rates().ifPresent(rates -> queueMetrics.updateRates(queueName, rates));
   }
 }
 
@@ -2,6 +2,7 @@ package io.pockethive.swarmcontroller.runtime;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.pockethive.control.ConfirmationScope;
 import io.pockethive.control.ControlScope;
@@ -12,9 +13,12 @@ import io.pockethive.controlplane.routing.ControlPlaneRouting;
 import io.pockethive.docker.DockerContainerClient;
 import io.pockethive.manager.ports.Clock;
 import io.pockethive.manager.ports.ComputeAdapter;
+import io.pockethive.manager.ports.QueueStatsPort;
 import io.pockethive.manager.runtime.ManagerLifecycle;
 import io.pockethive.manager.runtime.ManagerRuntimeCore;
 import io.pockethive.manager.runtime.ManagerStatus;
+import io.pockethive.manager.runtime.WorkerProvisioningException;
+import io.pockethive.manager.runtime.WorkerProvisioningReport;
 import io.pockethive.manager.scenario.ManagerRuntimeView;
 import io.pockethive.manager.scenario.ScenarioContext;
 import io.pockethive.manager.scenario.ScenarioEngine;
@@ -27,6 +31,7 @@ import io.pockethive.swarm.model.TopologyEndpoint;
 import io.pockethive.swarm.model.TopologySelector;
 import io.pockethive.swarm.model.TrafficPolicy;
 import io.pockethive.swarm.model.Work;
+import io.pockethive.swarm.model.WorkQueuePolicy;
 import io.pockethive.swarm.model.SutEnvironment;
 import io.pockethive.swarm.model.SutEndpoint;
 import io.pockethive.swarmcontroller.SwarmLifecycle;
@@ -108,9 +113,11 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
   private volatile SwarmRuntimeContext runtimeContext;
   private volatile SwarmRuntimeState runtimeState;
   private TrafficPolicy trafficPolicy;
+  private Map<String, WorkQueuePolicy> queuePolicies = Map.of();
   private SwarmStatus status = SwarmStatus.STOPPED;
   private boolean controllerEnabled = false;
   private String template;
+  private WarmUpPhase warmUp;
 
   public SwarmRuntimeCore(AmqpAdmin amqp,
                           ObjectMapper mapper,
@@ -127,6 +134,27 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
                           SwarmJournal journal,
                           String instanceId,
                           ClickHouseSinkProperties clickHouseSink) {
+    this(amqp, mapper, docker, rabbitProperties, properties, meterRegistry, controlPublisher, topology,
+        workloadProvisioner, computeAdapter, queueMetrics, configFanout, journal, instanceId, clickHouseSink,
+        new ShardAwareQueueStatsPort(new SwarmQueueStatsPortAdapter(amqp), topology::physicalQueueNames));
+  }
+
+  public SwarmRuntimeCore(AmqpAdmin amqp,
+                          ObjectMapper mapper,
+                          DockerContainerClient docker,
+                          RabbitProperties rabbitProperties,
+                          SwarmControllerProperties properties,
+                          MeterRegistry meterRegistry,
+                          ControlPlanePublisher controlPublisher,
+                          SwarmWorkTopologyManager topology,
+                          WorkloadProvisioner workloadProvisioner,
+                          ComputeAdapter computeAdapter,
+                          SwarmQueueMetrics queueMetrics,
+                          io.pockethive.manager.runtime.ConfigFanout configFanout,
+                          SwarmJournal journal,
+                          String instanceId,
+                          ClickHouseSinkProperties clickHouseSink,
+                          QueueStatsPort queueStats) {
     this.amqp = Objects.requireNonNull(amqp, "amqp");
     this.mapper = Objects.requireNonNull(mapper, "mapper");
     this.docker = Objects.requireNonNull(docker, "docker");
@@ -151,7 +179,7 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
         new SwarmWorkTopologyPortAdapter(topology),
         new DockerWorkloadPortAdapter(workloadProvisioner),
         new SwarmControlPlanePortAdapter(controlPublisher),
-        new SwarmQueueStatsPortAdapter(amqp),
+        Objects.requireNonNull(queueStats, "queueStats"),
         new SwarmMetricsPortAdapter(queueMetrics),
         Clock.system(),
         this.swarmId,
@@ -282,6 +310,72 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
     } else if (template == null) {
       template = planJson;
     }
+    if (!beginWarmUp()) {
+      setControllerEnabled(true);
+      setSwarmEnabled(true);
+    }
+  }
+
+  /**
+   * Asks SUT-facing bees to open their pooled connections before any work is enabled. The controller, its
+   * scenario timeline and the swarm-wide enable all wait until every targeted bee confirmed (or the warm-up
+   * timeout passed), so connection setup never lands in call latencies or tx outcomes and swarm-start is only
+   * confirmed afterwards.
+   *
+   * @return {@code false} when there is nothing to warm up and the swarm can be enabled right away
+   */
+  private synchronized boolean beginWarmUp() {
+    SwarmControllerProperties.WarmUp settings = properties.getWarmUp();
+    SwarmRuntimeState state = runtimeState;
+    if (!settings.enabled() || state == null) {
+      return false;
+    }
+    List<String> roles = settings.roles().stream()
+        .filter(state.containersByRole()::containsKey)
+        .toList();
+    if (roles.isEmpty()) {
+      return false;
+    }
+    ObjectNode data = mapper.createObjectNode();
+    data.putObject("warmup").put("connections", settings.connections());
+    List<String> correlationIds = new ArrayList<>(roles.size());
+    for (String target : roles) {
+      // Bees answer only after their connections are open; re-sending sooner would just queue behind it.
+      correlationIds.add(configFanout.publishConfigUpdate(
+          ControlScope.forRole(swarmId, target), data, "warm-up", settings.timeout().dividedBy(2)));
+    }
+    log.info("Warming up {} connection(s) per endpoint for roles {} in swarm {}",
+        settings.connections(), roles, swarmId);
+    status = SwarmStatus.STARTING;
+    warmUp = new WarmUpPhase(roles, correlationIds, System.nanoTime(), settings.timeout().toNanos());
+    completeWarmUpIfDone();
+    return true;
+  }
+
+  private synchronized void completeWarmUpIfDone() {
+    WarmUpPhase phase = warmUp;
+    if (phase == null) {
+      return;
+    }
+    boolean acknowledged = phase.correlationIds().stream().noneMatch(configFanout::isPending);
+    long elapsedNanos = System.nanoTime() - phase.startedNanos();
+    if (!acknowledged && elapsedNanos < phase.timeoutNanos()) {
+      return;
+    }
+    warmUp = null;
+    long durationMs = elapsedNanos / 1_000_000L;
+    if (acknowledged) {
+      log.info("Warm-up for swarm {} finished in {} ms", swarmId, durationMs);
+    } else {
+      log.warn("Warm-up for swarm {} timed out after {} ms; enabling anyway", swarmId, durationMs);
+    }
+    journal.append(localEntry(
+        "worker",
+        acknowledged ? "INFO" : "WARN",
+        acknowledged ? "warm-up-completed" : "warm-up-timed-out",
+        Map.of("roles", phase.roles(), "durationMs", durationMs),
+        mdcCorrelationId(),
+        mdcIdempotencyKey()));
     setControllerEnabled(true);
     setSwarmEnabled(true);
   }
@@ -294,6 +388,7 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
       this.template = templateJson;
       SwarmPlan plan = mapper.readValue(templateJson, SwarmPlan.class);
       this.trafficPolicy = plan.trafficPolicy();
+      this.queuePolicies = queuePoliciesByAlias(plan.trafficPolicy());
       TopicExchange workExchange = topology.declareWorkExchange();
 
       readinessTracker.reset();
@@ -303,7 +398,9 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
       Set<String> suffixes = new LinkedHashSet<>();
       List<Bee> runnableBees = new ArrayList<>();
       for (Bee bee : bees) {
-        readinessTracker.registerExpected(bee.role());
+        for (int i = 0; i < bee.initialReplicas(); i++) {
+          readinessTracker.registerExpected(bee.role());
+        }
         Work work = bee.work();
         if (work != null) {
           addQueueSuffixes(suffixes, work.in());
@@ -313,7 +410,7 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
           runnableBees.add(bee);
         }
       }
-      topology.declareWorkQueues(workExchange, suffixes, declaredQueues);
+      topology.declareWorkQueues(workExchange, suffixes, declaredQueues, queuePolicies);
 
       runtimeContext = new SwarmRuntimeContext(plan, startOrder, suffixes);
       runtimeState = new SwarmRuntimeState(runtimeContext);
@@ -324,47 +421,15 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
       for (Bee bee : runnableBees) {
         String beeName = BeeNameGenerator.generate(bee.role(), swarmId);
         roles.add(bee.role());
-        Map<String, String> env = new LinkedHashMap<>(
-            ControlPlaneContainerEnvironmentFactory.workerEnvironment(beeName, bee.role(), workerSettings, rabbitProperties));
-        String runId = envValue("POCKETHIVE_JOURNAL_RUN_ID");
-        if (hasText(runId)) {
-          env.put("POCKETHIVE_JOURNAL_RUN_ID", runId);
-        }
-        String templateId = requireEnvValue("POCKETHIVE_TEMPLATE_ID");
-        env.put("POCKETHIVE_TEMPLATE_ID", templateId);
-        if (bee.image() != null && !bee.image().isBlank()) {
-          env.put("POCKETHIVE_RUNTIME_IMAGE", bee.image());
-        }
-        String stackName = runtimeStackName();
-        if (hasText(stackName)) {
-          env.put("POCKETHIVE_RUNTIME_STACK_NAME", stackName);
-        }
-        applyWorkIoEnvironment(bee, env);
-        applyClickHouseSinkEnvironment(env);
-        String net = docker.resolveControlNetwork();
-        if (hasText(net)) {
-          env.put("CONTROL_NETWORK", net);
-        }
-        if (bee.env() != null) {
-          env.putAll(bee.env());
-        }
-        Map<String, Object> effectiveConfig = enrichConfigWithSut(bee.config(), sutEnv);
-        List<String> volumes = resolveVolumes(effectiveConfig);
-        if (hasText(scenariosRuntimeRootSource)) {
-          java.util.List<String> merged = new java.util.ArrayList<>(volumes.size() + 1);
-          merged.add(scenariosRuntimeRootSource + ":" + SCENARIOS_RUNTIME_DESTINATION);
-          merged.addAll(volumes);
-          volumes = java.util.List.copyOf(merged);
-        }
-        workerSpecs.add(new io.pockethive.manager.runtime.WorkerSpec(
-            beeName,
-            bee.role(),
-            bee.image(),
-            Map.copyOf(env),
-            volumes));
-        runtimeState.registerWorker(bee.role(), beeName, beeName);
-        if (effectiveConfig != null && !effectiveConfig.isEmpty()) {
-          configFanout.registerBootstrapConfig(beeName, bee.role(), effectiveConfig);
+        int replicas = bee.initialReplicas();
+        for (int index = 0; index < replicas; index++) {
+          String instance = replicaName(beeName, index);
+          workerSpecs.add(replicaSpec(bee, instance, sutEnv, false));
+          if (index == 0) {
+            runtimeState.registerWorker(bee.role(), instance, instance);
+          } else {
+            runtimeState.registerReplica(bee.role(), instance, instance);
+          }
         }
       }
       journal.append(localEntry(
@@ -374,12 +439,16 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
           Map.of("workers", workerSpecs.size(), "roles", List.copyOf(roles)),
           mdcCorrelationId(),
           mdcIdempotencyKey()));
-      computeAdapter.applyWorkers(swarmId, workerSpecs);
+      WorkerProvisioningReport provisioning = computeAdapter.provisionWorkers(swarmId, workerSpecs);
       journal.append(localEntry(
           "worker",
           "INFO",
           "workers-provisioned",
-          Map.of("workers", workerSpecs.size()),
+          Map.of(
+              "workers", workerSpecs.size(),
+              "provisioned", provisioning.provisioned(),
+              "durationMs", provisioning.totalMillis(),
+              "phasesMs", provisioning.phaseMillis()),
           mdcCorrelationId(),
           mdcIdempotencyKey()));
       status = SwarmStatus.READY;
@@ -395,6 +464,161 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
     }
   }
 
+  /**
+   * Start or stop replicas of a prepared bee until {@code replicas} instances are running.
+   * <p>
+   * The first instance keeps the generated bee name and replica {@code n} is named
+   * {@code <bee name>-<n>}. New replicas take the lowest free index and scale-down removes
+   * the highest indices first, so instance ids seen by readiness tracking and the control
+   * plane stay stable across scaling. The first instance is never removed.
+   *
+   * @return number of instances running for the role afterwards
+   */
+  public synchronized int scaleRole(String role, int replicas) {
+    SwarmRuntimeState state = runtimeState;
+    if (state == null || !hasText(role)) {
+      return 0;
+    }
+    List<String> instances = state.instancesByRole().get(role);
+    Bee bee = beesByRole(state.plan().bees()).get(role);
+    if (instances == null || instances.isEmpty() || bee == null) {
+      log.warn("Cannot scale role {} in swarm {}: no running workers", role, swarmId);
+      return instances == null ? 0 : instances.size();
+    }
+    int current = instances.size();
+    int target = Math.max(1, replicas);
+    if (target == current) {
+      return current;
+    }
+    String baseName = instances.getFirst();
+    WorkerProvisioningReport provisioning = WorkerProvisioningReport.empty();
+    if (target > current) {
+      Set<String> taken = new HashSet<>(instances);
+      List<io.pockethive.manager.runtime.WorkerSpec> added = new ArrayList<>(target - current);
+      boolean enabled = status == SwarmStatus.RUNNING;
+      for (int index = 1; current + added.size() < target; index++) {
+        String instance = replicaName(baseName, index);
+        if (!taken.contains(instance)) {
+          added.add(replicaSpec(bee, instance, state.context().sutEnvironment(), enabled));
+        }
+      }
+      try {
+        provisioning = computeAdapter.provisionWorkers(swarmId, added);
+      } catch (WorkerProvisioningException ex) {
+        // Replicas that did start are running; track them so scale-down and teardown still reach them.
+        for (io.pockethive.manager.runtime.WorkerSpec spec : added) {
+          if (ex.provisioned().contains(spec.id())) {
+            state.registerReplica(role, spec.id(), spec.id());
+            readinessTracker.registerExpected(role);
+          }
+        }
+        log.warn("Scaling role {} in swarm {} started {} of {} new replicas: {}",
+            role, swarmId, ex.provisioned().size(), added.size(), ex.getMessage());
+        throw ex;
+      }
+      for (io.pockethive.manager.runtime.WorkerSpec spec : added) {
+        state.registerReplica(role, spec.id(), spec.id());
+        readinessTracker.registerExpected(role);
+      }
+    } else {
+      List<String> victims = new ArrayList<>(instances.subList(1, instances.size()));
+      victims.sort(java.util.Comparator.comparingInt((String name) -> replicaIndex(baseName, name)).reversed());
+      for (String instance : victims.subList(0, current - target)) {
+        computeAdapter.removeWorker(swarmId, instance);
+        state.unregisterReplica(instance);
+        readinessTracker.forget(role, instance);
+        configFanout.forget(instance);
+        String controlQueue = properties.controlQueueName(role, instance);
+        try {
+          amqp.deleteQueue(controlQueue);
+        } catch (Exception ex) {
+          log.warn("Failed to delete control queue {}: {}", controlQueue, ex.getMessage());
+        }
+      }
+    }
+    int running = state.instancesByRole().get(role).size();
+    log.info("Scaled role {} in swarm {} from {} to {} replicas", role, swarmId, current, running);
+    journal.append(localEntry(
+        "worker",
+        "INFO",
+        "workers-scaled",
+        Map.of("role", role, "from", current, "to", running, "phasesMs", provisioning.phaseMillis()),
+        mdcCorrelationId(),
+        mdcIdempotencyKey()));
+    return running;
+  }
+
+  private io.pockethive.manager.runtime.WorkerSpec replicaSpec(Bee bee,
+                                                               String beeName,
+                                                               SutEnvironment sutEnv,
+                                                               boolean enabled) {
+    Map<String, String> env = new LinkedHashMap<>(
+        ControlPlaneContainerEnvironmentFactory.workerEnvironment(beeName, bee.role(), workerSettings, rabbitProperties));
+    String runId = envValue("POCKETHIVE_JOURNAL_RUN_ID");
+    if (hasText(runId)) {
+      env.put("POCKETHIVE_JOURNAL_RUN_ID", runId);
+    }
+    String templateId = requireEnvValue("POCKETHIVE_TEMPLATE_ID");
+    env.put("POCKETHIVE_TEMPLATE_ID", templateId);
+    if (bee.image() != null && !bee.image().isBlank()) {
+      env.put("POCKETHIVE_RUNTIME_IMAGE", bee.image());
+    }
+    String stackName = runtimeStackName();
+    if (hasText(stackName)) {
+      env.put("POCKETHIVE_RUNTIME_STACK_NAME", stackName);
+    }
+    applyWorkIoEnvironment(bee, env);
+    applyClickHouseSinkEnvironment(env);
+    String net = docker.resolveControlNetwork();
+    if (hasText(net)) {
+      env.put("CONTROL_NETWORK", net);
+    }
+    if (bee.env() != null) {
+      env.putAll(bee.env());
+    }
+    Map<String, Object> effectiveConfig = enrichConfigWithSut(bee.config(), sutEnv);
+    List<String> volumes = resolveVolumes(effectiveConfig);
+    if (hasText(scenariosRuntimeRootSource)) {
+      java.util.List<String> merged = new java.util.ArrayList<>(volumes.size() + 1);
+      // Only this swarm's runtime directory, read-only: its files are hard links shared with the bundle store
+      // and with other swarms started from the same bundle, so a bee must never write into them.
+      merged.add(scenariosRuntimeRootSource + "/" + swarmId + ":" + SCENARIOS_RUNTIME_DESTINATION + "/" + swarmId + ":ro");
+      merged.addAll(volumes);
+      volumes = java.util.List.copyOf(merged);
+    }
+    if (enabled) {
+      // Replicas added while the swarm runs missed the swarm-wide enable.
+      Map<String, Object> withEnabled = new LinkedHashMap<>(effectiveConfig);
+      withEnabled.put("enabled", true);
+      effectiveConfig = withEnabled;
+    }
+    configFanout.registerInstance(bee.role(), beeName);
+    if (effectiveConfig != null && !effectiveConfig.isEmpty()) {
+      configFanout.registerBootstrapConfig(beeName, bee.role(), effectiveConfig);
+    }
+    return new io.pockethive.manager.runtime.WorkerSpec(
+        beeName,
+        bee.role(),
+        bee.image(),
+        Map.copyOf(env),
+        volumes);
+  }
+
+  private static String replicaName(String baseName, int index) {
+    return index == 0 ? baseName : baseName + "-" + index;
+  }
+
+  private static int replicaIndex(String baseName, String instance) {
+    if (instance.equals(baseName)) {
+      return 0;
+    }
+    try {
+      return Integer.parseInt(instance.substring(baseName.length() + 1));
+    } catch (RuntimeException ex) {
+      return 0;
+    }
+  }
+
   public void applyScenarioPlan(String planJson) {
     if (planJson == null || planJson.isBlank()) {
       log.info("Clearing scenario plan for swarm {}", swarmId);
@@ -468,6 +692,7 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
   public void remove() {
     log.info("Removing swarm {}", swarmId);
     managerCore.remove();
+    timelineScenario.suspend();
     setSwarmEnabled(false);
     trafficPolicy = null;
     SwarmRuntimeContext ctx = runtimeContext;
@@ -476,7 +701,15 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
     java.util.Collections.reverse(order);
     if (state != null) {
       // Containers are managed via ComputeAdapter; delegate teardown there.
+      long teardownStarted = System.nanoTime();
       computeAdapter.removeWorkers(swarmId);
+      journal.append(localEntry(
+          "worker",
+          "INFO",
+          "workers-removed",
+          Map.of("durationMs", (System.nanoTime() - teardownStarted) / 1_000_000L),
+          mdcCorrelationId(),
+          mdcIdempotencyKey()));
 
       Map<String, List<String>> instancesByRole = state.instancesByRole();
       for (Map.Entry<String, List<String>> entry : instancesByRole.entrySet()) {
@@ -516,6 +749,8 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
   public void updateHeartbeat(String role, String instance, long timestamp) {
     readinessTracker.recordHeartbeat(role, instance, timestamp);
     configFanout.publishBootstrapConfigIfNecessary(instance, false);
+    configFanout.retryUnacknowledged();
+    completeWarmUpIfDone();
     managerCore.updateHeartbeat(role, instance);
     // Scenario plans, guards and other manager-side helpers must not run while
     // the controller is disabled. Only tick the scenario engine once the
@@ -592,7 +827,7 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
 
     List<Bee> bees = plan.bees() == null ? List.of() : plan.bees();
     Map<String, Bee> beesByRole = beesByRole(bees);
-    Map<String, String> instanceByRole = mapInstancesByRole(beesByRole.keySet(), runtimeState);
+    Map<String, List<String>> instanceByRole = mapInstancesByRole(beesByRole.keySet(), runtimeState);
 
     for (TopologyEdge edge : topologyPlan.edges()) {
       if (edge == null) {
@@ -648,6 +883,12 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
     return message;
   }
 
+  @Override
+  public void acknowledgeConfigUpdate(String role, String instance, String correlationId) {
+    configFanout.acknowledgeConfigUpdate(instance, correlationId);
+    completeWarmUpIfDone();
+  }
+
   @Override
   public synchronized void fail(String reason) {
     log.warn("Marking swarm {} failed: {}", swarmId, reason);
@@ -656,7 +897,11 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
 
   @Override
   public boolean hasPendingConfigUpdates() {
-    return configFanout.hasPendingAcks();
+    // Polled by the status loop while swarm-start waits for confirmation, which also bounds a silent warm-up.
+    completeWarmUpIfDone();
+    synchronized (this) {
+      return configFanout.hasPendingAcks() || warmUp != null;
+    }
   }
 
   @Override
@@ -675,6 +920,7 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
     if (enabledFlag) {
       enableAll();
     } else {
+      warmUp = null;
       disableAll();
       status = SwarmStatus.STOPPED;
     }
@@ -687,6 +933,10 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
     }
     this.controllerEnabled = enabled;
     managerCore.setManagerEnabled(enabled);
+    if (!enabled) {
+      // The timeline fires steps from its own timer; park it until ticks resume.
+      timelineScenario.suspend();
+    }
     log.info("Swarm controller {} for swarm {} (role {})", enabled ? "enabled" : "disabled", swarmId, role);
   }
 
@@ -698,6 +948,10 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
     configFanout.publishConfigUpdate(data, "disable");
   }
 
+  public void requestStatusFull(String role, String instance, String reason) {
+    requestStatus(role, instance, reason);
+  }
+
   private void requestStatus(String role, String instance, String reason) {
     String rk = ControlPlaneRouting.signal(ControlPlaneSignals.STATUS_REQUEST, swarmId, role, instance);
     String correlationId = mdcCorrelationId();
@@ -743,7 +997,7 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
     return mapping.isEmpty() ? Map.of() : Map.copyOf(mapping);
   }
 
-  private Map<String, String> mapInstancesByRole(Set<String> roles, SwarmRuntimeState state) {
+  private Map<String, List<String>> mapInstancesByRole(Set<String> roles, SwarmRuntimeState state) {
     if (roles == null || roles.isEmpty() || state == null) {
       return Map.of();
     }
@@ -751,7 +1005,7 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
     if (instancesByRole.isEmpty()) {
       return Map.of();
     }
-    Map<String, String> mapping = new HashMap<>();
+    Map<String, List<String>> mapping = new HashMap<>();
     for (String role : roles) {
       if (!hasText(role)) {
         continue;
@@ -760,17 +1014,14 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
       if (instances == null || instances.isEmpty()) {
         continue;
       }
-      if (instances.size() > 1) {
-        throw new IllegalStateException("duplicate runtime worker role: " + role);
-      }
-      mapping.put(role, instances.getFirst());
+      mapping.put(role, instances);
     }
     return mapping.isEmpty() ? Map.of() : Map.copyOf(mapping);
   }
 
   private Map<String, Object> bindingEndpointPayload(TopologyEndpoint endpoint,
                                                      Bee bee,
-                                                     Map<String, String> instanceByRole,
+                                                     Map<String, List<String>> instanceByRole,
                                                      boolean isFrom) {
     Map<String, Object> payload = new LinkedHashMap<>();
     if (endpoint == null || bee == null) {
@@ -778,7 +1029,13 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
     }
     maybePut(payload, "role", bee.role());
     if (instanceByRole != null && hasText(endpoint.role())) {
-      maybePut(payload, "instance", instanceByRole.get(endpoint.role()));
+      List<String> instances = instanceByRole.get(endpoint.role());
+      if (instances != null && !instances.isEmpty()) {
+        maybePut(payload, "instance", instances.getFirst());
+        if (instances.size() > 1) {
+          payload.put("instances", instances);
+        }
+      }
     }
     maybePut(payload, "port", endpoint.port());
     Work work = bee.work();
@@ -803,6 +1060,19 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
     }
   }
 
+  private static Map<String, WorkQueuePolicy> queuePoliciesByAlias(TrafficPolicy policy) {
+    if (policy == null || policy.queues().isEmpty()) {
+      return Map.of();
+    }
+    Map<String, WorkQueuePolicy> byAlias = new LinkedHashMap<>();
+    for (WorkQueuePolicy queue : policy.queues()) {
+      if (queue != null) {
+        byAlias.put(queue.queueAlias(), queue);
+      }
+    }
+    return Map.copyOf(byAlias);
+  }
+
   private void applyWorkIoEnvironment(Bee bee, Map<String, String> env) {
     Work work = bee.work();
     if (work != null) {
@@ -811,12 +1081,25 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
       boolean hasInput = hasText(inputQueue);
       boolean hasOutput = hasText(outputQueue);
       if (hasInput) {
-        env.put("POCKETHIVE_INPUT_RABBIT_QUEUE", properties.queueName(inputQueue));
+        String logicalQueue = properties.queueName(inputQueue);
+        env.put("POCKETHIVE_INPUT_RABBIT_QUEUE", logicalQueue);
+        // Sharded queues are consumed across all shards; status keeps reporting the logical name.
+        List<String> shards = topology.physicalQueueNames(logicalQueue);
+        if (!shards.equals(List.of(logicalQueue))) {
+          env.put("POCKETHIVE_INPUTS_RABBIT_SHARDS", String.join(",", shards));
+        }
       } else if (!work.in().isEmpty()) {
         log.warn("Bee {} declares input ports without a default; skipping input queue wiring", bee.role());
       }
       if (hasOutput) {
         env.put("POCKETHIVE_OUTPUT_RABBIT_ROUTING_KEY", properties.queueName(outputQueue));
+        WorkQueuePolicy outputPolicy = queuePolicies.get(outputQueue);
+        if (outputPolicy != null && outputPolicy.sharded()) {
+          env.put("POCKETHIVE_OUTPUTS_RABBIT_SHARDED", "true");
+          if (outputPolicy.shardKeyHeader() != null) {
+            env.put("POCKETHIVE_OUTPUTS_RABBIT_SHARDKEYHEADER", outputPolicy.shardKeyHeader());
+          }
+        }
       } else if (!work.out().isEmpty()) {
         log.warn("Bee {} declares output ports without a default; skipping output queue wiring", bee.role());
       }
@@ -1145,6 +1428,9 @@ public final class SwarmRuntimeCore implements SwarmLifecycle {
     return value != null && !value.isBlank() ? value : null;
   }
 
+  private record WarmUpPhase(List<String> roles, List<String> correlationIds, long startedNanos, long timeoutNanos) {
+  }
+
   private final class JournalTimelineScenarioObserver implements TimelineScenarioObserver {
 
     @Override
@@ -11,7 +11,8 @@ import java.util.Objects;
 /**
  * Aggregates the immutable {@link SwarmRuntimeContext} with mutable, plan-derived
  * runtime state such as container ids. This class is the single source of truth for
- * what has been materialised for a given swarm.
+ * what has been materialised for a given swarm. Replicas may be added and removed
+ * while the swarm runs, so access is synchronized.
  */
 public final class SwarmRuntimeState {
 
@@ -36,7 +37,7 @@ public final class SwarmRuntimeState {
     return context.startOrder();
   }
 
-  public void registerWorker(String role, String instanceId, String containerId) {
+  public synchronized void registerWorker(String role, String instanceId, String containerId) {
     String resolvedRole = normalize(role);
     String resolvedInstance = normalize(instanceId);
     String resolvedContainer = normalize(containerId);
@@ -55,10 +56,51 @@ public final class SwarmRuntimeState {
     workersByInstance.put(resolvedInstance, new WorkerTarget(resolvedRole, resolvedInstance, resolvedContainer));
   }
 
+  /**
+   * Register an additional instance of a role that already has its first worker
+   * registered through {@link #registerWorker(String, String, String)}.
+   */
+  public synchronized void registerReplica(String role, String instanceId, String containerId) {
+    String resolvedRole = normalize(role);
+    String resolvedInstance = normalize(instanceId);
+    String resolvedContainer = normalize(containerId);
+    if (resolvedRole == null || resolvedInstance == null || resolvedContainer == null) {
+      throw new IllegalArgumentException("role, instanceId, and containerId must not be blank");
+    }
+    if (workersByInstance.containsKey(resolvedInstance)) {
+      throw new IllegalArgumentException("duplicate runtime worker instance: " + resolvedInstance);
+    }
+    if (!instancesByRole.containsKey(resolvedRole)) {
+      throw new IllegalArgumentException("no runtime worker registered for role: " + resolvedRole);
+    }
+
+    containersByRole.get(resolvedRole).add(resolvedContainer);
+    instancesByRole.get(resolvedRole).add(resolvedInstance);
+    workersByInstance.put(resolvedInstance, new WorkerTarget(resolvedRole, resolvedInstance, resolvedContainer));
+  }
+
+  /**
+   * Forget a replica that has been scaled away. The first worker of a role is never removed.
+   */
+  public synchronized void unregisterReplica(String instanceId) {
+    String resolvedInstance = normalize(instanceId);
+    WorkerTarget target = resolvedInstance == null ? null : workersByInstance.get(resolvedInstance);
+    if (target == null) {
+      return;
+    }
+    List<String> instances = instancesByRole.get(target.role());
+    if (instances == null || instances.size() <= 1) {
+      throw new IllegalArgumentException("cannot remove the last runtime worker of role: " + target.role());
+    }
+    instances.remove(target.instanceId());
+    containersByRole.get(target.role()).remove(target.containerId());
+    workersByInstance.remove(resolvedInstance);
+  }
+
   /**
    * Containers grouped by role in arbitrary insertion order.
    */
-  public Map<String, List<String>> containersByRole() {
+  public synchronized Map<String, List<String>> containersByRole() {
     Map<String, List<String>> snapshot = new LinkedHashMap<>(containersByRole.size());
     containersByRole.forEach((role, ids) -> snapshot.put(role, List.copyOf(ids)));
     return Collections.unmodifiableMap(snapshot);
@@ -67,13 +109,13 @@ public final class SwarmRuntimeState {
   /**
    * Worker instance identifiers grouped by role in arbitrary insertion order.
    */
-  public Map<String, List<String>> instancesByRole() {
+  public synchronized Map<String, List<String>> instancesByRole() {
     Map<String, List<String>> snapshot = new LinkedHashMap<>(instancesByRole.size());
     instancesByRole.forEach((role, ids) -> snapshot.put(role, List.copyOf(ids)));
     return Collections.unmodifiableMap(snapshot);
   }
 
-  public Map<String, WorkerTarget> workersByInstance() {
+  public synchronized Map<String, WorkerTarget> workersByInstance() {
     return Collections.unmodifiableMap(new LinkedHashMap<>(workersByInstance));
   }
 
@@ -11,10 +11,16 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,8 +34,14 @@ import org.slf4j.LoggerFactory;
  *   <li>{@code config-update} – payload forwarded as-is</li>
  *   <li>{@code start} – sugar for {@code worker.enabled=true}</li>
  *   <li>{@code stop} – sugar for {@code worker.enabled=false}</li>
+ *   <li>{@code ramp} – one step expanded into interpolated config-updates of a single numeric
+ *   field (for example {@code inputs.scheduler.ratePerSec}) over its duration</li>
  * </ul>
- * Swarm-level steps are ignored for now.
+ * Offsets are precomputed into an absolute schedule when the plan is loaded. The manager tick anchors
+ * the timeline and keeps it alive, but steps are fired by a dedicated timer armed for the next due
+ * offset, so firing precision does not depend on the heartbeat interval. The tick still fires any
+ * overdue steps as a fallback. How late each step actually fired is reported as skew in
+ * {@link Progress}.
  */
 public final class TimelineScenario implements Scenario {
 
@@ -40,20 +52,51 @@ public final class TimelineScenario implements Scenario {
   private final TimelineScenarioObserver observer;
   private final AtomicReference<Schedule> scheduleRef = new AtomicReference<>();
   private final AtomicReference<Progress> progressRef = new AtomicReference<>();
+  private final AtomicReference<ScheduledFuture<?>> armedRef = new AtomicReference<>();
+  private final boolean timerEnabled;
+  private final boolean ownsTimer;
 
+  /**
+   * Swapped without taking the scenario monitor: {@link #suspend()} is called while the swarm runtime
+   * holds its own monitor, and a timer pass holds this one while a swarm step calls back into the runtime.
+   */
+  private final AtomicReference<ScheduledExecutorService> timerRef;
+  private volatile ScenarioContext activeContext;
   private volatile Instant startedAt;
+  private volatile long startedNanos;
   private volatile Integer runLimit;
   private volatile Integer runsRemaining;
   private volatile boolean completionReported;
+  private volatile Long lastSkewMillis;
+  private volatile Long maxSkewMillis;
 
   public TimelineScenario(String id, ObjectMapper mapper) {
     this(id, mapper, null);
   }
 
   public TimelineScenario(String id, ObjectMapper mapper, TimelineScenarioObserver observer) {
+    this(id, mapper, observer, null, true);
+  }
+
+  /**
+   * @param timer executor used to fire steps at their offsets, or {@code null} to fire steps
+   *              from {@link #onTick} only
+   */
+  TimelineScenario(String id, ObjectMapper mapper, TimelineScenarioObserver observer, ScheduledExecutorService timer) {
+    this(id, mapper, observer, timer, timer != null);
+  }
+
+  private TimelineScenario(String id,
+                           ObjectMapper mapper,
+                           TimelineScenarioObserver observer,
+                           ScheduledExecutorService timer,
+                           boolean timerEnabled) {
     this.id = Objects.requireNonNull(id, "id");
     this.mapper = Objects.requireNonNull(mapper, "mapper");
     this.observer = observer;
+    this.timerRef = new AtomicReference<>(timer);
+    this.timerEnabled = timerEnabled;
+    this.ownsTimer = timer == null;
   }
 
   @Override
@@ -67,6 +110,7 @@ public final class TimelineScenario implements Scenario {
   public void applyPlan(String planJson) {
     if (planJson == null || planJson.isBlank()) {
       log.info("Clearing scenario plan (empty payload)");
+      disarm();
       scheduleRef.set(null);
       progressRef.set(null);
       runsRemaining = null;
@@ -88,8 +132,10 @@ public final class TimelineScenario implements Scenario {
       if (observer != null) {
         observer.onPlanLoaded(schedule.beeSteps.size(), schedule.swarmSteps.size());
       }
+      arm();
     } catch (Exception ex) {
       log.warn("Failed to parse scenario plan JSON; clearing schedule", ex);
+      disarm();
       scheduleRef.set(null);
       progressRef.set(null);
       runsRemaining = null;
@@ -115,6 +161,7 @@ public final class TimelineScenario implements Scenario {
     if (observer != null) {
       observer.onPlanReset();
     }
+    arm();
   }
 
   /**
@@ -130,9 +177,21 @@ public final class TimelineScenario implements Scenario {
     Schedule schedule = scheduleRef.get();
     if (schedule != null) {
       resetSchedule(schedule, true);
+      arm();
     }
   }
 
+  /**
+   * Stop firing steps from the timer until the next {@link #onTick}. The timeline keeps its anchor,
+   * so steps that fell due in the meantime fire (late) once ticking resumes. A timer thread created
+   * by this scenario is shut down and only recreated when the timeline is armed again.
+   */
+  public void suspend() {
+    activeContext = null;
+    disarm();
+    releaseTimer();
+  }
+
   /**
    * Reset the current schedule to its initial state, clearing fired markers and
    * optionally resetting the remaining run counter.
@@ -147,15 +206,40 @@ public final class TimelineScenario implements Scenario {
     for (StepInstance s : schedule.swarmSteps) {
       s.fired = false;
     }
-    if (resetRuns && runLimit != null) {
-      runsRemaining = runLimit;
+    if (resetRuns) {
+      if (runLimit != null) {
+        runsRemaining = runLimit;
+      }
+      lastSkewMillis = null;
+      maxSkewMillis = null;
     }
     startedAt = null;
-    progressRef.set(Progress.initial(schedule, runLimit, runsRemaining));
+    progressRef.set(Progress.initial(schedule, runLimit, runsRemaining, lastSkewMillis, maxSkewMillis));
   }
 
   @Override
   public void onTick(ManagerRuntimeView view, ScenarioContext context) {
+    if (scheduleRef.get() == null) {
+      return;
+    }
+    activeContext = context;
+    fireDueSteps(context);
+  }
+
+  private void onTimer() {
+    ScenarioContext context = activeContext;
+    if (context == null) {
+      return;
+    }
+    try {
+      fireDueSteps(context);
+    } catch (RuntimeException ex) {
+      log.warn("Scenario timeline '{}' timer pass failed", id, ex);
+      arm();
+    }
+  }
+
+  private synchronized void fireDueSteps(ScenarioContext context) {
     Schedule schedule = scheduleRef.get();
     if (schedule == null) {
       return;
@@ -165,21 +249,23 @@ public final class TimelineScenario implements Scenario {
       // offsets are evaluated from "swarm controller is alive" without
       // depending on an explicit swarm-start signal.
       startedAt = Instant.now();
+      startedNanos = System.nanoTime();
       log.info("Starting scenario timeline '{}' at {}", id, startedAt);
       if (observer != null) {
         observer.onTimelineStarted(startedAt);
       }
     }
-    long elapsedMillis = Duration.between(startedAt, Instant.now()).toMillis();
+    long elapsedMillis = elapsedMillis();
     List<StepInstance> due = schedule.dueSteps(elapsedMillis);
     StepInstance lastExecuted = null;
     for (StepInstance step : due) {
-      if (observer != null) {
+      recordSkew(Math.max(0L, elapsedMillis() - step.dueMillis));
+      if (observer != null && step.isFirstPoint()) {
         observer.onStepStarted(step.stepId, step.name, step.dueMillis, step.type, step.role, step.instanceId, isSwarmLifecycleStep(step));
       }
       try {
         emitStep(step, context);
-        if (observer != null) {
+        if (observer != null && step.isLastPoint()) {
           observer.onStepCompleted(step.stepId, step.name, step.dueMillis, step.type, step.role, step.instanceId, isSwarmLifecycleStep(step));
         }
       } catch (Exception ex) {
@@ -190,18 +276,97 @@ public final class TimelineScenario implements Scenario {
       }
       // Update progress after each successfully emitted step.
       lastExecuted = step;
-      progressRef.set(Progress.update(schedule, step, elapsedMillis, runLimit, runsRemaining));
+      progressRef.set(Progress.update(schedule, step, elapsedMillis, runLimit, runsRemaining, lastSkewMillis, maxSkewMillis));
     }
     if (schedule.isComplete()) {
       handleCompletion(schedule, lastExecuted, elapsedMillis);
     }
+    arm();
+  }
+
+  private long elapsedMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+  }
+
+  private void recordSkew(long skewMillis) {
+    lastSkewMillis = skewMillis;
+    Long max = maxSkewMillis;
+    if (max == null || skewMillis > max) {
+      maxSkewMillis = skewMillis;
+    }
+  }
+
+  /**
+   * Arm the timer for the next pending step, replacing any previously armed deadline. A timeline
+   * that has not been anchored yet (new run or reset) is armed to start immediately.
+   */
+  private synchronized void arm() {
+    disarm();
+    Schedule schedule = scheduleRef.get();
+    if (!timerEnabled || activeContext == null || schedule == null) {
+      return;
+    }
+    StepInstance next = schedule.nextPending();
+    if (next == null) {
+      return;
+    }
+    long delayNanos = startedAt == null
+        ? 0L
+        : TimeUnit.MILLISECONDS.toNanos(next.dueMillis) - (System.nanoTime() - startedNanos);
+    try {
+      armedRef.set(timer().schedule(this::onTimer, Math.max(0L, delayNanos), TimeUnit.NANOSECONDS));
+    } catch (RejectedExecutionException ex) {
+      // suspend() released the timer while this pass was arming; the next tick re-arms.
+      return;
+    }
+    if (activeContext == null) {
+      // Suspended concurrently, possibly after timer() created a fresh executor.
+      disarm();
+      releaseTimer();
+    }
+  }
+
+  private void disarm() {
+    ScheduledFuture<?> armed = armedRef.getAndSet(null);
+    if (armed != null) {
+      armed.cancel(false);
+    }
+  }
+
+  private ScheduledExecutorService timer() {
+    ScheduledExecutorService current = timerRef.get();
+    while (current == null) {
+      ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+        Thread thread = new Thread(r, "scenario-timeline-" + id);
+        thread.setDaemon(true);
+        return thread;
+      });
+      executor.setRemoveOnCancelPolicy(true);
+      executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+      if (timerRef.compareAndSet(null, executor)) {
+        return executor;
+      }
+      executor.shutdown();
+      current = timerRef.get();
+    }
+    return current;
+  }
+
+  private void releaseTimer() {
+    if (!ownsTimer) {
+      return;
+    }
+    ScheduledExecutorService released = timerRef.getAndSet(null);
+    if (released != null) {
+      released.shutdown();
+    }
   }
 
   private void handleCompletion(Schedule schedule, StepInstance lastStep, long elapsedMillis) {
     Integer totalRuns = runLimit;
     Integer remaining = runsRemaining;
     if (runLimit == null) {
-      progressRef.set(Progress.update(schedule, lastStep, elapsedMillis, totalRuns, remaining));
+      progressRef.set(Progress.update(schedule, lastStep, elapsedMillis, totalRuns, remaining, lastSkewMillis, maxSkewMillis));
       if (!completionReported && observer != null) {
         completionReported = true;
         observer.onPlanCompleted(null, null);
@@ -209,7 +374,7 @@ public final class TimelineScenario implements Scenario {
       return;
     }
     if (completionReported) {
-      progressRef.set(Progress.update(schedule, lastStep, elapsedMillis, totalRuns, remaining));
+      progressRef.set(Progress.update(schedule, lastStep, elapsedMillis, totalRuns, remaining, lastSkewMillis, maxSkewMillis));
       return;
     }
     int effectiveRemaining = remaining != null ? remaining : runLimit;
@@ -222,7 +387,6 @@ public final class TimelineScenario implements Scenario {
         observer.onRunCompleted(runLimit, effectiveRemaining);
       }
       resetSchedule(schedule, false);
-      progressRef.set(Progress.initial(schedule, totalRuns, runsRemaining));
       return;
     }
     if (observer != null) {
@@ -231,7 +395,7 @@ public final class TimelineScenario implements Scenario {
     }
     completionReported = true;
     StepInstance last = lastStep != null ? lastStep : schedule.lastFired();
-    progressRef.set(Progress.update(schedule, last, elapsedMillis, totalRuns, runsRemaining));
+    progressRef.set(Progress.update(schedule, last, elapsedMillis, totalRuns, runsRemaining, lastSkewMillis, maxSkewMillis));
   }
 
   /**
@@ -243,14 +407,12 @@ public final class TimelineScenario implements Scenario {
       return null;
     }
     Instant started = this.startedAt;
-    long elapsedMillis = started != null
-        ? Duration.between(started, Instant.now()).toMillis()
-        : 0L;
+    long elapsedMillis = started != null ? elapsedMillis() : 0L;
     Progress current = progressRef.get();
     if (started == null && current == null) {
-      current = Progress.initial(schedule, runLimit, runsRemaining);
+      current = Progress.initial(schedule, runLimit, runsRemaining, lastSkewMillis, maxSkewMillis);
     }
-    return Progress.current(schedule, elapsedMillis, current, runLimit, runsRemaining);
+    return Progress.current(schedule, elapsedMillis, current, runLimit, runsRemaining, lastSkewMillis, maxSkewMillis);
   }
 
   private void emitStep(StepInstance step, ScenarioContext context) {
@@ -281,7 +443,7 @@ public final class TimelineScenario implements Scenario {
         // Bee-scoped disable.
         data.put("enabled", false);
       }
-      case "config-update", "" -> {
+      case "config-update", "ramp", "" -> {
         if (step.config != null && !step.config.isEmpty()) {
           ObjectNode cfgNode = mapper.valueToTree(step.config);
           data.setAll(cfgNode);
@@ -306,8 +468,13 @@ public final class TimelineScenario implements Scenario {
       targetScope = ControlScope.forSwarm(context.swarmId());
     }
 
-    log.info("Scenario step {} at {}ms -> role={} instance={} type={}",
-        step.stepId, step.dueMillis, step.role, step.instanceId, type);
+    if (step.isFirstPoint()) {
+      log.info("Scenario step {} at {}ms -> role={} instance={} type={}",
+          step.stepId, step.dueMillis, step.role, step.instanceId, type);
+    } else {
+      log.debug("Scenario step {} point {}/{} at {}ms -> {}",
+          step.stepId, step.point + 1, step.points, step.dueMillis, step.config);
+    }
     context.configFanout().publishConfigUpdate(targetScope, data, "scenario");
   }
 
@@ -350,10 +517,7 @@ public final class TimelineScenario implements Scenario {
             }
             @SuppressWarnings("unchecked")
             Map<String, Object> stepMap = (Map<String, Object>) stepRaw;
-            StepInstance inst = StepInstance.from(stepMap, instanceId, role);
-            if (inst != null) {
-              beeSteps.add(inst);
-            }
+            beeSteps.addAll(StepInstance.from(stepMap, instanceId, role));
           }
         }
       }
@@ -366,10 +530,7 @@ public final class TimelineScenario implements Scenario {
           }
           @SuppressWarnings("unchecked")
           Map<String, Object> stepMap = (Map<String, Object>) stepRaw;
-          StepInstance inst = StepInstance.from(stepMap, null, null);
-          if (inst != null) {
-            swarmSteps.add(inst);
-          }
+          swarmSteps.addAll(StepInstance.from(stepMap, null, null));
         }
       }
 
@@ -412,6 +573,27 @@ public final class TimelineScenario implements Scenario {
       return true;
     }
 
+    StepInstance nextPending() {
+      StepInstance candidate = null;
+      for (StepInstance s : beeSteps) {
+        if (s.fired) {
+          continue;
+        }
+        if (candidate == null || s.dueMillis < candidate.dueMillis) {
+          candidate = s;
+        }
+      }
+      for (StepInstance s : swarmSteps) {
+        if (s.fired) {
+          continue;
+        }
+        if (candidate == null || s.dueMillis < candidate.dueMillis) {
+          candidate = s;
+        }
+      }
+      return candidate;
+    }
+
     StepInstance lastFired() {
       StepInstance candidate = null;
       for (StepInstance s : beeSteps) {
@@ -444,6 +626,10 @@ public final class TimelineScenario implements Scenario {
 
   /**
    * Minimal progress view for status/diagnostics.
+   * <p>
+   * {@code lastSkewMillis}/{@code maxSkewMillis} report how late steps fired relative to their
+   * offset (the last step, and the worst since the plan was loaded or reset); {@code null} until a
+   * step has fired.
    */
   public static final class Progress {
     public final String lastStepId;
@@ -455,6 +641,8 @@ public final class TimelineScenario implements Scenario {
     public final Long nextDueMillis;
     public final Integer totalRuns;
     public final Integer runsRemaining;
+    public final Long lastSkewMillis;
+    public final Long maxSkewMillis;
 
     private Progress(String lastStepId,
                      String lastStepName,
@@ -464,7 +652,9 @@ public final class TimelineScenario implements Scenario {
                      String nextStepName,
                      Long nextDueMillis,
                      Integer totalRuns,
-                     Integer runsRemaining) {
+                     Integer runsRemaining,
+                     Long lastSkewMillis,
+                     Long maxSkewMillis) {
       this.lastStepId = lastStepId;
       this.lastStepName = lastStepName;
       this.firedStepIds = firedStepIds != null ? List.copyOf(firedStepIds) : List.of();
@@ -474,24 +664,34 @@ public final class TimelineScenario implements Scenario {
       this.nextDueMillis = nextDueMillis;
       this.totalRuns = totalRuns;
       this.runsRemaining = runsRemaining;
+      this.lastSkewMillis = lastSkewMillis;
+      this.maxSkewMillis = maxSkewMillis;
     }
 
-    static Progress initial(Schedule schedule, Integer totalRuns, Integer runsRemaining) {
-      StepInstance next = earliestPending(schedule);
+    static Progress initial(Schedule schedule,
+                            Integer totalRuns,
+                            Integer runsRemaining,
+                            Long lastSkewMillis,
+                            Long maxSkewMillis) {
+      StepInstance next = schedule.nextPending();
       return new Progress(null, null, List.of(), 0L,
           next != null ? next.stepId : null,
           next != null ? next.name : null,
           next != null ? next.dueMillis : null,
           totalRuns,
-          runsRemaining);
+          runsRemaining,
+          lastSkewMillis,
+          maxSkewMillis);
     }
 
     static Progress update(Schedule schedule,
                            StepInstance last,
                            long elapsedMillis,
                            Integer totalRuns,
-                           Integer runsRemaining) {
-      StepInstance next = earliestPending(schedule);
+                           Integer runsRemaining,
+                           Long lastSkewMillis,
+                           Long maxSkewMillis) {
+      StepInstance next = schedule.nextPending();
       return new Progress(
           last != null ? last.stepId : null,
           last != null ? last.name : null,
@@ -501,19 +701,23 @@ public final class TimelineScenario implements Scenario {
           next != null ? next.name : null,
           next != null ? next.dueMillis : null,
           totalRuns,
-          runsRemaining);
+          runsRemaining,
+          lastSkewMillis,
+          maxSkewMillis);
     }
 
     static Progress current(Schedule schedule,
                             long elapsedMillis,
                             Progress previous,
                             Integer totalRuns,
-                            Integer runsRemaining) {
+                            Integer runsRemaining,
+                            Long lastSkewMillis,
+                            Long maxSkewMillis) {
       if (previous != null && previous.elapsedMillis >= elapsedMillis) {
         return previous;
       }
-      StepInstance last = latestFired(schedule);
-      StepInstance next = earliestPending(schedule);
+      StepInstance last = schedule.lastFired();
+      StepInstance next = schedule.nextPending();
       return new Progress(
           last != null ? last.stepId : null,
           last != null ? last.name : null,
@@ -523,60 +727,21 @@ public final class TimelineScenario implements Scenario {
           next != null ? next.name : null,
           next != null ? next.dueMillis : null,
           totalRuns,
-          runsRemaining);
-    }
-
-    private static StepInstance earliestPending(Schedule schedule) {
-      StepInstance candidate = null;
-      for (StepInstance s : schedule.beeSteps) {
-        if (s.fired) {
-          continue;
-        }
-        if (candidate == null || s.dueMillis < candidate.dueMillis) {
-          candidate = s;
-        }
-      }
-      for (StepInstance s : schedule.swarmSteps) {
-        if (s.fired) {
-          continue;
-        }
-        if (candidate == null || s.dueMillis < candidate.dueMillis) {
-          candidate = s;
-        }
-      }
-      return candidate;
-    }
-
-    private static StepInstance latestFired(Schedule schedule) {
-      StepInstance candidate = null;
-      for (StepInstance s : schedule.beeSteps) {
-        if (!s.fired) {
-          continue;
-        }
-        if (candidate == null || s.dueMillis > candidate.dueMillis) {
-          candidate = s;
-        }
-      }
-      for (StepInstance s : schedule.swarmSteps) {
-        if (!s.fired) {
-          continue;
-        }
-        if (candidate == null || s.dueMillis > candidate.dueMillis) {
-          candidate = s;
-        }
-      }
-      return candidate;
+          runsRemaining,
+          lastSkewMillis,
+          maxSkewMillis);
     }
 
     private static List<String> firedStepIds(Schedule schedule) {
       List<StepInstance> fired = new ArrayList<>();
+      // Ramps count as fired once their last point has been emitted.
       for (StepInstance s : schedule.beeSteps) {
-        if (s.fired) {
+        if (s.fired && s.isLastPoint()) {
           fired.add(s);
         }
       }
       for (StepInstance s : schedule.swarmSteps) {
-        if (s.fired) {
+        if (s.fired && s.isLastPoint()) {
           fired.add(s);
         }
       }
@@ -592,6 +757,10 @@ public final class TimelineScenario implements Scenario {
   }
 
   private static final class StepInstance {
+    private static final String DEFAULT_RAMP_PATH = "inputs.scheduler.ratePerSec";
+    private static final long DEFAULT_RAMP_INTERVAL_MILLIS = 1_000L;
+    private static final long MIN_RAMP_INTERVAL_MILLIS = 50L;
+
     final String stepId;
     final String name;
     final String type;
@@ -599,6 +768,8 @@ public final class TimelineScenario implements Scenario {
     final String instanceId;
     final String role;
     final long dueMillis;
+    final int point;
+    final int points;
     volatile boolean fired;
 
     private StepInstance(String stepId,
@@ -607,7 +778,9 @@ public final class TimelineScenario implements Scenario {
                          Map<String, Object> config,
                          String instanceId,
                          String role,
-                         long dueMillis) {
+                         long dueMillis,
+                         int point,
+                         int points) {
       this.stepId = stepId;
       this.name = name;
       this.type = type;
@@ -615,31 +788,34 @@ public final class TimelineScenario implements Scenario {
       this.instanceId = instanceId;
       this.role = role;
       this.dueMillis = dueMillis;
+      this.point = point;
+      this.points = points;
+    }
+
+    boolean isFirstPoint() {
+      return point == 0;
+    }
+
+    boolean isLastPoint() {
+      return point == points - 1;
     }
 
     @SuppressWarnings("unchecked")
-    static StepInstance from(Map<String, Object> map, String instanceId, String role) {
+    static List<StepInstance> from(Map<String, Object> map, String instanceId, String role) {
       if (map == null || map.isEmpty()) {
-        return null;
+        return List.of();
       }
       Object idObj = map.get("stepId");
       Object timeObj = map.get("time");
       if (idObj == null || timeObj == null) {
-        return null;
+        return List.of();
       }
       String stepId = idObj.toString();
       Object nameObj = map.get("name");
       String name = nameObj != null ? nameObj.toString() : null;
-      String timeStr = timeObj.toString();
-      long millis;
-      try {
-        millis = Duration.parse(timeStr).toMillis();
-      } catch (Exception ex) {
-        Long fallback = parseSimpleSeconds(timeStr);
-        if (fallback == null) {
-          return null;
-        }
-        millis = fallback * 1000L;
+      Long millis = parseOffsetMillis(timeObj.toString());
+      if (millis == null) {
+        return List.of();
       }
       String type = map.getOrDefault("type", "config-update").toString();
       Map<String, Object> cfg = Map.of();
@@ -647,7 +823,94 @@ public final class TimelineScenario implements Scenario {
       if (cfgObj instanceof Map<?, ?> cfgRaw) {
         cfg = (Map<String, Object>) cfgRaw;
       }
-      return new StepInstance(stepId, name, type, cfg, instanceId, role, millis);
+      if ("ramp".equalsIgnoreCase(type)) {
+        return ramp(stepId, name, type, cfg, instanceId, role, millis);
+      }
+      return List.of(new StepInstance(stepId, name, type, cfg, instanceId, role, millis, 0, 1));
+    }
+
+    /**
+     * Expand a ramp step into config-updates spaced {@code interval} apart (plus one at the end),
+     * each setting {@code path} to the value interpolated between {@code from} and {@code to}.
+     */
+    private static List<StepInstance> ramp(String stepId,
+                                           String name,
+                                           String type,
+                                           Map<String, Object> cfg,
+                                           String instanceId,
+                                           String role,
+                                           long startMillis) {
+      Double from = asDouble(cfg.get("from"));
+      Double to = asDouble(cfg.get("to"));
+      Long durationMillis = cfg.get("duration") != null ? parseOffsetMillis(cfg.get("duration").toString()) : null;
+      if (from == null || to == null || durationMillis == null || durationMillis <= 0L) {
+        log.warn("Ignoring ramp step {}; from, to and a positive duration are required", stepId);
+        return List.of();
+      }
+      Long intervalMillis = cfg.get("interval") != null
+          ? parseOffsetMillis(cfg.get("interval").toString())
+          : Long.valueOf(DEFAULT_RAMP_INTERVAL_MILLIS);
+      if (intervalMillis == null) {
+        intervalMillis = DEFAULT_RAMP_INTERVAL_MILLIS;
+      }
+      intervalMillis = Math.max(intervalMillis, MIN_RAMP_INTERVAL_MILLIS);
+      Object pathObj = cfg.get("path");
+      String path = pathObj != null && !pathObj.toString().isBlank() ? pathObj.toString().trim() : DEFAULT_RAMP_PATH;
+      boolean exponential = "exponential".equalsIgnoreCase(String.valueOf(cfg.getOrDefault("curve", "linear")));
+      if (exponential && (from <= 0d || to <= 0d)) {
+        log.warn("Ramp step {} uses an exponential curve with a non-positive bound; falling back to linear", stepId);
+        exponential = false;
+      }
+
+      int points = (int) Math.min(Integer.MAX_VALUE - 1L, (durationMillis + intervalMillis - 1L) / intervalMillis) + 1;
+      List<StepInstance> steps = new ArrayList<>(points);
+      for (int i = 0; i < points; i++) {
+        long offset = Math.min((long) i * intervalMillis, durationMillis);
+        double fraction = (double) offset / durationMillis;
+        double value = exponential
+            ? from * Math.pow(to / from, fraction)
+            : from + (to - from) * fraction;
+        Map<String, Object> payload = nestedValue(path, Math.round(value * 1000d) / 1000d);
+        steps.add(new StepInstance(stepId, name, type, payload, instanceId, role, startMillis + offset, i, points));
+      }
+      return steps;
+    }
+
+    private static Map<String, Object> nestedValue(String path, Object value) {
+      String[] segments = path.split("\\.");
+      Map<String, Object> root = new LinkedHashMap<>();
+      Map<String, Object> current = root;
+      for (int i = 0; i < segments.length - 1; i++) {
+        Map<String, Object> child = new LinkedHashMap<>();
+        current.put(segments[i], child);
+        current = child;
+      }
+      current.put(segments[segments.length - 1], value);
+      return root;
+    }
+
+    private static Double asDouble(Object value) {
+      if (value instanceof Number number) {
+        return number.doubleValue();
+      }
+      if (value == null) {
+        return null;
+      }
+      try {
+        double parsed = Double.parseDouble(value.toString().trim());
+        return Double.isFinite(parsed) ? parsed : null;
+      } catch (NumberFormatException ex) {
+        return null;
+      }
+    }
+
+    private static Long parseOffsetMillis(String value) {
+      try {
+        return Duration.parse(value).toMillis();
+      } catch (Exception ex) {
+        Long fallback = parseSimpleSeconds(value);
+        return fallback != null ? fallback * 1000L : null;
+      }
     }
 
     private static Long parseSimpleSeconds(String value) {
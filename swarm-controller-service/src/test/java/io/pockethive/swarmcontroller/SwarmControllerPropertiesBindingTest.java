@@ -48,6 +48,10 @@ class SwarmControllerPropertiesBindingTest {
                   .isEqualTo(Duration.ofSeconds(10));
               assertThat(properties.getMetrics().clickHouse().configured()).isFalse();
               assertThat(properties.getDocker().socketPath()).isEqualTo("/var/run/docker.sock");
+              assertThat(properties.getDocker().provisioningParallelism()).isEqualTo(4);
+              assertThat(properties.getDocker().pullMissingImages()).isTrue();
+              assertThat(properties.getBroker().hasManagementUrl()).isFalse();
+              assertThat(properties.getBroker().queueStatsTtl()).isEqualTo(Duration.ofSeconds(2));
             });
   }
 
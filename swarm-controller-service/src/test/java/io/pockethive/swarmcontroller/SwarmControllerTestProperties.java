@@ -33,7 +33,11 @@ final class SwarmControllerTestProperties {
                     PocketHiveMetricsAdapter.DISABLED,
                     Duration.ofSeconds(10),
                     ClickHouseMetricsSinkProperties.disabled()),
-                new SwarmControllerProperties.Docker(null, "/var/run/docker.sock", null),
-                new SwarmControllerProperties.Features(bufferGuardEnabled)));
+                // Sequential provisioning keeps stubbed container ids and call order deterministic.
+                new SwarmControllerProperties.Docker(null, "/var/run/docker.sock", null, 1, null),
+                new SwarmControllerProperties.Features(bufferGuardEnabled),
+                // No queue stats caching so guard ticks see stubbed depth changes immediately.
+                new SwarmControllerProperties.Broker(null, null, null, Duration.ZERO),
+                null));
     }
 }
@@ -21,6 +21,8 @@ import io.pockethive.swarm.model.BufferGuardPolicy;
 import io.pockethive.swarm.model.SwarmPlan;
 import io.pockethive.swarm.model.TrafficPolicy;
 import io.pockethive.swarm.model.Work;
+import io.pockethive.swarm.model.WorkQueuePolicy;
+import io.pockethive.swarm.model.WorkQueueType;
 import io.pockethive.swarmcontroller.config.SwarmControllerProperties;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -137,6 +139,7 @@ class SwarmLifecycleManagerTest {
     assertEquals(queue("qout"), env.get("POCKETHIVE_OUTPUT_RABBIT_ROUTING_KEY"));
     assertEquals(HIVE_EXCHANGE, env.get("POCKETHIVE_OUTPUT_RABBIT_EXCHANGE"));
     assertThat(env.get("POCKETHIVE_INPUT_RABBIT_QUEUE")).isEqualTo(queue("qin"));
+    assertThat(env).doesNotContainKey("POCKETHIVE_INPUTS_RABBIT_SHARDS");
     assertEquals(CONTROL_QUEUE_PREFIX_BASE, env.get("POCKETHIVE_CONTROL_PLANE_CONTROL_QUEUE_PREFIX"));
     assertEquals(assignedName, env.get("POCKETHIVE_CONTROL_PLANE_INSTANCE_ID"));
     assertEquals(assignedName, env.get("POCKETHIVE_CONTROL_PLANE_INSTANCE_ID"));
@@ -198,6 +201,61 @@ class SwarmLifecycleManagerTest {
     verify(docker, never()).createAndStartContainer(anyString(), anyMap(), anyString(), any(), anyMap());
   }
 
+  @Test
+  void startsBeeReplicasWithStableInstanceIdsAndScalesThem() throws Exception {
+    SwarmLifecycleManager manager = newManager();
+    Bee processor = new Bee("processor", "img-proc", Work.ofDefaults("in", null), List.of(), null, null, 3, null);
+    when(docker.createAndStartContainer(eq("img-proc"), anyMap(), anyString(), any(), anyMap()))
+        .thenReturn("c0", "c1", "c2", "c3");
+
+    manager.prepare(mapper.writeValueAsString(new SwarmPlan("swarm", List.of(processor))));
+
+    ArgumentCaptor<String> names = ArgumentCaptor.forClass(String.class);
+    verify(docker, times(3)).createAndStartContainer(eq("img-proc"), anyMap(), names.capture(), any(), anyMap());
+    String base = names.getAllValues().get(0);
+    assertThat(names.getAllValues()).containsExactly(base, base + "-1", base + "-2");
+    assertThat(manager.getMetrics().desired()).isEqualTo(3);
+
+    assertThat(manager.scaleRole("processor", 2)).isEqualTo(2);
+    verify(docker).stopAndRemoveContainer("c2");
+    verify(amqp).deleteQueue(argThat(name -> name.endsWith(base + "-2")));
+    assertThat(manager.getMetrics().desired()).isEqualTo(2);
+
+    assertThat(manager.scaleRole("processor", 3)).isEqualTo(3);
+    verify(docker, times(4)).createAndStartContainer(eq("img-proc"), anyMap(), names.capture(), any(), anyMap());
+    assertThat(names.getValue()).isEqualTo(base + "-2");
+
+    assertThat(manager.scaleRole("processor", 0)).isEqualTo(1);
+    verify(docker).stopAndRemoveContainer("c1");
+    verify(docker).stopAndRemoveContainer("c3");
+    verify(docker, never()).stopAndRemoveContainer("c0");
+  }
+
+  @Test
+  void tracksReplicasThatStartedWhenScaleUpPartiallyFails() throws Exception {
+    SwarmLifecycleManager manager = newManager();
+    Bee processor = new Bee("processor", "img-proc", Work.ofDefaults("in", null), List.of(), null, null, 1, null);
+    when(docker.createAndStartContainer(eq("img-proc"), anyMap(), anyString(), any(), anyMap()))
+        .thenReturn("c0");
+    manager.prepare(mapper.writeValueAsString(new SwarmPlan("swarm", List.of(processor))));
+    ArgumentCaptor<String> names = ArgumentCaptor.forClass(String.class);
+    verify(docker).createAndStartContainer(eq("img-proc"), anyMap(), names.capture(), any(), anyMap());
+    String base = names.getValue();
+
+    when(docker.createAndStartContainer(eq("img-proc"), anyMap(), eq(base + "-1"), any(), anyMap()))
+        .thenReturn("c1");
+    when(docker.createAndStartContainer(eq("img-proc"), anyMap(), eq(base + "-2"), any(), anyMap()))
+        .thenThrow(new IllegalStateException("no capacity"));
+
+    assertThatThrownBy(() -> manager.scaleRole("processor", 3))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("no capacity");
+    assertThat(manager.getMetrics().desired()).isEqualTo(2);
+
+    assertThat(manager.scaleRole("processor", 1)).isEqualTo(1);
+    verify(docker).stopAndRemoveContainer("c1");
+  }
+
   @Test
   void prepareDeclaresQueuesAndStartsContainersDisabled() throws Exception {
     SwarmLifecycleManager manager = newManager();
@@ -233,6 +291,49 @@ class SwarmLifecycleManagerTest {
         .containsExactlyInAnyOrder("a", "b");
   }
 
+  @Test
+  void shardsWorkQueueBehindConsistentHashExchange() throws Exception {
+    SwarmLifecycleManager manager = newManager();
+    SwarmPlan plan = new SwarmPlan("swarm", List.of(
+        new Bee("generator", "img-gen", Work.ofDefaults(null, "gen-out"), null),
+        new Bee("moderator", "img-mod", Work.ofDefaults("gen-out", null), null)),
+        new TrafficPolicy(null, null, List.of(
+            new WorkQueuePolicy("gen-out", WorkQueueType.QUORUM, 3, "customerId"))));
+    when(docker.createAndStartContainer(anyString(), anyMap(), anyString(), any(), anyMap()))
+        .thenReturn("c1", "c2");
+
+    manager.prepare(mapper.writeValueAsString(plan));
+
+    ArgumentCaptor<Queue> queueCaptor = ArgumentCaptor.forClass(Queue.class);
+    verify(amqp, times(3)).declareQueue(queueCaptor.capture());
+    assertThat(queueCaptor.getAllValues())
+        .extracting(Queue::getName)
+        .containsExactly(queue("gen-out") + ".s0", queue("gen-out") + ".s1", queue("gen-out") + ".s2");
+    assertThat(queueCaptor.getAllValues())
+        .allSatisfy(q -> assertThat(q.getArguments()).containsEntry("x-queue-type", "quorum"));
+    ArgumentCaptor<org.springframework.amqp.core.Exchange> exchangeCaptor =
+        ArgumentCaptor.forClass(org.springframework.amqp.core.Exchange.class);
+    verify(amqp, atLeastOnce()).declareExchange(exchangeCaptor.capture());
+    assertThat(exchangeCaptor.getAllValues())
+        .filteredOn(exchange -> exchange.getName().equals(queue("gen-out") + ".shards"))
+        .singleElement()
+        .satisfies(exchange -> {
+          assertThat(exchange.getType()).isEqualTo("x-consistent-hash");
+          assertThat(exchange.getArguments()).containsEntry("hash-header", WorkQueuePolicy.SHARD_KEY_HEADER);
+        });
+
+    ArgumentCaptor<Map<String, String>> envCaptor = ArgumentCaptor.forClass(Map.class);
+    verify(docker, times(2)).createAndStartContainer(anyString(), envCaptor.capture(), anyString(), any(), anyMap());
+    Map<String, String> generatorEnv = envCaptor.getAllValues().get(0);
+    assertThat(generatorEnv.get("POCKETHIVE_OUTPUT_RABBIT_ROUTING_KEY")).isEqualTo(queue("gen-out"));
+    assertThat(generatorEnv.get("POCKETHIVE_OUTPUTS_RABBIT_SHARDED")).isEqualTo("true");
+    assertThat(generatorEnv.get("POCKETHIVE_OUTPUTS_RABBIT_SHARDKEYHEADER")).isEqualTo("customerId");
+    Map<String, String> moderatorEnv = envCaptor.getAllValues().get(1);
+    assertThat(moderatorEnv.get("POCKETHIVE_INPUT_RABBIT_QUEUE")).isEqualTo(queue("gen-out"));
+    assertThat(moderatorEnv.get("POCKETHIVE_INPUTS_RABBIT_SHARDS"))
+        .isEqualTo(queue("gen-out") + ".s0," + queue("gen-out") + ".s1," + queue("gen-out") + ".s2");
+  }
+
   @Test
   void populatesQueueEnvironmentFromTemplateWorkAssignments() throws Exception {
     SwarmLifecycleManager manager = newManager();
@@ -1024,6 +1125,58 @@ class SwarmLifecycleManagerTest {
     manager.remove();
   }
 
+  @Test
+  void bufferGuardPidModeSteersEveryProducerOfTheQueue() throws Exception {
+    SwarmLifecycleManager manager = newManager(true);
+    BufferGuardPolicy guard = new BufferGuardPolicy(
+        true,
+        "gen-out",
+        200,
+        150,
+        260,
+        "50ms",
+        3,
+        new BufferGuardPolicy.Adjustment(20, 10, 1, 100),
+        new BufferGuardPolicy.Prefill(false, null, null),
+        new BufferGuardPolicy.Backpressure(null, null, null, null),
+        "pid",
+        null);
+    SwarmPlan plan = new SwarmPlan("swarm", List.of(
+        new Bee("generator-a", "img1", Work.ofDefaults(null, "gen-out"),
+            null,
+            Map.of("inputs", Map.of(
+                "type", "SCHEDULER",
+                "scheduler", Map.of("ratePerSec", 10d)))),
+        new Bee("generator-b", "img2", Work.ofDefaults(null, "gen-out"),
+            null,
+            Map.of("inputs", Map.of(
+                "type", "SCHEDULER",
+                "scheduler", Map.of("ratePerSec", 30d))))
+    ), new TrafficPolicy(guard));
+    when(docker.createAndStartContainer(eq("img1"), anyMap(), anyString(), any(), anyMap())).thenReturn("c1");
+    when(docker.createAndStartContainer(eq("img2"), anyMap(), anyString(), any(), anyMap())).thenReturn("c2");
+    when(docker.resolveControlNetwork()).thenReturn("ctrl-net");
+    when(amqp.getQueueProperties(eq(queue("gen-out")))).thenAnswer(inv -> queueProps(0));
+
+    manager.prepare(mapper.writeValueAsString(plan));
+    manager.start("{}");
+
+    Gauge rateGauge = meterRegistry.find("ph_swarm_buffer_guard_rate_per_sec")
+        .tags("swarm", TEST_SWARM_ID, "queue", "gen-out")
+        .gauge();
+    assertThat(rateGauge).isNotNull();
+    // One aggregate loop for both producers, bounded by twice the per-producer maximum.
+    assertThat(waitForRate(rateGauge, value -> value > 100.0)).isTrue();
+
+    ArgumentCaptor<String> routingCaptor = ArgumentCaptor.forClass(String.class);
+    verify(rabbit, atLeastOnce()).convertAndSend(eq(CONTROL_EXCHANGE), routingCaptor.capture(), anyString());
+    assertThat(routingCaptor.getAllValues()).contains(
+        ControlPlaneRouting.signal(ControlPlaneSignals.CONFIG_UPDATE, TEST_SWARM_ID, "generator-a", null),
+        ControlPlaneRouting.signal(ControlPlaneSignals.CONFIG_UPDATE, TEST_SWARM_ID, "generator-b", null));
+
+    manager.remove();
+  }
+
   private static List<String> expectedControllerRoutes(String instanceId) {
     return List.of(
         ControlPlaneRouting.signal(ControlPlaneSignals.CONFIG_UPDATE, "ALL", "swarm-controller", "ALL"),
@@ -164,6 +164,17 @@ class SwarmSignalListenerTest {
         """.formatted(swarmId, role, instance, enabled);
   }
 
+  private String sequencedStatus(String type, long seq, long baseSeq) {
+    return sequencedStatus(type, seq, baseSeq, "");
+  }
+
+  private String sequencedStatus(String type, long seq, long baseSeq, String extraContext) {
+    String base = baseSeq < 0 ? "" : ",\"statusBaseSeq\":" + baseSeq;
+    return """
+        {"timestamp":"2024-01-01T00:00:00Z","version":"1","kind":"metric","type":"%s","origin":"g1","scope":{"swarmId":"%s","role":"gen","instance":"g1"},"correlationId":null,"idempotencyKey":null,"runtime":{"templateId":"tpl-1","runId":"run-1"},"data":{"enabled":true,"tps":0,"context":{"statusSeq":%d%s%s}}}
+        """.formatted(type, TEST_SWARM_ID, seq, base, extraContext);
+  }
+
   private String controllerSignal(String command) {
     return ControlPlaneRouting.signal(command, TEST_SWARM_ID, "swarm-controller", "ALL");
   }
@@ -394,6 +405,21 @@ class SwarmSignalListenerTest {
         anyString());
   }
 
+  @Test
+  void workerConfigUpdateOutcomeAcknowledgesBatch() {
+    SwarmSignalListener listener = newListener(lifecycle, rabbit, "inst", mapper);
+    String outcome = """
+        {"timestamp":"2024-01-01T00:00:00Z","version":"1","kind":"outcome","type":"config-update",
+         "origin":"gen-1","scope":{"swarmId":"%s","role":"generator","instance":"gen-1"},
+         "correlationId":"batch-corr","idempotencyKey":"batch-id","data":{"status":"Running","enabled":true}}
+        """.formatted(TEST_SWARM_ID);
+
+    listener.handle(outcome, ControlPlaneRouting.event("outcome", ControlPlaneSignals.CONFIG_UPDATE,
+        new ConfirmationScope(TEST_SWARM_ID, "generator", "gen-1")));
+
+    verify(lifecycle).acknowledgeConfigUpdate("generator", "gen-1", "batch-corr");
+  }
+
   @Test
   void configErrorFailsPendingStart() throws Exception {
     when(lifecycle.getStatus()).thenReturn(SwarmStatus.RUNNING);
@@ -872,6 +898,96 @@ class SwarmSignalListenerTest {
     verify(lifecycle, never()).markReady(anyString(), anyString());
   }
 
+  @Test
+  void sequencedWorkerDeltaWithGapRequestsStatusFullOnce() throws Exception {
+    when(lifecycle.getStatus()).thenReturn(SwarmStatus.RUNNING);
+    SwarmSignalListener listener = newListener(lifecycle, rabbit, "inst", mapper);
+    reset(lifecycle, rabbit);
+    stubLifecycleDefaults();
+
+    listener.handle(sequencedStatus("status-full", 1, -1), statusEvent("status-full", "gen", "g1"));
+    listener.handle(sequencedStatus("status-delta", 2, 1), statusEvent("status-delta", "gen", "g1"));
+    verify(lifecycle, never()).requestStatusFull(anyString(), anyString(), anyString());
+
+    listener.handle(sequencedStatus("status-delta", 4, 3), statusEvent("status-delta", "gen", "g1"));
+    listener.handle(sequencedStatus("status-delta", 5, 4), statusEvent("status-delta", "gen", "g1"));
+    verify(lifecycle, times(1)).requestStatusFull("gen", "g1", "status-sequence-gap");
+    verify(lifecycle, times(4)).updateHeartbeat("gen", "g1");
+
+    listener.handle(sequencedStatus("status-full", 6, -1), statusEvent("status-full", "gen", "g1"));
+    listener.handle(sequencedStatus("status-delta", 7, 6), statusEvent("status-delta", "gen", "g1"));
+    verify(lifecycle, times(1)).requestStatusFull(anyString(), anyString(), anyString());
+  }
+
+  @Test
+  void workerDeltaIsReadAgainstTheMergedContext() throws Exception {
+    when(lifecycle.getStatus()).thenReturn(SwarmStatus.RUNNING);
+    RecordingJournal journal = new RecordingJournal();
+    SwarmSignalListener listener = new SwarmSignalListener(
+        lifecycle,
+        rabbit,
+        "inst",
+        mapper,
+        SwarmControllerTestProperties.defaults(),
+        journal,
+        "run-1");
+    reset(lifecycle, rabbit);
+    stubLifecycleDefaults();
+
+    listener.handle(sequencedStatus("status-full", 1, -1, """
+        ,"errorCount":0,"errorTps":0.5,"serviceId":"svc-a","templateRoot":"/templates/a",
+        "diagnostics":{"cache":{"hits":1,"misses":2}}"""), statusEvent("status-full", "gen", "g1"));
+    // Only the changed entries travel in the delta.
+    listener.handle(sequencedStatus("status-delta", 2, 1, """
+        ,"errorCount":3,"diagnostics":{"cache":{"hits":5}}"""), statusEvent("status-delta", "gen", "g1"));
+
+    Map<String, Object> workerError = journal.entries.stream()
+        .filter(entry -> "worker-error".equals(entry.type()))
+        .findFirst()
+        .orElseThrow()
+        .data();
+    assertThat(workerError)
+        .containsEntry("errorCount", 3L)
+        .containsEntry("serviceId", "svc-a")
+        .containsEntry("templateRoot", "/templates/a");
+
+    listener.handle(
+        signal(ControlPlaneSignals.STATUS_REQUEST, "inst", "id-status", "corr-status"),
+        statusRequestSignal("swarm-controller", "inst"));
+    ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+    verify(rabbit, atLeastOnce()).convertAndSend(eq(CONTROL_EXCHANGE),
+        eq(statusEvent("status-full", "swarm-controller", "inst")), payload.capture());
+    JsonNode cache = mapper.readTree(payload.getValue())
+        .path("data").path("context").path("swarmDiagnostics").path("gen").path("cache");
+    assertThat(cache.path("hits").asInt()).isEqualTo(5);
+    assertThat(cache.path("misses").asInt()).isEqualTo(2);
+  }
+
+  @Test
+  void controllerStatusDeltaCarriesChangedWorkerStatsOnly() throws Exception {
+    when(lifecycle.getStatus()).thenReturn(SwarmStatus.RUNNING);
+    SwarmSignalListener listener = newListener(lifecycle, rabbit, "inst", mapper);
+    listener.handle(status(TEST_SWARM_ID, "gen", "g1", true), statusEvent("status-delta", "gen", "g1"));
+    reset(rabbit);
+
+    listener.status();
+
+    ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+    verify(rabbit).convertAndSend(eq(CONTROL_EXCHANGE),
+        eq(statusEvent("status-delta", "swarm-controller", "inst")), payload.capture());
+    JsonNode context = mapper.readTree(payload.getValue()).path("data").path("context");
+    assertThat(context.has("workers")).isFalse();
+    assertThat(context.path("workerStats").path("g1").path("role").asText()).isEqualTo("gen");
+    assertThat(context.path("workerStats").path("g1").path("enabled").asBoolean()).isTrue();
+
+    reset(rabbit);
+    listener.status();
+
+    verify(rabbit).convertAndSend(eq(CONTROL_EXCHANGE),
+        eq(statusEvent("status-delta", "swarm-controller", "inst")), payload.capture());
+    assertThat(mapper.readTree(payload.getValue()).path("data").path("context").has("workerStats")).isFalse();
+  }
+
   @Test
   void ignoresStatusEventsFromOtherSwarms() throws Exception {
     when(lifecycle.getStatus()).thenReturn(SwarmStatus.RUNNING);
@@ -902,7 +1018,19 @@ class SwarmSignalListenerTest {
     SwarmMetrics metrics = new SwarmMetrics(2,2,2,2, java.time.Instant.parse("2025-09-12T12:34:55Z"));
     when(lifecycle.getMetrics()).thenReturn(metrics);
     SwarmSignalListener listener = newListener(lifecycle, rabbit, "inst", mapper);
+    ArgumentCaptor<String> fullPayload = ArgumentCaptor.forClass(String.class);
+    verify(rabbit).convertAndSend(eq(CONTROL_EXCHANGE),
+        eq(statusEvent("status-full", "swarm-controller", "inst")),
+        fullPayload.capture());
+    JsonNode fullContext = mapper.readTree(fullPayload.getValue()).path("data").path("context");
+    assertThat(fullContext.path("totals").path("desired").asInt()).isEqualTo(2);
+    assertThat(fullContext.path("totals").path("healthy").asInt()).isEqualTo(2);
+    assertThat(fullContext.path("totals").path("running").asInt()).isEqualTo(2);
+    assertThat(fullContext.path("totals").path("enabled").asInt()).isEqualTo(2);
+    assertThat(fullContext.path("watermark").asText()).isEqualTo("2025-09-12T12:34:55Z");
+
     reset(rabbit);
+    when(lifecycle.getMetrics()).thenReturn(new SwarmMetrics(2,2,1,1, java.time.Instant.parse("2025-09-12T12:34:55Z")));
     listener.status();
     ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
     verify(rabbit).convertAndSend(eq(CONTROL_EXCHANGE),
@@ -910,24 +1038,23 @@ class SwarmSignalListenerTest {
         payload.capture());
     JsonNode node = mapper.readTree(payload.getValue());
     JsonNode context = node.path("data").path("context");
-    assertThat(context.path("totals").path("desired").asInt()).isEqualTo(2);
-    assertThat(context.path("totals").path("healthy").asInt()).isEqualTo(2);
-	    assertThat(context.path("totals").path("running").asInt()).isEqualTo(2);
-	    assertThat(context.path("totals").path("enabled").asInt()).isEqualTo(2);
-	    assertThat(context.path("watermark").asText()).isEqualTo("2025-09-12T12:34:55Z");
-	    assertThat(context.has("maxStalenessSec")).isFalse();
-	  }
+    // Deltas carry only what changed since the previous status of this controller.
+    assertThat(context.path("statusBaseSeq").asLong()).isEqualTo(fullContext.path("statusSeq").asLong());
+    assertThat(context.path("totals").path("running").asInt()).isEqualTo(1);
+    assertThat(context.path("totals").path("enabled").asInt()).isEqualTo(1);
+    assertThat(context.path("totals").has("desired")).isFalse();
+    assertThat(context.has("watermark")).isFalse();
+    assertThat(context.has("maxStalenessSec")).isFalse();
+  }
 
   @Test
   void degradedAndUnknownStates() throws Exception {
     SwarmMetrics degraded = new SwarmMetrics(3,2,2,2, java.time.Instant.now());
     when(lifecycle.getMetrics()).thenReturn(degraded);
     SwarmSignalListener listener = newListener(lifecycle, rabbit, "inst", mapper);
-    reset(rabbit);
-    listener.status();
     ArgumentCaptor<String> degradedPayload = ArgumentCaptor.forClass(String.class);
     verify(rabbit).convertAndSend(eq(CONTROL_EXCHANGE),
-        startsWith(statusEvent("status-delta", "swarm-controller", "inst")),
+        eq(statusEvent("status-full", "swarm-controller", "inst")),
         degradedPayload.capture());
     JsonNode degradedNode = mapper.readTree(degradedPayload.getValue());
     assertThat(degradedNode.path("data").path("context").path("state").asText()).isEqualTo("Degraded");
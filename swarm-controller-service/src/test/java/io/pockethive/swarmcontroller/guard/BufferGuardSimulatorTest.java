@@ -0,0 +1,97 @@
+package io.pockethive.swarmcontroller.guard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+import io.pockethive.manager.guard.BufferGuardSettings;
+import io.pockethive.manager.guard.BufferGuardSimulator;
+import io.pockethive.manager.guard.BufferGuardSimulator.TraceSample;
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+import org.junit.jupiter.api.Test;
+
+class BufferGuardSimulatorTest {
+
+  private static final BufferGuardSettings SETTINGS = new BufferGuardSettings(
+      "gen-out",
+      "ph.swarm.gen-out",
+      "generator",
+      10.0,
+      200,
+      150,
+      260,
+      Duration.ofSeconds(5),
+      4,
+      new BufferGuardSettings.Adjustment(20, 10, 1, 100),
+      new BufferGuardSettings.Prefill(false, Duration.ZERO, 0),
+      new BufferGuardSettings.Backpressure(null, null, 500, 250, 15),
+      BufferGuardSettings.Mode.PID,
+      null,
+      null);
+
+  @Test
+  void pidSettlesOnTargetAfterDrainRateSteps() {
+    List<TraceSample> trace = new ArrayList<>();
+    for (int i = 0; i < 120; i++) {
+      double drain = i < 40 ? 50.0 : i < 80 ? 80.0 : 20.0;
+      trace.add(new TraceSample(i * 5.0, drain, i == 0 ? OptionalDouble.of(0) : OptionalDouble.empty()));
+    }
+
+    BufferGuardSimulator.Result result = BufferGuardSimulator.replay(SETTINGS, trace);
+
+    // Last samples before each drain step: back within the bracket and matching consumption.
+    for (int index : List.of(39, 79, 119)) {
+      BufferGuardSimulator.Step step = result.steps().get(index);
+      assertThat(step.depth()).isBetween(180.0, 220.0);
+      assertThat(step.ratePerSec()).isCloseTo(step.drainPerSec(), offset(2.0));
+    }
+    assertThat(result.emptySamples()).isEqualTo(1);
+    assertThat(result.meanAbsDepthError()).isLessThan(30.0);
+  }
+
+  @Test
+  void commandsLowerRateThanDrainWhileRecordedDepthIsAboveTarget() {
+    List<TraceSample> trace = List.of(
+        new TraceSample(0, 40.0, OptionalDouble.of(400)),
+        new TraceSample(5, 40.0, OptionalDouble.of(380)),
+        new TraceSample(10, 40.0, OptionalDouble.of(360)));
+
+    BufferGuardSimulator.Result result = BufferGuardSimulator.commands(SETTINGS, trace);
+
+    assertThat(result.steps()).hasSize(3)
+        .allSatisfy(step -> assertThat(step.ratePerSec()).isLessThan(40.0));
+    assertThat(result.maxDepth()).isEqualTo(400.0);
+  }
+
+  @Test
+  void commandsRequireRecordedDepth() {
+    List<TraceSample> trace = List.of(new TraceSample(0, 40.0, OptionalDouble.empty()));
+
+    assertThatThrownBy(() -> BufferGuardSimulator.commands(SETTINGS, trace))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("t=0.0");
+  }
+
+  @Test
+  void readsCsvTraceWithHeaderCommentsAndOptionalDepth() throws Exception {
+    String csv = """
+        seconds,drainPerSec,depth
+        # exported from ph_swarm_queue_rate_per_second
+        0,50,120
+
+        5,52.5,
+        10,48
+        """;
+
+    List<TraceSample> trace = BufferGuardSimulator.readCsv(new StringReader(csv));
+
+    assertThat(trace).containsExactly(
+        new TraceSample(0, 50, OptionalDouble.of(120)),
+        new TraceSample(5, 52.5, OptionalDouble.empty()),
+        new TraceSample(10, 48, OptionalDouble.empty()));
+  }
+}
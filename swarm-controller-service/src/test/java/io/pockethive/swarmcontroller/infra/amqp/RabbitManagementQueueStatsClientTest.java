@@ -0,0 +1,59 @@
+package io.pockethive.swarmcontroller.infra.amqp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.pockethive.manager.runtime.QueueRates;
+import io.pockethive.manager.runtime.QueueStats;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class RabbitManagementQueueStatsClientTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  @Test
+  void parsesDepthConsumersOldestAgeAndRates() throws Exception {
+    String body = """
+        {
+          "page_count": 1,
+          "items": [
+            {
+              "name": "ph.swarm-a.gen-out",
+              "messages": 120,
+              "consumers": 3,
+              "head_message_timestamp": 990,
+              "message_stats": {
+                "publish_details": {"rate": 250.5},
+                "deliver_get_details": {"rate": 240.0},
+                "ack_details": {"rate": 238.0}
+              }
+            },
+            {
+              "name": "ph.swarm-a.final",
+              "messages": 0,
+              "consumers": 1
+            }
+          ]
+        }
+        """;
+
+    Map<String, QueueStats> stats = RabbitManagementQueueStatsClient.parsePage(mapper.readTree(body), 1000L);
+
+    QueueStats genOut = stats.get("ph.swarm-a.gen-out");
+    assertThat(genOut.depth()).isEqualTo(120L);
+    assertThat(genOut.consumers()).isEqualTo(3);
+    assertThat(genOut.oldestAgeSeconds()).hasValue(10L);
+    assertThat(genOut.rates()).contains(new QueueRates(250.5, 240.0, 238.0));
+
+    QueueStats fin = stats.get("ph.swarm-a.final");
+    assertThat(fin.depth()).isZero();
+    assertThat(fin.oldestAgeSeconds()).isEmpty();
+    assertThat(fin.rates()).isEmpty();
+  }
+
+  @Test
+  void drainRateFallsBackToDeliveriesWhenConsumersAutoAck() {
+    assertThat(new QueueRates(50.0, 45.0, 0.0).drainPerSec()).isEqualTo(45.0);
+  }
+}
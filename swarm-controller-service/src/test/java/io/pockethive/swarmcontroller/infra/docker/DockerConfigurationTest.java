@@ -25,7 +25,7 @@ class DockerConfigurationTest {
   @Test
   void dockerClientConfigHonorsConfiguredHost() {
     SwarmControllerProperties properties = propertiesWithDocker(
-        new SwarmControllerProperties.Docker("unix:///custom/docker.sock", "/var/run/docker.sock", null));
+        new SwarmControllerProperties.Docker("unix:///custom/docker.sock", "/var/run/docker.sock", null, null, null));
     DockerConfiguration configuration = new DockerConfiguration(properties);
 
     DefaultDockerClientConfig config = configuration.dockerClientConfig();
@@ -36,7 +36,7 @@ class DockerConfigurationTest {
   @Test
   void dockerClientConfigFallsBackToSocketPath() {
     SwarmControllerProperties properties = propertiesWithDocker(
-        new SwarmControllerProperties.Docker(null, "/custom/docker.sock", null));
+        new SwarmControllerProperties.Docker(null, "/custom/docker.sock", null, null, null));
     DockerConfiguration configuration = new DockerConfiguration(properties);
 
     DefaultDockerClientConfig config = configuration.dockerClientConfig();
@@ -56,6 +56,8 @@ class DockerConfigurationTest {
                 TRAFFIC_PREFIX),
             METRICS,
             docker,
-            new SwarmControllerProperties.Features(false)));
+            new SwarmControllerProperties.Features(false),
+            null,
+            null));
   }
 }
@@ -0,0 +1,139 @@
+package io.pockethive.swarmcontroller.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.pockethive.manager.ports.QueueStatsPort;
+import io.pockethive.manager.runtime.QueueRates;
+import io.pockethive.manager.runtime.QueueStats;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class CachingQueueStatsPortTest {
+
+  private final AtomicLong now = new AtomicLong();
+  private final AtomicInteger declares = new AtomicInteger();
+  private final QueueStatsPort perQueue = queue -> {
+    declares.incrementAndGet();
+    return new QueueStats(1L, 1, OptionalLong.empty());
+  };
+
+  @Test
+  void sharesOneBulkFetchAcrossReadersWithinTtl() {
+    AtomicInteger fetches = new AtomicInteger();
+    QueueStats gen = new QueueStats(40L, 2, OptionalLong.of(3L), Optional.of(new QueueRates(100.0, 90.0, 88.0)));
+    CachingQueueStatsPort port = new CachingQueueStatsPort(perQueue, () -> {
+      fetches.incrementAndGet();
+      return Map.of("ph.swarm.gen", gen, "ph.swarm.mod", QueueStats.empty());
+    }, Duration.ofSeconds(2), now::get);
+
+    Map<String, QueueStats> snapshot = port.getQueueStats(List.of("ph.swarm.gen", "ph.swarm.mod"));
+    now.addAndGet(Duration.ofMillis(1500).toNanos());
+    QueueStats guardRead = port.getQueueStats("ph.swarm.gen");
+
+    assertThat(snapshot).containsOnlyKeys("ph.swarm.gen", "ph.swarm.mod");
+    assertThat(guardRead).isEqualTo(gen);
+    assertThat(guardRead.rates()).map(QueueRates::drainPerSec).contains(88.0);
+    assertThat(fetches).hasValue(1);
+    assertThat(declares).hasValue(0);
+
+    now.addAndGet(Duration.ofSeconds(1).toNanos());
+    port.getQueueStats("ph.swarm.gen");
+    assertThat(fetches).hasValue(2);
+  }
+
+  @Test
+  void fallsBackToPerQueueDeclaresForUnlistedQueues() {
+    CachingQueueStatsPort port = new CachingQueueStatsPort(
+        perQueue, () -> Map.of(), Duration.ofSeconds(2), now::get);
+
+    port.getQueueStats("ph.swarm.new");
+    port.getQueueStats("ph.swarm.new");
+
+    assertThat(port.getQueueStats("ph.swarm.new").depth()).isEqualTo(1L);
+    assertThat(declares).hasValue(1);
+  }
+
+  @Test
+  void retriesBulkSourceOnlyAfterTtlWhenItFails() {
+    AtomicInteger attempts = new AtomicInteger();
+    CachingQueueStatsPort port = new CachingQueueStatsPort(perQueue, () -> {
+      attempts.incrementAndGet();
+      throw new IOException("management API down");
+    }, Duration.ofSeconds(2), now::get);
+
+    assertThat(port.getQueueStats("ph.swarm.gen").depth()).isEqualTo(1L);
+    port.getQueueStats("ph.swarm.gen");
+    assertThat(attempts).hasValue(1);
+
+    now.addAndGet(Duration.ofSeconds(3).toNanos());
+    port.getQueueStats("ph.swarm.gen");
+    assertThat(attempts).hasValue(2);
+    assertThat(declares).hasValue(2);
+  }
+
+  @Test
+  void backsOffFurtherWhileBulkSourceKeepsFailing() {
+    AtomicInteger attempts = new AtomicInteger();
+    CachingQueueStatsPort port = new CachingQueueStatsPort(perQueue, () -> {
+      attempts.incrementAndGet();
+      throw new IOException("management API down");
+    }, Duration.ofSeconds(2), now::get);
+
+    port.getQueueStats("ph.swarm.gen");
+    now.addAndGet(Duration.ofSeconds(2).toNanos());
+    port.getQueueStats("ph.swarm.gen");
+    assertThat(attempts).hasValue(2);
+
+    now.addAndGet(Duration.ofSeconds(3).toNanos());
+    port.getQueueStats("ph.swarm.gen");
+    assertThat(attempts).hasValue(2);
+
+    now.addAndGet(Duration.ofSeconds(1).toNanos());
+    port.getQueueStats("ph.swarm.gen");
+    assertThat(attempts).hasValue(3);
+  }
+
+  @Test
+  void readersDoNotWaitForAnInFlightBulkFetch() throws Exception {
+    CountDownLatch fetchStarted = new CountDownLatch(1);
+    CountDownLatch releaseFetch = new CountDownLatch(1);
+    CachingQueueStatsPort port = new CachingQueueStatsPort(perQueue, () -> {
+      fetchStarted.countDown();
+      releaseFetch.await(5, TimeUnit.SECONDS);
+      return Map.of("ph.swarm.gen", QueueStats.empty());
+    }, Duration.ofSeconds(2), now::get);
+
+    Thread fetcher = new Thread(() -> port.getQueueStats("ph.swarm.gen"));
+    fetcher.start();
+    assertThat(fetchStarted.await(2, TimeUnit.SECONDS)).isTrue();
+
+    long started = System.nanoTime();
+    QueueStats concurrent = port.getQueueStats("ph.swarm.gen");
+    long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+    releaseFetch.countDown();
+    fetcher.join(2_000);
+    assertThat(concurrent.depth()).isEqualTo(1L);
+    assertThat(waitedMs).isLessThan(1_000L);
+    assertThat(port.getQueueStats("ph.swarm.gen")).isEqualTo(QueueStats.empty());
+  }
+
+  @Test
+  void zeroTtlAlwaysReadsThrough() {
+    CachingQueueStatsPort port = new CachingQueueStatsPort(perQueue, null, Duration.ZERO, now::get);
+
+    port.getQueueStats("ph.swarm.gen");
+    port.getQueueStats("ph.swarm.gen");
+
+    assertThat(declares).hasValue(2);
+  }
+}
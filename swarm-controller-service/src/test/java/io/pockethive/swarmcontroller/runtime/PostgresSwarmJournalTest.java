@@ -89,4 +89,38 @@ class PostgresSwarmJournalTest {
         String.class);
     assertThat(json).contains("hello").contains("world");
   }
+
+  @Test
+  void copyIngestModeWritesEntriesToJournalEventTable() {
+    PostgresSwarmJournal copyJournal = new PostgresSwarmJournal(
+        new ObjectMapper(), jdbc, "sw-copy", "run-1", 10, 10, 30_000L, 1_000L,
+        "copy", "scheduled", 5, 200L, null);
+    for (int i = 0; i < 3; i++) {
+      copyJournal.append(new SwarmJournalEntry(
+          Instant.parse("2025-01-01T00:00:00Z").plusSeconds(i),
+          "sw-copy",
+          "INFO",
+          SwarmJournal.Direction.OUT,
+          "event",
+          "copy-" + i,
+          "swarm-controller",
+          ControlScope.forInstance("sw-copy", "swarm-controller", "swarm-controller-1"),
+          null,
+          null,
+          null,
+          Map.of("i", i),
+          null,
+          null));
+    }
+    copyJournal.flush();
+
+    Integer count = jdbc.queryForObject(
+        "SELECT COUNT(*) FROM journal_event WHERE scope = 'SWARM' AND swarm_id = 'sw-copy'",
+        Integer.class);
+    assertThat(count).isEqualTo(3);
+    String json = jdbc.queryForObject(
+        "SELECT data::text FROM journal_event WHERE swarm_id = 'sw-copy' AND type = 'copy-2'",
+        String.class);
+    assertThat(json).contains("\"i\": 2");
+  }
 }
@@ -0,0 +1,50 @@
+package io.pockethive.swarmcontroller.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.pockethive.manager.ports.QueueStatsPort;
+import io.pockethive.manager.runtime.QueueRates;
+import io.pockethive.manager.runtime.QueueStats;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.Test;
+
+class ShardAwareQueueStatsPortTest {
+
+  private final Map<String, QueueStats> broker = Map.of(
+      "ph.swarm.gen-out.s0", new QueueStats(10L, 1, OptionalLong.of(4L), Optional.of(new QueueRates(50.0, 40.0, 40.0))),
+      "ph.swarm.gen-out.s1", new QueueStats(30L, 1, OptionalLong.of(9L), Optional.of(new QueueRates(60.0, 45.0, 44.0))),
+      "ph.swarm.final", new QueueStats(2L, 2, OptionalLong.empty()));
+
+  private final QueueStatsPort delegate = queue -> broker.getOrDefault(queue, QueueStats.empty());
+
+  @Test
+  void foldsShardsIntoLogicalQueue() {
+    ShardAwareQueueStatsPort port = new ShardAwareQueueStatsPort(delegate, queue ->
+        queue.equals("ph.swarm.gen-out")
+            ? List.of("ph.swarm.gen-out.s0", "ph.swarm.gen-out.s1")
+            : List.of(queue));
+
+    Map<String, QueueStats> stats = port.getQueueStats(List.of("ph.swarm.gen-out", "ph.swarm.final"));
+
+    QueueStats genOut = stats.get("ph.swarm.gen-out");
+    assertThat(genOut.depth()).isEqualTo(40L);
+    assertThat(genOut.consumers()).isEqualTo(1);
+    assertThat(genOut.oldestAgeSeconds()).hasValue(9L);
+    assertThat(genOut.rates()).contains(new QueueRates(110.0, 85.0, 84.0));
+    assertThat(stats.get("ph.swarm.final")).isEqualTo(broker.get("ph.swarm.final"));
+  }
+
+  @Test
+  void reportsNoStatsWhenNoShardIsReadable() {
+    ShardAwareQueueStatsPort port = new ShardAwareQueueStatsPort(queue -> null, queue ->
+        List.of(queue + ".s0", queue + ".s1"));
+
+    Map<String, QueueStats> stats = port.getQueueStats(List.of("ph.swarm.gen-out"));
+
+    assertThat(stats).containsEntry("ph.swarm.gen-out", null);
+    assertThat(port.getQueueStats("ph.swarm.gen-out")).isNull();
+  }
+}
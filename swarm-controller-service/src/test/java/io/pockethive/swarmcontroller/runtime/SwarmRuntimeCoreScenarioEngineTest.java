@@ -45,8 +45,10 @@ class SwarmRuntimeCoreScenarioEngineTest {
                 PocketHiveMetricsAdapter.DISABLED,
                 Duration.ofSeconds(10),
                 ClickHouseMetricsSinkProperties.disabled()),
-            new Docker(null, "/var/run/docker.sock", io.pockethive.manager.runtime.ComputeAdapterType.DOCKER_SINGLE),
-            new SwarmControllerProperties.Features(false)));
+            new Docker(null, "/var/run/docker.sock", io.pockethive.manager.runtime.ComputeAdapterType.DOCKER_SINGLE, null, null),
+            new SwarmControllerProperties.Features(false),
+            null,
+            null));
     SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
     ControlPlanePublisher controlPublisher = mock(ControlPlanePublisher.class);
     io.pockethive.swarmcontroller.infra.amqp.SwarmWorkTopologyManager topology =
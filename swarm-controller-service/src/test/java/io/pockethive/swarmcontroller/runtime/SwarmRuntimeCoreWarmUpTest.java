@@ -0,0 +1,171 @@
+package io.pockethive.swarmcontroller.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.pockethive.controlplane.messaging.ControlPlanePublisher;
+import io.pockethive.controlplane.messaging.SignalMessage;
+import io.pockethive.manager.runtime.ConfigFanout;
+import io.pockethive.observability.metrics.PocketHiveMetricsAdapter;
+import io.pockethive.sink.clickhouse.ClickHouseSinkProperties;
+import io.pockethive.sink.clickhouse.metrics.ClickHouseMetricsSinkProperties;
+import io.pockethive.swarm.model.SwarmPlan;
+import io.pockethive.swarmcontroller.SwarmStatus;
+import io.pockethive.swarmcontroller.config.SwarmControllerProperties;
+import io.pockethive.swarmcontroller.config.SwarmControllerProperties.Docker;
+import io.pockethive.swarmcontroller.config.SwarmControllerProperties.Manager;
+import io.pockethive.swarmcontroller.config.SwarmControllerProperties.Metrics;
+import io.pockethive.swarmcontroller.config.SwarmControllerProperties.SwarmController;
+import io.pockethive.swarmcontroller.config.SwarmControllerProperties.Traffic;
+import io.pockethive.swarmcontroller.config.SwarmControllerProperties.WarmUp;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.boot.autoconfigure.amqp.RabbitProperties;
+
+/**
+ * Covers the warm-up phase between swarm-start and the swarm-wide enable.
+ */
+class SwarmRuntimeCoreWarmUpTest {
+
+  private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+  private final ControlPlanePublisher controlPublisher = mock(ControlPlanePublisher.class);
+
+  @Test
+  void enablesSwarmOnceEveryWarmedUpBeeConfirmed() throws Exception {
+    SwarmRuntimeCore core = newCoreWithWorkers(Duration.ofSeconds(30));
+
+    core.start("{}");
+
+    assertThat(core.getStatus()).isEqualTo(SwarmStatus.STARTING);
+    assertThat(core.hasPendingConfigUpdates()).isTrue();
+    assertThat(enableSignals()).isZero();
+
+    String correlationId = warmUpCorrelationId();
+    core.acknowledgeConfigUpdate("processor", "proc-1", correlationId);
+    assertThat(core.getStatus()).isEqualTo(SwarmStatus.STARTING);
+
+    core.acknowledgeConfigUpdate("processor", "proc-2", correlationId);
+
+    assertThat(core.getStatus()).isEqualTo(SwarmStatus.RUNNING);
+    assertThat(enableSignals()).isEqualTo(1);
+  }
+
+  @Test
+  void enablesSwarmWhenWarmUpTimesOut() throws Exception {
+    SwarmRuntimeCore core = newCoreWithWorkers(Duration.ofMillis(50));
+
+    core.start("{}");
+    Thread.sleep(100);
+
+    assertThat(core.hasPendingConfigUpdates()).isFalse();
+    assertThat(core.getStatus()).isEqualTo(SwarmStatus.RUNNING);
+    assertThat(enableSignals()).isEqualTo(1);
+  }
+
+  @Test
+  void stopClearsPendingWarmUp() throws Exception {
+    SwarmRuntimeCore core = newCoreWithWorkers(Duration.ofSeconds(30));
+    core.start("{}");
+    String correlationId = warmUpCorrelationId();
+
+    core.stop();
+    core.acknowledgeConfigUpdate("processor", "proc-1", correlationId);
+    core.acknowledgeConfigUpdate("processor", "proc-2", correlationId);
+
+    assertThat(core.hasPendingConfigUpdates()).isFalse();
+    assertThat(core.getStatus()).isEqualTo(SwarmStatus.STOPPED);
+    assertThat(enableSignals()).isZero();
+  }
+
+  private SwarmRuntimeCore newCoreWithWorkers(Duration warmUpTimeout) throws Exception {
+    AmqpAdmin amqp = mock(AmqpAdmin.class);
+    io.pockethive.docker.DockerContainerClient docker = mock(io.pockethive.docker.DockerContainerClient.class);
+    SwarmControllerProperties props = new SwarmControllerProperties(
+        "test-swarm",
+        "ph.control",
+        "ph.control",
+        new Manager("swarm-controller"),
+        new SwarmController(
+            new Traffic("ph.test.hive", "ph.test"),
+            new Metrics(
+                PocketHiveMetricsAdapter.DISABLED,
+                Duration.ofSeconds(10),
+                ClickHouseMetricsSinkProperties.disabled()),
+            new Docker(null, "/var/run/docker.sock", io.pockethive.manager.runtime.ComputeAdapterType.DOCKER_SINGLE, null, null),
+            new SwarmControllerProperties.Features(false),
+            null,
+            new WarmUp(2, warmUpTimeout, List.of("processor"))));
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ConfigFanout configFanout = new ConfigFanout(
+        mapper,
+        new SwarmControlPlanePortAdapter(controlPublisher),
+        props.getSwarmId(),
+        "inst");
+
+    SwarmRuntimeCore core = new SwarmRuntimeCore(
+        amqp,
+        mapper,
+        docker,
+        new RabbitProperties(),
+        props,
+        meterRegistry,
+        controlPublisher,
+        new io.pockethive.swarmcontroller.infra.amqp.SwarmWorkTopologyManager(amqp, props),
+        mock(io.pockethive.swarmcontroller.infra.docker.WorkloadProvisioner.class),
+        mock(io.pockethive.manager.ports.ComputeAdapter.class),
+        new io.pockethive.swarmcontroller.infra.amqp.SwarmQueueMetrics("test-swarm", meterRegistry),
+        configFanout,
+        SwarmJournal.noop(),
+        "inst",
+        new ClickHouseSinkProperties());
+
+    // Pretend the plan was already provisioned with two processor replicas and a generator.
+    SwarmRuntimeState state = new SwarmRuntimeState(
+        new SwarmRuntimeContext(new SwarmPlan("swarm", List.of()), List.of(), Set.of()));
+    state.registerWorker("generator", "gen-1", "c-gen-1");
+    state.registerWorker("processor", "proc-1", "c-proc-1");
+    state.registerReplica("processor", "proc-2", "c-proc-2");
+    configFanout.registerInstance("generator", "gen-1");
+    configFanout.registerInstance("processor", "proc-1");
+    configFanout.registerInstance("processor", "proc-2");
+    Field f = SwarmRuntimeCore.class.getDeclaredField("runtimeState");
+    f.setAccessible(true);
+    f.set(core, state);
+    return core;
+  }
+
+  private List<JsonNode> publishedSignals() throws Exception {
+    ArgumentCaptor<SignalMessage> captor = ArgumentCaptor.forClass(SignalMessage.class);
+    verify(controlPublisher, atLeastOnce()).publishSignal(captor.capture());
+    List<JsonNode> signals = new ArrayList<>();
+    for (SignalMessage message : captor.getAllValues()) {
+      signals.add(mapper.readTree((String) message.payload()));
+    }
+    return signals;
+  }
+
+  private String warmUpCorrelationId() throws Exception {
+    return publishedSignals().stream()
+        .filter(node -> node.path("data").has("warmup"))
+        .map(node -> node.path("correlationId").asText())
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private long enableSignals() throws Exception {
+    return publishedSignals().stream()
+        .filter(node -> node.path("data").path("enabled").asBoolean(false))
+        .count();
+  }
+}
@@ -0,0 +1,180 @@
+package io.pockethive.swarmcontroller.scenario;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.pockethive.control.ControlScope;
+import io.pockethive.manager.runtime.ConfigFanout;
+import io.pockethive.manager.runtime.ManagerLifecycle;
+import io.pockethive.manager.runtime.ManagerMetrics;
+import io.pockethive.manager.runtime.ManagerStatus;
+import io.pockethive.manager.scenario.ManagerRuntimeView;
+import io.pockethive.manager.scenario.ScenarioContext;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class TimelineScenarioTest {
+
+  private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+  private final ConfigFanout configFanout = mock(ConfigFanout.class);
+  private final ScenarioContext ctx = new ScenarioContext("sw1", mock(ManagerLifecycle.class), configFanout);
+  private final ManagerRuntimeView view = new ManagerRuntimeView(
+      ManagerStatus.RUNNING,
+      new ManagerMetrics(0, 0, 0, 0, 0),
+      Map.of());
+
+  @Test
+  void timerFiresStepsBetweenTicksAndReportsSkew() {
+    TimelineScenario scenario = new TimelineScenario("test", mapper);
+    scenario.applyPlan(beePlan("""
+        {"stepId": "s-1", "time": "PT0.1S", "config": {"hello": "world"}},
+        {"stepId": "s-2", "time": "PT0.2S", "type": "stop"}
+        """));
+
+    scenario.onTick(view, ctx);
+
+    verify(configFanout, timeout(2_000).times(2)).publishConfigUpdate(
+        eq(ControlScope.forInstance("sw1", "generator", "gen-1")), any(), eq("scenario"));
+    TimelineScenario.Progress progress = scenario.snapshotProgress();
+    assertThat(progress.firedStepIds).containsExactly("s-1", "s-2");
+    assertThat(progress.lastSkewMillis).isNotNull();
+    assertThat(progress.maxSkewMillis).isNotNull().isLessThan(1_000L);
+  }
+
+  @Test
+  void linearRampEmitsInterpolatedValuesAsOneStep() {
+    TimelineScenario scenario = new TimelineScenario("test", mapper);
+    scenario.applyPlan(beePlan("""
+        {"stepId": "ramp", "time": "PT0S", "type": "ramp",
+         "config": {"from": 10, "to": 30, "duration": "PT0.2S", "interval": "PT0.1S"}}
+        """));
+
+    scenario.onTick(view, ctx);
+
+    assertThat(publishedRates(3)).containsExactly(10.0, 20.0, 30.0);
+    assertThat(scenario.snapshotProgress().firedStepIds).containsExactly("ramp");
+  }
+
+  @Test
+  void exponentialRampCatchesUpOnTickWithoutTimer() throws Exception {
+    TimelineScenario scenario = new TimelineScenario("test", mapper, null, null);
+    scenario.applyPlan(beePlan("""
+        {"stepId": "ramp", "time": "PT0S", "type": "ramp",
+         "config": {"path": "inputs.scheduler.ratePerSec", "from": 1, "to": 100,
+                    "duration": "PT0.2S", "interval": "PT0.1S", "curve": "exponential"}}
+        """));
+
+    scenario.onTick(view, ctx);
+    assertThat(scenario.snapshotProgress().firedStepIds).isEmpty();
+    Thread.sleep(250);
+    scenario.onTick(view, ctx);
+
+    assertThat(publishedRates(3)).containsExactly(1.0, 10.0, 100.0);
+    assertThat(scenario.snapshotProgress().maxSkewMillis).isGreaterThanOrEqualTo(50L);
+  }
+
+  @Test
+  void suspendedTimelineFiresOnlyOnceTicksResume() throws Exception {
+    TimelineScenario scenario = new TimelineScenario("test", mapper);
+    scenario.applyPlan(beePlan("""
+        {"stepId": "s-1", "time": "PT0.1S", "config": {"hello": "world"}}
+        """));
+
+    scenario.onTick(view, ctx);
+    scenario.suspend();
+    Thread.sleep(300);
+    verify(configFanout, never()).publishConfigUpdate(any(ControlScope.class), any(), any());
+
+    scenario.onTick(view, ctx);
+    verify(configFanout, times(1)).publishConfigUpdate(any(ControlScope.class), any(), eq("scenario"));
+  }
+
+  @Test
+  void suspendShutsDownTheTimerThreadUntilTicksResume() throws Exception {
+    TimelineScenario scenario = new TimelineScenario("suspend-test", mapper);
+    scenario.applyPlan(beePlan("""
+        {"stepId": "s-1", "time": "PT0.2S", "config": {"hello": "world"}}
+        """));
+
+    scenario.onTick(view, ctx);
+    assertThat(timerThreadAlive("suspend-test")).isTrue();
+
+    scenario.suspend();
+    long deadline = System.nanoTime() + 2_000_000_000L;
+    while (timerThreadAlive("suspend-test") && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(timerThreadAlive("suspend-test")).isFalse();
+
+    scenario.onTick(view, ctx);
+    verify(configFanout, timeout(2_000).times(1)).publishConfigUpdate(any(ControlScope.class), any(), eq("scenario"));
+  }
+
+  @Test
+  void swarmStopStepFiringWhileControllerIsDisabledDoesNotDeadlock() {
+    Object coreMonitor = new Object();
+    CountDownLatch stepEntered = new CountDownLatch(1);
+    ManagerLifecycle lifecycle = mock(ManagerLifecycle.class);
+    doAnswer(invocation -> {
+      stepEntered.countDown();
+      // SwarmRuntimeCore.setSwarmEnabled is synchronized on the runtime core.
+      synchronized (coreMonitor) {
+        return null;
+      }
+    }).when(lifecycle).setWorkEnabled(false);
+    ScenarioContext swarmCtx = new ScenarioContext("sw1", lifecycle, configFanout);
+    TimelineScenario scenario = new TimelineScenario("deadlock-test", mapper);
+    scenario.applyPlan("""
+        {"swarm": [{"stepId": "stop", "time": "PT0.1S", "type": "stop"}]}
+        """);
+    scenario.onTick(view, swarmCtx);
+
+    assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+      // Same order as SwarmRuntimeCore.setControllerEnabled(false): core monitor first, then suspend().
+      synchronized (coreMonitor) {
+        assertThat(stepEntered.await(2, TimeUnit.SECONDS)).isTrue();
+        scenario.suspend();
+      }
+    });
+    verify(lifecycle, timeout(2_000)).setWorkEnabled(false);
+  }
+
+  private List<Double> publishedRates(int expected) {
+    ArgumentCaptor<ObjectNode> data = ArgumentCaptor.forClass(ObjectNode.class);
+    verify(configFanout, timeout(2_000).times(expected))
+        .publishConfigUpdate(any(ControlScope.class), data.capture(), eq("scenario"));
+    return data.getAllValues().stream()
+        .map(node -> node.path("inputs").path("scheduler").path("ratePerSec").asDouble())
+        .toList();
+  }
+
+  private static boolean timerThreadAlive(String scenarioId) {
+    return Thread.getAllStackTraces().keySet().stream()
+        .anyMatch(thread -> thread.isAlive() && thread.getName().equals("scenario-timeline-" + scenarioId));
+  }
+
+  private static String beePlan(String steps) {
+    return """
+        {
+          "bees": [
+            {"instanceId": "gen-1", "role": "generator", "steps": [%s]}
+          ]
+        }
+        """.formatted(steps);
+  }
+}
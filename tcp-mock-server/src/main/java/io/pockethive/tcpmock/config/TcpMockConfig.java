@@ -11,6 +11,10 @@ public class TcpMockConfig {
   private Filtering filtering = new Filtering();
   private Ssl ssl = new Ssl();
   private Connection connection = new Connection();
+  private RequestJournal requestJournal = new RequestJournal();
+  private Latency latency = new Latency();
+  private Iso8583 iso8583 = new Iso8583();
+  private Netty netty = new Netty();
 
   public int getPort() { return port; }
   public void setPort(int port) { this.port = port; }
@@ -21,6 +25,10 @@ public class TcpMockConfig {
   public Filtering getFiltering() { return filtering; }
   public Ssl getSsl() { return ssl; }
   public Connection getConnection() { return connection; }
+  public RequestJournal getRequestJournal() { return requestJournal; }
+  public Latency getLatency() { return latency; }
+  public Iso8583 getIso8583() { return iso8583; }
+  public Netty getNetty() { return netty; }
 
   public static class Dashboard {
     private boolean enabled = true;
@@ -77,4 +85,80 @@ public class TcpMockConfig {
     public int getMaxConnections() { return maxConnections; }
     public void setMaxConnections(int maxConnections) { this.maxConnections = maxConnections; }
   }
+
+  public static class RequestJournal {
+    private int capacity = 1000;
+    private boolean spillEnabled = false;
+    private String spillDirectory = "data/request-journal";
+    private long spillMaxFileBytes = 64L * 1024 * 1024;
+    private int spillMaxFiles = 5;
+    private int spillQueueCapacity = 10_000;
+
+    public int getCapacity() { return capacity; }
+    public void setCapacity(int capacity) { this.capacity = capacity; }
+    public boolean isSpillEnabled() { return spillEnabled; }
+    public void setSpillEnabled(boolean spillEnabled) { this.spillEnabled = spillEnabled; }
+    public String getSpillDirectory() { return spillDirectory; }
+    public void setSpillDirectory(String spillDirectory) { this.spillDirectory = spillDirectory; }
+    public long getSpillMaxFileBytes() { return spillMaxFileBytes; }
+    public void setSpillMaxFileBytes(long spillMaxFileBytes) { this.spillMaxFileBytes = spillMaxFileBytes; }
+    public int getSpillMaxFiles() { return spillMaxFiles; }
+    public void setSpillMaxFiles(int spillMaxFiles) { this.spillMaxFiles = spillMaxFiles; }
+    public int getSpillQueueCapacity() { return spillQueueCapacity; }
+    public void setSpillQueueCapacity(int spillQueueCapacity) { this.spillQueueCapacity = spillQueueCapacity; }
+  }
+
+  public static class Latency {
+    private String distribution = "none";
+    private long fixedMs = 0;
+    private long minMs = 0;
+    private long maxMs = 0;
+    private double medianMs = 0;
+    private double sigma = 0.5;
+    private String percentiles;
+
+    public String getDistribution() { return distribution; }
+    public void setDistribution(String distribution) { this.distribution = distribution; }
+    public long getFixedMs() { return fixedMs; }
+    public void setFixedMs(long fixedMs) { this.fixedMs = fixedMs; }
+    public long getMinMs() { return minMs; }
+    public void setMinMs(long minMs) { this.minMs = minMs; }
+    public long getMaxMs() { return maxMs; }
+    public void setMaxMs(long maxMs) { this.maxMs = maxMs; }
+    public double getMedianMs() { return medianMs; }
+    public void setMedianMs(double medianMs) { this.medianMs = medianMs; }
+    public double getSigma() { return sigma; }
+    public void setSigma(double sigma) { this.sigma = sigma; }
+    public String getPercentiles() { return percentiles; }
+    public void setPercentiles(String percentiles) { this.percentiles = percentiles; }
+  }
+
+  public static class Iso8583 {
+    private String dialect = "auto";
+
+    public String getDialect() { return dialect; }
+    public void setDialect(String dialect) { this.dialect = dialect; }
+  }
+
+  public static class Netty {
+    private String transport = "auto";
+    private int bossThreads = 1;
+    private int workerThreads = 0;
+    private int acceptors = 1;
+    private boolean directBuffers = true;
+    private boolean wireLogging = false;
+
+    public String getTransport() { return transport; }
+    public void setTransport(String transport) { this.transport = transport; }
+    public int getBossThreads() { return bossThreads; }
+    public void setBossThreads(int bossThreads) { this.bossThreads = bossThreads; }
+    public int getWorkerThreads() { return workerThreads; }
+    public void setWorkerThreads(int workerThreads) { this.workerThreads = workerThreads; }
+    public int getAcceptors() { return acceptors; }
+    public void setAcceptors(int acceptors) { this.acceptors = acceptors; }
+    public boolean isDirectBuffers() { return directBuffers; }
+    public void setDirectBuffers(boolean directBuffers) { this.directBuffers = directBuffers; }
+    public boolean isWireLogging() { return wireLogging; }
+    public void setWireLogging(boolean wireLogging) { this.wireLogging = wireLogging; }
+  }
 }
@@ -4,16 +4,26 @@ import io.pockethive.tcpmock.handler.ProtocolDetectionHandler;
 import io.pockethive.tcpmock.handler.UnifiedTcpRequestHandler;
 import io.pockethive.tcpmock.handler.BinaryMessageHandler;
 import io.pockethive.tcpmock.handler.FaultInjectionHandler;
+import io.pockethive.tcpmock.handler.Iso8583FrameHandler;
 import io.pockethive.tcpmock.handler.TcpProxyHandler;
 import io.pockethive.tcpmock.config.TcpMockConfig;
+import io.pockethive.tcpmock.service.LatencySimulator;
 import io.pockethive.tcpmock.service.MessageTypeRegistry;
 import io.pockethive.tcpmock.service.ValidationService;
 import io.pockethive.tcpmock.util.TcpMetrics;
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.*;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.logging.LogLevel;
+import io.netty.handler.logging.LoggingHandler;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.SelfSignedCertificate;
@@ -22,6 +32,8 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 import javax.net.ssl.SSLException;
 import java.security.cert.CertificateException;
+import java.util.ArrayList;
+import java.util.List;
 
 @Component
 public class TcpMockServer implements CommandLineRunner {
@@ -32,6 +44,8 @@ public class TcpMockServer implements CommandLineRunner {
     private final TcpMetrics tcpMetrics;
     private final FaultInjectionHandler faultInjectionHandler;
     private final TcpProxyHandler tcpProxyHandler;
+    private final LatencySimulator latencySimulator;
+    private final Iso8583FrameHandler iso8583Handler;
     private SslContext sslContext;
 
     public TcpMockServer(TcpMockConfig config,
@@ -40,7 +54,9 @@ public class TcpMockServer implements CommandLineRunner {
                         ValidationService validationService,
                         TcpMetrics tcpMetrics,
                         FaultInjectionHandler faultInjectionHandler,
-                        TcpProxyHandler tcpProxyHandler) {
+                        TcpProxyHandler tcpProxyHandler,
+                        LatencySimulator latencySimulator,
+                        Iso8583FrameHandler iso8583Handler) {
         this.config = config;
         this.requestHandler = requestHandler;
         this.messageTypeRegistry = messageTypeRegistry;
@@ -48,6 +64,8 @@ public class TcpMockServer implements CommandLineRunner {
         this.tcpMetrics = tcpMetrics;
         this.faultInjectionHandler = faultInjectionHandler;
         this.tcpProxyHandler = tcpProxyHandler;
+        this.latencySimulator = latencySimulator;
+        this.iso8583Handler = iso8583Handler;
         initializeSsl();
     }
 
@@ -64,13 +82,22 @@ public class TcpMockServer implements CommandLineRunner {
 
     @Override
     public void run(String... args) throws Exception {
-        EventLoopGroup bossGroup = new NioEventLoopGroup(1);
-        EventLoopGroup workerGroup = new NioEventLoopGroup();
+        TcpMockConfig.Netty netty = config.getNetty();
+        boolean epoll = useEpoll(netty.getTransport());
+        int acceptors = epoll ? Math.max(1, netty.getAcceptors()) : 1;
+        int bossThreads = Math.max(Math.max(1, netty.getBossThreads()), acceptors);
+        int workerThreads = Math.max(0, netty.getWorkerThreads());
+        EventLoopGroup bossGroup = epoll ? new EpollEventLoopGroup(bossThreads) : new NioEventLoopGroup(bossThreads);
+        EventLoopGroup workerGroup = epoll ? new EpollEventLoopGroup(workerThreads) : new NioEventLoopGroup(workerThreads);
+        Class<? extends ServerSocketChannel> channelClass =
+            epoll ? EpollServerSocketChannel.class : NioServerSocketChannel.class;
+        PooledByteBufAllocator allocator = new PooledByteBufAllocator(netty.isDirectBuffers());
+        boolean wireLogging = netty.isWireLogging();
 
         try {
             ServerBootstrap bootstrap = new ServerBootstrap();
             bootstrap.group(bossGroup, workerGroup)
-                .channel(NioServerSocketChannel.class)
+                .channel(channelClass)
                 .childHandler(new ChannelInitializer<SocketChannel>() {
                     @Override
                     protected void initChannel(SocketChannel ch) {
@@ -82,34 +109,66 @@ public class TcpMockServer implements CommandLineRunner {
                         }
 
                         // TCP traffic logging
-                        pipeline.addLast(new io.netty.handler.logging.LoggingHandler(io.netty.handler.logging.LogLevel.DEBUG));
+                        addWireLogging(pipeline, wireLogging);
 
                         // Connection management
                         pipeline.addLast(new IdleStateHandler(config.getConnection().getIdleTimeout(), 0, 0));
 
                         // Protocol detection and framing
-                        pipeline.addLast(new ProtocolDetectionHandler(config, messageTypeRegistry));
+                        pipeline.addLast(new ProtocolDetectionHandler(config, messageTypeRegistry, iso8583Handler));
 
                         // Dual handler: String for text, ByteBuf for binary
                         pipeline.addLast("textHandler", requestHandler);
                         pipeline.addLast("binaryHandler", new BinaryMessageHandler(
                             messageTypeRegistry, validationService, tcpMetrics,
-                            faultInjectionHandler, tcpProxyHandler));
+                            faultInjectionHandler, tcpProxyHandler, latencySimulator));
                     }
                 })
                 .option(ChannelOption.SO_BACKLOG, config.getConnection().getBacklog())
+                .childOption(ChannelOption.ALLOCATOR, allocator)
                 .childOption(ChannelOption.SO_KEEPALIVE, true)
                 .childOption(ChannelOption.TCP_NODELAY, true)
                 .childOption(ChannelOption.SO_RCVBUF, 32 * 1024)
                 .childOption(ChannelOption.SO_SNDBUF, 32 * 1024);
 
-            ChannelFuture future = bootstrap.bind(config.getPort()).sync();
-            System.out.println("TCP Mock Server started on port " + config.getPort());
+            if (acceptors > 1) {
+                // Each listener gets its own boss loop; the kernel spreads accepts across them
+                bootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+            }
+
+            List<Channel> listeners = new ArrayList<>(acceptors);
+            for (int i = 0; i < acceptors; i++) {
+                listeners.add(bootstrap.bind(config.getPort()).sync().channel());
+            }
+            System.out.println("TCP Mock Server started on port " + config.getPort()
+                + " (transport=" + (epoll ? "epoll" : "nio") + ", acceptors=" + acceptors
+                + ", workers=" + (workerThreads == 0 ? "default" : workerThreads) + ")");
 
-            future.channel().closeFuture().sync();
+            for (Channel listener : listeners) {
+                listener.closeFuture().sync();
+            }
         } finally {
             workerGroup.shutdownGracefully();
             bossGroup.shutdownGracefully();
         }
     }
+
+    private static boolean useEpoll(String transport) {
+        boolean epoll = useEpoll(transport, Epoll.isAvailable());
+        if (!epoll && "epoll".equalsIgnoreCase(transport)) {
+            System.err.println("Epoll transport requested but unavailable, falling back to NIO: "
+                + Epoll.unavailabilityCause());
+        }
+        return epoll;
+    }
+
+    static boolean useEpoll(String transport, boolean epollAvailable) {
+        return !"nio".equalsIgnoreCase(transport) && epollAvailable;
+    }
+
+    static void addWireLogging(ChannelPipeline pipeline, boolean wireLogging) {
+        if (wireLogging) {
+            pipeline.addLast(new LoggingHandler(LogLevel.DEBUG));
+        }
+    }
 }
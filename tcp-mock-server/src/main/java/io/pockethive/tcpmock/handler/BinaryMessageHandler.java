@@ -4,6 +4,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
+import io.pockethive.tcpmock.service.LatencySimulator;
 import io.pockethive.tcpmock.service.MessageTypeRegistry;
 import io.pockethive.tcpmock.service.ValidationService;
 import io.pockethive.tcpmock.model.ProcessedResponse;
@@ -20,17 +21,20 @@ public class BinaryMessageHandler extends SimpleChannelInboundHandler<ByteBuf> {
     private final TcpMetrics metrics;
     private final FaultInjectionHandler faultHandler;
     private final TcpProxyHandler proxyHandler;
+    private final LatencySimulator latencySimulator;
 
     public BinaryMessageHandler(MessageTypeRegistry messageTypeRegistry,
                                 ValidationService validationService,
                                 TcpMetrics metrics,
                                 FaultInjectionHandler faultHandler,
-                                TcpProxyHandler proxyHandler) {
+                                TcpProxyHandler proxyHandler,
+                                LatencySimulator latencySimulator) {
         this.messageTypeRegistry = messageTypeRegistry;
         this.validationService = validationService;
         this.metrics = metrics;
         this.faultHandler = faultHandler;
         this.proxyHandler = proxyHandler;
+        this.latencySimulator = latencySimulator;
     }
 
     @Override
@@ -52,15 +56,12 @@ public class BinaryMessageHandler extends SimpleChannelInboundHandler<ByteBuf> {
         // Process through mapping registry
         ProcessedResponse response = messageTypeRegistry.processMessage(hexMessage);
         
-        // Handle delay
-        if (response.hasDelay()) {
-            try {
-                Thread.sleep(response.getDelayMs());
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }
-        
+        // Delay without blocking the event loop
+        long delayMs = latencySimulator.delayFor(response.getDelayMs());
+        latencySimulator.schedule(ctx, delayMs, () -> respond(ctx, hexMessage, response));
+    }
+
+    private void respond(ChannelHandlerContext ctx, String hexMessage, ProcessedResponse response) {
         // Handle fault injection
         if (response.hasFault()) {
             faultHandler.handleFault(ctx, response.getFault());
@@ -0,0 +1,251 @@
+package io.pockethive.tcpmock.handler;
+
+import io.netty.buffer.ByteBuf;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+
+/**
+ * Wire encoding of an ISO-8583:1987 message with a binary bitmap.
+ * <ul>
+ *   <li>{@link #ASCII}: MTI, numeric fields and LL/LLL length prefixes as ASCII digits.</li>
+ *   <li>{@link #BCD}: MTI, numeric fields and length prefixes as packed BCD.</li>
+ * </ul>
+ * Character fields are ISO-8859-1 and binary fields raw bytes in both dialects.
+ */
+public enum Iso8583Dialect {
+    ASCII,
+    BCD;
+
+    enum Kind { NUMERIC, CHAR, AMOUNT, BINARY, LLNUM, LLCHAR, LLLCHAR }
+
+    record FieldDef(Kind kind, int length) {}
+
+    private static final FieldDef[] FIELDS = new FieldDef[129];
+
+    static {
+        def(Kind.LLNUM, 19, 2);
+        def(Kind.NUMERIC, 6, 3);
+        def(Kind.NUMERIC, 12, 4, 5, 6);
+        def(Kind.NUMERIC, 10, 7);
+        def(Kind.NUMERIC, 8, 8, 9, 10);
+        def(Kind.NUMERIC, 6, 11, 12);
+        def(Kind.NUMERIC, 4, 13, 14, 15, 16, 17, 18);
+        def(Kind.NUMERIC, 3, 19, 20, 21, 22, 23, 24);
+        def(Kind.NUMERIC, 2, 25, 26);
+        def(Kind.NUMERIC, 1, 27);
+        def(Kind.AMOUNT, 8, 28, 29, 30, 31);
+        def(Kind.LLNUM, 11, 32, 33);
+        def(Kind.LLCHAR, 28, 34);
+        def(Kind.LLCHAR, 37, 35);
+        def(Kind.LLLCHAR, 104, 36);
+        def(Kind.CHAR, 12, 37);
+        def(Kind.CHAR, 6, 38);
+        def(Kind.CHAR, 2, 39);
+        def(Kind.CHAR, 3, 40);
+        def(Kind.CHAR, 8, 41);
+        def(Kind.CHAR, 15, 42);
+        def(Kind.CHAR, 40, 43);
+        def(Kind.LLCHAR, 25, 44);
+        def(Kind.LLCHAR, 76, 45);
+        def(Kind.LLLCHAR, 999, 46, 47, 48);
+        def(Kind.CHAR, 3, 49, 50, 51);
+        def(Kind.BINARY, 8, 52);
+        def(Kind.NUMERIC, 16, 53);
+        def(Kind.LLLCHAR, 120, 54);
+        def(Kind.LLLCHAR, 999, 55, 56, 57, 58, 59, 60, 61, 62, 63);
+        def(Kind.BINARY, 8, 64);
+        def(Kind.BINARY, 1, 65);
+        def(Kind.NUMERIC, 1, 66);
+        def(Kind.NUMERIC, 2, 67);
+        def(Kind.NUMERIC, 3, 68, 69, 70);
+        def(Kind.NUMERIC, 4, 71, 72);
+        def(Kind.NUMERIC, 6, 73);
+        def(Kind.NUMERIC, 10, 74, 75, 76, 77, 78, 79, 80, 81);
+        def(Kind.NUMERIC, 12, 82, 83, 84, 85);
+        def(Kind.NUMERIC, 16, 86, 87, 88, 89);
+        def(Kind.NUMERIC, 42, 90);
+        def(Kind.CHAR, 1, 91);
+        def(Kind.CHAR, 2, 92);
+        def(Kind.CHAR, 5, 93);
+        def(Kind.CHAR, 7, 94);
+        def(Kind.CHAR, 42, 95);
+        def(Kind.BINARY, 8, 96);
+        def(Kind.AMOUNT, 16, 97);
+        def(Kind.CHAR, 25, 98);
+        def(Kind.LLNUM, 11, 99, 100);
+        def(Kind.LLCHAR, 17, 101);
+        def(Kind.LLCHAR, 28, 102, 103);
+        def(Kind.LLLCHAR, 100, 104);
+        for (int field = 105; field <= 127; field++) {
+            def(Kind.LLLCHAR, 999, field);
+        }
+        def(Kind.BINARY, 8, 128);
+    }
+
+    private static void def(Kind kind, int length, int... fields) {
+        for (int field : fields) {
+            FIELDS[field] = new FieldDef(kind, length);
+        }
+    }
+
+    static FieldDef field(int field) {
+        if (field < 2 || field > 128) {
+            throw new IllegalArgumentException("ISO-8583 field out of range: " + field);
+        }
+        return FIELDS[field];
+    }
+
+    /** Guesses the dialect from the first MTI byte: an ASCII digit means {@link #ASCII}. */
+    static Iso8583Dialect detect(ByteBuf frame) {
+        byte first = frame.getByte(frame.readerIndex());
+        return first >= '0' && first <= '9' ? ASCII : BCD;
+    }
+
+    int mtiLength() {
+        return this == ASCII ? 4 : 2;
+    }
+
+    int readMti(ByteBuf buf, int index) {
+        return this == ASCII ? readAsciiDigits(buf, index, 4) : readBcdDigits(buf, index, 2);
+    }
+
+    void writeMti(ByteBuf out, int mti) {
+        int d0 = mti / 1000 % 10;
+        int d1 = mti / 100 % 10;
+        int d2 = mti / 10 % 10;
+        int d3 = mti % 10;
+        if (this == ASCII) {
+            out.writeByte('0' + d0).writeByte('0' + d1).writeByte('0' + d2).writeByte('0' + d3);
+        } else {
+            out.writeByte(d0 << 4 | d1).writeByte(d2 << 4 | d3);
+        }
+    }
+
+    /**
+     * Encoded size in bytes (length prefix included) of {@code field} starting at {@code index}.
+     */
+    int encodedLength(ByteBuf buf, int index, int field) {
+        FieldDef def = field(field);
+        return switch (def.kind()) {
+            case NUMERIC -> numericBytes(def.length());
+            case CHAR, BINARY -> def.length();
+            case AMOUNT -> 1 + numericBytes(def.length());
+            case LLNUM -> prefixBytes(2) + numericBytes(readPrefix(buf, index, 2));
+            case LLCHAR -> prefixBytes(2) + readPrefix(buf, index, 2);
+            case LLLCHAR -> prefixBytes(3) + readPrefix(buf, index, 3);
+        };
+    }
+
+    /**
+     * Full wire encoding (length prefix included) of {@code value} for {@code field}. Numeric values are
+     * digits, binary values hex, everything else ISO-8859-1 text.
+     */
+    byte[] encodeField(int field, String value) {
+        FieldDef def = field(field);
+        return switch (def.kind()) {
+            case NUMERIC -> encodeNumeric(leftPad(value, def.length(), '0'), def.length());
+            case CHAR -> rightPad(value, def.length()).getBytes(StandardCharsets.ISO_8859_1);
+            case AMOUNT -> concat(new byte[] {(byte) value.charAt(0)},
+                encodeNumeric(leftPad(value.substring(1), def.length(), '0'), def.length()));
+            case BINARY -> {
+                byte[] bytes = HexFormat.of().parseHex(value);
+                if (bytes.length != def.length()) {
+                    throw new IllegalArgumentException("Field " + field + " must be " + def.length() + " bytes");
+                }
+                yield bytes;
+            }
+            case LLNUM -> concat(encodePrefix(checkMax(field, value.length(), def), 2), encodeNumeric(value, value.length()));
+            case LLCHAR -> concat(encodePrefix(checkMax(field, value.length(), def), 2),
+                value.getBytes(StandardCharsets.ISO_8859_1));
+            case LLLCHAR -> concat(encodePrefix(checkMax(field, value.length(), def), 3),
+                value.getBytes(StandardCharsets.ISO_8859_1));
+        };
+    }
+
+    private int numericBytes(int digits) {
+        return this == ASCII ? digits : (digits + 1) / 2;
+    }
+
+    private int prefixBytes(int digits) {
+        return this == ASCII ? digits : (digits + 1) / 2;
+    }
+
+    private int readPrefix(ByteBuf buf, int index, int digits) {
+        return this == ASCII ? readAsciiDigits(buf, index, digits) : readBcdDigits(buf, index, prefixBytes(digits));
+    }
+
+    private byte[] encodePrefix(int length, int digits) {
+        return encodeNumeric(leftPad(Integer.toString(length), digits, '0'), digits);
+    }
+
+    private byte[] encodeNumeric(String digits, int length) {
+        for (int i = 0; i < digits.length(); i++) {
+            if (digits.charAt(i) < '0' || digits.charAt(i) > '9') {
+                throw new IllegalArgumentException("Not a numeric value: " + digits);
+            }
+        }
+        if (this == ASCII) {
+            return digits.getBytes(StandardCharsets.US_ASCII);
+        }
+        String padded = (length & 1) == 1 ? "0" + digits : digits;
+        byte[] packed = new byte[padded.length() / 2];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = (byte) (((padded.charAt(2 * i) - '0') << 4) | (padded.charAt(2 * i + 1) - '0'));
+        }
+        return packed;
+    }
+
+    private static int readAsciiDigits(ByteBuf buf, int index, int digits) {
+        int value = 0;
+        for (int i = 0; i < digits; i++) {
+            int d = buf.getByte(index + i) - '0';
+            if (d < 0 || d > 9) {
+                throw new IllegalArgumentException("Invalid ASCII digit at offset " + (index + i));
+            }
+            value = value * 10 + d;
+        }
+        return value;
+    }
+
+    private static int readBcdDigits(ByteBuf buf, int index, int bytes) {
+        int value = 0;
+        for (int i = 0; i < bytes; i++) {
+            int b = buf.getUnsignedByte(index + i);
+            int hi = b >> 4;
+            int lo = b & 0x0F;
+            if (hi > 9 || lo > 9) {
+                throw new IllegalArgumentException("Invalid BCD byte at offset " + (index + i));
+            }
+            value = value * 100 + hi * 10 + lo;
+        }
+        return value;
+    }
+
+    private static int checkMax(int field, int length, FieldDef def) {
+        if (length > def.length()) {
+            throw new IllegalArgumentException("Field " + field + " exceeds max length " + def.length());
+        }
+        return length;
+    }
+
+    private static String leftPad(String value, int length, char pad) {
+        if (value.length() > length) {
+            throw new IllegalArgumentException("Value '" + value + "' exceeds length " + length);
+        }
+        return String.valueOf(pad).repeat(length - value.length()) + value;
+    }
+
+    private static String rightPad(String value, int length) {
+        if (value.length() > length) {
+            throw new IllegalArgumentException("Value '" + value + "' exceeds length " + length);
+        }
+        return value + " ".repeat(length - value.length());
+    }
+
+    private static byte[] concat(byte[] a, byte[] b) {
+        byte[] out = new byte[a.length + b.length];
+        System.arraycopy(a, 0, out, 0, a.length);
+        System.arraycopy(b, 0, out, a.length, b.length);
+        return out;
+    }
+}
@@ -0,0 +1,156 @@
+package io.pockethive.tcpmock.handler;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+/**
+ * Read-only ISO-8583 view over a frame buffer (MTI + binary bitmap + fields).
+ * <p>
+ * The MTI and bitmap are decoded up front; field offsets are resolved lazily, walking only as far as the
+ * highest field a caller asks for. Field values are never turned into strings: matching compares encoded
+ * bytes in place and {@link #buildResponse} copies untouched fields straight from the request buffer.
+ */
+public final class Iso8583Frame {
+
+    private final ByteBuf buf;
+    private final Iso8583Dialect dialect;
+    private final int mti;
+    private final long primary;
+    private final long secondary;
+    private final int[] offsets = new int[129];
+    private final int[] lengths = new int[129];
+    private int cursor;
+    private int lastIndexed = 1;
+
+    private Iso8583Frame(ByteBuf buf, Iso8583Dialect dialect) {
+        this.buf = buf;
+        this.dialect = dialect;
+        int index = buf.readerIndex();
+        int mtiLength = dialect.mtiLength();
+        require(index + mtiLength + 8, "bitmap");
+        this.mti = dialect.readMti(buf, index);
+        this.primary = buf.getLong(index + mtiLength);
+        boolean hasSecondary = primary < 0; // bit 1
+        if (hasSecondary) {
+            require(index + mtiLength + 16, "secondary bitmap");
+        }
+        this.secondary = hasSecondary ? buf.getLong(index + mtiLength + 8) : 0L;
+        this.cursor = index + mtiLength + (hasSecondary ? 16 : 8);
+    }
+
+    /**
+     * Wraps {@code frame} (readable bytes only). Throws {@link IllegalArgumentException} when the frame is
+     * too short or its MTI is not valid for the dialect.
+     */
+    public static Iso8583Frame parse(ByteBuf frame, Iso8583Dialect dialect) {
+        return new Iso8583Frame(frame, dialect);
+    }
+
+    public Iso8583Dialect dialect() {
+        return dialect;
+    }
+
+    /** MTI as a number, e.g. 100 for "0100". */
+    public int mti() {
+        return mti;
+    }
+
+    public boolean has(int field) {
+        if (field < 1 || field > 128) {
+            return false;
+        }
+        long bitmap = field <= 64 ? primary : secondary;
+        int bit = (field - 1) & 63;
+        return (bitmap & (1L << (63 - bit))) != 0;
+    }
+
+    /**
+     * True when {@code field} is present and its encoding (length prefix included) equals {@code encoded}.
+     */
+    public boolean fieldEquals(int field, byte[] encoded) {
+        if (!index(field) || lengths[field] != encoded.length) {
+            return false;
+        }
+        int offset = offsets[field];
+        for (int i = 0; i < encoded.length; i++) {
+            if (buf.getByte(offset + i) != encoded[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds a response by copying this frame and patching it: the MTI is replaced, fields in
+     * {@code patches} (indexed by field number, already encoded for this dialect) are set or replaced and
+     * fields in {@code removed} are dropped. All other fields are copied byte-for-byte.
+     */
+    public ByteBuf buildResponse(ByteBufAllocator alloc, int responseMti, byte[][] patches, boolean[] removed) {
+        index(128);
+        long outPrimary = primary & ~Long.MIN_VALUE;
+        long outSecondary = secondary;
+        int size = dialect.mtiLength() + 16;
+        for (int field = 2; field <= 128; field++) {
+            boolean present;
+            if (patches[field] != null) {
+                present = true;
+                size += patches[field].length;
+            } else if (has(field) && !removed[field]) {
+                present = true;
+                size += lengths[field];
+            } else {
+                present = false;
+            }
+            long mask = 1L << (63 - ((field - 1) & 63));
+            if (field <= 64) {
+                outPrimary = present ? outPrimary | mask : outPrimary & ~mask;
+            } else {
+                outSecondary = present ? outSecondary | mask : outSecondary & ~mask;
+            }
+        }
+        boolean withSecondary = outSecondary != 0;
+        if (withSecondary) {
+            outPrimary |= Long.MIN_VALUE;
+        } else {
+            size -= 8;
+        }
+
+        ByteBuf out = alloc.buffer(size);
+        dialect.writeMti(out, responseMti);
+        out.writeLong(outPrimary);
+        if (withSecondary) {
+            out.writeLong(outSecondary);
+        }
+        for (int field = 2; field <= 128; field++) {
+            if (patches[field] != null) {
+                out.writeBytes(patches[field]);
+            } else if (has(field) && !removed[field]) {
+                out.writeBytes(buf, offsets[field], lengths[field]);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Resolves offsets up to {@code field}; returns whether the field is present.
+     */
+    private boolean index(int field) {
+        while (lastIndexed < field) {
+            int next = ++lastIndexed;
+            if (has(next)) {
+                int length = dialect.encodedLength(buf, cursor, next);
+                require(cursor + length, "field " + next);
+                offsets[next] = cursor;
+                lengths[next] = length;
+                cursor += length;
+            }
+        }
+        return has(field);
+    }
+
+    private void require(int end, String what) {
+        if (end > buf.writerIndex()) {
+            throw new IllegalArgumentException("ISO-8583 frame truncated in " + what);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.pockethive.tcpmock.handler;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.pockethive.tcpmock.config.TcpMockConfig;
+import io.pockethive.tcpmock.model.TcpRequest;
+import io.pockethive.tcpmock.service.LatencySimulator;
+import io.pockethive.tcpmock.service.MessageTypeRegistry;
+import io.pockethive.tcpmock.service.RequestStore;
+import io.pockethive.tcpmock.util.TcpMetrics;
+import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Native ISO-8583 handler for {@code ISO8583_2B} connections, installed after the 2-byte length decoder.
+ * <p>
+ * Frames are matched against mappings' {@code iso8583} rules directly on the {@link ByteBuf} and answered
+ * with a copied-and-patched request buffer. Hex is rendered only for the UI request log. Frames that do
+ * not parse or match no rule continue down the pipeline as ISO-8859-1 strings, exactly as on a
+ * {@code LENGTH_PREFIX_2B} connection, so existing regex mappings keep working.
+ */
+@Component
+@ChannelHandler.Sharable
+public class Iso8583FrameHandler extends SimpleChannelInboundHandler<ByteBuf> {
+    private final MessageTypeRegistry registry;
+    private final RequestStore requestStore;
+    private final LatencySimulator latencySimulator;
+    private final TcpMetrics metrics;
+    private final Iso8583Dialect dialect;
+
+    public Iso8583FrameHandler(MessageTypeRegistry registry,
+                               RequestStore requestStore,
+                               LatencySimulator latencySimulator,
+                               TcpMetrics metrics,
+                               TcpMockConfig config) {
+        this.registry = registry;
+        this.requestStore = requestStore;
+        this.latencySimulator = latencySimulator;
+        this.metrics = metrics;
+        String configured = config.getIso8583().getDialect();
+        this.dialect = configured == null || configured.isBlank() || "auto".equalsIgnoreCase(configured)
+            ? null : Iso8583Dialect.valueOf(configured.trim().toUpperCase(Locale.ROOT));
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, ByteBuf frame) {
+        if (!frame.isReadable()) {
+            return;
+        }
+        Iso8583Rule rule;
+        Iso8583Frame iso;
+        try {
+            iso = Iso8583Frame.parse(frame, dialect != null ? dialect : Iso8583Dialect.detect(frame));
+            rule = registry.matchIso8583(iso);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            rule = null;
+            iso = null;
+        }
+        if (rule == null) {
+            ctx.fireChannelRead(frame.toString(StandardCharsets.ISO_8859_1));
+            return;
+        }
+
+        metrics.incrementTotal();
+        ByteBuf response = rule.respond(iso, ctx.alloc());
+        requestStore.addRequest(new TcpRequest(
+            UUID.randomUUID().toString(),
+            "unknown",
+            ByteBufUtil.hexDump(frame),
+            Map.of("behavior", "ISO8583", "mapping", rule.mapping().getId()),
+            "ISO8583",
+            Instant.now(),
+            ByteBufUtil.hexDump(response)));
+
+        long delayMs = latencySimulator.delayFor(rule.mapping().getFixedDelayMs());
+        latencySimulator.schedule(ctx, delayMs, () -> ctx.writeAndFlush(response));
+    }
+}
@@ -0,0 +1,105 @@
+package io.pockethive.tcpmock.handler;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.pockethive.tcpmock.model.Iso8583Matching;
+import io.pockethive.tcpmock.model.MessageTypeMapping;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A mapping's {@link Iso8583Matching} compiled into per-dialect byte encodings, so matching and response
+ * building work on raw frame bytes only.
+ */
+public final class Iso8583Rule {
+
+    private final MessageTypeMapping mapping;
+    private final int mti;
+    private final int responseMti;
+    private final int[] fields;
+    private final byte[][][] values;
+    private final byte[][][] patches;
+    private final boolean[] removed = new boolean[129];
+
+    private Iso8583Rule(MessageTypeMapping mapping, Iso8583Matching spec) {
+        this.mapping = mapping;
+        this.mti = spec.getMti() == null ? -1 : parseMti(spec.getMti());
+        this.responseMti = spec.getResponseMti() == null ? -1 : parseMti(spec.getResponseMti());
+
+        Map<Integer, String> match = spec.getFields() == null ? Map.of() : new TreeMap<>(spec.getFields());
+        Map<Integer, String> set = new TreeMap<>();
+        if (spec.getResponseCode() != null) {
+            set.put(39, spec.getResponseCode());
+        }
+        if (spec.getResponseFields() != null) {
+            set.putAll(spec.getResponseFields());
+        }
+        if (spec.getRemoveFields() != null) {
+            for (Integer field : spec.getRemoveFields()) {
+                Iso8583Dialect.field(field);
+                removed[field] = true;
+            }
+        }
+
+        Iso8583Dialect[] dialects = Iso8583Dialect.values();
+        this.fields = match.keySet().stream().mapToInt(Integer::intValue).toArray();
+        this.values = new byte[dialects.length][fields.length][];
+        this.patches = new byte[dialects.length][129][];
+        for (Iso8583Dialect dialect : dialects) {
+            for (int i = 0; i < fields.length; i++) {
+                values[dialect.ordinal()][i] = dialect.encodeField(fields[i], match.get(fields[i]));
+            }
+            for (Map.Entry<Integer, String> entry : set.entrySet()) {
+                patches[dialect.ordinal()][entry.getKey()] = dialect.encodeField(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Compiles {@code mapping.getIso8583()}. Throws {@link IllegalArgumentException} for invalid MTIs,
+     * field numbers or values.
+     */
+    public static Iso8583Rule compile(MessageTypeMapping mapping) {
+        return new Iso8583Rule(mapping, mapping.getIso8583());
+    }
+
+    public MessageTypeMapping mapping() {
+        return mapping;
+    }
+
+    /** Request MTI this rule is restricted to, or -1 for any. */
+    public int mti() {
+        return mti;
+    }
+
+    public boolean matches(Iso8583Frame frame) {
+        if (mti >= 0 && frame.mti() != mti) {
+            return false;
+        }
+        byte[][] expected = values[frame.dialect().ordinal()];
+        for (int i = 0; i < fields.length; i++) {
+            if (!frame.fieldEquals(fields[i], expected[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public ByteBuf respond(Iso8583Frame frame, ByteBufAllocator alloc) {
+        int outMti = responseMti >= 0 ? responseMti : defaultResponseMti(frame.mti());
+        return frame.buildResponse(alloc, outMti, patches[frame.dialect().ordinal()], removed);
+    }
+
+    /** Request → response MTI: the function digit (third) goes up by one, e.g. 0100 → 0110, 0800 → 0810. */
+    static int defaultResponseMti(int requestMti) {
+        int function = requestMti / 10 % 10;
+        return function % 2 == 0 ? requestMti + 10 : requestMti;
+    }
+
+    private static int parseMti(String mti) {
+        if (mti.length() != 4 || !mti.chars().allMatch(Character::isDigit)) {
+            throw new IllegalArgumentException("MTI must be 4 digits: " + mti);
+        }
+        return Integer.parseInt(mti);
+    }
+}
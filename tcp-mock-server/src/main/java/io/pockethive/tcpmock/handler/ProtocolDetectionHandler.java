@@ -34,11 +34,18 @@ public class ProtocolDetectionHandler extends ByteToMessageDecoder {
 
     private final TcpMockConfig config;
     private final MessageTypeRegistry registry;
+    private final Iso8583FrameHandler iso8583Handler;
     private boolean resolved = false;
 
     public ProtocolDetectionHandler(TcpMockConfig config, MessageTypeRegistry registry) {
+        this(config, registry, null);
+    }
+
+    public ProtocolDetectionHandler(TcpMockConfig config, MessageTypeRegistry registry,
+                                    Iso8583FrameHandler iso8583Handler) {
         this.config = config;
         this.registry = registry;
+        this.iso8583Handler = iso8583Handler;
     }
 
     @Override
@@ -100,7 +107,7 @@ public class ProtocolDetectionHandler extends ByteToMessageDecoder {
         int len2 = buf.getUnsignedShort(ri);
         byte mtiHigh = buf.getByte(ri + 2);
         if (len2 > 0 && len2 < 8192 && (mtiHigh == 0x01 || mtiHigh == 0x02)) {
-            return WireProfile.LENGTH_PREFIX_2B;
+            return registry.hasIso8583Mappings() ? WireProfile.ISO8583_2B : WireProfile.LENGTH_PREFIX_2B;
         }
 
         // 4-byte big-endian length prefix
@@ -122,7 +129,18 @@ public class ProtocolDetectionHandler extends ByteToMessageDecoder {
     private void setupPipeline(ChannelHandlerContext ctx, WireProfile profile, Integer fixedLen) {
         String after = ctx.name();
 
+        if (profile == WireProfile.ISO8583_2B && iso8583Handler == null) {
+            profile = WireProfile.LENGTH_PREFIX_2B;
+        }
+
         switch (profile) {
+            case ISO8583_2B -> {
+                ctx.pipeline().addAfter(after, "lenDecoder",
+                    new LengthFieldBasedFrameDecoder(8192, 0, 2, 0, 2));
+                ctx.pipeline().addAfter("lenDecoder", "lenEncoder", new TwoByteLengthPrepender());
+                // ByteBuf in, ByteBuf out; unmatched frames are passed on as ISO-8859-1 strings
+                ctx.pipeline().addAfter("lenEncoder", "iso8583Handler", iso8583Handler);
+            }
             case LENGTH_PREFIX_2B -> {
                 ctx.pipeline().addAfter(after, "lenDecoder",
                     new LengthFieldBasedFrameDecoder(8192, 0, 2, 0, 2));
@@ -4,6 +4,7 @@ import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.*;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import org.springframework.stereotype.Component;
@@ -18,8 +19,9 @@ public class TcpProxyHandler {
         int port = Integer.parseInt(parts[1]);
         
         Bootstrap bootstrap = new Bootstrap();
+        // Reuse the client's event loop, so the channel type must match its transport (epoll or nio)
         bootstrap.group(clientCtx.channel().eventLoop())
-            .channel(NioSocketChannel.class)
+            .channel(clientCtx.channel() instanceof EpollSocketChannel ? EpollSocketChannel.class : NioSocketChannel.class)
             .handler(new ChannelInitializer<SocketChannel>() {
                 @Override
                 protected void initChannel(SocketChannel ch) {
@@ -52,34 +52,13 @@ public class UnifiedTcpRequestHandler extends SimpleChannelInboundHandler<String
 
         CompletableFuture.supplyAsync(() -> processMessage(message, requestId), ASYNC_POOL)
             .thenAccept(response -> {
-                if (response != null) {
-                    // Handle delay
-                    if (response.hasDelay()) {
-                        try {
-                            Thread.sleep(response.getDelayMs());
-                        } catch (InterruptedException e) {
-                            Thread.currentThread().interrupt();
-                        }
-                    }
-
-                    // Handle fault injection
-                    if (response.hasFault()) {
-                        faultHandler.handleFault(ctx, response.getFault());
-                        metrics.recordDuration(sample);
-                        return;
-                    }
-
-                    // Handle proxy
-                    if (response.hasProxy()) {
-                        proxyHandler.proxyRequest(ctx, message, response.getProxyTarget());
-                        metrics.recordDuration(sample);
-                        return;
-                    }
-
-                    // Normal response
-                    ctx.writeAndFlush(response.getResponse() + response.getDelimiter());
+                if (response == null) {
+                    metrics.recordDuration(sample);
+                    return;
                 }
-                metrics.recordDuration(sample);
+                // Delay without holding a thread: the reply is scheduled on the channel's event loop
+                long delayMs = latencySimulator.delayFor(response.getDelayMs());
+                latencySimulator.schedule(ctx, delayMs, () -> respond(ctx, message, response, sample));
             })
             .exceptionally(throwable -> {
                 metrics.incrementInvalid();
@@ -89,6 +68,26 @@ public class UnifiedTcpRequestHandler extends SimpleChannelInboundHandler<String
             });
     }
 
+    private void respond(ChannelHandlerContext ctx, String message, ProcessedResponse response, Timer.Sample sample) {
+        // Handle fault injection
+        if (response.hasFault()) {
+            faultHandler.handleFault(ctx, response.getFault());
+            metrics.recordDuration(sample);
+            return;
+        }
+
+        // Handle proxy
+        if (response.hasProxy()) {
+            proxyHandler.proxyRequest(ctx, message, response.getProxyTarget());
+            metrics.recordDuration(sample);
+            return;
+        }
+
+        // Normal response
+        ctx.writeAndFlush(response.getResponse() + response.getDelimiter());
+        metrics.recordDuration(sample);
+    }
+
     private ProcessedResponse processMessage(String message, String requestId) {
         metrics.incrementTotal();
 
@@ -98,9 +97,6 @@ public class UnifiedTcpRequestHandler extends SimpleChannelInboundHandler<String
             return new ProcessedResponse("INVALID_MESSAGE", "\n");
         }
 
-        // Simulate latency
-        latencySimulator.simulateLatency();
-
         // Process through mapping registry
         ProcessedResponse response = messageTypeRegistry.processMessage(message);
 
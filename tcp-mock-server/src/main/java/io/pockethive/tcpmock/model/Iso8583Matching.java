@@ -0,0 +1,39 @@
+package io.pockethive.tcpmock.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Native ISO-8583 matching and response rules for a mapping (used with {@code wireProfile: ISO8583_2B}).
+ * <p>
+ * Requests are matched on MTI and exact field values; the response is the request with its MTI changed,
+ * field 39 set to {@code responseCode}, {@code responseFields} set or replaced and {@code removeFields}
+ * dropped. All other fields (STAN, RRN, terminal ids, ...) are echoed byte-for-byte.
+ */
+public class Iso8583Matching {
+    /** Request MTI to match, e.g. "0100". Null matches any MTI. */
+    private String mti;
+    /** Field number to exact value (numeric fields as digits, binary fields as hex). */
+    private Map<Integer, String> fields;
+    /** Response MTI. Null derives it from the request (third digit + 1, e.g. 0100 → 0110). */
+    private String responseMti;
+    /** Value written to field 39. Null leaves field 39 as in the request. */
+    private String responseCode = "00";
+    /** Fields to set or replace in the response. */
+    private Map<Integer, String> responseFields;
+    /** Fields to drop from the echoed request (e.g. 35, 52). */
+    private List<Integer> removeFields;
+
+    public String getMti() { return mti; }
+    public void setMti(String mti) { this.mti = mti; }
+    public Map<Integer, String> getFields() { return fields; }
+    public void setFields(Map<Integer, String> fields) { this.fields = fields; }
+    public String getResponseMti() { return responseMti; }
+    public void setResponseMti(String responseMti) { this.responseMti = responseMti; }
+    public String getResponseCode() { return responseCode; }
+    public void setResponseCode(String responseCode) { this.responseCode = responseCode; }
+    public Map<Integer, String> getResponseFields() { return responseFields; }
+    public void setResponseFields(Map<Integer, String> responseFields) { this.responseFields = responseFields; }
+    public List<Integer> getRemoveFields() { return removeFields; }
+    public void setRemoveFields(List<Integer> removeFields) { this.removeFields = removeFields; }
+}
@@ -24,6 +24,8 @@ public class MessageTypeMapping {
         FIXED_LENGTH,
         /** STX (0x02) ... ETX (0x03) binary framing. */
         STX_ETX,
+        /** 2-byte length prefix with native ISO-8583 handling; see {@link Iso8583Matching}. */
+        ISO8583_2B,
         /** Write only — no response expected. */
         FIRE_FORGET
     }
@@ -47,6 +49,8 @@ public class MessageTypeMapping {
     private WireProfile wireProfile;
     /** Frame size in bytes, used only when wireProfile=FIXED_LENGTH. */
     private Integer fixedFrameLength;
+    /** Native ISO-8583 rules; matched on the binary frame instead of requestPattern. */
+    private Iso8583Matching iso8583;
 
     public MessageTypeMapping() {}
 
@@ -92,6 +96,8 @@ public class MessageTypeMapping {
     public void setWireProfile(WireProfile wireProfile) { this.wireProfile = wireProfile; }
     public Integer getFixedFrameLength() { return fixedFrameLength; }
     public void setFixedFrameLength(Integer fixedFrameLength) { this.fixedFrameLength = fixedFrameLength; }
+    public Iso8583Matching getIso8583() { return iso8583; }
+    public void setIso8583(Iso8583Matching iso8583) { this.iso8583 = iso8583; }
 
     public static class ConditionalResponse {
         private String condition;
@@ -1,21 +1,130 @@
 package io.pockethive.tcpmock.service;
 
+import io.netty.channel.ChannelHandlerContext;
+import io.pockethive.tcpmock.config.TcpMockConfig;
 import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
+/**
+ * Adds simulated latency to responses without holding a thread.
+ * <p>
+ * The delay for a response is the mapping's {@code fixedDelayMs} plus a sample from the configured
+ * distribution ({@code tcp-mock.latency.distribution}: none, fixed, uniform, lognormal or percentiles).
+ * The response is then scheduled on the channel's event loop, so pending delayed responses cost one
+ * scheduled task each rather than a sleeping pool thread.
+ */
 @Service
 public class LatencySimulator {
 
-    public void simulateLatency() {
-        // Default no latency
+    private final LongSupplier sampler;
+
+    public LatencySimulator(TcpMockConfig config) {
+        this.sampler = createSampler(config.getLatency());
+    }
+
+    /**
+     * Total delay for a response whose mapping asked for {@code mappingDelayMs} (may be null).
+     */
+    public long delayFor(Integer mappingDelayMs) {
+        long base = mappingDelayMs != null && mappingDelayMs > 0 ? mappingDelayMs : 0;
+        return base + Math.max(0, sampler.getAsLong());
+    }
+
+    /**
+     * Runs {@code task} on the channel's event loop after {@code delayMs}, or immediately when there is no delay.
+     */
+    public void schedule(ChannelHandlerContext ctx, long delayMs, Runnable task) {
+        if (delayMs <= 0) {
+            if (ctx.executor().inEventLoop()) {
+                task.run();
+            } else {
+                ctx.executor().execute(task);
+            }
+            return;
+        }
+        ctx.executor().schedule(task, delayMs, TimeUnit.MILLISECONDS);
     }
 
-    public void simulateLatency(long milliseconds) {
-        if (milliseconds > 0) {
-            try {
-                Thread.sleep(milliseconds);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+    static LongSupplier createSampler(TcpMockConfig.Latency latency) {
+        String distribution = latency.getDistribution() == null
+            ? "none" : latency.getDistribution().trim().toLowerCase(Locale.ROOT);
+        switch (distribution) {
+            case "", "none":
+                return () -> 0L;
+            case "fixed": {
+                long fixed = latency.getFixedMs();
+                return () -> fixed;
+            }
+            case "uniform": {
+                long min = latency.getMinMs();
+                long max = Math.max(min, latency.getMaxMs());
+                return () -> ThreadLocalRandom.current().nextLong(min, max + 1);
+            }
+            case "lognormal": {
+                double median = latency.getMedianMs();
+                double sigma = latency.getSigma();
+                long cap = latency.getMaxMs() > 0 ? latency.getMaxMs() : Long.MAX_VALUE;
+                return () -> Math.min(cap,
+                    Math.round(median * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian())));
+            }
+            case "percentiles": {
+                double[][] table = parsePercentiles(latency.getPercentiles());
+                return () -> interpolate(table, ThreadLocalRandom.current().nextDouble(100.0));
+            }
+            default:
+                throw new IllegalArgumentException("Unknown tcp-mock.latency.distribution: " + latency.getDistribution());
+        }
+    }
+
+    /**
+     * Parses {@code "50:5,90:20,99:120"} (percentile:millis) into a table sorted by percentile.
+     * Each percentile may appear only once.
+     */
+    static double[][] parsePercentiles(String spec) {
+        if (spec == null || spec.isBlank()) {
+            throw new IllegalArgumentException("tcp-mock.latency.percentiles is required for the percentiles distribution");
+        }
+        List<double[]> points = new ArrayList<>();
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split(":");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("Invalid percentile entry '" + part.trim() + "', expected <percentile>:<millis>");
+            }
+            double p = Double.parseDouble(kv[0].trim());
+            if (p < 0 || p > 100) {
+                throw new IllegalArgumentException("Percentile must be within 0..100: " + p);
+            }
+            points.add(new double[] {p, Double.parseDouble(kv[1].trim())});
+        }
+        points.sort((a, b) -> Double.compare(a[0], b[0]));
+        for (int i = 1; i < points.size(); i++) {
+            if (points.get(i)[0] == points.get(i - 1)[0]) {
+                throw new IllegalArgumentException("Duplicate percentile: " + points.get(i)[0]);
+            }
+        }
+        return points.toArray(new double[0][]);
+    }
+
+    /**
+     * Linear interpolation between table points; values below the first or above the last point clamp to them.
+     */
+    static long interpolate(double[][] table, double percentile) {
+        if (percentile <= table[0][0]) {
+            return Math.round(table[0][1]);
+        }
+        for (int i = 1; i < table.length; i++) {
+            if (percentile <= table[i][0]) {
+                double[] lo = table[i - 1];
+                double[] hi = table[i];
+                double fraction = (percentile - lo[0]) / (hi[0] - lo[0]);
+                return Math.round(lo[1] + fraction * (hi[1] - lo[1]));
             }
         }
+        return Math.round(table[table.length - 1][1]);
     }
 }
@@ -0,0 +1,176 @@
+package io.pockethive.tcpmock.service;
+
+import io.pockethive.tcpmock.handler.Iso8583Rule;
+import io.pockethive.tcpmock.model.MessageTypeMapping;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Immutable, priority-ordered view of the enabled mappings, rebuilt by {@link MessageTypeRegistry}
+ * whenever a mapping is added or removed.
+ * <p>
+ * Each entry carries its precompiled pattern and, when the regex starts with a literal (e.g. {@code ^0100.*}
+ * or {@code ^ECHO.*}), that literal prefix. Entries are indexed by the first prefix character so a message
+ * only visits mappings that could possibly match it; a cheap {@code startsWith} check then rejects the
+ * remaining mismatches before any regex runs. Priority order is preserved within every candidate list.
+ * <p>
+ * Mappings with native ISO-8583 rules are compiled into {@link Iso8583Rule}s and indexed by request MTI.
+ */
+final class MappingSnapshot {
+
+    static final MappingSnapshot EMPTY = new MappingSnapshot(List.of(), List.of(), List.of());
+
+    private final List<MessageTypeMapping> sorted;
+    private final Entry[] unprefixed;
+    private final Map<Character, Entry[]> byFirstChar;
+    private final Iso8583Rule[] anyMtiRules;
+    private final Map<Integer, Iso8583Rule[]> rulesByMti;
+
+    private MappingSnapshot(List<MessageTypeMapping> sorted, List<Entry> entries, List<Iso8583Rule> rules) {
+        this.sorted = sorted;
+        List<Entry> open = new ArrayList<>();
+        Set<Character> firstChars = new HashSet<>();
+        for (Entry entry : entries) {
+            if (entry.prefix() == null) {
+                open.add(entry);
+            } else {
+                firstChars.add(entry.prefix().charAt(0));
+            }
+        }
+        this.unprefixed = open.toArray(new Entry[0]);
+        Map<Character, Entry[]> index = new HashMap<>();
+        for (Character c : firstChars) {
+            index.put(c, entries.stream()
+                .filter(e -> e.prefix() == null || e.prefix().charAt(0) == c)
+                .toArray(Entry[]::new));
+        }
+        this.byFirstChar = Map.copyOf(index);
+
+        this.anyMtiRules = rules.stream().filter(r -> r.mti() < 0).toArray(Iso8583Rule[]::new);
+        Map<Integer, Iso8583Rule[]> mtiIndex = new HashMap<>();
+        rules.stream().filter(r -> r.mti() >= 0).map(Iso8583Rule::mti).distinct().forEach(mti ->
+            mtiIndex.put(mti, rules.stream()
+                .filter(r -> r.mti() < 0 || r.mti() == mti)
+                .toArray(Iso8583Rule[]::new)));
+        this.rulesByMti = Map.copyOf(mtiIndex);
+    }
+
+    static MappingSnapshot build(Collection<MessageTypeMapping> mappings) {
+        List<MessageTypeMapping> sorted = mappings.stream()
+            .filter(MessageTypeMapping::isEnabled)
+            .sorted((m1, m2) -> Integer.compare(m2.getPriority(), m1.getPriority()))
+            .toList();
+        List<Entry> entries = new ArrayList<>();
+        List<Iso8583Rule> rules = new ArrayList<>();
+        for (MessageTypeMapping mapping : sorted) {
+            if (mapping.getIso8583() != null) {
+                try {
+                    rules.add(Iso8583Rule.compile(mapping));
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Mapping " + mapping.getId() + " has invalid iso8583 rules: " + e.getMessage());
+                }
+            }
+            String regex = mapping.getRequestPattern();
+            if (regex == null) {
+                if (mapping.getIso8583() == null) {
+                    System.err.println("Mapping " + mapping.getId() + " has no requestPattern; skipping");
+                }
+                continue;
+            }
+            try {
+                entries.add(new Entry(mapping, Pattern.compile(regex), literalPrefix(regex)));
+            } catch (PatternSyntaxException e) {
+                System.err.println("Mapping " + mapping.getId() + " has invalid requestPattern: " + e.getMessage());
+            }
+        }
+        return new MappingSnapshot(sorted, entries, rules);
+    }
+
+    /** Enabled mappings, highest priority first. */
+    List<MessageTypeMapping> sortedMappings() {
+        return sorted;
+    }
+
+    /** Mappings that may match {@code message}, highest priority first. */
+    Entry[] candidates(String message) {
+        if (message.isEmpty()) {
+            return unprefixed;
+        }
+        Entry[] indexed = byFirstChar.get(message.charAt(0));
+        return indexed != null ? indexed : unprefixed;
+    }
+
+    /** ISO-8583 rules that may match a request with {@code mti}, highest priority first. */
+    Iso8583Rule[] iso8583Candidates(int mti) {
+        Iso8583Rule[] indexed = rulesByMti.get(mti);
+        return indexed != null ? indexed : anyMtiRules;
+    }
+
+    boolean hasIso8583Rules() {
+        return anyMtiRules.length > 0 || !rulesByMti.isEmpty();
+    }
+
+    /**
+     * Returns the literal text every match of {@code regex} must start with, or {@code null} when no such
+     * prefix can be derived safely (leading group, class, flag, escape sequence or top-level alternation).
+     */
+    static String literalPrefix(String regex) {
+        if (hasTopLevelAlternation(regex)) {
+            return null;
+        }
+        int i = regex.startsWith("^") ? 1 : 0;
+        StringBuilder prefix = new StringBuilder();
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            char literal;
+            int next;
+            if (c == '\\') {
+                if (i + 1 >= regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                    break;
+                }
+                literal = regex.charAt(i + 1);
+                next = i + 2;
+            } else if ("^$.|?*+()[]{}".indexOf(c) >= 0) {
+                break;
+            } else {
+                literal = c;
+                next = i + 1;
+            }
+            if (next < regex.length() && "?*{".indexOf(regex.charAt(next)) >= 0) {
+                break; // optional/repeated literal: not a guaranteed prefix
+            }
+            prefix.append(literal);
+            i = next;
+        }
+        return prefix.length() == 0 ? null : prefix.toString();
+    }
+
+    private static boolean hasTopLevelAlternation(String regex) {
+        int depth = 0;
+        boolean inClass = false;
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (inClass) {
+                if (c == ']') inClass = false;
+            } else if (c == '[') {
+                inClass = true;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '|' && depth == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    record Entry(MessageTypeMapping mapping, Pattern pattern, String prefix) {
+        boolean matches(String message) {
+            return (prefix == null || message.startsWith(prefix)) && pattern.matcher(message).matches();
+        }
+    }
+}
@@ -3,9 +3,11 @@ package io.pockethive.tcpmock.service;
 import io.pockethive.tcpmock.model.MessageTypeMapping;
 import io.pockethive.tcpmock.model.MockState;
 import io.pockethive.tcpmock.model.ProcessedResponse;
-import io.pockethive.tcpmock.util.PatternCache;
 import io.pockethive.tcpmock.util.AdvancedRequestMatcher;
+import io.pockethive.tcpmock.util.TcpMetrics;
+import io.pockethive.tcpmock.handler.Iso8583Frame;
 import io.pockethive.tcpmock.handler.Iso8583Handler;
+import io.pockethive.tcpmock.handler.Iso8583Rule;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import java.util.*;
@@ -16,7 +18,8 @@ import java.util.concurrent.atomic.AtomicLong;
 public class MessageTypeRegistry {
     private final ConcurrentHashMap<String, MessageTypeMapping> mappings = new ConcurrentHashMap<>();
     private final AtomicLong requestCounter = new AtomicLong(0);
-    private final PatternCache patternCache;
+    private volatile MappingSnapshot snapshot = MappingSnapshot.EMPTY;
+    private final TcpMetrics metrics;
     private final AdvancedRequestMatcher advancedMatcher;
     private final PaymentLogicEngine paymentEngine;
     private final Iso8583Handler iso8583Handler;
@@ -25,7 +28,7 @@ public class MessageTypeRegistry {
     private final RequestVerificationService verificationService;
     private final FileBasedMappingLoader fileLoader;
 
-    public MessageTypeRegistry(PatternCache patternCache,
+    public MessageTypeRegistry(TcpMetrics metrics,
                              AdvancedRequestMatcher advancedMatcher,
                              PaymentLogicEngine paymentEngine,
                              Iso8583Handler iso8583Handler,
@@ -33,7 +36,7 @@ public class MessageTypeRegistry {
                              EnhancedTemplateEngine templateEngine,
                              RequestVerificationService verificationService,
                              @Lazy FileBasedMappingLoader fileLoader) {
-        this.patternCache = patternCache;
+        this.metrics = metrics;
         this.advancedMatcher = advancedMatcher;
         this.paymentEngine = paymentEngine;
         this.iso8583Handler = iso8583Handler;
@@ -67,15 +70,16 @@ public class MessageTypeRegistry {
         // Record for verification
         verificationService.recordRequest(message);
 
-        for (MessageTypeMapping mapping : getSortedMappings()) {
-            // Check basic pattern match
-            boolean patternMatch = patternCache.matches(message, mapping.getRequestPattern());
+        for (MappingSnapshot.Entry candidate : snapshot.candidates(message)) {
+            MessageTypeMapping mapping = candidate.mapping();
+            long start = System.nanoTime();
+            // Literal prefix + precompiled pattern, then advanced matching criteria
+            boolean matched = candidate.matches(message) &&
+                (mapping.getAdvancedMatching() == null ||
+                 advancedMatcher.matches(message, mapping.getAdvancedMatching()));
+            metrics.recordMappingMatch(mapping.getId(), System.nanoTime() - start);
 
-            // Check advanced matching criteria
-            boolean advancedMatch = mapping.getAdvancedMatching() == null ||
-                                   advancedMatcher.matches(message, mapping.getAdvancedMatching());
-
-            if (patternMatch && advancedMatch) {
+            if (matched) {
                 // Check scenario state if required
                 if (mapping.getScenarioName() != null && mapping.getRequiredScenarioState() != null) {
                     // Ensure state exists before checking — initialises to "Started" if first access
@@ -122,19 +126,62 @@ public class MessageTypeRegistry {
         return new ProcessedResponse("UNKNOWN_MESSAGE_TYPE", "\n");
     }
 
+    /**
+     * Finds the highest-priority native ISO-8583 rule matching {@code frame}, applying scenario state
+     * requirements and transitions like {@link #processMessage}. Returns null when nothing matches.
+     */
+    public Iso8583Rule matchIso8583(Iso8583Frame frame) {
+        requestCounter.incrementAndGet();
+        for (Iso8583Rule rule : snapshot.iso8583Candidates(frame.mti())) {
+            MessageTypeMapping mapping = rule.mapping();
+            long start = System.nanoTime();
+            boolean matched = rule.matches(frame);
+            metrics.recordMappingMatch(mapping.getId(), System.nanoTime() - start);
+            if (!matched) {
+                continue;
+            }
+            if (mapping.getScenarioName() != null && mapping.getRequiredScenarioState() != null) {
+                stateManager.getOrCreateScenarioState(mapping.getScenarioName());
+                if (!stateManager.isInState(mapping.getScenarioName(), mapping.getRequiredScenarioState())) {
+                    continue;
+                }
+            }
+            mapping.incrementMatchCount();
+            if (mapping.getScenarioName() != null && mapping.getNewScenarioState() != null) {
+                stateManager.updateScenarioState(mapping.getScenarioName(), mapping.getNewScenarioState());
+            }
+            return rule;
+        }
+        return null;
+    }
+
+    /** Whether any enabled mapping carries native ISO-8583 rules. */
+    public boolean hasIso8583Mappings() {
+        return snapshot.hasIso8583Rules();
+    }
+
+    /**
+     * Enabled mappings, highest priority first. Returns the current precomputed snapshot; it is rebuilt
+     * only when mappings are added or removed, so this is safe to call per frame.
+     */
     public List<MessageTypeMapping> getSortedMappings() {
-        return mappings.values().stream()
-            .filter(MessageTypeMapping::isEnabled)
-            .sorted((m1, m2) -> Integer.compare(m2.getPriority(), m1.getPriority()))
-            .toList();
+        return snapshot.sortedMappings();
     }
 
     public void addMapping(MessageTypeMapping mapping) {
         mappings.put(mapping.getId(), mapping);
+        rebuildSnapshot();
     }
 
     public void removeMapping(String id) {
-        mappings.remove(id);
+        if (mappings.remove(id) != null) {
+            metrics.removeMapping(id);
+        }
+        rebuildSnapshot();
+    }
+
+    private synchronized void rebuildSnapshot() {
+        snapshot = MappingSnapshot.build(mappings.values());
     }
 
     public Collection<MessageTypeMapping> getAllMappings() {
@@ -0,0 +1,181 @@
+package io.pockethive.tcpmock.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.pockethive.tcpmock.config.TcpMockConfig;
+import io.pockethive.tcpmock.model.TcpRequest;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Optional append-only, on-disk journal of every request seen by the mock.
+ * <p>
+ * The in-memory {@link RequestStore} only keeps a bounded window; when spill is enabled each request is
+ * also handed to a bounded queue drained by a single writer thread into JSON-lines files under
+ * {@code tcp-mock.request-journal.spill-directory}. Files rotate at {@code spill-max-file-bytes} and only
+ * {@code spill-max-files} are kept. The request path never blocks on disk: if the queue is full the entry
+ * is counted as dropped.
+ */
+@Component
+public class RequestJournalSpill {
+    private static final String FILE_NAME = "requests.jsonl";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final BlockingQueue<TcpRequest> queue;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writerThread;
+    private volatile boolean running;
+
+    public RequestJournalSpill(TcpMockConfig config) {
+        TcpMockConfig.RequestJournal settings = config.getRequestJournal();
+        this.enabled = settings.isSpillEnabled();
+        this.directory = Path.of(settings.getSpillDirectory());
+        this.maxFileBytes = Math.max(1024L * 1024L, settings.getSpillMaxFileBytes());
+        this.maxFiles = Math.max(1, settings.getSpillMaxFiles());
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, settings.getSpillQueueCapacity()));
+        if (enabled) {
+            running = true;
+            writerThread = new Thread(this::drain, "tcp-mock-request-spill");
+            writerThread.setDaemon(true);
+            writerThread.start();
+            System.out.println("Request journal spill enabled: " + directory.resolve(FILE_NAME));
+        } else {
+            writerThread = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void append(TcpRequest request) {
+        if (!enabled) {
+            return;
+        }
+        if (!queue.offer(request)) {
+            dropped.increment();
+        }
+    }
+
+    public long getWritten() {
+        return written.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (writerThread != null) {
+            writerThread.interrupt();
+            try {
+                writerThread.join(2_000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void drain() {
+        List<TcpRequest> batch = new ArrayList<>(256);
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            System.err.println("Request journal spill disabled, cannot create " + directory + ": " + e.getMessage());
+            return;
+        }
+        Path file = directory.resolve(FILE_NAME);
+        while (running || !queue.isEmpty()) {
+            try {
+                TcpRequest first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, 255);
+                writeBatch(file, batch);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    queue.drainTo(batch);
+                    writeBatch(file, batch);
+                    return;
+                }
+            } catch (RuntimeException e) {
+                System.err.println("Request journal spill write failed: " + e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(Path file, List<TcpRequest> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            rotateIfNeeded(file);
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (TcpRequest request : batch) {
+                    writer.write(mapper.writeValueAsString(toRecord(request)));
+                    writer.newLine();
+                }
+            }
+            written.add(batch.size());
+        } catch (IOException e) {
+            dropped.add(batch.size());
+            System.err.println("Request journal spill write failed: " + e.getMessage());
+        }
+    }
+
+    private void rotateIfNeeded(Path file) throws IOException {
+        if (!Files.exists(file) || Files.size(file) < maxFileBytes) {
+            return;
+        }
+        Files.deleteIfExists(directory.resolve(FILE_NAME + "." + (maxFiles - 1)));
+        for (int i = maxFiles - 2; i >= 1; i--) {
+            Path source = directory.resolve(FILE_NAME + "." + i);
+            if (Files.exists(source)) {
+                Files.move(source, directory.resolve(FILE_NAME + "." + (i + 1)), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (maxFiles > 1) {
+            Files.move(file, directory.resolve(FILE_NAME + ".1"), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.delete(file);
+        }
+    }
+
+    private static Map<String, Object> toRecord(TcpRequest request) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("id", request.getId());
+        record.put("timestamp", request.getTimestamp() != null ? request.getTimestamp().toString() : null);
+        record.put("clientAddress", request.getClientAddress());
+        record.put("behavior", request.getBehavior());
+        record.put("message", request.getMessage());
+        record.put("response", request.getResponse());
+        record.put("headers", request.getHeaders());
+        return record;
+    }
+}
@@ -1,35 +1,49 @@
 package io.pockethive.tcpmock.service;
 
+import io.pockethive.tcpmock.config.TcpMockConfig;
 import io.pockethive.tcpmock.model.TcpRequest;
+import io.pockethive.tcpmock.util.RingBuffer;
 import org.springframework.stereotype.Service;
 import java.util.List;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
+/**
+ * Recent request log backing the dashboard and WireMock-compatible request APIs.
+ * <p>
+ * Both logs are fixed-capacity ring buffers, so insert cost and heap usage are constant regardless of
+ * how long the mock runs. Full history, when needed, goes to {@link RequestJournalSpill}.
+ */
 @Service
 public class RequestStore {
-    private final ConcurrentLinkedQueue<TcpRequest> requests = new ConcurrentLinkedQueue<>();
-    private final ConcurrentLinkedQueue<TcpRequest> unmatchedRequests = new ConcurrentLinkedQueue<>();
+    private final RingBuffer<TcpRequest> requests;
+    private final RingBuffer<TcpRequest> unmatchedRequests;
+    private final RequestJournalSpill spill;
+
+    public RequestStore(TcpMockConfig config, RequestJournalSpill spill) {
+        int capacity = Math.max(1, config.getRequestJournal().getCapacity());
+        this.requests = new RingBuffer<>(capacity);
+        this.unmatchedRequests = new RingBuffer<>(capacity);
+        this.spill = spill;
+    }
 
     public void addRequest(TcpRequest request) {
-        requests.offer(request);
-        while (requests.size() > 1000) {
-            requests.poll();
-        }
+        requests.add(request);
+        spill.append(request);
     }
 
     public void addUnmatchedRequest(TcpRequest request) {
-        unmatchedRequests.offer(request);
-        while (unmatchedRequests.size() > 1000) {
-            unmatchedRequests.poll();
-        }
+        unmatchedRequests.add(request);
     }
 
     public List<TcpRequest> getAllRequests() {
-        return List.copyOf(requests);
+        return requests.snapshot();
     }
 
     public List<TcpRequest> getUnmatchedRequests() {
-        return List.copyOf(unmatchedRequests);
+        return unmatchedRequests.snapshot();
+    }
+
+    public long getTotalRequests() {
+        return requests.totalAdded();
     }
 
     public void clearRequests() {
@@ -3,37 +3,49 @@ package io.pockethive.tcpmock.service;
 import org.springframework.stereotype.Service;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Pattern;
 
+/**
+ * Counts requests against registered expectations.
+ * <p>
+ * Expectations are compiled once when added and published as an immutable array, so the per-request path
+ * is a lock-free scan with one precompiled match and a {@link LongAdder} increment per expectation. No
+ * request bodies are retained here; the bounded request log lives in {@link RequestStore}.
+ */
 @Service
 public class RequestVerificationService {
 
-    private final Map<String, AtomicInteger> patternCounts = new ConcurrentHashMap<>();
     private final Map<String, Expectation> expectations = new ConcurrentHashMap<>();
-    private final List<String> allRequests = Collections.synchronizedList(new ArrayList<>());
+    private volatile Expectation[] activeExpectations = new Expectation[0];
+    private final LongAdder totalRequests = new LongAdder();
 
     public void recordRequest(String message) {
-        allRequests.add(message);
-
-        // Update pattern counts
-        expectations.keySet().forEach(pattern -> {
-            if (Pattern.matches(pattern, message)) {
-                patternCounts.computeIfAbsent(pattern, k -> new AtomicInteger(0)).incrementAndGet();
+        totalRequests.increment();
+        for (Expectation expectation : activeExpectations) {
+            if (expectation.compiled.matcher(message).matches()) {
+                expectation.count.increment();
             }
-        });
+        }
     }
 
     public void addExpectation(String pattern, String countType, int expectedCount) {
-        expectations.put(pattern, new Expectation(pattern, countType, expectedCount));
-        patternCounts.putIfAbsent(pattern, new AtomicInteger(0));
+        Pattern compiled = Pattern.compile(pattern);
+        expectations.compute(pattern, (key, existing) -> {
+            Expectation updated = new Expectation(pattern, compiled, countType, expectedCount);
+            if (existing != null) {
+                updated.count.add(existing.count.sum());
+            }
+            return updated;
+        });
+        publish();
     }
 
     public List<Map<String, Object>> getVerificationResults() {
         List<Map<String, Object>> results = new ArrayList<>();
 
-        expectations.values().forEach(expectation -> {
-            int actualCount = patternCounts.getOrDefault(expectation.pattern, new AtomicInteger(0)).get();
+        for (Expectation expectation : activeExpectations) {
+            long actualCount = expectation.count.sum();
             boolean passed = checkExpectation(expectation, actualCount);
 
             results.add(Map.of(
@@ -43,7 +55,7 @@ public class RequestVerificationService {
                 "passed", passed,
                 "message", formatMessage(expectation, actualCount, passed)
             ));
-        });
+        }
 
         return results;
     }
@@ -57,12 +69,12 @@ public class RequestVerificationService {
             "totalExpectations", results.size(),
             "passed", passed,
             "failed", failed,
-            "totalRequests", allRequests.size(),
+            "totalRequests", totalRequests.sum(),
             "results", results
         );
     }
 
-    private boolean checkExpectation(Expectation expectation, int actualCount) {
+    private boolean checkExpectation(Expectation expectation, long actualCount) {
         switch (expectation.countType) {
             case "exactly": return actualCount == expectation.expectedCount;
             case "atLeast": return actualCount >= expectation.expectedCount;
@@ -71,25 +83,32 @@ public class RequestVerificationService {
         }
     }
 
-    private String formatMessage(Expectation expectation, int actualCount, boolean passed) {
+    private String formatMessage(Expectation expectation, long actualCount, boolean passed) {
         String status = passed ? "✓" : "✗";
         return String.format("%s Pattern '%s': %d received (expected: %s %d)",
             status, expectation.pattern, actualCount, expectation.countType, expectation.expectedCount);
     }
 
     public void reset() {
-        patternCounts.clear();
         expectations.clear();
-        allRequests.clear();
+        publish();
+        totalRequests.reset();
+    }
+
+    private synchronized void publish() {
+        activeExpectations = expectations.values().toArray(new Expectation[0]);
     }
 
     private static class Expectation {
         final String pattern;
+        final Pattern compiled;
         final String countType;
         final int expectedCount;
+        final LongAdder count = new LongAdder();
 
-        Expectation(String pattern, String countType, int expectedCount) {
+        Expectation(String pattern, Pattern compiled, String countType, int expectedCount) {
             this.pattern = pattern;
+            this.compiled = compiled;
             this.countType = countType;
             this.expectedCount = expectedCount;
         }
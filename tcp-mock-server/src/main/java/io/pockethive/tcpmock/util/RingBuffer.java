@@ -0,0 +1,84 @@
+package io.pockethive.tcpmock.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-capacity, lock-free ring buffer that keeps the most recent {@code capacity} items.
+ * <p>
+ * Writers claim a sequence number with a single {@code getAndIncrement} and overwrite the slot it maps
+ * to, so inserts are O(1) and memory stays flat no matter how many items pass through. Readers take a
+ * best-effort snapshot ordered by insertion sequence.
+ */
+public final class RingBuffer<T> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<Slot<T>> slots;
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile long floor;
+
+    public RingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be > 0");
+        }
+        this.capacity = capacity;
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+    }
+
+    public void add(T item) {
+        long seq = sequence.getAndIncrement();
+        slots.set((int) (seq & mask), new Slot<>(seq, item));
+    }
+
+    /**
+     * Items currently retained, oldest first.
+     */
+    public List<T> snapshot() {
+        long head = sequence.get();
+        long from = Math.max(floor, head - capacity);
+        List<Slot<T>> live = new ArrayList<>((int) Math.min(capacity, Math.max(0, head - from)));
+        for (int i = 0; i < slots.length(); i++) {
+            Slot<T> slot = slots.get(i);
+            if (slot != null && slot.seq() >= from && slot.seq() < head) {
+                live.add(slot);
+            }
+        }
+        live.sort(Comparator.comparingLong(Slot::seq));
+        List<T> items = new ArrayList<>(live.size());
+        for (Slot<T> slot : live) {
+            items.add(slot.value());
+        }
+        return items;
+    }
+
+    public int size() {
+        long head = sequence.get();
+        return (int) Math.min(capacity, Math.max(0, head - floor));
+    }
+
+    /**
+     * Total number of items ever added (including overwritten ones).
+     */
+    public long totalAdded() {
+        return sequence.get();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Logically empties the buffer without touching slots; older entries are simply ignored.
+     */
+    public void clear() {
+        floor = sequence.get();
+    }
+
+    private record Slot<T>(long seq, T value) {}
+}
@@ -3,6 +3,9 @@ package io.pockethive.tcpmock.util;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 @Component
@@ -12,8 +15,11 @@ public class TcpMetrics {
     private final AtomicLong jsonRequests = new AtomicLong(0);
     private final AtomicLong invalidRequests = new AtomicLong(0);
     private final Timer requestTimer;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> mappingMatchTimers = new ConcurrentHashMap<>();
 
     public TcpMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
         this.requestTimer = Timer.builder("tcp.request.duration")
             .description("TCP request processing duration")
             .register(meterRegistry);
@@ -27,6 +33,21 @@ public class TcpMetrics {
         sample.stop(requestTimer);
     }
 
+    public void recordMappingMatch(String mappingId, long nanos) {
+        mappingMatchTimers.computeIfAbsent(mappingId, id -> Timer.builder("tcp.mapping.match.duration")
+            .description("Time spent evaluating a mapping against a request")
+            .tag("mapping", id)
+            .register(meterRegistry))
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void removeMapping(String mappingId) {
+        Timer timer = mappingMatchTimers.remove(mappingId);
+        if (timer != null) {
+            meterRegistry.remove(timer);
+        }
+    }
+
     public void incrementTotal() { totalRequests.incrementAndGet(); }
     public void incrementEcho() { echoRequests.incrementAndGet(); }
     public void incrementJson() { jsonRequests.incrementAndGet(); }
@@ -392,7 +392,7 @@ class TcpMockUIUltimate {
     }
 
     onWireProfileChange(profile) {
-        const isBinary = ['LENGTH_PREFIX_2B', 'LENGTH_PREFIX_4B', 'STX_ETX', 'FIXED_LENGTH', 'FIRE_FORGET'].includes(profile);
+        const isBinary = ['LENGTH_PREFIX_2B', 'LENGTH_PREFIX_4B', 'STX_ETX', 'FIXED_LENGTH', 'FIRE_FORGET', 'ISO8583_2B'].includes(profile);
         const isFixed = profile === 'FIXED_LENGTH';
         // Show/hide fixedFrameLength
         document.getElementById('fixedFrameLengthField').classList.toggle('hidden', !isFixed);
@@ -400,7 +400,7 @@ class TcpMockUIUltimate {
         document.getElementById('requestDelimiterField').style.opacity = isBinary ? '0.4' : '1';
         document.getElementById('responseDelimiterField').style.opacity = isBinary ? '0.4' : '1';
         // Auto-set sensible defaults for binary profiles
-        if (profile === 'LENGTH_PREFIX_2B' || profile === 'LENGTH_PREFIX_4B' || profile === 'FIXED_LENGTH' || profile === 'STX_ETX') {
+        if (profile === 'LENGTH_PREFIX_2B' || profile === 'LENGTH_PREFIX_4B' || profile === 'FIXED_LENGTH' || profile === 'STX_ETX' || profile === 'ISO8583_2B') {
             document.getElementById('responseDelimiter').value = '';
         } else if (profile === '' || profile === 'LINE' || profile === 'DELIMITER' || profile === 'FIRE_FORGET') {
             if (!document.getElementById('responseDelimiter').value) {
@@ -0,0 +1,50 @@
+package io.pockethive.tcpmock.core;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.logging.LoggingHandler;
+import io.pockethive.tcpmock.config.TcpMockConfig;
+import org.junit.jupiter.api.Test;
+
+class TcpMockServerTest {
+
+    @Test
+    void nioTransportNeverUsesEpoll() {
+        assertFalse(TcpMockServer.useEpoll("nio", true));
+        assertFalse(TcpMockServer.useEpoll("NIO", false));
+    }
+
+    @Test
+    void autoAndEpollFollowNativeAvailability() {
+        assertTrue(TcpMockServer.useEpoll("auto", true));
+        assertFalse(TcpMockServer.useEpoll("auto", false));
+        assertTrue(TcpMockServer.useEpoll("epoll", true));
+        assertFalse(TcpMockServer.useEpoll("epoll", false));
+    }
+
+    @Test
+    void wireLoggingIsOffByDefault() {
+        TcpMockConfig config = new TcpMockConfig();
+        EmbeddedChannel channel = new EmbeddedChannel();
+
+        TcpMockServer.addWireLogging(channel.pipeline(), config.getNetty().isWireLogging());
+
+        assertFalse(config.getNetty().isWireLogging());
+        assertNull(channel.pipeline().get(LoggingHandler.class));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void wireLoggingAddsLoggingHandlerWhenEnabled() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+
+        TcpMockServer.addWireLogging(channel.pipeline(), true);
+
+        assertNotNull(channel.pipeline().get(LoggingHandler.class));
+        channel.finishAndReleaseAll();
+    }
+}
@@ -0,0 +1,109 @@
+package io.pockethive.tcpmock.handler;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.pockethive.tcpmock.model.Iso8583Matching;
+import io.pockethive.tcpmock.model.MessageTypeMapping;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class Iso8583RuleTest {
+
+    private static final Map<Integer, String> REQUEST_FIELDS = Map.of(
+        2, "4111111111111",
+        3, "000000",
+        4, "000000001000",
+        11, "123456",
+        37, "RRN000000001",
+        41, "TERM0001",
+        52, "0102030405060708",
+        102, "ACC1");
+
+    @ParameterizedTest
+    @EnumSource(Iso8583Dialect.class)
+    void matchesAndBuildsPatchedEchoResponse(Iso8583Dialect dialect) {
+        ByteBuf request = frame(dialect, 100, REQUEST_FIELDS);
+        Iso8583Frame frame = Iso8583Frame.parse(request, Iso8583Dialect.detect(request));
+        Iso8583Rule rule = Iso8583Rule.compile(mapping(Map.of(3, "000000", 11, "123456")));
+
+        assertEquals(dialect, frame.dialect());
+        assertTrue(rule.matches(frame));
+
+        Map<Integer, String> expectedFields = new TreeMap<>(REQUEST_FIELDS);
+        expectedFields.remove(52);
+        expectedFields.put(38, "ABC123");
+        expectedFields.put(39, "00");
+        ByteBuf response = rule.respond(frame, UnpooledByteBufAllocator.DEFAULT);
+        assertArrayEquals(ByteBufUtil.getBytes(frame(dialect, 110, expectedFields)), ByteBufUtil.getBytes(response));
+    }
+
+    @Test
+    void rejectsDifferentFieldValueOrMti() {
+        ByteBuf request = frame(Iso8583Dialect.BCD, 100, REQUEST_FIELDS);
+
+        assertFalse(Iso8583Rule.compile(mapping(Map.of(11, "999999")))
+            .matches(Iso8583Frame.parse(request, Iso8583Dialect.BCD)));
+        assertFalse(Iso8583Rule.compile(mapping(Map.of()))
+            .matches(Iso8583Frame.parse(frame(Iso8583Dialect.BCD, 800, Map.of(11, "1")), Iso8583Dialect.BCD)));
+    }
+
+    @Test
+    void truncatedFrameIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+            () -> Iso8583Frame.parse(Unpooled.wrappedBuffer(new byte[] {0x01, 0x00, 0x00}), Iso8583Dialect.BCD));
+    }
+
+    @Test
+    void defaultResponseMtiBumpsFunctionDigit() {
+        assertEquals(110, Iso8583Rule.defaultResponseMti(100));
+        assertEquals(810, Iso8583Rule.defaultResponseMti(800));
+        assertEquals(210, Iso8583Rule.defaultResponseMti(210));
+    }
+
+    private static MessageTypeMapping mapping(Map<Integer, String> fields) {
+        Iso8583Matching spec = new Iso8583Matching();
+        spec.setMti("0100");
+        spec.setFields(fields);
+        spec.setResponseFields(Map.of(38, "ABC123"));
+        spec.setRemoveFields(List.of(52));
+        MessageTypeMapping mapping = new MessageTypeMapping();
+        mapping.setId("iso-auth");
+        mapping.setIso8583(spec);
+        return mapping;
+    }
+
+    private static ByteBuf frame(Iso8583Dialect dialect, int mti, Map<Integer, String> fields) {
+        ByteBuf buf = Unpooled.buffer();
+        dialect.writeMti(buf, mti);
+        long primary = 0;
+        long secondary = 0;
+        for (int field : fields.keySet()) {
+            if (field <= 64) {
+                primary |= 1L << (64 - field);
+            } else {
+                secondary |= 1L << (128 - field);
+            }
+        }
+        if (secondary != 0) {
+            primary |= Long.MIN_VALUE;
+        }
+        buf.writeLong(primary);
+        if (secondary != 0) {
+            buf.writeLong(secondary);
+        }
+        new TreeMap<>(fields).forEach((field, value) -> buf.writeBytes(dialect.encodeField(field, value)));
+        return buf;
+    }
+}
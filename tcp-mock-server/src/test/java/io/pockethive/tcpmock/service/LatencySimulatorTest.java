@@ -0,0 +1,63 @@
+package io.pockethive.tcpmock.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.pockethive.tcpmock.config.TcpMockConfig;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.Test;
+
+class LatencySimulatorTest {
+
+    @Test
+    void addsDistributionSampleToMappingDelay() {
+        TcpMockConfig config = new TcpMockConfig();
+        config.getLatency().setDistribution("fixed");
+        config.getLatency().setFixedMs(25);
+        LatencySimulator simulator = new LatencySimulator(config);
+
+        assertEquals(25, simulator.delayFor(null));
+        assertEquals(125, simulator.delayFor(100));
+    }
+
+    @Test
+    void uniformSamplesStayWithinBounds() {
+        TcpMockConfig.Latency latency = new TcpMockConfig.Latency();
+        latency.setDistribution("uniform");
+        latency.setMinMs(5);
+        latency.setMaxMs(10);
+        LongSupplier sampler = LatencySimulator.createSampler(latency);
+
+        for (int i = 0; i < 1_000; i++) {
+            long sample = sampler.getAsLong();
+            assertTrue(sample >= 5 && sample <= 10, "sample out of range: " + sample);
+        }
+    }
+
+    @Test
+    void percentileTableInterpolatesBetweenPoints() {
+        double[][] table = LatencySimulator.parsePercentiles("90:20, 50:10, 100:120");
+
+        assertEquals(10, LatencySimulator.interpolate(table, 10.0));
+        assertEquals(15, LatencySimulator.interpolate(table, 70.0));
+        assertEquals(70, LatencySimulator.interpolate(table, 95.0));
+        assertEquals(120, LatencySimulator.interpolate(table, 100.0));
+    }
+
+    @Test
+    void rejectsDuplicatePercentiles() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+            () -> LatencySimulator.parsePercentiles("50:10,90:30,50:20"));
+
+        assertEquals("Duplicate percentile: 50.0", error.getMessage());
+    }
+
+    @Test
+    void rejectsUnknownDistribution() {
+        TcpMockConfig.Latency latency = new TcpMockConfig.Latency();
+        latency.setDistribution("pareto");
+
+        assertThrows(IllegalArgumentException.class, () -> LatencySimulator.createSampler(latency));
+    }
+}
@@ -0,0 +1,62 @@
+package io.pockethive.tcpmock.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.pockethive.tcpmock.model.MessageTypeMapping;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MappingSnapshotTest {
+
+    @Test
+    void derivesOnlyGuaranteedLiteralPrefixes() {
+        assertEquals("0100", MappingSnapshot.literalPrefix("^0100.*"));
+        assertEquals("ECHO", MappingSnapshot.literalPrefix("^ECHO.*"));
+        assertEquals("{", MappingSnapshot.literalPrefix("^\\{.*\\}$"));
+        assertEquals("AB", MappingSnapshot.literalPrefix("ABC?D"));
+        assertNull(MappingSnapshot.literalPrefix(".*"));
+        assertNull(MappingSnapshot.literalPrefix("^ECHO|PING"));
+        assertNull(MappingSnapshot.literalPrefix("(?i)echo.*"));
+        assertNull(MappingSnapshot.literalPrefix("\\d{4}.*"));
+    }
+
+    @Test
+    void candidatesKeepPriorityOrderAndIncludeUnprefixedMappings() {
+        MessageTypeMapping auth = mapping("auth", "^0100.*", 20);
+        MessageTypeMapping echo = mapping("echo", "^ECHO.*", 10);
+        MessageTypeMapping fallback = mapping("default", ".*", 1);
+        MappingSnapshot snapshot = MappingSnapshot.build(List.of(fallback, echo, auth));
+
+        assertEquals(List.of("auth", "echo", "default"), ids(snapshot.sortedMappings()));
+        assertEquals(List.of("auth", "default"), candidateIds(snapshot, "0100ABC"));
+        assertEquals(List.of("echo", "default"), candidateIds(snapshot, "ECHO hi"));
+        assertEquals(List.of("default"), candidateIds(snapshot, "PING"));
+        assertEquals(List.of("default"), candidateIds(snapshot, ""));
+    }
+
+    @Test
+    void skipsDisabledAndInvalidMappings() {
+        MessageTypeMapping disabled = mapping("off", "^A.*", 5);
+        disabled.setEnabled(false);
+        MappingSnapshot snapshot = MappingSnapshot.build(List.of(disabled, mapping("bad", "^(", 5)));
+
+        assertEquals(List.of("bad"), ids(snapshot.sortedMappings()));
+        assertEquals(List.of(), candidateIds(snapshot, "A"));
+    }
+
+    private static MessageTypeMapping mapping(String id, String pattern, int priority) {
+        MessageTypeMapping mapping = new MessageTypeMapping(id, pattern, "OK", id);
+        mapping.setPriority(priority);
+        return mapping;
+    }
+
+    private static List<String> ids(List<MessageTypeMapping> mappings) {
+        return mappings.stream().map(MessageTypeMapping::getId).toList();
+    }
+
+    private static List<String> candidateIds(MappingSnapshot snapshot, String message) {
+        return Arrays.stream(snapshot.candidates(message)).map(e -> e.mapping().getId()).toList();
+    }
+}
@@ -0,0 +1,33 @@
+package io.pockethive.tcpmock.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RingBufferTest {
+
+    @Test
+    void keepsOnlyMostRecentItemsInInsertionOrder() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+        for (int i = 0; i < 10; i++) {
+            buffer.add(i);
+        }
+
+        assertEquals(List.of(7, 8, 9), buffer.snapshot());
+        assertEquals(3, buffer.size());
+        assertEquals(10, buffer.totalAdded());
+    }
+
+    @Test
+    void clearHidesExistingItems() {
+        RingBuffer<String> buffer = new RingBuffer<>(4);
+        buffer.add("a");
+        buffer.add("b");
+        buffer.clear();
+        buffer.add("c");
+
+        assertEquals(List.of("c"), buffer.snapshot());
+        assertEquals(1, buffer.size());
+    }
+}
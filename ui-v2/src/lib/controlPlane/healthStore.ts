@@ -98,7 +98,9 @@ export function startControlPlaneHealth() {
         void queueRefresh()
         return
       }
-      applyStatusEnvelope(message.envelope)
+      if (!applyStatusEnvelope(message.envelope)) {
+        void queueRefresh()
+      }
     }
   })
   if (!evictionTimer) {
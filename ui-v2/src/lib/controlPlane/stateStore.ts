@@ -19,29 +19,43 @@ export function subscribeStatusSnapshots(listener: StatusListener) {
   return () => listeners.delete(listener)
 }
 
-export function applyStatusEnvelope(envelope: ControlPlaneEnvelope) {
+/**
+ * Applies a status envelope to the cached snapshot for its scope.
+ *
+ * Returns `false` when a sequenced delta does not follow the cached snapshot
+ * (`statusBaseSeq` != cached `statusSeq`); the snapshot is dropped and the
+ * caller should request a fresh status-full.
+ */
+export function applyStatusEnvelope(envelope: ControlPlaneEnvelope): boolean {
   if (envelope.kind !== 'metric') {
-    return
+    return true
   }
   if (envelope.type !== 'status-full' && envelope.type !== 'status-delta') {
-    return
+    return true
   }
   const key = scopeKey(envelope)
   const existing = snapshots.get(key)
   if (envelope.type === 'status-full') {
     snapshots.set(key, { envelope, lastUpdatedAt: envelope.timestamp })
     notify()
-    return
+    return true
   }
   if (!existing) {
-    return
+    return true
+  }
+  const baseSeq = contextNumber(envelope.data, 'statusBaseSeq')
+  if (baseSeq !== null && baseSeq !== contextNumber(existing.envelope.data, 'statusSeq')) {
+    snapshots.delete(key)
+    notify()
+    return false
   }
   const merged = mergeDelta(existing.envelope, envelope)
   if (!merged) {
-    return
+    return true
   }
   snapshots.set(key, { envelope: merged, lastUpdatedAt: envelope.timestamp })
   notify()
+  return true
 }
 
 export function requestEviction() {
@@ -70,14 +84,41 @@ function mergeDelta(full: ControlPlaneEnvelope, delta: ControlPlaneEnvelope) {
   if (containsFullOnlyFields(delta.data)) {
     return null
   }
+  const data: Record<string, unknown> = { ...full.data, ...delta.data }
+  const fullContext = full.data?.context
+  const deltaContext = delta.data.context
+  if (isRecord(fullContext) && isRecord(deltaContext)) {
+    // Sequenced deltas only carry the context entries that changed.
+    const context = deepMerge(fullContext, deltaContext)
+    delete context.statusBaseSeq
+    data.context = context
+  }
   return {
     ...full,
     timestamp: delta.timestamp,
-    data: {
-      ...full.data,
-      ...delta.data,
-    },
+    data,
+  }
+}
+
+function deepMerge(target: Record<string, unknown>, patch: Record<string, unknown>) {
+  const out: Record<string, unknown> = { ...target }
+  for (const [key, value] of Object.entries(patch)) {
+    const current = out[key]
+    out[key] = isRecord(current) && isRecord(value) ? deepMerge(current, value) : value
   }
+  return out
+}
+
+function contextNumber(data: unknown, field: string): number | null {
+  if (!isRecord(data) || !isRecord(data.context)) {
+    return null
+  }
+  const value = data.context[field]
+  return typeof value === 'number' ? value : null
+}
+
+function isRecord(value: unknown): value is Record<string, unknown> {
+  return typeof value === 'object' && value !== null && !Array.isArray(value)
 }
 
 function containsFullOnlyFields(data: Record<string, unknown>) {
@@ -210,16 +210,20 @@ function extractSnapshotView(snapshot: StatusFullSnapshotResponse | null): Swarm
   const swarmHealth = context ? toStringOrNull(context.swarmHealth) : null
 
   const workersRaw = context && Array.isArray(context.workers) ? (context.workers as unknown[]) : []
+  // workerStats is refreshed by every controller status-delta; workers[] only by status-full.
+  const workerStats = context && isRecord(context.workerStats) ? context.workerStats : null
   const workers: SwarmWorkerSummary[] = workersRaw
     .map((entry) => {
       if (!isRecord(entry)) return null
       const role = toStringOrNull(entry.role)
       const instance = toStringOrNull(entry.instance)
-      const workerEnabled = toBooleanOrNull(entry.enabled)
-      const tps = toNumberOrNull(entry.tps)
-      const stale = toBooleanOrNull(entry.stale)
+      const liveStats = instance && workerStats ? workerStats[instance] : null
+      const live = isRecord(liveStats) ? liveStats : entry
+      const workerEnabled = toBooleanOrNull(live.enabled)
+      const tps = toNumberOrNull(live.tps)
+      const stale = toBooleanOrNull(live.stale)
       const lastSeenAt = toStringOrNull(entry.lastSeenAt)
-      const workIoState = isRecord(entry.ioState) && isRecord(entry.ioState.work) ? entry.ioState.work : null
+      const workIoState = isRecord(live.ioState) && isRecord(live.ioState.work) ? live.ioState.work : null
       const config = isRecord(entry.config) ? entry.config : null
       const workIo = workIoState
         ? {